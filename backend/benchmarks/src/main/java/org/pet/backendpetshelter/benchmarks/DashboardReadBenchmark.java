@@ -0,0 +1,101 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First dashboard page (100 rows) read from a features.sql view against the same page read
+ * from its summary table. Needs a MySQL schema the app has started on, e.g. with the generate
+ * profile and GENERATOR_ANIMALS=100000, reached through JDBC_DATABASE_URL, JDBC_USERNAME and
+ * JDBC_PASSWORD. Excluded from the default run; use -Pdatabase.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardReadBenchmark {
+
+    @Param({"available-animals", "adoption-history", "vaccination-status", "pending-applications"})
+    public String dashboard;
+
+    private Connection connection;
+    private PreparedStatement view;
+    private PreparedStatement summary;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("JDBC_DATABASE_URL"),
+                System.getenv("JDBC_USERNAME"), System.getenv("JDBC_PASSWORD"));
+        // Each pair returns the same rows in the order DashboardSummaryService pages them
+        switch (dashboard) {
+            case "available-animals" -> prepare(
+                    "SELECT * FROM AvailableAnimalsView ORDER BY animal_id LIMIT 100",
+                    "SELECT * FROM available_animal_summary ORDER BY animal_id LIMIT 100");
+            case "adoption-history" -> prepare(
+                    "SELECT * FROM AdoptionHistoryView ORDER BY adoption_date DESC, adoption_id DESC LIMIT 100",
+                    "SELECT * FROM adoption_history_summary ORDER BY adoption_date DESC, adoption_id DESC LIMIT 100");
+            case "vaccination-status" -> prepare(
+                    "SELECT * FROM VaccinationStatusView LIMIT 100",
+                    "SELECT * FROM vaccination_status_summary ORDER BY animal_id, next_due_date, summary_id LIMIT 100");
+            case "pending-applications" -> prepare(
+                    "SELECT * FROM PendingApplicationsView LIMIT 100",
+                    "SELECT * FROM pending_application_summary ORDER BY application_date, adoption_application_id LIMIT 100");
+            default -> throw new IllegalArgumentException("Unknown dashboard: " + dashboard);
+        }
+    }
+
+    private void prepare(String viewSql, String summarySql) throws SQLException {
+        view = connection.prepareStatement(viewSql);
+        summary = connection.prepareStatement(summarySql);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int view() throws SQLException {
+        return read(view);
+    }
+
+    @Benchmark
+    public int summary() throws SQLException {
+        return read(summary);
+    }
+
+    // Fetches every column of every row, as mapping the page would
+    private static int read(PreparedStatement statement) throws SQLException {
+        int cells = 0;
+        try (ResultSet rows = statement.executeQuery()) {
+            int columns = rows.getMetaData().getColumnCount();
+            while (rows.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    if (rows.getObject(i) != null) {
+                        cells++;
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,47 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pet.backendpetshelter.DTO.AdminAdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+
+import java.util.concurrent.TimeUnit;
+
+/* Entity -> response DTO mapping done for every row of the listing endpoints */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Animal animal;
+    private AdoptionApplication application;
+
+    @Setup
+    public void setUp() {
+        animal = Fixtures.animal(1L);
+        application = Fixtures.adoptionApplication(1L);
+    }
+
+    @Benchmark
+    public AnimalDTOResponse animalResponse() {
+        return new AnimalDTOResponse(animal);
+    }
+
+    @Benchmark
+    public AdminAdoptionApplicationResponse adminAdoptionApplicationResponse() {
+        return new AdminAdoptionApplicationResponse(application);
+    }
+}
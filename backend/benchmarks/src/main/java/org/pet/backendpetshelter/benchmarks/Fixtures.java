@@ -0,0 +1,69 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Status;
+
+import java.util.Date;
+
+/* Detached entities shaped like the seeded data, shared by the benchmarks */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Animal animal(long id) {
+        Species species = new Species();
+        species.setId(1L);
+        species.setName("Dog");
+
+        Breed breed = new Breed();
+        breed.setId(1L);
+        breed.setName("Labrador");
+        breed.setSpecies(species);
+
+        Animal animal = new Animal();
+        animal.setId(id);
+        animal.setName("Buddy");
+        animal.setSpecies(species);
+        animal.setBreed(breed);
+        animal.setSex("male");
+        animal.setBirthDate(new Date(1577836800000L));
+        animal.setIntakeDate(new Date(1672531200000L));
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(499);
+        animal.setIsActive(true);
+        animal.setImageUrl("https://example.com/images/buddy.jpg");
+        return animal;
+    }
+
+    static User user(long id, Roles role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv1234567890abcdefghijklmnopqrstu");
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        user.setPhone("12345678");
+        user.setIsActive(true);
+        user.setRole(role);
+        return user;
+    }
+
+    static AdoptionApplication adoptionApplication(long id) {
+        AdoptionApplication application = new AdoptionApplication();
+        application.setId(id);
+        application.setUser(user(id, Roles.USER));
+        application.setAnimal(animal(id));
+        application.setApplicationDate(new Date(1704067200000L));
+        application.setStatus(Status.PENDING);
+        application.setDescription("We have a large garden and a lot of time for walks.");
+        application.setReviewedByUser(user(1000L + id, Roles.STAFF));
+        application.setIsActive(true);
+        return application;
+    }
+}
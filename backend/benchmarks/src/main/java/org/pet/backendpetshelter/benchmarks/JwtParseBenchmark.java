@@ -0,0 +1,56 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pet.backendpetshelter.Configuration.JwtProperties;
+import org.pet.backendpetshelter.Configuration.JwtService;
+import org.pet.backendpetshelter.Configuration.VerifiedToken;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/* Access-token verification done by JwtAuthenticationFilter on every authenticated request */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setAccessSecret("benchmark-access-secret-benchmark-access-secret");
+        props.setRefreshSecret("benchmark-refresh-secret-benchmark-refresh-secret");
+        props.setAccessExpirationSeconds(3600);
+        props.setRefreshExpirationSeconds(1209600);
+
+        jwtService = new JwtService(props);
+        accessToken = jwtService.generateAccessToken("user1@example.com", Map.of("role", "USER", "uid", 1L));
+    }
+
+    @Benchmark
+    public Jws<Claims> parseAccessToken() {
+        return jwtService.parseAccessToken(accessToken);
+    }
+
+    // What JwtAuthenticationFilter calls: a cache hit after the first verification
+    @Benchmark
+    public VerifiedToken verifyAccessTokenCached() {
+        return jwtService.verifyAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,57 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/* Jackson serialisation of a GET /api/animal response body */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    // 8 is the controller's default page size
+    @Param({"8", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<AnimalDTOResponse> page;
+
+    @Setup
+    public void setUp() {
+        // Same builder Spring Boot uses for the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<AnimalDTOResponse> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new AnimalDTOResponse(Fixtures.animal(id)))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("name")), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializeAnimalPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,88 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/animal?hasRequiredVaccinations=true as AnimalRepository.findAllWithFilters runs it:
+ * the first page (8 rows by name) plus its count. "function" filters with the
+ * HasRequiredVaccinations() stored function on every row, as before the vaccination_compliant
+ * flag; "flag" reads the flag. Needs a MySQL schema the app has started on with the generate
+ * profile and GENERATOR_ANIMALS=100000, reached through JDBC_DATABASE_URL, JDBC_USERNAME and
+ * JDBC_PASSWORD. Excluded from the default run; use -Pdatabase.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VaccinationFilterBenchmark {
+
+    private static final String FUNCTION = "HasRequiredVaccinations(a.animal_id) = TRUE";
+    private static final String FLAG = "a.vaccination_compliant = TRUE";
+
+    private Connection connection;
+    private PreparedStatement functionPage;
+    private PreparedStatement functionCount;
+    private PreparedStatement flagPage;
+    private PreparedStatement flagCount;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("JDBC_DATABASE_URL"),
+                System.getenv("JDBC_USERNAME"), System.getenv("JDBC_PASSWORD"));
+        functionPage = connection.prepareStatement("SELECT a.* FROM animal a WHERE " + FUNCTION + " ORDER BY a.name LIMIT 8");
+        functionCount = connection.prepareStatement("SELECT COUNT(*) FROM animal a WHERE " + FUNCTION);
+        flagPage = connection.prepareStatement("SELECT a.* FROM animal a WHERE " + FLAG + " ORDER BY a.name LIMIT 8");
+        flagCount = connection.prepareStatement("SELECT COUNT(*) FROM animal a WHERE " + FLAG);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long function() throws SQLException {
+        return read(functionPage) + count(functionCount);
+    }
+
+    @Benchmark
+    public long flag() throws SQLException {
+        return read(flagPage) + count(flagCount);
+    }
+
+    private static int read(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static long count(PreparedStatement statement) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.pet.backendpetshelter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pet.backendpetshelter.Service.RequestValidators;
+
+import java.util.concurrent.TimeUnit;
+
+/* Regex validators on the animal and registration write paths */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private final String animalName = "Buddy";
+    private final String imageUrl = "https://example.com/images/buddy.jpg";
+    private final String strongPassword = "Secret!Password1";
+    private final String weakPassword = "secretpassword";
+
+    @Benchmark
+    public void animalValidateName() {
+        RequestValidators.validateAnimalName(animalName);
+    }
+
+    @Benchmark
+    public void animalValidateImageUrl() {
+        RequestValidators.validateImageUrl(imageUrl);
+    }
+
+    @Benchmark
+    public boolean authPasswordStrong() {
+        return RequestValidators.isPasswordStrong(strongPassword);
+    }
+
+    // Rejected at the first regex, after scanning the whole string
+    @Benchmark
+    public boolean authPasswordWeak() {
+        return RequestValidators.isPasswordStrong(weakPassword);
+    }
+}
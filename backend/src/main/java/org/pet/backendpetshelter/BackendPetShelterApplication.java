@@ -3,8 +3,10 @@ package org.pet.backendpetshelter;
 import io.sentry.Sentry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BackendPetShelterApplication {
 
     public static void main(String[] args) {
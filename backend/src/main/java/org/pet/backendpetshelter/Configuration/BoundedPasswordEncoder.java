@@ -0,0 +1,128 @@
+package org.pet.backendpetshelter.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the hashing work of another PasswordEncoder on a small fixed pool with a bounded queue.
+ * A burst of logins then uses at most hash-threads cores, while the rest of the API keeps its
+ * servlet threads and CPU. When the queue is full, encode/matches throw
+ * PasswordHashingSaturatedException right away, and GlobalExceptionHandler turns that into a 429.
+ *
+ * Metrics (tag operation=encode|matches):
+ * - auth.password.hash.cpu: CPU time of each hash
+ * - auth.password.hash.queue.wait: time spent queued
+ * - auth.password.hash.queue.size: current queue depth
+ * - auth.password.hash.rejected: requests turned away
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry registry; // optional
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.registry = registry;
+        if (registry != null) {
+            Gauge.builder("auth.password.hash.queue.size", executor, e -> e.getQueue().size())
+                    .description("Password hashes waiting for a hashing thread")
+                    .register(registry);
+            this.rejected = Counter.builder("auth.password.hash.rejected")
+                    .description("Password hashes rejected because the queue was full")
+                    .register(registry);
+        } else {
+            this.rejected = null;
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only inspects the hash prefix, so it runs on the caller's thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(String operation, Callable<T> hash) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                record(operation, "auth.password.hash.queue.wait", System.nanoTime() - queuedAt);
+                long cpuStart = THREADS.getCurrentThreadCpuTime();
+                try {
+                    return hash.call();
+                } finally {
+                    record(operation, "auth.password.hash.cpu", THREADS.getCurrentThreadCpuTime() - cpuStart);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new PasswordHashingSaturatedException("Too many concurrent login or register requests, try again shortly", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void record(String operation, String name, long nanos) {
+        if (registry != null) {
+            Timer.builder(name)
+                    .tag("operation", operation)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
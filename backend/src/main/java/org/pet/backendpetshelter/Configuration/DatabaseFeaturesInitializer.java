@@ -1,5 +1,6 @@
 package org.pet.backendpetshelter.Configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
@@ -10,116 +11,215 @@ import javax.sql.DataSource;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * Applies features.sql feature by feature. The checksum of every applied feature is kept in
+ * database_features, and a feature is skipped while its checksum is unchanged and the object
+ * still exists (ddl-auto=create drops the tables, and their triggers and indexes with them).
+ *
+ * Procedures, functions, triggers, views and events are quick metadata changes and run first,
+ * in script order, on one connection. Index builds are the slow part: they run afterwards with
+ * one task per table on features.index-threads connections, so different tables build at the
+ * same time while the builds on one table queue up behind each other.
+ */
 @Component
-@Order(2) // Run after InitData
+@Order(3) // Run after DatabaseSeeder and SyntheticDataRunner, so generated rows do not fire the triggers
 @Profile("mysql") // Only run when MySQL profile is active
 public class DatabaseFeaturesInitializer implements CommandLineRunner {
 
-    private final DataSource dataSource;
+    private static final String TRACKING_TABLE = """
+            CREATE TABLE IF NOT EXISTS database_features (
+                feature_type VARCHAR(16) NOT NULL,
+                feature_name VARCHAR(128) NOT NULL,
+                checksum CHAR(64) NOT NULL,
+                applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                PRIMARY KEY (feature_type, feature_name)
+            )""";
+
+    private static final String RECORD = "INSERT INTO database_features (feature_type, feature_name, checksum) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE checksum = VALUES(checksum), applied_at = CURRENT_TIMESTAMP";
+
+    // type and name of every object of the kinds features.sql creates, in the current schema
+    private static final String EXISTING = """
+            SELECT ROUTINE_TYPE, ROUTINE_NAME FROM information_schema.ROUTINES WHERE ROUTINE_SCHEMA = DATABASE()
+            UNION ALL SELECT 'TRIGGER', TRIGGER_NAME FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = DATABASE()
+            UNION ALL SELECT 'VIEW', TABLE_NAME FROM information_schema.VIEWS WHERE TABLE_SCHEMA = DATABASE()
+            UNION ALL SELECT 'EVENT', EVENT_NAME FROM information_schema.EVENTS WHERE EVENT_SCHEMA = DATABASE()
+            UNION ALL SELECT DISTINCT 'INDEX', INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE()""";
 
-    public DatabaseFeaturesInitializer(DataSource dataSource) {
+    private final DataSource dataSource;
+    private final int indexThreads;
+    private final StartupThreads startupThreads;
+
+    public DatabaseFeaturesInitializer(DataSource dataSource,
+                                       @Value("${features.index-threads:4}") int indexThreads,
+                                       StartupThreads startupThreads) {
+        if (indexThreads < 1) {
+            throw new IllegalArgumentException("features.index-threads must be at least 1");
+        }
         this.dataSource = dataSource;
+        this.indexThreads = indexThreads;
+        this.startupThreads = startupThreads;
     }
 
     @Override
-    public void run(String... args) {
-        System.out.println("Loading database features (procedures, functions, triggers, views)...");
-        
+    public void run(String... args) throws Exception {
+        startupThreads.runAndWait("database-features-", this::load);
+    }
+
+    private void load() {
+        System.out.println("Loading database features (procedures, functions, triggers, views, indexes, events)...");
+        long startedAt = System.nanoTime();
+
         try {
-            // Read the SQL file
             ClassPathResource resource = new ClassPathResource("features.sql");
             String sqlScript;
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
                 sqlScript = reader.lines().collect(Collectors.joining("\n"));
             }
+            List<FeatureScript.Feature> features = FeatureScript.parse(sqlScript);
+
+            List<FeatureScript.Feature> pending = new ArrayList<>();
+            Set<String> existing;
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute(TRACKING_TABLE);
+                Map<String, String> applied = applied(statement);
+                existing = existing(statement);
+                for (FeatureScript.Feature feature : features) {
+                    // Unnamed statements cannot be looked up, so they count as present once applied.
+                    // A retired object is in place once it is gone
+                    boolean present = feature.dropsOnly()
+                            ? !existing.contains(key(feature))
+                            : feature.type().equals(FeatureScript.SCRIPT) || existing.contains(key(feature));
+                    if (!present || !feature.checksum().equals(applied.get(key(feature)))) {
+                        pending.add(feature);
+                    }
+                }
+            }
 
-            // Split by DELIMITER changes and execute
-            executeSqlWithDelimiters(sqlScript);
-            
-            System.out.println("Database features loaded successfully!");
+            AtomicInteger failed = new AtomicInteger();
+            try (Connection connection = dataSource.getConnection()) {
+                for (FeatureScript.Feature feature : pending) {
+                    if (!feature.isIndex() && !apply(connection, feature, false)) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }
+            applyIndexes(pending, existing, failed);
+
+            System.out.printf("Database features loaded in %.1fs: %d unchanged, %d applied, %d failed%n",
+                    (System.nanoTime() - startedAt) / 1_000_000_000.0,
+                    features.size() - pending.size(), pending.size() - failed.get(), failed.get());
         } catch (Exception e) {
             System.err.println("Error loading database features: " + e.getMessage());
             // Don't throw - allow application to start even if features fail
         }
     }
 
-    private void executeSqlWithDelimiters(String sqlScript) throws Exception {
-        try (Connection connection = dataSource.getConnection();
-             Statement statement = connection.createStatement()) {
-
-            // Split by DELIMITER keyword to handle different sections
-            String[] parts = sqlScript.split("DELIMITER");
-            String currentDelimiter = ";"; // Start with default delimiter
-
-            for (int i = 0; i < parts.length; i++) {
-                String part = parts[i].trim();
-                if (part.isEmpty()) continue;
-
-                // First part before any DELIMITER command
-                if (i == 0) {
-                    executeStatementsWithDelimiter(statement, part, ";");
-                    continue;
-                }
-
-                // Determine new delimiter from the start of this section
-                String[] lines = part.split("\n", 2);
-                String firstLine = lines[0].trim();
-                
-                if (firstLine.equals("//")) {
-                    currentDelimiter = "//";
-                    part = lines.length > 1 ? lines[1] : "";
-                } else if (firstLine.equals(";")) {
-                    currentDelimiter = ";";
-                    part = lines.length > 1 ? lines[1] : "";
-                }
+    private void applyIndexes(List<FeatureScript.Feature> pending, Set<String> existing, AtomicInteger failed)
+            throws Exception {
+        Map<String, List<FeatureScript.Feature>> byTable = new LinkedHashMap<>();
+        for (FeatureScript.Feature feature : pending) {
+            if (feature.isIndex()) {
+                byTable.computeIfAbsent(feature.table(), table -> new ArrayList<>()).add(feature);
+            }
+        }
+        if (byTable.isEmpty()) {
+            return;
+        }
 
-                executeStatementsWithDelimiter(statement, part, currentDelimiter);
+        ExecutorService executor = startupThreads.fixedPool("feature-indexes-", Math.min(indexThreads, byTable.size()));
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (List<FeatureScript.Feature> indexes : byTable.values()) {
+                results.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        for (FeatureScript.Feature index : indexes) {
+                            if (!apply(connection, index, existing.contains(key(index)))) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
             }
+        } finally {
+            executor.shutdownNow();
         }
     }
-    
-    private void executeStatementsWithDelimiter(Statement statement, String sql, String delimiter) throws Exception {
-        // Split statements by the delimiter
-        String[] statements = sql.split(java.util.regex.Pattern.quote(delimiter));
-
-        for (String stmt : statements) {
-            // Remove comments from the statement
-            StringBuilder cleanStmt = new StringBuilder();
-            for (String line : stmt.split("\n")) {
-                String trimmedLine = line.trim();
-                // Skip comment-only lines
-                if (trimmedLine.startsWith("--") || trimmedLine.isEmpty()) {
-                    continue;
-                }
-                // Remove inline comments
-                int commentPos = trimmedLine.indexOf("--");
-                if (commentPos > 0) {
-                    trimmedLine = trimmedLine.substring(0, commentPos).trim();
-                }
-                if (!trimmedLine.isEmpty()) {
-                    cleanStmt.append(trimmedLine).append("\n");
-                }
+
+    /**
+     * Runs the feature's statements and records its checksum.
+     *
+     * @param dropIndex an index whose definition changed is dropped first; features.sql has no DROP for them
+     */
+    private boolean apply(Connection connection, FeatureScript.Feature feature, boolean dropIndex) {
+        try (Statement statement = connection.createStatement()) {
+            if (dropIndex) {
+                statement.execute("DROP INDEX `" + feature.name() + "` ON `" + feature.table() + "`");
+            }
+            for (String sql : feature.statements()) {
+                statement.execute(sql);
+            }
+            try (PreparedStatement record = connection.prepareStatement(RECORD)) {
+                record.setString(1, feature.type());
+                record.setString(2, feature.name());
+                record.setString(3, feature.checksum());
+                record.executeUpdate();
             }
-            
-            String trimmedStmt = cleanStmt.toString().trim();
-
-            // Skip empty statements and special commands
-            if (trimmedStmt.isEmpty() ||
-                    trimmedStmt.equals("//") ||
-                    trimmedStmt.equals(";") ||
-                    trimmedStmt.startsWith("USE ")) {
-                continue;
+            return true;
+        } catch (SQLException e) {
+            // Log but continue - the remaining features do not depend on this one
+            System.out.println("Warning applying " + feature.type() + " " + feature.name() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, String> applied(Statement statement) throws SQLException {
+        Map<String, String> applied = new HashMap<>();
+        try (ResultSet rows = statement.executeQuery("SELECT feature_type, feature_name, checksum FROM database_features")) {
+            while (rows.next()) {
+                applied.put(key(rows.getString(1), rows.getString(2)), rows.getString(3));
             }
+        }
+        return applied;
+    }
 
-            try {
-                statement.execute(trimmedStmt);
-            } catch (Exception e) {
-                // Log but continue - some statements might fail if they already exist
-                System.out.println("Warning executing SQL: " + e.getMessage());
+    private Set<String> existing(Statement statement) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        try (ResultSet rows = statement.executeQuery(EXISTING)) {
+            while (rows.next()) {
+                existing.add(key(rows.getString(1), rows.getString(2)));
             }
         }
+        return existing;
+    }
+
+    private static String key(FeatureScript.Feature feature) {
+        return key(feature.type(), feature.name());
+    }
+
+    private static String key(String type, String name) {
+        return type.toUpperCase(Locale.ROOT) + ":" + name.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,33 @@
+package org.pet.backendpetshelter.Configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "dog-facts")
+public class DogFactProperties {
+    private String baseUrl = "https://dogapi.dog/api/v2";
+    private int connectTimeoutMs = 2_000;
+    private int readTimeoutMs = 3_000;
+    private int poolSize = 50; // facts kept locally and served at random
+    private int failureThreshold = 3; // consecutive failures that open the circuit
+    private long openDurationMs = 60_000; // how long an open circuit skips the upstream
+
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+    public int getConnectTimeoutMs() { return connectTimeoutMs; }
+    public void setConnectTimeoutMs(int connectTimeoutMs) { this.connectTimeoutMs = connectTimeoutMs; }
+
+    public int getReadTimeoutMs() { return readTimeoutMs; }
+    public void setReadTimeoutMs(int readTimeoutMs) { this.readTimeoutMs = readTimeoutMs; }
+
+    public int getPoolSize() { return poolSize; }
+    public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+    public int getFailureThreshold() { return failureThreshold; }
+    public void setFailureThreshold(int failureThreshold) { this.failureThreshold = failureThreshold; }
+
+    public long getOpenDurationMs() { return openDurationMs; }
+    public void setOpenDurationMs(long openDurationMs) { this.openDurationMs = openDurationMs; }
+}
@@ -0,0 +1,133 @@
+package org.pet.backendpetshelter.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * features.sql split into the database objects it defines. The DROP and CREATE statements of
+ * one procedure, function, trigger, view, index or event form a single feature, with a
+ * checksum of its statements (comments excluded) to tell whether it changed since it was applied.
+ */
+public final class FeatureScript {
+
+    private static final Pattern OBJECT = Pattern.compile(
+            "^(?:DROP|CREATE)\\s+(?:OR\\s+REPLACE\\s+)?(?:DEFINER\\s*=\\s*\\S+\\s+)?(?:(?:FULLTEXT|UNIQUE|SPATIAL)\\s+)?"
+                    + "(PROCEDURE|FUNCTION|TRIGGER|VIEW|INDEX|EVENT)\\s+(?:IF\\s+(?:NOT\\s+)?EXISTS\\s+)?`?(\\w+)`?"
+                    + "(?:\\s+ON\\s+`?(\\w+)`?)?",
+            Pattern.CASE_INSENSITIVE);
+
+    /* Statements that are not one of the object types above */
+    public static final String SCRIPT = "SCRIPT";
+
+    /**
+     * @param type       PROCEDURE, FUNCTION, TRIGGER, VIEW, INDEX, EVENT or SCRIPT
+     * @param table      the indexed table, for indexes only
+     * @param statements in script order, comments removed
+     */
+    public record Feature(String type, String name, String table, List<String> statements, String checksum) {
+
+        public boolean isIndex() {
+            return type.equals("INDEX");
+        }
+
+        /* A retired object: features.sql only drops it, so it is done once it no longer exists */
+        public boolean dropsOnly() {
+            return statements.stream().allMatch(statement -> statement.regionMatches(true, 0, "DROP ", 0, 5));
+        }
+    }
+
+    private FeatureScript() {
+    }
+
+    public static List<Feature> parse(String script) {
+        Map<String, Target> targets = new LinkedHashMap<>();
+        Map<String, List<String>> statements = new LinkedHashMap<>();
+        int unnamed = 0;
+        for (String statement : statements(script)) {
+            Matcher matcher = OBJECT.matcher(statement);
+            Target target = matcher.find()
+                    ? new Target(matcher.group(1).toUpperCase(Locale.ROOT), matcher.group(2), matcher.group(3))
+                    : new Target(SCRIPT, "statement_" + (++unnamed), null);
+            String key = target.type() + ":" + target.name().toLowerCase(Locale.ROOT);
+            targets.putIfAbsent(key, target);
+            statements.computeIfAbsent(key, k -> new ArrayList<>()).add(statement);
+        }
+
+        List<Feature> features = new ArrayList<>();
+        targets.forEach((key, target) -> {
+            List<String> body = statements.get(key);
+            features.add(new Feature(target.type(), target.name(), target.table(), List.copyOf(body), checksum(body)));
+        });
+        return features;
+    }
+
+    private record Target(String type, String name, String table) {
+    }
+
+    /* Splits on ";" or on the "//" set by DELIMITER, dropping comment lines, blank lines and USE */
+    static List<String> statements(String script) {
+        List<String> statements = new ArrayList<>();
+        String[] parts = script.split("DELIMITER");
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                continue;
+            }
+            String delimiter = ";";
+            if (i > 0) {
+                // Each DELIMITER section starts with the delimiter it switches to
+                String[] lines = part.split("\n", 2);
+                String firstLine = lines[0].trim();
+                if (firstLine.equals("//") || firstLine.equals(";")) {
+                    delimiter = firstLine;
+                    part = lines.length > 1 ? lines[1] : "";
+                }
+            }
+
+            for (String statement : part.split(Pattern.quote(delimiter))) {
+                String clean = stripComments(statement);
+                if (clean.isEmpty() || clean.equals("//") || clean.equals(";") || clean.startsWith("USE ")) {
+                    continue;
+                }
+                statements.add(clean);
+            }
+        }
+        return statements;
+    }
+
+    private static String stripComments(String statement) {
+        StringBuilder clean = new StringBuilder();
+        for (String line : statement.split("\n")) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("--") || trimmedLine.isEmpty()) {
+                continue;
+            }
+            int commentPos = trimmedLine.indexOf("--");
+            if (commentPos > 0) {
+                trimmedLine = trimmedLine.substring(0, commentPos).trim();
+            }
+            if (!trimmedLine.isEmpty()) {
+                clean.append(trimmedLine).append("\n");
+            }
+        }
+        return clean.toString().trim();
+    }
+
+    private static String checksum(List<String> statements) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(String.join("\n", statements).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
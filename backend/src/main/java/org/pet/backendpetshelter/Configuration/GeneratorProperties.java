@@ -0,0 +1,67 @@
+package org.pet.backendpetshelter.Configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+@Configuration
+@ConfigurationProperties(prefix = "generator")
+public class GeneratorProperties {
+    private long seed = 42; // same seed and sizes, same rows
+    private int users = 1_000;
+    private int animals = 10_000;
+    private int vetPercent = 1; // of the generated users, at least one
+    private int staffPercent = 2;
+    private double vaccinationsPerAnimal = 2.0; // Poisson means
+    private double medicalRecordsPerAnimal = 1.5;
+    private double applicationsPerAnimal = 0.6; // besides the approved one of an adopted animal
+    private int fosterHistoryPercent = 10; // animals with an earlier, ended foster stint
+    private int availableWeight = 70; // relative weights of the animal statuses
+    private int adoptedWeight = 20;
+    private int fosteredWeight = 8;
+    private int deceasedWeight = 2;
+    private LocalDate referenceDate; // "today" for every generated date; unset means the current date
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getUsers() { return users; }
+    public void setUsers(int users) { this.users = users; }
+
+    public int getAnimals() { return animals; }
+    public void setAnimals(int animals) { this.animals = animals; }
+
+    public int getVetPercent() { return vetPercent; }
+    public void setVetPercent(int vetPercent) { this.vetPercent = vetPercent; }
+
+    public int getStaffPercent() { return staffPercent; }
+    public void setStaffPercent(int staffPercent) { this.staffPercent = staffPercent; }
+
+    public double getVaccinationsPerAnimal() { return vaccinationsPerAnimal; }
+    public void setVaccinationsPerAnimal(double vaccinationsPerAnimal) { this.vaccinationsPerAnimal = vaccinationsPerAnimal; }
+
+    public double getMedicalRecordsPerAnimal() { return medicalRecordsPerAnimal; }
+    public void setMedicalRecordsPerAnimal(double medicalRecordsPerAnimal) { this.medicalRecordsPerAnimal = medicalRecordsPerAnimal; }
+
+    public double getApplicationsPerAnimal() { return applicationsPerAnimal; }
+    public void setApplicationsPerAnimal(double applicationsPerAnimal) { this.applicationsPerAnimal = applicationsPerAnimal; }
+
+    public int getFosterHistoryPercent() { return fosterHistoryPercent; }
+    public void setFosterHistoryPercent(int fosterHistoryPercent) { this.fosterHistoryPercent = fosterHistoryPercent; }
+
+    public int getAvailableWeight() { return availableWeight; }
+    public void setAvailableWeight(int availableWeight) { this.availableWeight = availableWeight; }
+
+    public int getAdoptedWeight() { return adoptedWeight; }
+    public void setAdoptedWeight(int adoptedWeight) { this.adoptedWeight = adoptedWeight; }
+
+    public int getFosteredWeight() { return fosteredWeight; }
+    public void setFosteredWeight(int fosteredWeight) { this.fosteredWeight = fosteredWeight; }
+
+    public int getDeceasedWeight() { return deceasedWeight; }
+    public void setDeceasedWeight(int deceasedWeight) { this.deceasedWeight = deceasedWeight; }
+
+    public LocalDate getReferenceDate() { return referenceDate; }
+    public void setReferenceDate(LocalDate referenceDate) { this.referenceDate = referenceDate; }
+}
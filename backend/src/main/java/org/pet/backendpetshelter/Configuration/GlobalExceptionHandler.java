@@ -5,6 +5,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.pet.backendpetshelter.DTO.ErrorResponse;
+import org.pet.backendpetshelter.Service.TokenDenylistFullException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -56,6 +57,24 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, "Conflict", "Duplicate or invalid data", req.getRequestURI(), null);
     }
 
+    // Password hashing pool is saturated (BoundedPasswordEncoder)
+    @ExceptionHandler(PasswordHashingSaturatedException.class)
+    public ResponseEntity<ErrorResponse> tooManyRequests(PasswordHashingSaturatedException ex, HttpServletRequest req) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(Instant.now(), HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                        ex.getMessage(), req.getRequestURI(), null));
+    }
+
+    // Denylist at security.denylist.max-entries with no store to fall back to (TokenDenylistService)
+    @ExceptionHandler(TokenDenylistFullException.class)
+    public ResponseEntity<ErrorResponse> denylistFull(TokenDenylistFullException ex, HttpServletRequest req) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(Instant.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                        ex.getMessage(), req.getRequestURI(), null));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> other(Exception ex, HttpServletRequest req) {
         // Send to Sentry before handling
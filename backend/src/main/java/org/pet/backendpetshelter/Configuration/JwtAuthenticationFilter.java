@@ -1,8 +1,6 @@
 package org.pet.backendpetshelter.Configuration;
 
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -46,9 +44,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             try {
-                Jws<Claims> jws = jwtService.parseAccessToken(token);
-                String email = jws.getBody().getSubject();
-                String role = jws.getBody().get("role", String.class);
+                // Repeat tokens are a hash lookup; only unseen tokens pay for the HMAC check
+                VerifiedToken verified = jwtService.verifyAccessToken(token);
+                String email = verified.subject();
+                String role = verified.role();
 
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     var auth = new UsernamePasswordAuthenticationToken(
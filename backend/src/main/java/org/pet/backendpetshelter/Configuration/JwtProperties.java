@@ -11,6 +11,7 @@ public class JwtProperties {
     private long accessExpirationSeconds;
     private long refreshExpirationSeconds;
     private boolean cookieSecure = true; // default true for production
+    private long verifiedCacheMaxSize = 10_000; // verified access tokens kept by JwtService
 
     public String getAccessSecret() { return accessSecret; }
     public void setAccessSecret(String accessSecret) { this.accessSecret = accessSecret; }
@@ -26,4 +27,7 @@ public class JwtProperties {
 
     public boolean isCookieSecure() { return cookieSecure; }
     public void setCookieSecure(boolean cookieSecure) { this.cookieSecure = cookieSecure; }
+
+    public long getVerifiedCacheMaxSize() { return verifiedCacheMaxSize; }
+    public void setVerifiedCacheMaxSize(long verifiedCacheMaxSize) { this.verifiedCacheMaxSize = verifiedCacheMaxSize; }
 }
\ No newline at end of file
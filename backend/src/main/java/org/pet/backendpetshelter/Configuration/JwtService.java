@@ -1,12 +1,19 @@
 package org.pet.backendpetshelter.Configuration;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
@@ -17,11 +24,43 @@ public class JwtService {
     private final long accessExpSeconds;
     private final long refreshExpSeconds;
 
+    // Parsers are immutable and thread-safe, so they are built once instead of per request
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
+    /*
+     * Access tokens that already passed verification, keyed by the SHA-256 of the token so raw
+     * bearer tokens are not kept on the heap. Each entry expires together with its token and
+     * is dropped early when the token is denied (logout).
+     */
+    private final Cache<String, VerifiedToken> verifiedAccessTokens;
+
     public JwtService(JwtProperties props) {
         this.accessKey = Keys.hmacShaKeyFor(props.getAccessSecret().getBytes(StandardCharsets.UTF_8));
         this.refreshKey = Keys.hmacShaKeyFor(props.getRefreshSecret().getBytes(StandardCharsets.UTF_8));
         this.accessExpSeconds = props.getAccessExpirationSeconds();
         this.refreshExpSeconds = props.getRefreshExpirationSeconds();
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(props.getVerifiedCacheMaxSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateAccessToken(String subject, Map<String, Object> claims) {
@@ -44,10 +83,44 @@ public class JwtService {
     }
 
     public Jws<Claims> parseAccessToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(accessKey).build().parseClaimsJws(token);
+        return accessParser.parseClaimsJws(token);
     }
 
     public Jws<Claims> parseRefreshToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(refreshKey).build().parseClaimsJws(token);
+        return refreshParser.parseClaimsJws(token);
+    }
+
+    /**
+     * Verifies an access token, answering repeat tokens from the verified-token cache.
+     * Invalid tokens are never cached and throw JwtException like parseAccessToken.
+     */
+    public VerifiedToken verifyAccessToken(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedAccessTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        Claims claims = parseAccessToken(token).getBody();
+        Instant expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : Instant.now().plusSeconds(accessExpSeconds);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get("role", String.class), expiresAt);
+        verifiedAccessTokens.put(key, verified);
+        return verified;
+    }
+
+    /* Drops a token from the verified-token cache, e.g. when it is denied on logout */
+    public void evictVerifiedAccessToken(String token) {
+        verifiedAccessTokens.invalidate(hash(token));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
\ No newline at end of file
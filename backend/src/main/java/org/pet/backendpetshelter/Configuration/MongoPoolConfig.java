@@ -0,0 +1,28 @@
+package org.pet.backendpetshelter.Configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes the Mongo driver's connection pool from mongodb.pool.*. Unset, the driver keeps its own
+ * pool (100 connections, 2 minutes to wait for one); server.threads.mode=virtual sets them (see
+ * ThreadModeEnvironmentPostProcessor). Applied after MONGODB_URI, so it wins over maxPoolSize there.
+ */
+@Configuration
+@ConditionalOnProperty(name = "mongodb.pool.max-size")
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(
+            @Value("${mongodb.pool.max-size}") int maxSize,
+            @Value("${mongodb.pool.max-wait-ms:120000}") long maxWaitMs) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,11 @@
+package org.pet.backendpetshelter.Configuration;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/* Thrown by BoundedPasswordEncoder when every hashing thread is busy and its queue is full */
+public class PasswordHashingSaturatedException extends RejectedExecutionException {
+
+    public PasswordHashingSaturatedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,69 @@
+package org.pet.backendpetshelter.Configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * Reference data (species, breeds, vaccination types and vaccine-type-species mappings) changes
+ * rarely but is read on almost every page. Service results are cached in Caffeine (size, TTL
+ * and stats come from spring.cache.caffeine.spec) and evicted by the services' write methods.
+ * The GET responses also carry an ETag and Cache-Control so nginx and browsers can revalidate
+ * with If-None-Match and get a 304 instead of the full body.
+ */
+@Configuration
+@EnableCaching
+@Profile({"mysql", "test"})
+public class ReferenceDataCacheConfig {
+
+    public static final String SPECIES = "species";
+    public static final String BREEDS = "breeds";
+    public static final String VACCINATION_TYPES = "vaccinationTypes";
+    public static final String VACCINE_TYPE_SPECIES = "vaccineTypeSpecies";
+
+    private static final String[] REFERENCE_DATA_URLS = {
+            "/api/species", "/api/species/*",
+            "/api/breed", "/api/breed/*", "/api/breed/species/*",
+            "/api/vaccination-type", "/api/vaccination-type/*",
+            "/api/vaccine-type-species", "/api/vaccine-type-species/*"
+    };
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> referenceDataEtagFilter(
+            @Value("${reference-data.http-cache.max-age-seconds:60}") long maxAgeSeconds) {
+
+        String cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate()
+                .getHeaderValue();
+
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter() {
+            // Only successful GETs get an ETag, so Cache-Control is added to exactly those responses
+            @Override
+            protected boolean isEligibleForEtag(HttpServletRequest request, HttpServletResponse response,
+                                                int responseStatusCode, InputStream inputStream) {
+                boolean eligible = super.isEligibleForEtag(request, response, responseStatusCode, inputStream);
+                if (eligible) {
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                }
+                return eligible;
+            }
+        };
+
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(REFERENCE_DATA_URLS);
+        registration.setName("referenceDataEtagFilter");
+        return registration;
+    }
+}
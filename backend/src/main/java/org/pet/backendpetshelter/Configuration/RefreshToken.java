@@ -9,7 +9,9 @@ import org.pet.backendpetshelter.Entity.User;
 import java.time.Instant;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_token", columnNames = "token"),
+        indexes = @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"))
 @Getter
 @Setter
 public class RefreshToken {
@@ -17,7 +19,7 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable=false, unique = true, length = 512)
+    @Column(nullable=false, length = 512)
     private String token;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -1,5 +1,8 @@
 package org.pet.backendpetshelter.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -8,11 +11,16 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 
 @Configuration
@@ -20,6 +28,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
     private final JwtAuthenticationFilter jwtFilter;
 
     public SecurityConfig(JwtAuthenticationFilter jwtFilter) {
@@ -74,6 +85,10 @@ public class SecurityConfig {
                         // Public docs
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
 
+                        // Actuator: health is public, metrics (cache hit/miss counters) are admin only
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
+
                         // Animal management - ADMIN and STAFF can modify
                         .requestMatchers(HttpMethod.POST, "/api/animal/**").hasAnyAuthority("ADMIN", "STAFF")
                         .requestMatchers(HttpMethod.PUT, "/api/animal/**").hasAnyAuthority("ADMIN", "STAFF")
@@ -107,6 +122,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.PUT, "/api/vaccination-type/**").hasAnyAuthority("ADMIN", "VETERINARIAN")
                         .requestMatchers(HttpMethod.DELETE, "/api/vaccination-type/**").hasAnyAuthority("ADMIN", "VETERINARIAN")
 
+                        // Dashboards and statistics - shelter staff only
+                        .requestMatchers("/api/dashboard/**").hasAnyAuthority("ADMIN", "STAFF")
+                        .requestMatchers("/api/stats/**").hasAnyAuthority("ADMIN", "STAFF")
+
                         // User management
                         .requestMatchers(HttpMethod.GET, "/api/user/**")
                         .hasAnyAuthority("ADMIN", "STAFF", "USER", "VETERINARIAN", "ADOPTER", "FOSTER")
@@ -118,8 +137,32 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /*
+     * New hashes are stored as {bcrypt}<hash> at the configured cost. Old unprefixed hashes still
+     * match, and AuthService re-hashes any password whose stored cost differs on the next login.
+     * BCrypt runs on BoundedPasswordEncoder's pool, not on the servlet thread.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-cost:12}") int bcryptCost,
+                                           @Value("${security.password.hash-threads:0}") int hashThreads,
+                                           @Value("${security.password.hash-queue-capacity:50}") int queueCapacity,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt(bcryptCost)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, meterRegistry.getIfAvailable());
+    }
+
+    /* BCrypt that asks for a re-hash whenever the stored cost differs, not only when it is lower */
+    private static BCryptPasswordEncoder bcrypt(int cost) {
+        return new BCryptPasswordEncoder(cost) {
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                Matcher matcher = BCRYPT_COST.matcher(encodedPassword == null ? "" : encodedPassword);
+                return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost;
+            }
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package org.pet.backendpetshelter.Configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Threads for the startup CommandLineRunners (migrations, index builds). Spring Boot calls the
+ * runners on the main thread, so spring.threads.virtual.enabled does not reach them; with
+ * server.threads.mode=virtual they hand their work to virtual threads from here instead, like
+ * requests and scheduled jobs. In platform mode the work stays on the main thread and the
+ * worker pools use platform threads.
+ */
+@Component
+public class StartupThreads {
+
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private final boolean virtual;
+
+    public StartupThreads(@Value("${spring.threads.virtual.enabled:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public ThreadFactory factory(String namePrefix) {
+        return virtual
+                ? new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory()
+                : new CustomizableThreadFactory(namePrefix);
+    }
+
+    /* At most threads tasks at a time: the connection pools, not the threads, are the limit */
+    public ExecutorService fixedPool(String namePrefix, int threads) {
+        return Executors.newFixedThreadPool(threads, factory(namePrefix));
+    }
+
+    /* Runs the task on a virtual thread in virtual mode and waits for it, so the runners still run one after another */
+    public void runAndWait(String namePrefix, Task task) throws Exception {
+        if (!virtual) {
+            task.run();
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(factory(namePrefix));
+        try {
+            executor.submit((Callable<Void>) () -> {
+                task.run();
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw (Error) e.getCause();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.pet.backendpetshelter.Configuration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Applies server.threads.mode before the context starts.
+ *
+ * - platform (default): request handling runs on Tomcat's worker pool.
+ * - virtual: turns on spring.threads.virtual.enabled, so Tomcat requests, @Scheduled jobs, the
+ *   application task executor and the startup migrations (StartupThreads) run on virtual threads,
+ *   and everything they call (JDBC, Mongo, Neo4j, DogFactService's RestClient) blocks a virtual
+ *   thread instead of a worker.
+ *
+ * Without the worker pool, the connection pools (Hikari, Neo4j, Mongo) become the concurrency
+ * limit. They get sizes and short acquisition timeouts so a spike waits briefly for a connection
+ * and then fails, instead of piling up thousands of parked requests. The defaults are added with the lowest
+ * precedence, so any value set explicitly still wins. Virtual threads need a Java 21+ runtime;
+ * the code itself still compiles for Java 17.
+ */
+public class ThreadModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    public static final String PROPERTY = "server.threads.mode";
+
+    static final Map<String, Object> VIRTUAL_DEFAULTS = Map.of(
+            "spring.threads.virtual.enabled", "true",
+            "spring.datasource.hikari.maximum-pool-size", "20",
+            "spring.datasource.hikari.connection-timeout", "5000",
+            "spring.neo4j.pool.max-connection-pool-size", "20",
+            "spring.neo4j.pool.connection-acquisition-timeout", "5s",
+            "mongodb.pool.max-size", "20",
+            "mongodb.pool.max-wait-ms", "5000"
+    );
+
+    private final int javaVersion;
+
+    public ThreadModeEnvironmentPostProcessor() {
+        this(Runtime.version().feature());
+    }
+
+    public ThreadModeEnvironmentPostProcessor(int javaVersion) {
+        this.javaVersion = javaVersion;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String mode = environment.getProperty(PROPERTY, "platform").trim().toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "platform" -> {
+            }
+            case "virtual" -> {
+                if (javaVersion < 21) {
+                    throw new IllegalStateException(PROPERTY + "=virtual needs Java 21 or newer, running on Java " + javaVersion);
+                }
+                environment.getPropertySources().addLast(new MapPropertySource("virtualThreadDefaults", VIRTUAL_DEFAULTS));
+            }
+            default -> throw new IllegalArgumentException(PROPERTY + " must be platform or virtual, got: " + mode);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.pet.backendpetshelter.Configuration;
+
+import java.time.Instant;
+
+/* The parts of a verified access token that authentication needs */
+public record VerifiedToken(String subject, String role, Instant expiresAt) {
+}
@@ -4,6 +4,7 @@ package org.pet.backendpetshelter.Controller;
 import org.pet.backendpetshelter.DTO.AdminAdoptionApplicationResponse;
 import org.pet.backendpetshelter.DTO.AdoptionApplicationRequest;
 import org.pet.backendpetshelter.DTO.AdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Service.AdoptionApplicationService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
@@ -39,17 +40,34 @@ public class AdoptionApplicationController {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        // Convert string status to enum
-        org.pet.backendpetshelter.Status statusEnum = null;
+        return adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(parseStatus(status), search, pageable);
+    }
+
+    // Keyset pagination mode, selected by the "after" parameter (empty for the first slice)
+    @GetMapping(value = "/all", params = "after")
+    public CursorPage<AdminAdoptionApplicationResponse> scrollAdoptionApplications(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "applicationDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return adoptionApplicationService.ScrollAdoptionApplicationsWithFilters(parseStatus(status), search,
+                sortBy, direction, after, size);
+    }
+
+    // Convert string status to enum
+    private org.pet.backendpetshelter.Status parseStatus(String status) {
         if (status != null && !status.isEmpty() && !status.equalsIgnoreCase("all")) {
             try {
-                statusEnum = org.pet.backendpetshelter.Status.valueOf(status.toUpperCase());
+                return org.pet.backendpetshelter.Status.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 // Invalid status, leave as null
             }
         }
-        
-        return adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(statusEnum, search, pageable);
+        return null;
     }
 
 
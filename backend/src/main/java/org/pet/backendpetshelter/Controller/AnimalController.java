@@ -3,6 +3,8 @@ package org.pet.backendpetshelter.Controller;
 
 import org.pet.backendpetshelter.DTO.AnimalDTORequest;
 import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.pet.backendpetshelter.DTO.AnimalSummaryResponse;
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Service.AnimalService;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
@@ -52,6 +54,57 @@ public class AnimalController {
         return animalService.GetAllAnimals(pageable);
     }
 
+    /**
+     * Summary view, selected with view=summary: species and breed come back as names only and
+     * each page is a single joined query. Takes the same paging and filter parameters.
+     */
+    @GetMapping(params = {"view=summary", "!after"})
+    public Page<AnimalSummaryResponse> getAnimalSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean hasRequiredVaccinations,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String search) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        return animalService.GetAnimalSummariesWithFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, search, pageable);
+    }
+
+    /**
+     * Keyset pagination mode, selected by the "after" parameter. Pass an empty value for the
+     * first slice and the returned nextCursor for the following ones; no total is computed.
+     * Only full DTOs are returned here, so view=summary is rejected rather than ignored.
+     */
+    @GetMapping(params = "after")
+    public CursorPage<AnimalDTOResponse> scrollAnimals(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Boolean hasRequiredVaccinations,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String view) {
+
+        if (view != null) {
+            throw new IllegalArgumentException("view=" + view + " is not available with after (cursor mode)");
+        }
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return animalService.ScrollAnimalsWithFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, search,
+                sortBy, direction, after, size);
+    }
+
 
     @GetMapping("/{id}")
     public AnimalDTOResponse getAnimalById(@PathVariable Long id) {
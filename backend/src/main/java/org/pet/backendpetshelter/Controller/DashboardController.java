@@ -0,0 +1,60 @@
+package org.pet.backendpetshelter.Controller;
+
+import org.pet.backendpetshelter.DTO.AdoptionHistorySummaryResponse;
+import org.pet.backendpetshelter.DTO.AvailableAnimalSummaryResponse;
+import org.pet.backendpetshelter.DTO.PendingApplicationSummaryResponse;
+import org.pet.backendpetshelter.DTO.VaccinationStatusSummaryResponse;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin
+@Profile({"mysql", "test"})
+public class DashboardController {
+
+    private final DashboardSummaryService dashboardSummaryService;
+
+    public DashboardController(DashboardSummaryService dashboardSummaryService) {
+        this.dashboardSummaryService = dashboardSummaryService;
+    }
+
+    @GetMapping("/available-animals")
+    public Page<AvailableAnimalSummaryResponse> getAvailableAnimals(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return dashboardSummaryService.getAvailableAnimals(page, size);
+    }
+
+    @GetMapping("/adoption-history")
+    public Page<AdoptionHistorySummaryResponse> getAdoptionHistory(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return dashboardSummaryService.getAdoptionHistory(page, size);
+    }
+
+    @GetMapping("/vaccination-status")
+    public Page<VaccinationStatusSummaryResponse> getVaccinationStatus(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return dashboardSummaryService.getVaccinationStatus(page, size);
+    }
+
+    @GetMapping("/pending-applications")
+    public Page<PendingApplicationSummaryResponse> getPendingApplications(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return dashboardSummaryService.getPendingApplications(page, size);
+    }
+
+    /* Rebuild now instead of waiting for the next scheduled refresh */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Integer>> refresh() {
+        return ResponseEntity.ok(dashboardSummaryService.refresh());
+    }
+}
@@ -1,6 +1,7 @@
 package org.pet.backendpetshelter.Controller;
 
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.DTO.MedicalRecordDTORequest;
 import org.pet.backendpetshelter.DTO.MedicalRecordDTOResponse;
 import org.pet.backendpetshelter.Service.MedicalRecordService;
@@ -52,6 +53,23 @@ public class MedicalRecordController {
         return medicalRecordService.GetAllMedicalRecords(pageable);
     }
 
+    // Keyset pagination mode, selected by the "after" parameter (empty for the first slice)
+    @GetMapping(params = "after")
+    public CursorPage<MedicalRecordDTOResponse> scrollMedicalRecords(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "date") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String animalStatus,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date endDate,
+            @RequestParam(required = false) String search
+    ) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return medicalRecordService.ScrollMedicalRecordsWithFilters(animalStatus, startDate, endDate, search,
+                sortBy, direction, after, size);
+    }
+
     @GetMapping("/{id}")
     public MedicalRecordDTOResponse getMedicalRecordById(@PathVariable Long id) {
         return medicalRecordService.getMedicalRecordById(id);
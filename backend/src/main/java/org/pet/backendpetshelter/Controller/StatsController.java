@@ -0,0 +1,33 @@
+package org.pet.backendpetshelter.Controller;
+
+import org.pet.backendpetshelter.DTO.ShelterStatsResponse;
+import org.pet.backendpetshelter.Service.ShelterStatsService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@CrossOrigin
+@Profile({"mysql", "test"})
+public class StatsController {
+
+    private final ShelterStatsService shelterStatsService;
+
+    public StatsController(ShelterStatsService shelterStatsService) {
+        this.shelterStatsService = shelterStatsService;
+    }
+
+    @GetMapping
+    public ShelterStatsResponse getStats() {
+        return shelterStatsService.getStats();
+    }
+
+    /* Recount from the source tables now instead of waiting for the nightly run */
+    @PostMapping("/reconcile")
+    public ResponseEntity<Map<String, Integer>> reconcile() {
+        return ResponseEntity.ok(Map.of("counters", shelterStatsService.reconcile()));
+    }
+}
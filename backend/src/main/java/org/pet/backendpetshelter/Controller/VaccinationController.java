@@ -1,5 +1,6 @@
 package org.pet.backendpetshelter.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.DTO.VaccinationRequest;
 import org.pet.backendpetshelter.DTO.VaccinationResponse;
 import org.pet.backendpetshelter.Service.VaccinationService;
@@ -36,20 +37,30 @@ private final VaccinationService vaccinationService;
     ) {
         Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         
-        // If any filters are provided, use filtered query (native query requires database column names)
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        // If any filters are provided, use filtered query
         if (animalStatus != null || search != null) {
-            // Map Java field names to database column names for native queries
-            String dbSortBy = sortBy.equals("dateAdministered") ? "date_administered" : 
-                             sortBy.equals("nextDueDate") ? "next_due_date" : sortBy;
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, dbSortBy));
             return vaccinationService.GetAllVaccinationsWithFilters(animalStatus, search, pageable);
         }
-        
-        // For non-filtered query, use Java field names (JPA will handle mapping)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
         return vaccinationService.GetAllVaccinations(pageable);
     }
 
+    // Keyset pagination mode, selected by the "after" parameter (empty for the first slice)
+    @GetMapping(params = "after")
+    public CursorPage<VaccinationResponse> scrollVaccinations(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "dateAdministered") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String animalStatus,
+            @RequestParam(required = false) String search
+    ) {
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return vaccinationService.ScrollVaccinationsWithFilters(animalStatus, search, sortBy, direction, after, size);
+    }
+
 
     @GetMapping("/{id}")
     public VaccinationResponse getVaccinationById(@PathVariable Long id){
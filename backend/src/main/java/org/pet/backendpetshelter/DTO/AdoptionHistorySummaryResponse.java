@@ -0,0 +1,35 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.pet.backendpetshelter.Entity.AdoptionHistorySummary;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/* AdoptionHistoryView row for GET /api/dashboard/adoption-history */
+@Getter
+@Setter
+public class AdoptionHistorySummaryResponse {
+    private Long adoptionId;
+    private String animalName;
+    private String species;
+    private String breed;
+    private String adopterName;
+    private String adopterEmail;
+    private String adopterPhone;
+    private LocalDate adoptionDate;
+    private Long daysSinceAdoption;
+
+    public AdoptionHistorySummaryResponse(AdoptionHistorySummary summary, LocalDate today) {
+        this.adoptionId = summary.getAdoptionId();
+        this.animalName = summary.getAnimalName();
+        this.species = summary.getSpecies();
+        this.breed = summary.getBreed();
+        this.adopterName = summary.getAdopterName();
+        this.adopterEmail = summary.getAdopterEmail();
+        this.adopterPhone = summary.getAdopterPhone();
+        this.adoptionDate = summary.getAdoptionDate();
+        this.daysSinceAdoption = adoptionDate == null ? null : ChronoUnit.DAYS.between(adoptionDate, today);
+    }
+}
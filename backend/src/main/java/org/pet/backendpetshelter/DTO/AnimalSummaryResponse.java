@@ -0,0 +1,46 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.pet.backendpetshelter.Status;
+
+import java.util.Date;
+
+/**
+ * Flat listing row for GET /api/animal?view=summary. Species and breed are reduced to their
+ * names, so a page is one joined query instead of the full entity graph.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class AnimalSummaryResponse {
+    private Long id;
+    private String name;
+    private String sex;
+    private String speciesName;
+    private String breedName;
+    private Date birthDate;
+    private Date intakeDate;
+    private Status status;
+    private int price;
+    private Boolean isActive;
+    private String imageUrl;
+
+    /* Constructor expression target used by AnimalSummaryQueriesImpl; keep the order in sync */
+    public AnimalSummaryResponse(Long id, String name, String sex, String speciesName, String breedName,
+                                 Date birthDate, Date intakeDate, Status status, int price,
+                                 Boolean isActive, String imageUrl) {
+        this.id = id;
+        this.name = name;
+        this.sex = sex;
+        this.speciesName = speciesName;
+        this.breedName = breedName;
+        this.birthDate = birthDate;
+        this.intakeDate = intakeDate;
+        this.status = status;
+        this.price = price;
+        this.isActive = isActive;
+        this.imageUrl = imageUrl;
+    }
+}
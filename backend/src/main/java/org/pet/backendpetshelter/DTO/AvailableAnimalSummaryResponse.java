@@ -0,0 +1,39 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.pet.backendpetshelter.Entity.AvailableAnimalSummary;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/* AvailableAnimalsView row for GET /api/dashboard/available-animals */
+@Getter
+@Setter
+public class AvailableAnimalSummaryResponse {
+    private Long animalId;
+    private String name;
+    private String species;
+    private String breed;
+    private LocalDate birthDate;
+    private Integer ageYears;
+    private String sex;
+    private LocalDate intakeDate;
+    private int price;
+    private boolean hasRequiredVaccines;
+    private String adoptionStatus;
+
+    public AvailableAnimalSummaryResponse(AvailableAnimalSummary summary, LocalDate today) {
+        this.animalId = summary.getAnimalId();
+        this.name = summary.getName();
+        this.species = summary.getSpecies();
+        this.breed = summary.getBreed();
+        this.birthDate = summary.getBirthDate();
+        this.ageYears = birthDate == null ? null : Period.between(birthDate, today).getYears();
+        this.sex = summary.getSex();
+        this.intakeDate = summary.getIntakeDate();
+        this.price = summary.getPrice();
+        this.hasRequiredVaccines = summary.isHasRequiredVaccines();
+        this.adoptionStatus = hasRequiredVaccines ? "Ready for adoption" : "Needs vaccinations";
+    }
+}
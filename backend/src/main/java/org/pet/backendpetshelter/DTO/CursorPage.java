@@ -0,0 +1,28 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset (cursor) paginated listing. Unlike Page there is no total
+ * count; pass nextCursor back as the "after" parameter to fetch the following slice.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPage(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,33 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.pet.backendpetshelter.Entity.PendingApplicationSummary;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/* PendingApplicationsView row for GET /api/dashboard/pending-applications */
+@Getter
+@Setter
+public class PendingApplicationSummaryResponse {
+    private Long applicationId;
+    private String animalName;
+    private String species;
+    private String applicantName;
+    private String applicantEmail;
+    private String applicantPhone;
+    private LocalDate applicationDate;
+    private Long daysPending;
+
+    public PendingApplicationSummaryResponse(PendingApplicationSummary summary, LocalDate today) {
+        this.applicationId = summary.getApplicationId();
+        this.animalName = summary.getAnimalName();
+        this.species = summary.getSpecies();
+        this.applicantName = summary.getApplicantName();
+        this.applicantEmail = summary.getApplicantEmail();
+        this.applicantPhone = summary.getApplicantPhone();
+        this.applicationDate = summary.getApplicationDate();
+        this.daysPending = applicationDate == null ? null : ChronoUnit.DAYS.between(applicationDate, today);
+    }
+}
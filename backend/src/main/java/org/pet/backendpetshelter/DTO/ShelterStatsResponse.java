@@ -0,0 +1,32 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+/* GET /api/stats */
+@Getter
+@Setter
+public class ShelterStatsResponse {
+    private Map<String, Long> animalsByStatus;
+    // Species name -> available animals, species without available animals left out
+    private Map<String, Long> availableBySpecies;
+    // Active applications per status
+    private Map<String, Long> applicationsByStatus;
+    private long adoptionsThisMonth;
+    // "2026-10" -> active adoptions dated that month, the last twelve months oldest first
+    private Map<String, Long> adoptionsByMonth;
+    private long activeFosterCares;
+
+    public ShelterStatsResponse(Map<String, Long> animalsByStatus, Map<String, Long> availableBySpecies,
+                                Map<String, Long> applicationsByStatus, long adoptionsThisMonth,
+                                Map<String, Long> adoptionsByMonth, long activeFosterCares) {
+        this.animalsByStatus = animalsByStatus;
+        this.availableBySpecies = availableBySpecies;
+        this.applicationsByStatus = applicationsByStatus;
+        this.adoptionsThisMonth = adoptionsThisMonth;
+        this.adoptionsByMonth = adoptionsByMonth;
+        this.activeFosterCares = activeFosterCares;
+    }
+}
@@ -0,0 +1,38 @@
+package org.pet.backendpetshelter.DTO;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.pet.backendpetshelter.Entity.VaccinationStatusSummary;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/* VaccinationStatusView row for GET /api/dashboard/vaccination-status */
+@Getter
+@Setter
+public class VaccinationStatusSummaryResponse {
+    private Long animalId;
+    private String animalName;
+    private String vaccineName;
+    private LocalDate dateAdministered;
+    private LocalDate nextDueDate;
+    private String status;
+    private Long daysUntilDue;
+
+    public VaccinationStatusSummaryResponse(VaccinationStatusSummary summary, LocalDate today) {
+        this.animalId = summary.getAnimalId();
+        this.animalName = summary.getAnimalName();
+        this.vaccineName = summary.getVaccineName();
+        this.dateAdministered = summary.getDateAdministered();
+        this.nextDueDate = summary.getNextDueDate();
+        // Same thresholds as the view; like its CASE, a missing due date falls through to Up to Date
+        if (nextDueDate != null && nextDueDate.isBefore(today)) {
+            this.status = "Overdue";
+        } else if (nextDueDate != null && nextDueDate.isBefore(today.plusDays(30))) {
+            this.status = "Due Soon";
+        } else {
+            this.status = "Up to Date";
+        }
+        this.daysUntilDue = nextDueDate == null ? null : ChronoUnit.DAYS.between(today, nextDueDate);
+    }
+}
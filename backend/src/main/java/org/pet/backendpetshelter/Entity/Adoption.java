@@ -5,10 +5,12 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Date;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners(ChangeLogEntityListener.class)
 @Table(name = "adoption")
 public class Adoption {
     @Id
@@ -5,14 +5,32 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.pet.backendpetshelter.Status;
+import org.pet.backendpetshelter.Search.SearchIndexEntityListener;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 import java.util.Date;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners({SearchIndexEntityListener.class, ChangeLogEntityListener.class})
+@NamedEntityGraph(name = AdoptionApplication.ADMIN_LISTING_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "animal", subgraph = "animal"),
+                @NamedAttributeNode("reviewedByUser")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "animal", attributeNodes = {
+                        @NamedAttributeNode("species"),
+                        @NamedAttributeNode(value = "breed", subgraph = "breed")
+                }),
+                @NamedSubgraph(name = "breed", attributeNodes = @NamedAttributeNode("species"))
+        })
 @Table(name = "adoption_application", uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "animal_id"}))
 public class AdoptionApplication {
+    public static final String ADMIN_LISTING_GRAPH = "AdoptionApplication.adminListing";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "adoption_application_id")
@@ -0,0 +1,46 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/* Row of AdoptionHistoryView, materialised by DashboardSummaryService; days since adoption are derived when read */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "adoption_history_summary",
+        indexes = {
+                @Index(name = "idx_adoption_history_summary_date", columnList = "adoption_date"),
+                @Index(name = "idx_adoption_history_summary_animal", columnList = "animal_id")})
+public class AdoptionHistorySummary {
+    @Id
+    @Column(name = "adoption_id")
+    private Long adoptionId;
+
+    // Lets DashboardSummaryService replace an animal's rows after a write
+    @Column(name = "animal_id", nullable = false)
+    private Long animalId;
+
+    @Column(name = "animal_name", nullable = false, length = 80)
+    private String animalName;
+
+    private String species;
+
+    private String breed;
+
+    @Column(name = "adopter_name", nullable = false)
+    private String adopterName;
+
+    @Column(name = "adopter_email", nullable = false)
+    private String adopterEmail;
+
+    @Column(name = "adopter_phone", length = 32)
+    private String adopterPhone;
+
+    @Column(name = "adoption_date")
+    private LocalDate adoptionDate;
+}
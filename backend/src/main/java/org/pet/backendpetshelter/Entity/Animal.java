@@ -5,12 +5,15 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.pet.backendpetshelter.Status;
+import org.pet.backendpetshelter.Search.SearchIndexEntityListener;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 import java.util.Date;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners({SearchIndexEntityListener.class, ChangeLogEntityListener.class})
 @Table(name = "animal")
 public class Animal {
     @Id
@@ -42,4 +45,8 @@ public class Animal {
     private Boolean isActive;
     private String imageUrl;
 
+    // Maintained by VaccinationComplianceService, never written through the entity
+    @Column(name = "vaccination_compliant", nullable = false, updatable = false)
+    private Boolean vaccinationCompliant = false;
+
 }
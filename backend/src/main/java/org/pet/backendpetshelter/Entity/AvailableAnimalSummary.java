@@ -0,0 +1,41 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/* Row of AvailableAnimalsView, materialised by DashboardSummaryService; the age is derived when read */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "available_animal_summary")
+public class AvailableAnimalSummary {
+    @Id
+    @Column(name = "animal_id")
+    private Long animalId;
+
+    @Column(nullable = false, length = 80)
+    private String name;
+
+    private String species;
+
+    private String breed;
+
+    @Column(name = "birth_date")
+    private LocalDate birthDate;
+
+    private String sex;
+
+    @Column(name = "intake_date")
+    private LocalDate intakeDate;
+
+    private int price;
+
+    // animal.vaccination_compliant, not HasRequiredVaccinations() per row
+    @Column(name = "has_required_vaccines", nullable = false)
+    private boolean hasRequiredVaccines;
+}
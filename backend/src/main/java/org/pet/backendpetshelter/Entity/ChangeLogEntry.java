@@ -0,0 +1,37 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/*
+ * Outbox row written by ChangeLogEntityListener for every insert, update or delete of a domain entity.
+ * Rows are written and read with plain JDBC (the listener runs inside Hibernate's flush);
+ * the entity only declares the table.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "entity_table", nullable = false, length = 64)
+    private String entityTable;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false, length = 8)
+    private String operation;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
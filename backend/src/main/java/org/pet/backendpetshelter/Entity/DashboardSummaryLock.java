@@ -0,0 +1,25 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single guard row DashboardSummaryService locks before writing the summary tables: shared
+ * by the per-animal refreshes, exclusive for the full rebuild.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "dashboard_summary_lock")
+public class DashboardSummaryLock {
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "lock_id")
+    private int id;
+
+    public DashboardSummaryLock(int id) {
+        this.id = id;
+    }
+}
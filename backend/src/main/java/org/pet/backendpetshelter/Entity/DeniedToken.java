@@ -0,0 +1,35 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/* Shared copy of a revoked access token (see TokenDenylistService), keyed by its 128-bit digest */
+@Getter
+@Setter
+@Entity
+@Table(name = "token_denylist", indexes = {
+        @Index(name = "idx_token_denylist_created_at", columnList = "created_at"),
+        @Index(name = "idx_token_denylist_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_denylist_digest", columnList = "digest_high, digest_low")
+})
+public class DeniedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "denied_token_id")
+    private Long id;
+
+    @Column(name = "digest_high", nullable = false)
+    private long digestHigh;
+
+    @Column(name = "digest_low", nullable = false)
+    private long digestLow;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -3,12 +3,15 @@ package org.pet.backendpetshelter.Entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.pet.backendpetshelter.Search.SearchIndexEntityListener;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 import java.util.Date;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners({SearchIndexEntityListener.class, ChangeLogEntityListener.class})
 @Table(name = "medical_record")
 public class MedicalRecord {
     @Id
@@ -0,0 +1,44 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/* Row of PendingApplicationsView, materialised by DashboardSummaryService; days pending are derived when read */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "pending_application_summary",
+        indexes = {
+                @Index(name = "idx_pending_application_summary_date", columnList = "application_date"),
+                @Index(name = "idx_pending_application_summary_animal", columnList = "animal_id")})
+public class PendingApplicationSummary {
+    @Id
+    @Column(name = "adoption_application_id")
+    private Long applicationId;
+
+    // Lets DashboardSummaryService replace an animal's rows after a write
+    @Column(name = "animal_id", nullable = false)
+    private Long animalId;
+
+    @Column(name = "animal_name", nullable = false, length = 80)
+    private String animalName;
+
+    private String species;
+
+    @Column(name = "applicant_name", nullable = false)
+    private String applicantName;
+
+    @Column(name = "applicant_email", nullable = false)
+    private String applicantEmail;
+
+    @Column(name = "applicant_phone", length = 32)
+    private String applicantPhone;
+
+    @Column(name = "application_date")
+    private LocalDate applicationDate;
+}
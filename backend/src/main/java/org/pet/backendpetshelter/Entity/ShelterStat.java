@@ -0,0 +1,22 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One /api/stats counter, e.g. "animals:AVAILABLE:3" or "adoptions:2026-10". Kept up to date by
+ * ShelterStatsService in the same transaction as the write it counts.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "shelter_stat")
+public class ShelterStat {
+    @Id
+    @Column(name = "stat_key", length = 64)
+    private String key;
+
+    @Column(nullable = false)
+    private long total;
+}
@@ -0,0 +1,42 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/* Last change_log row applied by one incremental sync consumer (e.g. "mongo", "neo4j") */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "sync_cursor")
+public class SyncCursor {
+    @Id
+    @Column(length = 32)
+    private String consumer;
+
+    @Column(name = "last_change_id", nullable = false)
+    private long lastChangeId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    // change_ids below last_change_id not seen yet, with when they were first missed
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "sync_cursor_gap", joinColumns = @JoinColumn(name = "consumer"))
+    @MapKeyColumn(name = "change_id")
+    @Column(name = "missed_at", nullable = false)
+    private Map<Long, Instant> gaps = new HashMap<>();
+
+    public SyncCursor(String consumer, long lastChangeId, Instant updatedAt, Map<Long, Instant> gaps) {
+        this.consumer = consumer;
+        this.lastChangeId = lastChangeId;
+        this.updatedAt = updatedAt;
+        this.gaps = new HashMap<>(gaps);
+    }
+}
@@ -5,10 +5,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Search.SearchIndexEntityListener;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners({SearchIndexEntityListener.class, ChangeLogEntityListener.class})
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(name = "uk_users_email", columnNames = "email")
 })
@@ -21,7 +24,8 @@ public class User {
     @Column(nullable = false, length = 255)
     private String email;
 
-    @Column(nullable = false, length = 60)
+    // {bcrypt} prefix + 60 character hash, with room for a future encoder id
+    @Column(nullable = false, length = 100)
     private String password;
 
     @Column(nullable = false, length = 80)
@@ -0,0 +1,44 @@
+package org.pet.backendpetshelter.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Row of VaccinationStatusView, materialised by DashboardSummaryService: one per vaccination
+ * of an active animal, or one with no vaccination for an animal that has none. Pages are
+ * read in the view's (animal_id, next_due_date) order from the matching index. The
+ * Overdue/Due Soon/Up to Date status is derived from next_due_date when read.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "vaccination_status_summary",
+        indexes = {
+                @Index(name = "idx_vaccination_status_summary_due", columnList = "next_due_date"),
+                @Index(name = "idx_vaccination_status_summary_animal", columnList = "animal_id, next_due_date")})
+public class VaccinationStatusSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long id;
+
+    @Column(name = "animal_id", nullable = false)
+    private Long animalId;
+
+    @Column(name = "animal_name", nullable = false, length = 80)
+    private String animalName;
+
+    @Column(name = "vaccine_name")
+    private String vaccineName;
+
+    @Column(name = "date_administered")
+    private LocalDate dateAdministered;
+
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+}
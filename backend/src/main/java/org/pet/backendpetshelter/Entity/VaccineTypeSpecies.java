@@ -4,10 +4,12 @@ package org.pet.backendpetshelter.Entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.pet.backendpetshelter.Sync.ChangeLogEntityListener;
 
 @Getter
 @Setter
 @Entity
+@EntityListeners(ChangeLogEntityListener.class)
 @Table(name = "vaccination_type_species")
 public class VaccineTypeSpecies {
     @Id
@@ -0,0 +1,32 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Runs a query through a forward-only cursor so rows reach the handler one at a time
+ * instead of the driver buffering the whole result set.
+ */
+public final class JdbcCursor {
+
+    private JdbcCursor() {
+    }
+
+    public static void stream(JdbcTemplate jdbcTemplate, String sql, int fetchSize,
+                              RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J buffers the whole result set unless the fetch size is Integer.MIN_VALUE
+            // (or useCursorFetch=true is set on the URL); other drivers honour a positive fetch size
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        }, handler);
+    }
+}
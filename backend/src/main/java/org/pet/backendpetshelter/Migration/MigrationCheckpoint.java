@@ -0,0 +1,32 @@
+package org.pet.backendpetshelter.Migration;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+/**
+ * Progress of one migration step, written after every chunk.
+ * Delete the document to copy the table again from the start. sourceMaxKey and sourceRows
+ * fingerprint the table when the step started; a checkpoint whose table has changed since is
+ * not trusted, and the step is copied again.
+ */
+@Document(collection = "migration_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MigrationCheckpoint {
+
+    @Id
+    private String step;
+
+    private long lastKey;
+    private long migrated;
+    private boolean completed;
+    private long sourceMaxKey;
+    private long sourceRows;
+    private Date updatedAt;
+}
@@ -0,0 +1,28 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collections;
+
+/**
+ * One SQL table copied into one MongoDB collection.
+ * Rows are read in ascending {@code keyColumn} order so the last key of a committed chunk
+ * is enough to resume the step.
+ */
+public record MigrationStep<D>(String name,
+                               String table,
+                               String keyColumn,
+                               String columns,
+                               Class<D> documentClass,
+                               RowMapper<D> rowMapper) {
+
+    public String selectAfterKey() {
+        return "SELECT " + columns + " FROM " + table
+                + " WHERE " + keyColumn + " > ? ORDER BY " + keyColumn;
+    }
+
+    public String selectByKeys(int count) {
+        return "SELECT " + columns + " FROM " + table
+                + " WHERE " + keyColumn + " IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+}
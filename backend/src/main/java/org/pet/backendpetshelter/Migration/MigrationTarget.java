@@ -0,0 +1,25 @@
+package org.pet.backendpetshelter.Migration;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where migrated chunks and checkpoints are written.
+ */
+public interface MigrationTarget {
+
+    /**
+     * Inserts or replaces documents by id, so documents left by an earlier run (or a chunk written
+     * before a crash) are refreshed from the current rows.
+     *
+     * @return number of documents that did not exist yet
+     */
+    <D> int upsertChunk(Class<D> documentClass, List<D> chunk);
+
+    void deleteByIds(Class<?> documentClass, Collection<String> ids);
+
+    Optional<MigrationCheckpoint> findCheckpoint(String step);
+
+    void saveCheckpoint(MigrationCheckpoint checkpoint);
+}
@@ -0,0 +1,77 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.pet.backendpetshelter.Sync.ChangeBatch;
+import org.pet.backendpetshelter.Sync.ChangeLogPoller;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the MongoDB copy following MySQL by applying change_log deltas: changed rows are re-read
+ * with the migration step mappers and upserted in bulk, deleted rows are removed.
+ */
+@Component
+@Profile("migrate-mongo")
+@ConditionalOnProperty(name = "sync.enabled", havingValue = "true")
+public class MongoChangeSync {
+
+    static final String CONSUMER = "mongo";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeLogPoller poller;
+    private final MigrationTarget target;
+    private final Map<String, MigrationStep<?>> stepsByTable;
+
+    public MongoChangeSync(JdbcTemplate jdbcTemplate, ChangeLogPoller poller, MigrationTarget target) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.poller = poller;
+        this.target = target;
+        this.stepsByTable = MongoMigrationSteps.all().stream()
+                .collect(Collectors.toMap(MigrationStep::table, Function.identity()));
+    }
+
+    @Scheduled(fixedDelayString = "${sync.poll-interval-ms:1000}")
+    public void sync() {
+        // Drain the backlog, one batch per round trip, before waiting for the next poll
+        int applied;
+        do {
+            applied = syncOnce();
+        } while (applied >= poller.getBatchSize());
+    }
+
+    public int syncOnce() {
+        ChangeBatch batch = poller.poll(CONSUMER);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batch.upserts().forEach((table, ids) -> upsert(stepsByTable.get(table), ids));
+        batch.deletes().forEach((table, ids) -> {
+            MigrationStep<?> step = stepsByTable.get(table);
+            if (step != null) {
+                target.deleteByIds(step.documentClass(), ids.stream().map(String::valueOf).toList());
+            }
+        });
+        poller.commit(CONSUMER, batch);
+        System.out.println("Applied " + batch.size() + " changes to MongoDB (up to change " + batch.lastChangeId() + ")");
+        return batch.size();
+    }
+
+    private <D> void upsert(MigrationStep<D> step, Set<Long> ids) {
+        if (step == null) {
+            return;
+        }
+        // Rows deleted since the change was logged come back empty; their DELETE entry follows
+        List<D> documents = jdbcTemplate.query(step.selectByKeys(ids.size()), step.rowMapper(), ids.toArray());
+        if (!documents.isEmpty()) {
+            target.upsertChunk(step.documentClass(), documents);
+        }
+    }
+}
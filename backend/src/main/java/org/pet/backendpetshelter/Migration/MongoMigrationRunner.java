@@ -0,0 +1,49 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.pet.backendpetshelter.Configuration.StartupThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Order(100) // Run after DatabaseSeeder has seeded MySQL
+@Profile("migrate-mongo")
+public class MongoMigrationRunner implements CommandLineRunner {
+
+    private final StreamingMigrationEngine engine;
+    private final StartupThreads startupThreads;
+
+    @Value("${migration.enabled:false}")
+    private boolean migrationEnabled;
+
+    public MongoMigrationRunner(StreamingMigrationEngine engine, StartupThreads startupThreads) {
+        this.engine = engine;
+        this.startupThreads = startupThreads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!migrationEnabled) {
+            System.out.println("MongoDB migration disabled. Set migration.enabled=true to run.");
+            return;
+        }
+        startupThreads.runAndWait("mongo-migration-", this::migrate);
+    }
+
+    private void migrate() {
+        System.out.println("Starting migration from SQL to MongoDB...");
+        long startedAt = System.nanoTime();
+        long totalRows = 0;
+
+        for (MigrationStep<?> step : MongoMigrationSteps.all()) {
+            totalRows += engine.migrate(step).rows();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        System.out.printf("MongoDB migration complete: %d rows in %.1fs%n", totalRows, elapsed.toMillis() / 1000.0);
+    }
+}
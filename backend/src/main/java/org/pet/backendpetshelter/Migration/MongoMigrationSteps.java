@@ -0,0 +1,178 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.pet.backendpetshelter.Mongo.Entity.*;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Status;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * SQL table → MongoDB collection mappings, read straight from JDBC rows so no entity graph is loaded.
+ */
+public final class MongoMigrationSteps {
+
+    private MongoMigrationSteps() {
+    }
+
+    public static List<MigrationStep<?>> all() {
+        return List.of(
+                new MigrationStep<>("species", "species", "species_id",
+                        "species_id, name",
+                        SpeciesDocument.class,
+                        (rs, n) -> SpeciesDocument.builder()
+                                .id(id(rs, "species_id"))
+                                .name(rs.getString("name"))
+                                .build()),
+                new MigrationStep<>("breeds", "breed", "breed_id",
+                        "breed_id, species_id, name",
+                        BreedDocument.class,
+                        (rs, n) -> BreedDocument.builder()
+                                .id(id(rs, "breed_id"))
+                                .speciesId(id(rs, "species_id"))
+                                .name(rs.getString("name"))
+                                .build()),
+                new MigrationStep<>("users", "users", "user_id",
+                        "user_id, email, password, first_name, last_name, phone, is_active, role",
+                        UserDocument.class,
+                        (rs, n) -> UserDocument.builder()
+                                .id(id(rs, "user_id"))
+                                .email(rs.getString("email"))
+                                .password(rs.getString("password"))
+                                .firstName(rs.getString("first_name"))
+                                .lastName(rs.getString("last_name"))
+                                .phone(rs.getString("phone"))
+                                .isActive(bool(rs, "is_active"))
+                                .role(rs.getString("role") != null ? Roles.valueOf(rs.getString("role")) : null)
+                                .build()),
+                new MigrationStep<>("animals", "animal", "animal_id",
+                        "animal_id, name, species_id, breed_id, birth_date, sex, intake_date, status, price, is_active, image_url",
+                        AnimalDocument.class,
+                        (rs, n) -> AnimalDocument.builder()
+                                .id(id(rs, "animal_id"))
+                                .name(rs.getString("name"))
+                                .speciesId(id(rs, "species_id"))
+                                .breedId(id(rs, "breed_id"))
+                                .birthDate(date(rs, "birth_date"))
+                                .sex(rs.getString("sex"))
+                                .intakeDate(date(rs, "intake_date"))
+                                .status(rs.getString("status"))
+                                .price(rs.getInt("price"))
+                                .isActive(bool(rs, "is_active"))
+                                .imageUrl(rs.getString("image_url"))
+                                .build()),
+                new MigrationStep<>("adoption_applications", "adoption_application", "adoption_application_id",
+                        "adoption_application_id, user_id, animal_id, application_date, description, status, reviewed_by_user_id, is_active",
+                        AdoptionApplicationDocument.class,
+                        (rs, n) -> AdoptionApplicationDocument.builder()
+                                .id(id(rs, "adoption_application_id"))
+                                .userId(id(rs, "user_id"))
+                                .animalId(id(rs, "animal_id"))
+                                .applicationDate(date(rs, "application_date"))
+                                .description(rs.getString("description"))
+                                .status(rs.getString("status") != null ? Status.valueOf(rs.getString("status")) : null)
+                                .reviewedByUserId(id(rs, "reviewed_by_user_id"))
+                                .isActive(bool(rs, "is_active"))
+                                .build()),
+                new MigrationStep<>("adoptions", "adoption", "adoption_id",
+                        "adoption_id, application_id, adoption_date, is_active",
+                        AdoptionDocument.class,
+                        (rs, n) -> AdoptionDocument.builder()
+                                .id(id(rs, "adoption_id"))
+                                .applicationId(id(rs, "application_id"))
+                                .adoptionDate(date(rs, "adoption_date"))
+                                .isActive(bool(rs, "is_active"))
+                                .build()),
+                new MigrationStep<>("foster_care", "foster_care", "fostercare_id",
+                        "fostercare_id, animal_animal_id, foster_parent_user_id, start_date, end_date, is_active",
+                        FosterCareDocument.class,
+                        (rs, n) -> FosterCareDocument.builder()
+                                .id(id(rs, "fostercare_id"))
+                                .animalId(id(rs, "animal_animal_id"))
+                                .fosterParentUserId(id(rs, "foster_parent_user_id"))
+                                .startDate(date(rs, "start_date"))
+                                .endDate(date(rs, "end_date"))
+                                .isActive(bool(rs, "is_active"))
+                                .build()),
+                new MigrationStep<>("veterinarians", "veterinarian", "vet_id",
+                        "vet_id, user_id, license_number, clinic_name, is_active",
+                        VeterinarianDocument.class,
+                        (rs, n) -> VeterinarianDocument.builder()
+                                .id(id(rs, "vet_id"))
+                                .userId(id(rs, "user_id"))
+                                .licenseNumber(rs.getString("license_number"))
+                                .clinicName(rs.getString("clinic_name"))
+                                .isActive(bool(rs, "is_active"))
+                                .build()),
+                new MigrationStep<>("medical_records", "medical_record", "record_id",
+                        "record_id, animal_id, vet_id, date, diagnosis, treatment, cost",
+                        MedicalRecordDocument.class,
+                        (rs, n) -> MedicalRecordDocument.builder()
+                                .id(id(rs, "record_id"))
+                                .animalId(id(rs, "animal_id"))
+                                .veterinarianId(id(rs, "vet_id"))
+                                .date(date(rs, "date"))
+                                .diagnosis(rs.getString("diagnosis"))
+                                .treatment(rs.getString("treatment"))
+                                .cost(rs.getInt("cost"))
+                                .build()),
+                new MigrationStep<>("vaccination_types", "vaccination_type", "vaccination_type_id",
+                        "vaccination_type_id, vaccine_name, description, duration_months, required_for_adoption",
+                        VaccinationTypeDocument.class,
+                        (rs, n) -> VaccinationTypeDocument.builder()
+                                .id(id(rs, "vaccination_type_id"))
+                                .vaccineName(rs.getString("vaccine_name"))
+                                .description(rs.getString("description"))
+                                .durationMonths(rs.getInt("duration_months"))
+                                .requiredForAdoption(bool(rs, "required_for_adoption"))
+                                .build()),
+                new MigrationStep<>("vaccinations", "vaccination", "vaccination_id",
+                        "vaccination_id, animal_id, vet_id, vaccination_type_id, date_administered, next_due_date",
+                        VaccinationDocument.class,
+                        (rs, n) -> VaccinationDocument.builder()
+                                .id(id(rs, "vaccination_id"))
+                                .animalId(id(rs, "animal_id"))
+                                .veterinarianId(id(rs, "vet_id"))
+                                .vaccinationTypeId(id(rs, "vaccination_type_id"))
+                                .dateAdministered(date(rs, "date_administered"))
+                                .nextDueDate(date(rs, "next_due_date"))
+                                .build()),
+                new MigrationStep<>("vaccine_type_species", "vaccination_type_species", "vaccine_type_species_id",
+                        "vaccine_type_species_id, species_id, vaccination_type_id",
+                        VaccineTypeSpeciesDocument.class,
+                        (rs, n) -> VaccineTypeSpeciesDocument.builder()
+                                .id(id(rs, "vaccine_type_species_id"))
+                                .speciesId(id(rs, "species_id"))
+                                .vaccinationTypeId(id(rs, "vaccination_type_id"))
+                                .build()),
+                new MigrationStep<>("refresh_tokens", "refresh_tokens", "id",
+                        "id, token, user_id, expires_at, revoked",
+                        RefreshTokenDocument.class,
+                        (rs, n) -> RefreshTokenDocument.builder()
+                                .id(id(rs, "id"))
+                                .token(rs.getString("token"))
+                                .userId(id(rs, "user_id"))
+                                .expiresAt(rs.getTimestamp("expires_at") != null ? rs.getTimestamp("expires_at").toInstant() : null)
+                                .revoked(bool(rs, "revoked"))
+                                .build())
+        );
+    }
+
+    private static String id(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : Long.toString(value);
+    }
+
+    private static Boolean bool(ResultSet rs, String column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Date date(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? new Date(value.getTime()) : null;
+    }
+}
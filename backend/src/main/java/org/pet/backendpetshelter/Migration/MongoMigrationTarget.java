@@ -0,0 +1,54 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("migrate-mongo")
+public class MongoMigrationTarget implements MigrationTarget {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoMigrationTarget(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public <D> int upsertChunk(Class<D> documentClass, List<D> chunk) {
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(documentClass);
+        // Unordered: one round trip per chunk
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, documentClass);
+        for (D document : chunk) {
+            Object id = entity.getIdentifierAccessor(document).getRequiredIdentifier();
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(id)), document, FindAndReplaceOptions.options().upsert());
+        }
+        return bulk.execute().getUpserts().size();
+    }
+
+    @Override
+    public void deleteByIds(Class<?> documentClass, Collection<String> ids) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), documentClass);
+    }
+
+    @Override
+    public Optional<MigrationCheckpoint> findCheckpoint(String step) {
+        return Optional.ofNullable(mongoTemplate.findById(step, MigrationCheckpoint.class));
+    }
+
+    @Override
+    public void saveCheckpoint(MigrationCheckpoint checkpoint) {
+        mongoTemplate.save(checkpoint);
+    }
+}
@@ -0,0 +1,164 @@
+package org.pet.backendpetshelter.Migration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Copies a table by streaming it through a forward-only cursor and upserting fixed-size chunks,
+ * so heap use depends on the chunk size rather than on the table size.
+ * A checkpoint is saved after every chunk; a failed run picks up after the last saved key, as
+ * long as the table's max key and row count still match the ones the checkpoint was taken on.
+ */
+@Component
+@Profile("migrate-mongo")
+public class StreamingMigrationEngine {
+
+    private static final long PROGRESS_INTERVAL_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationTarget target;
+    private final int chunkSize;
+    private final int fetchSize;
+
+    public StreamingMigrationEngine(JdbcTemplate jdbcTemplate,
+                                    MigrationTarget target,
+                                    @Value("${migration.chunk-size:1000}") int chunkSize,
+                                    @Value("${migration.fetch-size:1000}") int fetchSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("migration.chunk-size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.target = target;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+    }
+
+    public record Result(String step, long rows, long replaced, Duration elapsed, boolean skipped) {
+
+        public double rowsPerSecond() {
+            double seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds > 0 ? rows / seconds : rows;
+        }
+    }
+
+    /* Max key and row count of a table, enough to notice rows added or removed since a checkpoint */
+    record Fingerprint(long maxKey, long rows) {
+    }
+
+    public <D> Result migrate(MigrationStep<D> step) {
+        Fingerprint source = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + step.keyColumn() + "), 0), COUNT(*) FROM " + step.table(),
+                (rs, n) -> new Fingerprint(rs.getLong(1), rs.getLong(2)));
+        Optional<MigrationCheckpoint> checkpoint = target.findCheckpoint(step.name());
+        if (checkpoint.isPresent() && !source.equals(
+                new Fingerprint(checkpoint.get().getSourceMaxKey(), checkpoint.get().getSourceRows()))) {
+            System.out.println("[" + step.name() + "] " + step.table() + " changed since its checkpoint (max "
+                    + step.keyColumn() + " " + checkpoint.get().getSourceMaxKey() + " -> " + source.maxKey() + ", rows "
+                    + checkpoint.get().getSourceRows() + " -> " + source.rows() + "), copying it again");
+            checkpoint = Optional.empty();
+        }
+        if (checkpoint.isPresent() && checkpoint.get().isCompleted()) {
+            System.out.println("[" + step.name() + "] already migrated (" + checkpoint.get().getMigrated()
+                    + " rows), skipping. Delete its migration_checkpoints document to copy it again.");
+            return new Result(step.name(), 0, 0, Duration.ZERO, true);
+        }
+
+        long resumeAfter = checkpoint.map(MigrationCheckpoint::getLastKey).orElse(0L);
+        long migratedBefore = checkpoint.map(MigrationCheckpoint::getMigrated).orElse(0L);
+        if (checkpoint.isPresent()) {
+            System.out.println("[" + step.name() + "] resuming after " + step.keyColumn() + " " + resumeAfter
+                    + " (" + migratedBefore + " rows already migrated)");
+        } else {
+            System.out.println("[" + step.name() + "] starting migration from " + step.table());
+        }
+
+        ChunkWriter<D> writer = new ChunkWriter<>(step, source, resumeAfter, migratedBefore);
+        JdbcCursor.stream(jdbcTemplate, step.selectAfterKey(), fetchSize, writer, resumeAfter);
+        writer.flush();
+        writer.saveCheckpoint(true);
+
+        Result result = new Result(step.name(), writer.rows, writer.replaced,
+                Duration.ofNanos(System.nanoTime() - writer.startedAt), false);
+        System.out.printf("[%s] done: %d rows (%d already present, replaced) in %.1fs, %.0f rows/s%n",
+                step.name(), result.rows(), result.replaced(),
+                result.elapsed().toMillis() / 1000.0, result.rowsPerSecond());
+        return result;
+    }
+
+    /* Collects streamed rows into chunks and writes each one with its checkpoint */
+    private final class ChunkWriter<D> implements RowCallbackHandler {
+
+        private final MigrationStep<D> step;
+        private final Fingerprint source;
+        private final List<D> chunk = new ArrayList<>(chunkSize);
+        private final long migratedBefore;
+        private final long startedAt = System.nanoTime();
+
+        private long lastKey;
+        private long rows;
+        private long replaced;
+        private long lastReportAt = startedAt;
+
+        ChunkWriter(MigrationStep<D> step, Fingerprint source, long resumeAfter, long migratedBefore) {
+            this.step = step;
+            this.source = source;
+            this.lastKey = resumeAfter;
+            this.migratedBefore = migratedBefore;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            chunk.add(step.rowMapper().mapRow(rs, rs.getRow()));
+            lastKey = rs.getLong(step.keyColumn());
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            int inserted = target.upsertChunk(step.documentClass(), chunk);
+            rows += chunk.size();
+            replaced += chunk.size() - inserted;
+            chunk.clear();
+            saveCheckpoint(false);
+            reportProgress();
+        }
+
+        void saveCheckpoint(boolean completed) {
+            target.saveCheckpoint(MigrationCheckpoint.builder()
+                    .step(step.name())
+                    .lastKey(lastKey)
+                    .migrated(migratedBefore + rows)
+                    .completed(completed)
+                    .sourceMaxKey(source.maxKey())
+                    .sourceRows(source.rows())
+                    .updatedAt(new Date())
+                    .build());
+        }
+
+        private void reportProgress() {
+            long now = System.nanoTime();
+            if (now - lastReportAt < PROGRESS_INTERVAL_NANOS) {
+                return;
+            }
+            lastReportAt = now;
+            double seconds = (now - startedAt) / 1_000_000_000.0;
+            System.out.printf("[%s] %d rows migrated, last %s %d, %.0f rows/s%n",
+                    step.name(), migratedBefore + rows, step.keyColumn(), lastKey, rows / seconds);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Mongo.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.AdoptionDocument;
 import org.pet.backendpetshelter.Mongo.Service.AdoptionMongoService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +24,24 @@ public class AdoptionMongoController {
         this.adoptionService = adoptionService;
     }
 
-    @GetMapping
-    public List<AdoptionDocument> getAllAdoptions() {
-        return adoptionService.getAllAdoptions();
+    @GetMapping(params = "!after")
+    public Page<AdoptionDocument> getAllAdoptions(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return adoptionService.getAllAdoptions(PageRequest.of(page, size, Sort.by(direction, sortBy)), fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<AdoptionDocument> scrollAdoptions(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> fields) {
+        return adoptionService.scrollAdoptions(after, size, fields);
     }
 
     @GetMapping("/{id}")
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
 import org.pet.backendpetshelter.Mongo.Service.AnimalMongoService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +25,41 @@ public class AnimalMongoController {
         this.animalService = animalService;
     }
 
-    @GetMapping
-    public List<AnimalDocument> getAllAnimals() {
-        return animalService.getAllAnimals();
+    @GetMapping(params = "!after")
+    public Page<AnimalDocument> getAllAnimals(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        return animalService.getAllAnimals(status, isActive, sex, minAge, maxAge, search, fields, pageable);
+    }
+
+    /**
+     * Keyset mode, selected by the "after" parameter: slices ordered by id with the same
+     * filters. Pass an empty value first, then the returned nextCursor.
+     */
+    @GetMapping(params = "after")
+    public CursorPage<AnimalDocument> scrollAnimals(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String sex,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> fields) {
+        return animalService.scrollAnimals(status, isActive, sex, minAge, maxAge, search, after, size, fields);
     }
 
     @GetMapping("/{id}")
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Mongo.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.BreedDocument;
 import org.pet.backendpetshelter.Mongo.Service.BreedMongoService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +24,24 @@ public class BreedMongoController {
         this.breedService = breedService;
     }
 
-    @GetMapping
-    public List<BreedDocument> getAllBreeds() {
-        return breedService.getAllBreeds();
+    @GetMapping(params = "!after")
+    public Page<BreedDocument> getAllBreeds(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return breedService.getAllBreeds(PageRequest.of(page, size, Sort.by(direction, sortBy)), fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<BreedDocument> scrollBreeds(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> fields) {
+        return breedService.scrollBreeds(after, size, fields);
     }
 
     @GetMapping("/{id}")
@@ -3,11 +3,14 @@ package org.pet.backendpetshelter.Mongo.Entity;
 import lombok.*;
 import org.pet.backendpetshelter.Status;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
 @Document(collection = "adoption_applications")
+@CompoundIndex(name = "animal_status", def = "{'animalId': 1, 'status': 1}")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +21,7 @@ public class AdoptionApplicationDocument {
     @Id
     private String id;
 
+    @Indexed
     private String userId;
     private String animalId;
     private Date applicationDate;
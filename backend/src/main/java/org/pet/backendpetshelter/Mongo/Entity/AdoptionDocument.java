@@ -2,6 +2,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -17,6 +18,7 @@ public class AdoptionDocument {
     @Id
     private String id;
 
+    @Indexed
     private String applicationId;
     private Date adoptionDate;
     private Boolean isActive;
@@ -2,11 +2,19 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
 @Document(collection = "animals")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_active_name", def = "{'status': 1, 'isActive': 1, 'name': 1}"),
+        @CompoundIndex(name = "active_birth_date", def = "{'isActive': 1, 'birthDate': 1}")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,10 +25,13 @@ public class AnimalDocument {
     @Id
     private String id;
 
+    @TextIndexed
     private String name;
 
     // store foreign keys as strings (id values from SQL)
+    @Indexed
     private String speciesId;
+    @Indexed
     private String breedId;
 
     private Date birthDate;
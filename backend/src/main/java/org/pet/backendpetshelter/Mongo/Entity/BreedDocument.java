@@ -2,6 +2,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import jakarta.persistence.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "breeds")
@@ -15,6 +16,7 @@ public class BreedDocument {
     @Id
     private String id;
 
+    @Indexed
     private String speciesId;
     private String name;
 }
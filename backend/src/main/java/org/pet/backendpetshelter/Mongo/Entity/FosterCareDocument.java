@@ -3,6 +3,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import jakarta.persistence.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -18,7 +19,9 @@ public class FosterCareDocument {
     @Id
     private String id;
 
+    @Indexed
     private String animalId;
+    @Indexed
     private String fosterParentUserId;
 
     private Date startDate;
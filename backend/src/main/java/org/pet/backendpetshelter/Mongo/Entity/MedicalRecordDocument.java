@@ -2,11 +2,14 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
 @Document(collection = "medical_records")
+@CompoundIndex(name = "animal_date", def = "{'animalId': 1, 'date': -1}")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,6 +21,7 @@ public class MedicalRecordDocument {
     private String id;
 
     private String animalId;
+    @Indexed
     private String veterinarianId;
 
     private Date date;
@@ -2,6 +2,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -17,7 +18,9 @@ public class RefreshTokenDocument {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     private String token;
+    @Indexed
     private String userId;
     private Instant expiresAt;
     private Boolean revoked;
@@ -3,6 +3,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 import lombok.*;
 import org.pet.backendpetshelter.Roles;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "users")
@@ -16,6 +17,7 @@ public class UserDocument {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     private String email;
     private String password;
     private String firstName;
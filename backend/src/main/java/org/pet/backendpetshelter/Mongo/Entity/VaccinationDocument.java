@@ -2,11 +2,14 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
 
 @Document(collection = "vaccinations")
+@CompoundIndex(name = "animal_next_due", def = "{'animalId': 1, 'nextDueDate': 1}")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +21,9 @@ public class VaccinationDocument {
     private String id;
 
     private String animalId;
+    @Indexed
     private String veterinarianId;
+    @Indexed
     private String vaccinationTypeId;
 
     private Date dateAdministered;
@@ -2,6 +2,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "vaccine_type_species")
@@ -15,6 +16,8 @@ public class VaccineTypeSpeciesDocument {
     @Id
     private String id;
 
+    @Indexed
     private String speciesId;
+    @Indexed
     private String vaccinationTypeId;
 }
\ No newline at end of file
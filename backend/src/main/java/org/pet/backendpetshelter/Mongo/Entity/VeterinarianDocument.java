@@ -2,6 +2,7 @@ package org.pet.backendpetshelter.Mongo.Entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "veterinarians")
@@ -15,6 +16,7 @@ public class VeterinarianDocument {
     @Id
     private String id;
 
+    @Indexed
     private String userId;
     private String licenseNumber;
     private String clinicName;
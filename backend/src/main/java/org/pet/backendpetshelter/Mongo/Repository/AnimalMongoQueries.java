@@ -0,0 +1,21 @@
+package org.pet.backendpetshelter.Mongo.Repository;
+
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Filtered animal listing for the document store, mirroring AnimalRepository.findAllWithFilters.
+ * Age filters arrive as birthDate bounds (see AnimalSpecifications) so they can use the
+ * isActive/birthDate index; search goes through the text index on name. A non-empty
+ * fields list limits the documents to those properties.
+ */
+public interface AnimalMongoQueries {
+
+    Page<AnimalDocument> findAllWithFilters(String status, Boolean isActive, String sex,
+                                            Date bornOnOrBefore, Date bornAfter, String search,
+                                            List<String> fields, Pageable pageable);
+}
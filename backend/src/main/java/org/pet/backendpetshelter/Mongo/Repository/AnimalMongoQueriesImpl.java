@@ -0,0 +1,70 @@
+package org.pet.backendpetshelter.Mongo.Repository;
+
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/* Picked up by Spring Data as the implementation of the AnimalMongoQueries fragment */
+public class AnimalMongoQueriesImpl implements AnimalMongoQueries {
+
+    private final MongoTemplate mongoTemplate;
+
+    AnimalMongoQueriesImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<AnimalDocument> findAllWithFilters(String status, Boolean isActive, String sex,
+                                                   Date bornOnOrBefore, Date bornAfter, String search,
+                                                   List<String> fields, Pageable pageable) {
+        Query query = filterQuery(status, isActive, sex, bornOnOrBefore, bornAfter, search).with(pageable);
+        MongoListing.include(query, mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(AnimalDocument.class), fields);
+        List<AnimalDocument> content = mongoTemplate.find(query, AnimalDocument.class);
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoTemplate.count(
+                filterQuery(status, isActive, sex, bornOnOrBefore, bornAfter, search), AnimalDocument.class));
+    }
+
+    /**
+     * Builds the filter without paging. Equality fields come first so the
+     * status/isActive/name compound index can serve both the match and the default name sort.
+     */
+    public static Query filterQuery(String status, Boolean isActive, String sex,
+                                    Date bornOnOrBefore, Date bornAfter, String search) {
+        Query query = search != null && !search.isBlank()
+                ? TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(search))
+                : new Query();
+
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (isActive != null) {
+            query.addCriteria(Criteria.where("isActive").is(isActive));
+        }
+        if (sex != null) {
+            // Anchored, so Mongo compares the whole value like LOWER(sex) = LOWER(:sex)
+            query.addCriteria(Criteria.where("sex").regex("^" + Pattern.quote(sex) + "$", "i"));
+        }
+        if (bornOnOrBefore != null || bornAfter != null) {
+            Criteria birthDate = Criteria.where("birthDate");
+            if (bornOnOrBefore != null) {
+                birthDate.lte(bornOnOrBefore);
+            }
+            if (bornAfter != null) {
+                birthDate.gt(bornAfter);
+            }
+            query.addCriteria(birthDate);
+        }
+        return query;
+    }
+}
@@ -7,4 +7,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 @Profile({"mongo", "migrate-mongo"})
-public interface AnimalMongoRepository extends MongoRepository<AnimalDocument, String> {}
\ No newline at end of file
+public interface AnimalMongoRepository extends MongoRepository<AnimalDocument, String>, AnimalMongoQueries {}
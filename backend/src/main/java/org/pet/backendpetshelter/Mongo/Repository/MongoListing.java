@@ -0,0 +1,113 @@
+package org.pet.backendpetshelter.Mongo.Repository;
+
+import org.pet.backendpetshelter.DTO.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bounded listing for the /api/mongo/** controllers: offset pages capped at
+ * listing.max-page-size, keyset slices ordered by id, and an optional field projection
+ * so only the requested properties are read from the collection.
+ */
+@Component
+@Profile("mongo")
+public class MongoListing {
+
+    private static final String ID = "id";
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxPageSize;
+
+    public MongoListing(MongoTemplate mongoTemplate,
+                        @Value("${listing.max-page-size:100}") int maxPageSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public <T> Page<T> page(Class<T> type, Pageable pageable, List<String> fields) {
+        Pageable bounded = bound(type, pageable);
+        Query query = new Query().with(bounded);
+        include(query, type, fields);
+
+        List<T> content = mongoTemplate.find(query, type);
+        // Unfiltered, so the collection metadata count is enough
+        return PageableExecutionUtils.getPage(content, bounded, () -> mongoTemplate.estimatedCount(type));
+    }
+
+    /**
+     * @param filter extra criteria for the slice, or an empty Query
+     * @param after  the nextCursor of the previous slice (the last id), or null/blank for the first
+     */
+    public <T> CursorPage<T> scroll(Class<T> type, Query filter, String after, int size, List<String> fields,
+                                    Function<T, String> idOf) {
+        int limit = boundSize(size);
+        if (after != null && !after.isBlank()) {
+            filter.addCriteria(Criteria.where(ID).gt(after));
+        }
+        filter.with(Sort.by(ID)).limit(limit + 1);
+        include(filter, type, fields);
+
+        List<T> rows = mongoTemplate.find(filter, type);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, limit, null);
+        }
+        List<T> content = rows.subList(0, limit);
+        return new CursorPage<>(content, limit, idOf.apply(content.get(limit - 1)));
+    }
+
+    /* Caps the page size and rejects sort properties the document does not have */
+    public Pageable bound(Class<?> type, Pageable pageable) {
+        MongoPersistentEntity<?> entity = entity(type);
+        for (Sort.Order order : pageable.getSort()) {
+            requireProperty(entity, order.getProperty());
+        }
+        return PageRequest.of(pageable.getPageNumber(), boundSize(pageable.getPageSize()), pageable.getSort());
+    }
+
+    private void include(Query query, Class<?> type, List<String> fields) {
+        include(query, entity(type), fields);
+    }
+
+    /* Restricts the query to the given fields; Mongo always returns _id as well */
+    public static void include(Query query, MongoPersistentEntity<?> entity, List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return;
+        }
+        for (String field : fields) {
+            query.fields().include(requireProperty(entity, field.trim()).getName());
+        }
+    }
+
+    private int boundSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private MongoPersistentEntity<?> entity(Class<?> type) {
+        return mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(type);
+    }
+
+    private static MongoPersistentProperty requireProperty(MongoPersistentEntity<?> entity, String name) {
+        MongoPersistentProperty property = entity.getPersistentProperty(name);
+        if (property == null) {
+            throw new IllegalArgumentException("Unknown field '" + name + "' for " + entity.getType().getSimpleName());
+        }
+        return property;
+    }
+}
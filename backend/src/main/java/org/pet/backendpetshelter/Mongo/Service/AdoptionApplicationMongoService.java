@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.AdoptionApplicationDocument;
 import org.pet.backendpetshelter.Mongo.Repository.AdoptionApplicationMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class AdoptionApplicationMongoService {
 
     private final AdoptionApplicationMongoRepository applicationRepository;
+    private final MongoListing listing;
 
-    public AdoptionApplicationMongoService(AdoptionApplicationMongoRepository applicationRepository) {
+    public AdoptionApplicationMongoService(AdoptionApplicationMongoRepository applicationRepository, MongoListing listing) {
         this.applicationRepository = applicationRepository;
+        this.listing = listing;
     }
 
-    public List<AdoptionApplicationDocument> getAllApplications() {
-        return applicationRepository.findAll();
+    public Page<AdoptionApplicationDocument> getAllApplications(Pageable pageable, List<String> fields) {
+        return listing.page(AdoptionApplicationDocument.class, pageable, fields);
+    }
+
+    public CursorPage<AdoptionApplicationDocument> scrollApplications(String after, int size, List<String> fields) {
+        return listing.scroll(AdoptionApplicationDocument.class, new Query(), after, size, fields, AdoptionApplicationDocument::getId);
     }
 
     public AdoptionApplicationDocument getApplicationById(String id) {
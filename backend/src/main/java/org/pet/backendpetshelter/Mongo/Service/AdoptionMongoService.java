@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.AdoptionDocument;
 import org.pet.backendpetshelter.Mongo.Repository.AdoptionMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class AdoptionMongoService {
 
     private final AdoptionMongoRepository adoptionRepository;
+    private final MongoListing listing;
 
-    public AdoptionMongoService(AdoptionMongoRepository adoptionRepository) {
+    public AdoptionMongoService(AdoptionMongoRepository adoptionRepository, MongoListing listing) {
         this.adoptionRepository = adoptionRepository;
+        this.listing = listing;
     }
 
-    public List<AdoptionDocument> getAllAdoptions() {
-        return adoptionRepository.findAll();
+    public Page<AdoptionDocument> getAllAdoptions(Pageable pageable, List<String> fields) {
+        return listing.page(AdoptionDocument.class, pageable, fields);
+    }
+
+    public CursorPage<AdoptionDocument> scrollAdoptions(String after, int size, List<String> fields) {
+        return listing.scroll(AdoptionDocument.class, new Query(), after, size, fields, AdoptionDocument::getId);
     }
 
     public AdoptionDocument getAdoptionById(String id) {
@@ -1,10 +1,18 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.pet.backendpetshelter.Mongo.Repository.AnimalMongoQueriesImpl;
 import org.pet.backendpetshelter.Mongo.Repository.AnimalMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
+import org.pet.backendpetshelter.Repository.AnimalSpecifications;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,13 +21,35 @@ import java.util.UUID;
 public class AnimalMongoService {
 
     private final AnimalMongoRepository animalRepository;
+    private final MongoListing listing;
 
-    public AnimalMongoService(AnimalMongoRepository animalRepository) {
+    public AnimalMongoService(AnimalMongoRepository animalRepository, MongoListing listing) {
         this.animalRepository = animalRepository;
+        this.listing = listing;
     }
 
-    public List<AnimalDocument> getAllAnimals() {
-        return animalRepository.findAll();
+    public Page<AnimalDocument> getAllAnimals(String status, Boolean isActive, String sex,
+                                              Integer minAge, Integer maxAge, String search,
+                                              List<String> fields, Pageable pageable) {
+        // Same age-to-birthDate translation as the MySQL listing, so the range can use an index
+        LocalDate today = LocalDate.now();
+        Date bornOnOrBefore = minAge != null ? AnimalSpecifications.bornOnOrBefore(today, minAge) : null;
+        Date bornAfter = maxAge != null ? AnimalSpecifications.bornAfter(today, maxAge) : null;
+
+        return animalRepository.findAllWithFilters(status, isActive, sex, bornOnOrBefore, bornAfter, search, fields,
+                listing.bound(AnimalDocument.class, pageable));
+    }
+
+    public CursorPage<AnimalDocument> scrollAnimals(String status, Boolean isActive, String sex,
+                                                    Integer minAge, Integer maxAge, String search,
+                                                    String after, int size, List<String> fields) {
+        LocalDate today = LocalDate.now();
+        Date bornOnOrBefore = minAge != null ? AnimalSpecifications.bornOnOrBefore(today, minAge) : null;
+        Date bornAfter = maxAge != null ? AnimalSpecifications.bornAfter(today, maxAge) : null;
+
+        return listing.scroll(AnimalDocument.class,
+                AnimalMongoQueriesImpl.filterQuery(status, isActive, sex, bornOnOrBefore, bornAfter, search),
+                after, size, fields, AnimalDocument::getId);
     }
 
     public AnimalDocument getAnimalById(String id) {
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.BreedDocument;
 import org.pet.backendpetshelter.Mongo.Repository.BreedMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class BreedMongoService {
 
     private final BreedMongoRepository breedRepository;
+    private final MongoListing listing;
 
-    public BreedMongoService(BreedMongoRepository breedRepository) {
+    public BreedMongoService(BreedMongoRepository breedRepository, MongoListing listing) {
         this.breedRepository = breedRepository;
+        this.listing = listing;
     }
 
-    public List<BreedDocument> getAllBreeds() {
-        return breedRepository.findAll();
+    public Page<BreedDocument> getAllBreeds(Pageable pageable, List<String> fields) {
+        return listing.page(BreedDocument.class, pageable, fields);
+    }
+
+    public CursorPage<BreedDocument> scrollBreeds(String after, int size, List<String> fields) {
+        return listing.scroll(BreedDocument.class, new Query(), after, size, fields, BreedDocument::getId);
     }
 
     public BreedDocument getBreedById(String id) {
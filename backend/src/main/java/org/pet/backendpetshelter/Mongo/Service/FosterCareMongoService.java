@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.FosterCareDocument;
 import org.pet.backendpetshelter.Mongo.Repository.FosterCareMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class FosterCareMongoService {
 
     private final FosterCareMongoRepository fosterCareRepository;
+    private final MongoListing listing;
 
-    public FosterCareMongoService(FosterCareMongoRepository fosterCareRepository) {
+    public FosterCareMongoService(FosterCareMongoRepository fosterCareRepository, MongoListing listing) {
         this.fosterCareRepository = fosterCareRepository;
+        this.listing = listing;
     }
 
-    public List<FosterCareDocument> getAllFosterCares() {
-        return fosterCareRepository.findAll();
+    public Page<FosterCareDocument> getAllFosterCares(Pageable pageable, List<String> fields) {
+        return listing.page(FosterCareDocument.class, pageable, fields);
+    }
+
+    public CursorPage<FosterCareDocument> scrollFosterCares(String after, int size, List<String> fields) {
+        return listing.scroll(FosterCareDocument.class, new Query(), after, size, fields, FosterCareDocument::getId);
     }
 
     public FosterCareDocument getFosterCareById(String id) {
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.MedicalRecordDocument;
 import org.pet.backendpetshelter.Mongo.Repository.MedicalRecordMongoRepository;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class MedicalRecordMongoService {
 
     private final MedicalRecordMongoRepository medicalRecordRepository;
+    private final MongoListing listing;
 
-    public MedicalRecordMongoService(MedicalRecordMongoRepository medicalRecordRepository) {
+    public MedicalRecordMongoService(MedicalRecordMongoRepository medicalRecordRepository, MongoListing listing) {
         this.medicalRecordRepository = medicalRecordRepository;
+        this.listing = listing;
     }
 
-    public List<MedicalRecordDocument> getAllMedicalRecords() {
-        return medicalRecordRepository.findAll();
+    public Page<MedicalRecordDocument> getAllMedicalRecords(Pageable pageable, List<String> fields) {
+        return listing.page(MedicalRecordDocument.class, pageable, fields);
+    }
+
+    public CursorPage<MedicalRecordDocument> scrollMedicalRecords(String after, int size, List<String> fields) {
+        return listing.scroll(MedicalRecordDocument.class, new Query(), after, size, fields, MedicalRecordDocument::getId);
     }
 
     public MedicalRecordDocument getMedicalRecordById(String id) {
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.SpeciesDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.SpeciesMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class SpeciesMongoService {
 
     private final SpeciesMongoRepository speciesRepository;
+    private final MongoListing listing;
 
-    public SpeciesMongoService(SpeciesMongoRepository speciesRepository) {
+    public SpeciesMongoService(SpeciesMongoRepository speciesRepository, MongoListing listing) {
         this.speciesRepository = speciesRepository;
+        this.listing = listing;
     }
 
-    public List<SpeciesDocument> getAllSpecies() {
-        return speciesRepository.findAll();
+    public Page<SpeciesDocument> getAllSpecies(Pageable pageable, List<String> fields) {
+        return listing.page(SpeciesDocument.class, pageable, fields);
+    }
+
+    public CursorPage<SpeciesDocument> scrollSpecies(String after, int size, List<String> fields) {
+        return listing.scroll(SpeciesDocument.class, new Query(), after, size, fields, SpeciesDocument::getId);
     }
 
     public SpeciesDocument getSpeciesById(String id) {
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.UserDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.UserMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class UserMongoService {
 
     private final UserMongoRepository userRepository;
+    private final MongoListing listing;
 
-    public UserMongoService(UserMongoRepository userRepository) {
+    public UserMongoService(UserMongoRepository userRepository, MongoListing listing) {
         this.userRepository = userRepository;
+        this.listing = listing;
     }
 
-    public List<UserDocument> getAllUsers() {
-        return userRepository.findAll();
+    public Page<UserDocument> getAllUsers(Pageable pageable, List<String> fields) {
+        return listing.page(UserDocument.class, pageable, fields);
+    }
+
+    public CursorPage<UserDocument> scrollUsers(String after, int size, List<String> fields) {
+        return listing.scroll(UserDocument.class, new Query(), after, size, fields, UserDocument::getId);
     }
 
     public UserDocument getUserById(String id) {
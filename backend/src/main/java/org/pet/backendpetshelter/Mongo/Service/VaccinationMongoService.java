@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.VaccinationDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.VaccinationMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class VaccinationMongoService {
 
     private final VaccinationMongoRepository vaccinationRepository;
+    private final MongoListing listing;
 
-    public VaccinationMongoService(VaccinationMongoRepository vaccinationRepository) {
+    public VaccinationMongoService(VaccinationMongoRepository vaccinationRepository, MongoListing listing) {
         this.vaccinationRepository = vaccinationRepository;
+        this.listing = listing;
     }
 
-    public List<VaccinationDocument> getAllVaccinations() {
-        return vaccinationRepository.findAll();
+    public Page<VaccinationDocument> getAllVaccinations(Pageable pageable, List<String> fields) {
+        return listing.page(VaccinationDocument.class, pageable, fields);
+    }
+
+    public CursorPage<VaccinationDocument> scrollVaccinations(String after, int size, List<String> fields) {
+        return listing.scroll(VaccinationDocument.class, new Query(), after, size, fields, VaccinationDocument::getId);
     }
 
     public VaccinationDocument getVaccinationById(String id) {
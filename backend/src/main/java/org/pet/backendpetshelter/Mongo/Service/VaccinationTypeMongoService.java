@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.VaccinationTypeDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.VaccinationTypeMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class VaccinationTypeMongoService {
 
     private final VaccinationTypeMongoRepository vaccinationTypeRepository;
+    private final MongoListing listing;
 
-    public VaccinationTypeMongoService(VaccinationTypeMongoRepository vaccinationTypeRepository) {
+    public VaccinationTypeMongoService(VaccinationTypeMongoRepository vaccinationTypeRepository, MongoListing listing) {
         this.vaccinationTypeRepository = vaccinationTypeRepository;
+        this.listing = listing;
     }
 
-    public List<VaccinationTypeDocument> getAllVaccinationTypes() {
-        return vaccinationTypeRepository.findAll();
+    public Page<VaccinationTypeDocument> getAllVaccinationTypes(Pageable pageable, List<String> fields) {
+        return listing.page(VaccinationTypeDocument.class, pageable, fields);
+    }
+
+    public CursorPage<VaccinationTypeDocument> scrollVaccinationTypes(String after, int size, List<String> fields) {
+        return listing.scroll(VaccinationTypeDocument.class, new Query(), after, size, fields, VaccinationTypeDocument::getId);
     }
 
     public VaccinationTypeDocument getVaccinationTypeById(String id) {
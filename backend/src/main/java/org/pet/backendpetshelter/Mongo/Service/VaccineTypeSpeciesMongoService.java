@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.VaccineTypeSpeciesDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.VaccineTypeSpeciesMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class VaccineTypeSpeciesMongoService {
 
     private final VaccineTypeSpeciesMongoRepository vaccineTypeSpeciesRepository;
+    private final MongoListing listing;
 
-    public VaccineTypeSpeciesMongoService(VaccineTypeSpeciesMongoRepository vaccineTypeSpeciesRepository) {
+    public VaccineTypeSpeciesMongoService(VaccineTypeSpeciesMongoRepository vaccineTypeSpeciesRepository, MongoListing listing) {
         this.vaccineTypeSpeciesRepository = vaccineTypeSpeciesRepository;
+        this.listing = listing;
     }
 
-    public List<VaccineTypeSpeciesDocument> getAllVaccineTypeSpecies() {
-        return vaccineTypeSpeciesRepository.findAll();
+    public Page<VaccineTypeSpeciesDocument> getAllVaccineTypeSpecies(Pageable pageable, List<String> fields) {
+        return listing.page(VaccineTypeSpeciesDocument.class, pageable, fields);
+    }
+
+    public CursorPage<VaccineTypeSpeciesDocument> scrollVaccineTypeSpecies(String after, int size, List<String> fields) {
+        return listing.scroll(VaccineTypeSpeciesDocument.class, new Query(), after, size, fields, VaccineTypeSpeciesDocument::getId);
     }
 
     public VaccineTypeSpeciesDocument getVaccineTypeSpeciesById(String id) {
@@ -1,8 +1,13 @@
 package org.pet.backendpetshelter.Mongo.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Mongo.Entity.VeterinarianDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
 import org.pet.backendpetshelter.Mongo.Repository.VeterinarianMongoRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +18,19 @@ import java.util.UUID;
 public class VeterinarianMongoService {
 
     private final VeterinarianMongoRepository veterinarianRepository;
+    private final MongoListing listing;
 
-    public VeterinarianMongoService(VeterinarianMongoRepository veterinarianRepository) {
+    public VeterinarianMongoService(VeterinarianMongoRepository veterinarianRepository, MongoListing listing) {
         this.veterinarianRepository = veterinarianRepository;
+        this.listing = listing;
     }
 
-    public List<VeterinarianDocument> getAllVeterinarians() {
-        return veterinarianRepository.findAll();
+    public Page<VeterinarianDocument> getAllVeterinarians(Pageable pageable, List<String> fields) {
+        return listing.page(VeterinarianDocument.class, pageable, fields);
+    }
+
+    public CursorPage<VeterinarianDocument> scrollVeterinarians(String after, int size, List<String> fields) {
+        return listing.scroll(VeterinarianDocument.class, new Query(), after, size, fields, VeterinarianDocument::getId);
     }
 
     public VeterinarianDocument getVeterinarianById(String id) {
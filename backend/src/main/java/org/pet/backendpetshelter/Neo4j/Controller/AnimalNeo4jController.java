@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.AnimalNode;
 import org.pet.backendpetshelter.Neo4j.Service.AnimalNeo4jService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +24,24 @@ public class AnimalNeo4jController {
         this.animalService = animalService;
     }
 
-    @GetMapping
-    public List<AnimalNode> getAllAnimals() {
-        return animalService.getAllAnimals();
+    @GetMapping(params = "!after")
+    public Page<AnimalNode> getAllAnimals(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return animalService.getAllAnimals(PageRequest.of(page, size, Sort.by(direction, sortBy)), fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<AnimalNode> scrollAnimals(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> fields) {
+        return animalService.scrollAnimals(after, size, fields);
     }
 
     @GetMapping("/{id}")
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VaccinationNode;
 import org.pet.backendpetshelter.Neo4j.Service.VaccinationNeo4jService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +24,24 @@ public class VaccinationNeo4jController {
         this.vaccinationService = vaccinationService;
     }
 
-    @GetMapping
-    public List<VaccinationNode> getAllVaccinations() {
-        return vaccinationService.getAllVaccinations();
+    @GetMapping(params = "!after")
+    public Page<VaccinationNode> getAllVaccinations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return vaccinationService.getAllVaccinations(PageRequest.of(page, size, Sort.by(direction, sortBy)), fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<VaccinationNode> scrollVaccinations(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> fields) {
+        return vaccinationService.scrollVaccinations(after, size, fields);
     }
 
     @GetMapping("/{id}")
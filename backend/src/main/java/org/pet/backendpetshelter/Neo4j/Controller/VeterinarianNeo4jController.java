@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Controller;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VeterinarianNode;
 import org.pet.backendpetshelter.Neo4j.Service.VeterinarianNeo4jService;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +24,24 @@ public class VeterinarianNeo4jController {
         this.veterinarianService = veterinarianService;
     }
 
-    @GetMapping
-    public List<VeterinarianNode> getAllVeterinarians() {
-        return veterinarianService.getAllVeterinarians();
+    @GetMapping(params = "!after")
+    public Page<VeterinarianNode> getAllVeterinarians(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) List<String> fields) {
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return veterinarianService.getAllVeterinarians(PageRequest.of(page, size, Sort.by(direction, sortBy)), fields);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPage<VeterinarianNode> scrollVeterinarians(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> fields) {
+        return veterinarianService.scrollVeterinarians(after, size, fields);
     }
 
     @GetMapping("/{id}")
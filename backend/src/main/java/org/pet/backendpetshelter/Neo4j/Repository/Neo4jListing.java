@@ -0,0 +1,138 @@
+package org.pet.backendpetshelter.Neo4j.Repository;
+
+import org.pet.backendpetshelter.DTO.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded listing for the /api/neo4j/** controllers. Repository findAll() hydrates every
+ * relationship of every node; these queries return only the node's own properties (or the
+ * requested subset) as a map projection, with SKIP/LIMIT or an id seek in the database.
+ * Fetch by id still returns the full subgraph.
+ */
+@Component
+@Profile("neo4j")
+public class Neo4jListing {
+
+    private final Neo4jTemplate neo4jTemplate;
+    private final Neo4jMappingContext mappingContext;
+    private final int maxPageSize;
+
+    public Neo4jListing(Neo4jTemplate neo4jTemplate,
+                        Neo4jMappingContext mappingContext,
+                        @Value("${listing.max-page-size:100}") int maxPageSize) {
+        this.neo4jTemplate = neo4jTemplate;
+        this.mappingContext = mappingContext;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public <T> Page<T> page(Class<T> type, Pageable pageable, List<String> fields) {
+        Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        Pageable bounded = PageRequest.of(pageable.getPageNumber(), boundSize(pageable.getPageSize()), pageable.getSort());
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("skip", bounded.getOffset());
+        parameters.put("limit", bounded.getPageSize());
+        List<T> content = neo4jTemplate.findAll(pageCypher(entity, bounded.getSort(), fields), parameters, type);
+        return PageableExecutionUtils.getPage(content, bounded, () -> neo4jTemplate.count(type));
+    }
+
+    /**
+     * @param after the nextCursor of the previous slice (the last id), or null/blank for the first
+     */
+    public <T> CursorPage<T> scroll(Class<T> type, String after, int size, List<String> fields,
+                                    Function<T, String> idOf) {
+        Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        int limit = boundSize(size);
+
+        boolean first = after == null || after.isBlank();
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("after", first ? null : after);
+        parameters.put("limit", limit + 1);
+        List<T> rows = neo4jTemplate.findAll(scrollCypher(entity, fields, first), parameters, type);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, limit, null);
+        }
+        List<T> content = rows.subList(0, limit);
+        return new CursorPage<>(content, limit, idOf.apply(content.get(limit - 1)));
+    }
+
+    public static String pageCypher(Neo4jPersistentEntity<?> entity, Sort sort, List<String> fields) {
+        String orderBy = sort.isSorted()
+                ? sort.stream()
+                        .map(order -> "n." + quote(requireProperty(entity, order.getProperty()).getPropertyName())
+                                + (order.isAscending() ? " ASC" : " DESC"))
+                        .collect(Collectors.joining(", "))
+                : "n." + quote(idProperty(entity));
+        return "MATCH (n:" + quote(entity.getPrimaryLabel()) + ") RETURN " + projection(entity, fields)
+                + " ORDER BY " + orderBy + " SKIP $skip LIMIT $limit";
+    }
+
+    /* The first slice has no WHERE so the planner is not handed an OR it cannot seek on */
+    public static String scrollCypher(Neo4jPersistentEntity<?> entity, List<String> fields, boolean first) {
+        String id = "n." + quote(idProperty(entity));
+        return "MATCH (n:" + quote(entity.getPrimaryLabel()) + ")" + (first ? "" : " WHERE " + id + " > $after")
+                + " RETURN " + projection(entity, fields) + " ORDER BY " + id + " LIMIT $limit";
+    }
+
+    /* Map projection SDN can read back into the entity; relationships are left unset */
+    private static String projection(Neo4jPersistentEntity<?> entity, List<String> fields) {
+        String properties;
+        if (fields == null || fields.isEmpty()) {
+            properties = ".*";
+        } else {
+            Set<String> selected = new LinkedHashSet<>();
+            selected.add(idProperty(entity));
+            for (String field : fields) {
+                selected.add(requireProperty(entity, field.trim()).getPropertyName());
+            }
+            properties = selected.stream().map(name -> "." + quote(name)).collect(Collectors.joining(", "));
+        }
+        return "n{" + properties
+                + ", " + Constants.NAME_OF_LABELS + ": labels(n)"
+                + ", " + Constants.NAME_OF_ELEMENT_ID + ": elementId(n)} AS node";
+    }
+
+    private static String idProperty(Neo4jPersistentEntity<?> entity) {
+        return entity.getRequiredIdProperty().getPropertyName();
+    }
+
+    private static Neo4jPersistentProperty requireProperty(Neo4jPersistentEntity<?> entity, String name) {
+        Neo4jPersistentProperty property = entity.getPersistentProperty(name);
+        if (property == null || property.isAssociation()) {
+            throw new IllegalArgumentException("Unknown field '" + name + "' for " + entity.getType().getSimpleName());
+        }
+        return property;
+    }
+
+    private static String quote(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    private int boundSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
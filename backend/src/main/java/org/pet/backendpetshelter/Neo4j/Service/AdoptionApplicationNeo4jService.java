@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.AdoptionApplicationNode;
 import org.pet.backendpetshelter.Neo4j.Repository.AdoptionApplicationNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class AdoptionApplicationNeo4jService {
 
     private final AdoptionApplicationNeo4jRepository applicationRepository;
+    private final Neo4jListing listing;
 
-    public AdoptionApplicationNeo4jService(AdoptionApplicationNeo4jRepository applicationRepository) {
+    public AdoptionApplicationNeo4jService(AdoptionApplicationNeo4jRepository applicationRepository, Neo4jListing listing) {
         this.applicationRepository = applicationRepository;
+        this.listing = listing;
     }
 
-    public List<AdoptionApplicationNode> getAllApplications() {
-        return applicationRepository.findAll();
+    public Page<AdoptionApplicationNode> getAllApplications(Pageable pageable, List<String> fields) {
+        return listing.page(AdoptionApplicationNode.class, pageable, fields);
+    }
+
+    public CursorPage<AdoptionApplicationNode> scrollApplications(String after, int size, List<String> fields) {
+        return listing.scroll(AdoptionApplicationNode.class, after, size, fields, AdoptionApplicationNode::getId);
     }
 
     public AdoptionApplicationNode getApplicationById(String id) {
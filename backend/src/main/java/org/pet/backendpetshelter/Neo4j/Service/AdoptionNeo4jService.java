@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.AdoptionNode;
 import org.pet.backendpetshelter.Neo4j.Repository.AdoptionNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class AdoptionNeo4jService {
 
     private final AdoptionNeo4jRepository adoptionRepository;
+    private final Neo4jListing listing;
 
-    public AdoptionNeo4jService(AdoptionNeo4jRepository adoptionRepository) {
+    public AdoptionNeo4jService(AdoptionNeo4jRepository adoptionRepository, Neo4jListing listing) {
         this.adoptionRepository = adoptionRepository;
+        this.listing = listing;
     }
 
-    public List<AdoptionNode> getAllAdoptions() {
-        return adoptionRepository.findAll();
+    public Page<AdoptionNode> getAllAdoptions(Pageable pageable, List<String> fields) {
+        return listing.page(AdoptionNode.class, pageable, fields);
+    }
+
+    public CursorPage<AdoptionNode> scrollAdoptions(String after, int size, List<String> fields) {
+        return listing.scroll(AdoptionNode.class, after, size, fields, AdoptionNode::getId);
     }
 
     public AdoptionNode getAdoptionById(String id) {
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.AnimalNode;
 import org.pet.backendpetshelter.Neo4j.Repository.AnimalNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class AnimalNeo4jService {
 
     private final AnimalNeo4jRepository animalRepository;
+    private final Neo4jListing listing;
 
-    public AnimalNeo4jService(AnimalNeo4jRepository animalRepository) {
+    public AnimalNeo4jService(AnimalNeo4jRepository animalRepository, Neo4jListing listing) {
         this.animalRepository = animalRepository;
+        this.listing = listing;
     }
 
-    public List<AnimalNode> getAllAnimals() {
-        return animalRepository.findAll();
+    public Page<AnimalNode> getAllAnimals(Pageable pageable, List<String> fields) {
+        return listing.page(AnimalNode.class, pageable, fields);
+    }
+
+    public CursorPage<AnimalNode> scrollAnimals(String after, int size, List<String> fields) {
+        return listing.scroll(AnimalNode.class, after, size, fields, AnimalNode::getId);
     }
 
     public AnimalNode getAnimalById(String id) {
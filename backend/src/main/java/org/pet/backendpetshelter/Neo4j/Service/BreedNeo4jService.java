@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.BreedNode;
 import org.pet.backendpetshelter.Neo4j.Repository.BreedNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class BreedNeo4jService {
 
     private final BreedNeo4jRepository breedRepository;
+    private final Neo4jListing listing;
 
-    public BreedNeo4jService(BreedNeo4jRepository breedRepository) {
+    public BreedNeo4jService(BreedNeo4jRepository breedRepository, Neo4jListing listing) {
         this.breedRepository = breedRepository;
+        this.listing = listing;
     }
 
-    public List<BreedNode> getAllBreeds() {
-        return breedRepository.findAll();
+    public Page<BreedNode> getAllBreeds(Pageable pageable, List<String> fields) {
+        return listing.page(BreedNode.class, pageable, fields);
+    }
+
+    public CursorPage<BreedNode> scrollBreeds(String after, int size, List<String> fields) {
+        return listing.scroll(BreedNode.class, after, size, fields, BreedNode::getId);
     }
 
     public BreedNode getBreedById(String id) {
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.FosterCareNode;
 import org.pet.backendpetshelter.Neo4j.Repository.FosterCareNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class FosterCareNeo4jService {
 
     private final FosterCareNeo4jRepository fosterCareRepository;
+    private final Neo4jListing listing;
 
-    public FosterCareNeo4jService(FosterCareNeo4jRepository fosterCareRepository) {
+    public FosterCareNeo4jService(FosterCareNeo4jRepository fosterCareRepository, Neo4jListing listing) {
         this.fosterCareRepository = fosterCareRepository;
+        this.listing = listing;
     }
 
-    public List<FosterCareNode> getAllFosterCares() {
-        return fosterCareRepository.findAll();
+    public Page<FosterCareNode> getAllFosterCares(Pageable pageable, List<String> fields) {
+        return listing.page(FosterCareNode.class, pageable, fields);
+    }
+
+    public CursorPage<FosterCareNode> scrollFosterCares(String after, int size, List<String> fields) {
+        return listing.scroll(FosterCareNode.class, after, size, fields, FosterCareNode::getId);
     }
 
     public FosterCareNode getFosterCareById(String id) {
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.MedicalRecordNode;
 import org.pet.backendpetshelter.Neo4j.Repository.MedicalRecordNeo4jRepository;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class MedicalRecordNeo4jService {
 
     private final MedicalRecordNeo4jRepository medicalRecordRepository;
+    private final Neo4jListing listing;
 
-    public MedicalRecordNeo4jService(MedicalRecordNeo4jRepository medicalRecordRepository) {
+    public MedicalRecordNeo4jService(MedicalRecordNeo4jRepository medicalRecordRepository, Neo4jListing listing) {
         this.medicalRecordRepository = medicalRecordRepository;
+        this.listing = listing;
     }
 
-    public List<MedicalRecordNode> getAllMedicalRecords() {
-        return medicalRecordRepository.findAll();
+    public Page<MedicalRecordNode> getAllMedicalRecords(Pageable pageable, List<String> fields) {
+        return listing.page(MedicalRecordNode.class, pageable, fields);
+    }
+
+    public CursorPage<MedicalRecordNode> scrollMedicalRecords(String after, int size, List<String> fields) {
+        return listing.scroll(MedicalRecordNode.class, after, size, fields, MedicalRecordNode::getId);
     }
 
     public MedicalRecordNode getMedicalRecordById(String id) {
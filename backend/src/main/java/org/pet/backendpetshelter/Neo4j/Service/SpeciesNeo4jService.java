@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.SpeciesNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.SpeciesNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class SpeciesNeo4jService {
 
     private final SpeciesNeo4jRepository speciesRepository;
+    private final Neo4jListing listing;
 
-    public SpeciesNeo4jService(SpeciesNeo4jRepository speciesRepository) {
+    public SpeciesNeo4jService(SpeciesNeo4jRepository speciesRepository, Neo4jListing listing) {
         this.speciesRepository = speciesRepository;
+        this.listing = listing;
     }
 
-    public List<SpeciesNode> getAllSpecies() {
-        return speciesRepository.findAll();
+    public Page<SpeciesNode> getAllSpecies(Pageable pageable, List<String> fields) {
+        return listing.page(SpeciesNode.class, pageable, fields);
+    }
+
+    public CursorPage<SpeciesNode> scrollSpecies(String after, int size, List<String> fields) {
+        return listing.scroll(SpeciesNode.class, after, size, fields, SpeciesNode::getId);
     }
 
     public SpeciesNode getSpeciesById(String id) {
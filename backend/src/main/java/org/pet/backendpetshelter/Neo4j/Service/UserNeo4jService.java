@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.UserNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.UserNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class UserNeo4jService {
 
     private final UserNeo4jRepository userRepository;
+    private final Neo4jListing listing;
 
-    public UserNeo4jService(UserNeo4jRepository userRepository) {
+    public UserNeo4jService(UserNeo4jRepository userRepository, Neo4jListing listing) {
         this.userRepository = userRepository;
+        this.listing = listing;
     }
 
-    public List<UserNode> getAllUsers() {
-        return userRepository.findAll();
+    public Page<UserNode> getAllUsers(Pageable pageable, List<String> fields) {
+        return listing.page(UserNode.class, pageable, fields);
+    }
+
+    public CursorPage<UserNode> scrollUsers(String after, int size, List<String> fields) {
+        return listing.scroll(UserNode.class, after, size, fields, UserNode::getId);
     }
 
     public UserNode getUserById(String id) {
@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VaccinationNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.VaccinationNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class VaccinationNeo4jService {
 
     private final VaccinationNeo4jRepository vaccinationRepository;
+    private final Neo4jListing listing;
 
-    public VaccinationNeo4jService(VaccinationNeo4jRepository vaccinationRepository) {
+    public VaccinationNeo4jService(VaccinationNeo4jRepository vaccinationRepository, Neo4jListing listing) {
         this.vaccinationRepository = vaccinationRepository;
+        this.listing = listing;
     }
 
-    public List<VaccinationNode> getAllVaccinations() {
-        return vaccinationRepository.findAll();
+    public Page<VaccinationNode> getAllVaccinations(Pageable pageable, List<String> fields) {
+        return listing.page(VaccinationNode.class, pageable, fields);
+    }
+
+    public CursorPage<VaccinationNode> scrollVaccinations(String after, int size, List<String> fields) {
+        return listing.scroll(VaccinationNode.class, after, size, fields, VaccinationNode::getId);
     }
 
     public VaccinationNode getVaccinationById(String id) {
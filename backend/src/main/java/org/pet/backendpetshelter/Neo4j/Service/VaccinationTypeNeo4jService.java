@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VaccinationTypeNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.VaccinationTypeNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class VaccinationTypeNeo4jService {
 
     private final VaccinationTypeNeo4jRepository vaccinationTypeRepository;
+    private final Neo4jListing listing;
 
-    public VaccinationTypeNeo4jService(VaccinationTypeNeo4jRepository vaccinationTypeRepository) {
+    public VaccinationTypeNeo4jService(VaccinationTypeNeo4jRepository vaccinationTypeRepository, Neo4jListing listing) {
         this.vaccinationTypeRepository = vaccinationTypeRepository;
+        this.listing = listing;
     }
 
-    public List<VaccinationTypeNode> getAllVaccinationTypes() {
-        return vaccinationTypeRepository.findAll();
+    public Page<VaccinationTypeNode> getAllVaccinationTypes(Pageable pageable, List<String> fields) {
+        return listing.page(VaccinationTypeNode.class, pageable, fields);
+    }
+
+    public CursorPage<VaccinationTypeNode> scrollVaccinationTypes(String after, int size, List<String> fields) {
+        return listing.scroll(VaccinationTypeNode.class, after, size, fields, VaccinationTypeNode::getId);
     }
 
     public VaccinationTypeNode getVaccinationTypeById(String id) {
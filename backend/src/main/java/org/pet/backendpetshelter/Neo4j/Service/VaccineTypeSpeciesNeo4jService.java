@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VaccineTypeSpeciesNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.VaccineTypeSpeciesNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class VaccineTypeSpeciesNeo4jService {
 
     private final VaccineTypeSpeciesNeo4jRepository vaccineTypeSpeciesRepository;
+    private final Neo4jListing listing;
 
-    public VaccineTypeSpeciesNeo4jService(VaccineTypeSpeciesNeo4jRepository vaccineTypeSpeciesRepository) {
+    public VaccineTypeSpeciesNeo4jService(VaccineTypeSpeciesNeo4jRepository vaccineTypeSpeciesRepository, Neo4jListing listing) {
         this.vaccineTypeSpeciesRepository = vaccineTypeSpeciesRepository;
+        this.listing = listing;
     }
 
-    public List<VaccineTypeSpeciesNode> getAllVaccineTypeSpecies() {
-        return vaccineTypeSpeciesRepository.findAll();
+    public Page<VaccineTypeSpeciesNode> getAllVaccineTypeSpecies(Pageable pageable, List<String> fields) {
+        return listing.page(VaccineTypeSpeciesNode.class, pageable, fields);
+    }
+
+    public CursorPage<VaccineTypeSpeciesNode> scrollVaccineTypeSpecies(String after, int size, List<String> fields) {
+        return listing.scroll(VaccineTypeSpeciesNode.class, after, size, fields, VaccineTypeSpeciesNode::getId);
     }
 
     public VaccineTypeSpeciesNode getVaccineTypeSpeciesById(String id) {
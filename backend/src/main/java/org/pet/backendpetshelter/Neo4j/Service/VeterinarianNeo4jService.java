@@ -1,8 +1,12 @@
 package org.pet.backendpetshelter.Neo4j.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Neo4j.Entity.VeterinarianNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
 import org.pet.backendpetshelter.Neo4j.Repository.VeterinarianNeo4jRepository;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,13 +17,19 @@ import java.util.UUID;
 public class VeterinarianNeo4jService {
 
     private final VeterinarianNeo4jRepository veterinarianRepository;
+    private final Neo4jListing listing;
 
-    public VeterinarianNeo4jService(VeterinarianNeo4jRepository veterinarianRepository) {
+    public VeterinarianNeo4jService(VeterinarianNeo4jRepository veterinarianRepository, Neo4jListing listing) {
         this.veterinarianRepository = veterinarianRepository;
+        this.listing = listing;
     }
 
-    public List<VeterinarianNode> getAllVeterinarians() {
-        return veterinarianRepository.findAll();
+    public Page<VeterinarianNode> getAllVeterinarians(Pageable pageable, List<String> fields) {
+        return listing.page(VeterinarianNode.class, pageable, fields);
+    }
+
+    public CursorPage<VeterinarianNode> scrollVeterinarians(String after, int size, List<String> fields) {
+        return listing.scroll(VeterinarianNode.class, after, size, fields, VeterinarianNode::getId);
     }
 
     public VeterinarianNode getVeterinarianById(String id) {
@@ -0,0 +1,14 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a Cypher statement with a batch of rows bound to {@code $rows}, in its own transaction.
+ */
+public interface CypherBatchWriter {
+
+    void execute(String cypher);
+
+    void write(String cypher, List<Map<String, Object>> rows);
+}
@@ -0,0 +1,151 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import org.pet.backendpetshelter.Configuration.StartupThreads;
+import org.pet.backendpetshelter.Migration.JdbcCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Migrates MySQL into Neo4j in two passes without building an object graph in memory.
+ * Pass 1 streams every table and writes its nodes with batched UNWIND statements, one label per thread.
+ * Pass 2 streams the foreign keys and links the nodes by their indexed id. Relationship types run one
+ * after the other because they share end nodes, and concurrent writers would deadlock on their locks.
+ */
+@Component
+@Order(100) // Run after other initializations
+@Profile("migrate-neo4j")
+@ConditionalOnProperty(name = "migration.neo4j.mode", havingValue = "batch", matchIfMissing = true)
+public class Neo4jBatchMigrator implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CypherBatchWriter writer;
+    private final int batchSize;
+    private final int threads;
+    private final int fetchSize;
+    private final StartupThreads startupThreads;
+
+    @Value("${migration.neo4j.enabled:false}")
+    private boolean migrationEnabled;
+
+    public Neo4jBatchMigrator(JdbcTemplate jdbcTemplate,
+                              CypherBatchWriter writer,
+                              @Value("${migration.neo4j.batch-size:5000}") int batchSize,
+                              @Value("${migration.neo4j.threads:4}") int threads,
+                              @Value("${migration.fetch-size:1000}") int fetchSize,
+                              StartupThreads startupThreads) {
+        if (batchSize < 1 || threads < 1) {
+            throw new IllegalArgumentException("migration.neo4j.batch-size and migration.neo4j.threads must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.threads = threads;
+        this.fetchSize = fetchSize;
+        this.startupThreads = startupThreads;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (!migrationEnabled) {
+            System.out.println("Neo4j migration disabled. Set migration.neo4j.enabled=true to run.");
+            return;
+        }
+        startupThreads.runAndWait("neo4j-migration-", this::migrate);
+    }
+
+    public void migrate() throws InterruptedException, ExecutionException {
+        System.out.println("Starting Neo4j batch migration from MySQL...");
+        long startedAt = System.nanoTime();
+
+        // The unique constraints double as the id indexes MERGE and the relationship pass look up
+        for (Neo4jNodeStep step : Neo4jMigrationSteps.nodes()) {
+            writer.execute(step.constraint());
+        }
+
+        long nodes = 0;
+        ExecutorService executor = startupThreads.fixedPool("neo4j-migration-nodes-", threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (Neo4jNodeStep step : Neo4jMigrationSteps.nodes()) {
+                results.add(executor.submit(() -> migrateNodes(step)));
+            }
+            for (Future<Long> result : results) {
+                nodes += result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        report("nodes", nodes, startedAt);
+
+        long relationshipsStartedAt = System.nanoTime();
+        long relationships = 0;
+        for (Neo4jRelationshipStep step : Neo4jMigrationSteps.relationships()) {
+            relationships += migrateRelationships(step);
+        }
+        report("relationships", relationships, relationshipsStartedAt);
+
+        System.out.printf("Neo4j migration completed in %.1fs%n", (System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+
+    private long migrateNodes(Neo4jNodeStep step) {
+        long startedAt = System.nanoTime();
+        String cypher = step.cypher();
+        long count = stream(step.select(), step.properties(),
+                batch -> writer.write(cypher, batch));
+        report(step.label() + " nodes", count, startedAt);
+        return count;
+    }
+
+    private long migrateRelationships(Neo4jRelationshipStep step) {
+        long startedAt = System.nanoTime();
+        String cypher = step.cypher();
+        long count = stream(step.select(), (rs, n) -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("from", Long.toString(rs.getLong(step.keyColumn())));
+            row.put("to", Long.toString(rs.getLong(step.foreignKeyColumn())));
+            return row;
+        }, batch -> writer.write(cypher, batch));
+        report(step.name() + " relationships", count, startedAt);
+        return count;
+    }
+
+    /* Streams the query and hands rows on in batches, so only one batch per thread is held in memory */
+    private long stream(String sql, RowMapper<Map<String, Object>> mapper, Consumer<List<Map<String, Object>>> sink) {
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+        long[] count = {0};
+        JdbcCursor.stream(jdbcTemplate, sql, fetchSize, rs -> {
+            batch.add(mapper.mapRow(rs, rs.getRow()));
+            if (batch.size() >= batchSize) {
+                sink.accept(List.copyOf(batch));
+                count[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            sink.accept(List.copyOf(batch));
+            count[0] += batch.size();
+        }
+        return count[0];
+    }
+
+    private static void report(String what, long count, long startedAt) {
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.out.printf("Migrated %d %s to Neo4j in %.1fs (%.0f/s)%n",
+                count, what, seconds, seconds > 0 ? count / seconds : count);
+    }
+}
@@ -0,0 +1,101 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import org.pet.backendpetshelter.Sync.ChangeBatch;
+import org.pet.backendpetshelter.Sync.ChangeLogPoller;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the Neo4j graph following MySQL by applying change_log deltas with the batch migration's
+ * statements: changed nodes are merged, their outgoing relationships re-pointed, deleted nodes
+ * detached and removed.
+ */
+@Component
+@Profile("migrate-neo4j")
+@ConditionalOnProperty(name = "sync.enabled", havingValue = "true")
+public class Neo4jChangeSync {
+
+    static final String CONSUMER = "neo4j";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeLogPoller poller;
+    private final CypherBatchWriter writer;
+    private final Map<String, Neo4jNodeStep> nodesByTable;
+    private final Map<String, List<Neo4jRelationshipStep>> relationshipsByTable;
+
+    public Neo4jChangeSync(JdbcTemplate jdbcTemplate, ChangeLogPoller poller, CypherBatchWriter writer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.poller = poller;
+        this.writer = writer;
+        this.nodesByTable = Neo4jMigrationSteps.nodes().stream()
+                .collect(Collectors.toMap(Neo4jNodeStep::table, Function.identity()));
+        this.relationshipsByTable = Neo4jMigrationSteps.relationships().stream()
+                .collect(Collectors.groupingBy(Neo4jRelationshipStep::table));
+    }
+
+    @Scheduled(fixedDelayString = "${sync.poll-interval-ms:1000}")
+    public void sync() {
+        int applied;
+        do {
+            applied = syncOnce();
+        } while (applied >= poller.getBatchSize());
+    }
+
+    public int syncOnce() {
+        ChangeBatch batch = poller.poll(CONSUMER);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // All nodes first, so relationships between two rows changed in the same batch find both ends
+        batch.upserts().forEach(this::upsertNodes);
+        batch.upserts().forEach(this::replaceRelationships);
+        batch.deletes().forEach((table, ids) -> {
+            Neo4jNodeStep step = nodesByTable.get(table);
+            if (step != null) {
+                writer.write(step.deleteCypher(), ids.stream().map(id -> Map.<String, Object>of("id", id.toString())).toList());
+            }
+        });
+
+        poller.commit(CONSUMER, batch);
+        System.out.println("Applied " + batch.size() + " changes to Neo4j (up to change " + batch.lastChangeId() + ")");
+        return batch.size();
+    }
+
+    private void upsertNodes(String table, Set<Long> ids) {
+        Neo4jNodeStep step = nodesByTable.get(table);
+        if (step == null) {
+            return;
+        }
+        // Rows deleted since the change was logged come back empty; their DELETE entry follows
+        List<Map<String, Object>> rows = jdbcTemplate.query(step.selectByKeys(ids.size()), step.properties(), ids.toArray());
+        if (!rows.isEmpty()) {
+            writer.write(step.cypher(), rows);
+        }
+    }
+
+    private void replaceRelationships(String table, Set<Long> ids) {
+        for (Neo4jRelationshipStep step : relationshipsByTable.getOrDefault(table, List.of())) {
+            List<Map<String, Object>> rows = jdbcTemplate.query(step.selectByKeys(ids.size()), (rs, n) -> {
+                Map<String, Object> row = new HashMap<>();
+                row.put("from", Long.toString(rs.getLong(step.keyColumn())));
+                long to = rs.getLong(step.foreignKeyColumn());
+                row.put("to", rs.wasNull() ? null : Long.toString(to));
+                return row;
+            }, ids.toArray());
+            if (!rows.isEmpty()) {
+                writer.write(step.replaceCypher(), rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Profile("migrate-neo4j")
+public class Neo4jClientBatchWriter implements CypherBatchWriter {
+
+    private final Neo4jClient neo4jClient;
+
+    public Neo4jClientBatchWriter(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public void execute(String cypher) {
+        neo4jClient.query(cypher).run();
+    }
+
+    @Override
+    public void write(String cypher, List<Map<String, Object>> rows) {
+        neo4jClient.query(cypher).bind(rows).to("rows").run();
+    }
+}
@@ -0,0 +1,177 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL table → node label and foreign key → relationship mappings for the batch migration.
+ * Property names and value formats match what the *Node classes are read back with.
+ */
+public final class Neo4jMigrationSteps {
+
+    private Neo4jMigrationSteps() {
+    }
+
+    public static List<Neo4jNodeStep> nodes() {
+        return List.of(
+                new Neo4jNodeStep("User", "users", "user_id",
+                        "user_id, email, password, first_name, last_name, phone, is_active, role",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "user_id");
+                            row.put("email", rs.getString("email"));
+                            row.put("password", rs.getString("password"));
+                            row.put("firstName", rs.getString("first_name"));
+                            row.put("lastName", rs.getString("last_name"));
+                            row.put("phone", rs.getString("phone"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            row.put("role", rs.getString("role"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Species", "species", "species_id", "species_id, name",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "species_id");
+                            row.put("name", rs.getString("name"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("VaccinationType", "vaccination_type", "vaccination_type_id",
+                        "vaccination_type_id, vaccine_name, description, duration_months, required_for_adoption",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "vaccination_type_id");
+                            row.put("vaccineName", rs.getString("vaccine_name"));
+                            row.put("description", rs.getString("description"));
+                            row.put("durationMonths", rs.getInt("duration_months"));
+                            row.put("requiredForAdoption", bool(rs, "required_for_adoption"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Breed", "breed", "breed_id", "breed_id, name",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "breed_id");
+                            row.put("name", rs.getString("name"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Veterinarian", "veterinarian", "vet_id", "vet_id, license_number, clinic_name, is_active",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "vet_id");
+                            row.put("licenseNumber", rs.getString("license_number"));
+                            row.put("clinicName", rs.getString("clinic_name"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Animal", "animal", "animal_id",
+                        "animal_id, name, birth_date, sex, intake_date, status, price, is_active, image_url",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "animal_id");
+                            row.put("name", rs.getString("name"));
+                            row.put("birthDate", date(rs, "birth_date"));
+                            row.put("sex", rs.getString("sex"));
+                            row.put("intakeDate", date(rs, "intake_date"));
+                            row.put("status", rs.getString("status"));
+                            row.put("price", rs.getInt("price"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            row.put("imageUrl", rs.getString("image_url"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("AdoptionApplication", "adoption_application", "adoption_application_id",
+                        "adoption_application_id, application_date, description, status, is_active",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "adoption_application_id");
+                            row.put("applicationDate", date(rs, "application_date"));
+                            row.put("description", rs.getString("description"));
+                            row.put("status", rs.getString("status"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Adoption", "adoption", "adoption_id", "adoption_id, adoption_date, is_active",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "adoption_id");
+                            row.put("adoptionDate", date(rs, "adoption_date"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("FosterCare", "foster_care", "fostercare_id", "fostercare_id, start_date, end_date, is_active",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "fostercare_id");
+                            row.put("startDate", date(rs, "start_date"));
+                            row.put("endDate", date(rs, "end_date"));
+                            row.put("isActive", bool(rs, "is_active"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("MedicalRecord", "medical_record", "record_id", "record_id, date, diagnosis, treatment, cost",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "record_id");
+                            row.put("date", date(rs, "date"));
+                            row.put("diagnosis", rs.getString("diagnosis"));
+                            row.put("treatment", rs.getString("treatment"));
+                            row.put("cost", rs.getInt("cost"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("Vaccination", "vaccination", "vaccination_id", "vaccination_id, date_administered, next_due_date",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "vaccination_id");
+                            row.put("dateAdministered", date(rs, "date_administered"));
+                            row.put("nextDueDate", date(rs, "next_due_date"));
+                            return row;
+                        }),
+                new Neo4jNodeStep("VaccineTypeSpecies", "vaccination_type_species", "vaccine_type_species_id", "vaccine_type_species_id",
+                        (rs, n) -> node(rs, "vaccine_type_species_id")),
+                new Neo4jNodeStep("RefreshToken", "refresh_tokens", "id", "id, token, expires_at, revoked",
+                        (rs, n) -> {
+                            Map<String, Object> row = node(rs, "id");
+                            row.put("token", rs.getString("token"));
+                            Timestamp expiresAt = rs.getTimestamp("expires_at");
+                            // Instant properties are stored as a UTC DateTime
+                            row.put("expiresAt", expiresAt != null ? expiresAt.toInstant().atOffset(ZoneOffset.UTC) : null);
+                            row.put("revoked", bool(rs, "revoked"));
+                            return row;
+                        })
+        );
+    }
+
+    public static List<Neo4jRelationshipStep> relationships() {
+        return List.of(
+                new Neo4jRelationshipStep("BELONGS_TO", "Breed", "Species", "breed", "breed_id", "species_id"),
+                new Neo4jRelationshipStep("IS_USER", "Veterinarian", "User", "veterinarian", "vet_id", "user_id"),
+                new Neo4jRelationshipStep("IS_SPECIES", "Animal", "Species", "animal", "animal_id", "species_id"),
+                new Neo4jRelationshipStep("IS_BREED", "Animal", "Breed", "animal", "animal_id", "breed_id"),
+                new Neo4jRelationshipStep("APPLIED_BY", "AdoptionApplication", "User", "adoption_application", "adoption_application_id", "user_id"),
+                new Neo4jRelationshipStep("FOR_ANIMAL", "AdoptionApplication", "Animal", "adoption_application", "adoption_application_id", "animal_id"),
+                new Neo4jRelationshipStep("REVIEWED_BY", "AdoptionApplication", "User", "adoption_application", "adoption_application_id", "reviewed_by_user_id"),
+                new Neo4jRelationshipStep("FROM_APPLICATION", "Adoption", "AdoptionApplication", "adoption", "adoption_id", "application_id"),
+                new Neo4jRelationshipStep("CARING_FOR", "FosterCare", "Animal", "foster_care", "fostercare_id", "animal_animal_id"),
+                new Neo4jRelationshipStep("FOSTERED_BY", "FosterCare", "User", "foster_care", "fostercare_id", "foster_parent_user_id"),
+                new Neo4jRelationshipStep("FOR_ANIMAL", "MedicalRecord", "Animal", "medical_record", "record_id", "animal_id"),
+                new Neo4jRelationshipStep("BY_VET", "MedicalRecord", "Veterinarian", "medical_record", "record_id", "vet_id"),
+                new Neo4jRelationshipStep("FOR_ANIMAL", "Vaccination", "Animal", "vaccination", "vaccination_id", "animal_id"),
+                new Neo4jRelationshipStep("BY_VET", "Vaccination", "Veterinarian", "vaccination", "vaccination_id", "vet_id"),
+                new Neo4jRelationshipStep("OF_TYPE", "Vaccination", "VaccinationType", "vaccination", "vaccination_id", "vaccination_type_id"),
+                new Neo4jRelationshipStep("FOR_SPECIES", "VaccineTypeSpecies", "Species", "vaccination_type_species", "vaccine_type_species_id", "species_id"),
+                new Neo4jRelationshipStep("VACCINE_TYPE", "VaccineTypeSpecies", "VaccinationType", "vaccination_type_species", "vaccine_type_species_id", "vaccination_type_id"),
+                new Neo4jRelationshipStep("BELONGS_TO", "RefreshToken", "User", "refresh_tokens", "id", "user_id")
+        );
+    }
+
+    private static Map<String, Object> node(ResultSet rs, String keyColumn) throws SQLException {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", Long.toString(rs.getLong(keyColumn)));
+        return row;
+    }
+
+    private static Boolean bool(ResultSet rs, String column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    /* java.util.Date properties are stored as ISO-8601 strings in UTC */
+    private static String date(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null
+                ? DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value.toInstant().atZone(ZoneOffset.UTC))
+                : null;
+    }
+}
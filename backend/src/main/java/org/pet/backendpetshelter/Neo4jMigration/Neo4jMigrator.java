@@ -1,14 +1,17 @@
 package org.pet.backendpetshelter.Neo4jMigration;
 
+import org.pet.backendpetshelter.Configuration.StartupThreads;
 import org.pet.backendpetshelter.Neo4j.Entity.*;
 import org.pet.backendpetshelter.Neo4j.Repository.*;
 import org.pet.backendpetshelter.Repository.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -16,11 +19,15 @@ import java.util.Map;
 @Component
 @Order(100) // Run after other initializations
 @Profile("migrate-neo4j")
+@ConditionalOnProperty(name = "migration.neo4j.mode", havingValue = "repository")
 public class Neo4jMigrator implements CommandLineRunner {
 
     @Value("${migration.neo4j.enabled:false}")
     private boolean migrationEnabled;
 
+    private final StartupThreads startupThreads;
+    private final TransactionTemplate readOnlyTransaction;
+
     // JPA Repositories
     private final UserRepository userRepository;
     private final SpeciesRepository speciesRepository;
@@ -86,7 +93,12 @@ public class Neo4jMigrator implements CommandLineRunner {
             VaccinationTypeNeo4jRepository vaccinationTypeNeo4jRepository,
             VaccinationNeo4jRepository vaccinationNeo4jRepository,
             VaccineTypeSpeciesNeo4jRepository vaccineTypeSpeciesNeo4jRepository,
-            RefreshTokenNeo4jRepository refreshTokenNeo4jRepository) {
+            RefreshTokenNeo4jRepository refreshTokenNeo4jRepository,
+            StartupThreads startupThreads,
+            PlatformTransactionManager transactionManager) {
+        this.startupThreads = startupThreads;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         this.userRepository = userRepository;
         this.speciesRepository = speciesRepository;
         this.breedRepository = breedRepository;
@@ -116,13 +128,16 @@ public class Neo4jMigrator implements CommandLineRunner {
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public void run(String... args) {
+    public void run(String... args) throws Exception {
         if (!migrationEnabled) {
             System.out.println("Neo4j migration disabled. Set migration.neo4j.enabled=true to run.");
             return;
         }
+        // The lazy JPA associations are read inside one read-only transaction on the migration thread
+        startupThreads.runAndWait("neo4j-migration-", () -> readOnlyTransaction.executeWithoutResult(status -> migrate()));
+    }
 
+    private void migrate() {
         System.out.println("Starting Neo4j migration from MySQL...");
 
         // Migrate in order of dependencies (entities without relationships first)
@@ -0,0 +1,37 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One SQL table copied into nodes with one label. The row mapper returns the node properties,
+ * which must include the string {@code id} (the value of {@code keyColumn}) relationships match on.
+ */
+public record Neo4jNodeStep(String label,
+                            String table,
+                            String keyColumn,
+                            String columns,
+                            RowMapper<Map<String, Object>> properties) {
+
+    public String select() {
+        return "SELECT " + columns + " FROM " + table;
+    }
+
+    public String selectByKeys(int count) {
+        return select() + " WHERE " + keyColumn + " IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    public String constraint() {
+        return "CREATE CONSTRAINT " + label.toLowerCase() + "_id IF NOT EXISTS FOR (n:" + label + ") REQUIRE n.id IS UNIQUE";
+    }
+
+    public String cypher() {
+        return "UNWIND $rows AS row MERGE (n:" + label + " {id: row.id}) SET n += row";
+    }
+
+    public String deleteCypher() {
+        return "UNWIND $rows AS row MATCH (n:" + label + " {id: row.id}) DETACH DELETE n";
+    }
+}
@@ -0,0 +1,47 @@
+package org.pet.backendpetshelter.Neo4jMigration;
+
+import java.util.Collections;
+
+/**
+ * One foreign key turned into relationships, matched on the indexed {@code id} of both end nodes.
+ */
+public record Neo4jRelationshipStep(String type,
+                                    String fromLabel,
+                                    String toLabel,
+                                    String table,
+                                    String keyColumn,
+                                    String foreignKeyColumn) {
+
+    public String select() {
+        return "SELECT " + keyColumn + ", " + foreignKeyColumn + " FROM " + table
+                + " WHERE " + foreignKeyColumn + " IS NOT NULL";
+    }
+
+    /* Includes rows whose foreign key is now null, so replaceCypher() can drop the old link */
+    public String selectByKeys(int count) {
+        return "SELECT " + keyColumn + ", " + foreignKeyColumn + " FROM " + table
+                + " WHERE " + keyColumn + " IN (" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    public String cypher() {
+        return "UNWIND $rows AS row"
+                + " MATCH (a:" + fromLabel + " {id: row.from})"
+                + " MATCH (b:" + toLabel + " {id: row.to})"
+                + " MERGE (a)-[:" + type + "]->(b)";
+    }
+
+    /* Re-points the relationship of existing nodes after their foreign key changed */
+    public String replaceCypher() {
+        return "UNWIND $rows AS row"
+                + " MATCH (a:" + fromLabel + " {id: row.from})"
+                + " OPTIONAL MATCH (a)-[r:" + type + "]->(:" + toLabel + ")"
+                + " DELETE r"
+                + " WITH DISTINCT a, row WHERE row.to IS NOT NULL"
+                + " MATCH (b:" + toLabel + " {id: row.to})"
+                + " MERGE (a)-[:" + type + "]->(b)";
+    }
+
+    public String name() {
+        return fromLabel + "-" + type + "->" + toLabel;
+    }
+}
@@ -0,0 +1,128 @@
+package org.pet.backendpetshelter.Pagination;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.Temporal;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque "after" token for keyset pagination: the sort property, direction, the sort key
+ * of the last row returned and its id as tie-breaker. Encoded as base64url JSON.
+ */
+public class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Object value;
+    private final Long id;
+
+    public KeysetCursor(String sortBy, Sort.Direction direction, Object value, Long id) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("s", sortBy);
+        token.put("d", direction.name());
+        token.put("v", toJsonValue(value));
+        token.put("i", id);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(token));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a token produced by encode() and converts the sort key back to the
+     * Java type of the property on the given entity.
+     */
+    public static KeysetCursor decode(String token, Class<?> entityType) {
+        try {
+            Map<?, ?> map = MAPPER.readValue(Base64.getUrlDecoder().decode(token), Map.class);
+            String sortBy = (String) map.get("s");
+            Sort.Direction direction = Sort.Direction.valueOf((String) map.get("d"));
+            Object value = fromJsonValue(map.get("v"), sortableType(entityType, sortBy));
+            Long id = ((Number) map.get("i")).longValue();
+            return new KeysetCursor(sortBy, direction, value, id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Resolves the Java type of a column of the entity itself and checks it can be used as a
+     * keyset sort key. Nested paths (e.g. "species.name") are rejected: they would need joins in
+     * the seek predicate, and could put values from associated rows into the token.
+     */
+    public static Class<?> sortableType(Class<?> entityType, String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            throw new IllegalArgumentException("Sort property cannot be empty");
+        }
+        Field field = sortBy.contains(".") ? null : ReflectionUtils.findField(entityType, sortBy);
+        if (field == null) {
+            throw new IllegalArgumentException("Invalid sort property: " + sortBy);
+        }
+        Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+        if (!Comparable.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("Cannot sort by property: " + sortBy);
+        }
+        return type;
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value instanceof Date date) {
+            return date.getTime();
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value instanceof Temporal) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static Object fromJsonValue(Object value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return new Date(((Number) value).longValue());
+        }
+        return DefaultConversionService.getSharedInstance().convert(value, type);
+    }
+}
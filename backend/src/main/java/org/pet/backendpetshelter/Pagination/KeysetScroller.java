@@ -0,0 +1,122 @@
+package org.pet.backendpetshelter.Pagination;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.pet.backendpetshelter.DTO.CursorPage;
+import org.pet.backendpetshelter.Search.SearchResults;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over a JpaSpecificationExecutor. Each slice is fetched with
+ * "WHERE (sortKey, id) > (:lastSortKey, :lastId) ORDER BY sortKey, id LIMIT size + 1",
+ * so deep pages cost the same as the first one and no COUNT(*) is issued.
+ *
+ * Each listing passes the columns it may be sorted by; only columns of the entity itself are
+ * allowed, so the seek predicate needs no joins and the cursor never carries associated data.
+ * NULL sort keys follow the MySQL/H2 default ordering: first when ascending, last when
+ * descending. Search hits are narrowed chunk by chunk (SearchResults.narrow) rather than bound
+ * into one IN list.
+ */
+public final class KeysetScroller {
+
+    private static final String ID = "id";
+
+    private KeysetScroller() {
+    }
+
+    /**
+     * @param rankedIds the search engine's hits, or null when the listing is not searched
+     * @param sortKeys the entity's columns this listing may be sorted by; anything else is rejected
+     * @param after the nextCursor of the previous slice, or null/blank for the first slice
+     */
+    public static <T, R> CursorPage<R> scroll(
+            JpaSpecificationExecutor<T> repository,
+            Class<T> entityType,
+            Specification<T> filter,
+            List<Long> rankedIds,
+            Set<String> sortKeys,
+            String sortBy,
+            Sort.Direction direction,
+            String after,
+            int size,
+            Function<T, R> mapper) {
+
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        if (!sortKeys.contains(sortBy)) {
+            throw new IllegalArgumentException("Cannot sort by property: " + sortBy + ", expected one of " + new TreeSet<>(sortKeys));
+        }
+        KeysetCursor.sortableType(entityType, sortBy);
+
+        Specification<T> spec = filter != null ? filter : (root, query, cb) -> null;
+        if (after != null && !after.isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(after, entityType);
+            if (!cursor.getSortBy().equals(sortBy) || cursor.getDirection() != direction) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            spec = spec.and(after(cursor));
+        }
+
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, ID));
+        if (rankedIds != null) {
+            if (rankedIds.isEmpty()) {
+                return new CursorPage<>(List.of(), size, null);
+            }
+            spec = spec.and(SearchResults.idIn(SearchResults.narrow(repository, spec, rankedIds, sort, size + 1,
+                    row -> (Long) new BeanWrapperImpl(row).getPropertyValue(ID))));
+        }
+        List<T> rows = repository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            T last = rows.get(size - 1);
+            BeanWrapperImpl wrapper = new BeanWrapperImpl(last);
+            nextCursor = new KeysetCursor(sortBy, direction,
+                    wrapper.getPropertyValue(sortBy), (Long) wrapper.getPropertyValue(ID)).encode();
+        }
+
+        return new CursorPage<>(rows.stream().map(mapper).toList(), size, nextCursor);
+    }
+
+    /* Rows strictly after the cursor position in (sortKey, id) order */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            Expression<Comparable> key = root.get(cursor.getSortBy());
+            Path<Long> id = root.get(ID);
+            Comparable value = (Comparable) cursor.getValue();
+            boolean ascending = cursor.getDirection().isAscending();
+
+            Predicate sameKeyNextId = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+            if (value == null) {
+                // NULLs sort first ascending, so everything non-null follows; descending they come last
+                return ascending
+                        ? cb.or(cb.isNotNull(key), cb.and(cb.isNull(key), sameKeyNextId))
+                        : cb.and(cb.isNull(key), sameKeyNextId);
+            }
+
+            Predicate tie = cb.and(cb.equal(key, value), sameKeyNextId);
+            return ascending
+                    ? cb.or(cb.greaterThan(key, value), tie)
+                    : cb.or(cb.lessThan(key, value), cb.isNull(key), tie);
+        };
+    }
+
+    /* Case-insensitive "contains" used by the listing specifications */
+    public static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> expression, String search) {
+        return cb.like(cb.lower(expression), "%" + search.toLowerCase() + "%");
+    }
+}
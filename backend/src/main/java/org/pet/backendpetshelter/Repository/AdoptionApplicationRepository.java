@@ -5,22 +5,51 @@ import org.pet.backendpetshelter.Status;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Repository
 @Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test" })
-public interface AdoptionApplicationRepository extends JpaRepository<AdoptionApplication, Long> {
+public interface AdoptionApplicationRepository extends JpaRepository<AdoptionApplication, Long>, JpaSpecificationExecutor<AdoptionApplication> {
     AdoptionApplication findById(long id);
     List<AdoptionApplication> findByUserId(Long userId);
 
     Boolean existsByUserIdAndAnimalId(Long userId, Long animalId);
-    
+
+    /*
+     * The admin listing maps every row to AdminAdoptionApplicationResponse, which touches the
+     * applicant, the animal (with its species and breed) and the reviewer. Those are eager
+     * @ManyToOne relations that Hibernate would otherwise load with one SELECT per distinct row,
+     * so the listing queries fetch-join them and a page is one SELECT plus the count.
+     */
+    @Override
+    @EntityGraph(AdoptionApplication.ADMIN_LISTING_GRAPH)
+    Page<AdoptionApplication> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(AdoptionApplication.ADMIN_LISTING_GRAPH)
+    Page<AdoptionApplication> findAll(Specification<AdoptionApplication> spec, Pageable pageable);
+
+    @Override
+    @EntityGraph(AdoptionApplication.ADMIN_LISTING_GRAPH)
+    List<AdoptionApplication> findAll(Specification<AdoptionApplication> spec);
+
+    // Cursor mode (KeysetScroller) reads through the fluent query API
+    @Override
+    @EntityGraph(AdoptionApplication.ADMIN_LISTING_GRAPH)
+    <S extends AdoptionApplication, R> R findBy(Specification<AdoptionApplication> spec,
+                                                Function<? super SpecificationFluentQuery<S>, R> queryFunction);
+
     // Combined filter method handling all nullable parameters
+    @EntityGraph(AdoptionApplication.ADMIN_LISTING_GRAPH)
     @Query("SELECT aa FROM AdoptionApplication aa " +
            "WHERE (:status IS NULL OR aa.status = :status) " +
            "AND (:search IS NULL OR " +
@@ -0,0 +1,44 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
+import org.pet.backendpetshelter.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the AdoptionApplicationRepository.findAllWithFilters predicates,
+ * used by the keyset paginated listing.
+ */
+public final class AdoptionApplicationSpecifications {
+
+    private AdoptionApplicationSpecifications() {
+    }
+
+    public static Specification<AdoptionApplication> withFilters(Status status, String search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (search != null) {
+                Join<AdoptionApplication, Animal> animal = root.join("animal");
+                Join<AdoptionApplication, User> user = root.join("user");
+                predicates.add(cb.or(
+                        KeysetScroller.containsIgnoreCase(cb, animal.get("name"), search),
+                        KeysetScroller.containsIgnoreCase(cb, user.get("firstName"), search),
+                        KeysetScroller.containsIgnoreCase(cb, user.get("lastName"), search),
+                        KeysetScroller.containsIgnoreCase(cb, user.get("email"), search)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.AdoptionHistorySummary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface AdoptionHistorySummaryRepository extends JpaRepository<AdoptionHistorySummary, Long> {
+
+    String INSERT_ROWS = "INSERT INTO adoption_history_summary " +
+            "(adoption_id, animal_id, animal_name, species, breed, adopter_name, adopter_email, adopter_phone, adoption_date) " +
+            "SELECT a.adoption_id, an.animal_id, an.name, s.name, b.name, CONCAT(u.first_name, ' ', u.last_name), u.email, u.phone, " +
+            "CAST(a.adoption_date AS DATE) " +
+            "FROM adoption a " +
+            "JOIN adoption_application aa ON a.application_id = aa.adoption_application_id " +
+            "JOIN animal an ON aa.animal_id = an.animal_id " +
+            "JOIN species s ON an.species_id = s.species_id " +
+            "LEFT JOIN breed b ON an.breed_id = b.breed_id " +
+            "JOIN users u ON aa.user_id = u.user_id " +
+            "WHERE a.is_active = TRUE";
+
+    @Modifying
+    @Query(value = "DELETE FROM adoption_history_summary", nativeQuery = true)
+    int clear();
+
+    @Modifying
+    @Query(value = INSERT_ROWS, nativeQuery = true)
+    int rebuild();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM adoption_history_summary WHERE animal_id IN (:animalIds)", nativeQuery = true)
+    int clearAnimals(@Param("animalIds") Collection<Long> animalIds);
+
+    @Modifying
+    @Query(value = INSERT_ROWS + " AND an.animal_id IN (:animalIds)", nativeQuery = true)
+    int rebuildAnimals(@Param("animalIds") Collection<Long> animalIds);
+}
@@ -6,41 +6,88 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+
 @Repository
 @Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test" })
-public interface AnimalRepository extends JpaRepository<Animal, Long> {
+public interface AnimalRepository extends JpaRepository<Animal, Long>, JpaSpecificationExecutor<Animal>, AnimalSummaryQueries {
     Animal findById(long id);
     
-    // Combined filter method - using native query only for vaccination check
+    // Combined filter method - vaccination check reads the maintained vaccination_compliant flag.
+    // Age filters arrive as birth_date bounds (see AnimalSpecifications) so the column stays indexable.
     @Query(value = "SELECT a.* FROM animal a " +
            "WHERE (:status IS NULL OR a.status = :status) " +
            "AND (:isActive IS NULL OR a.is_active = :isActive) " +
            "AND (:sex IS NULL OR LOWER(a.sex) = LOWER(:sex)) " +
-           "AND (:minAge IS NULL OR TIMESTAMPDIFF(YEAR, a.birth_date, CURDATE()) >= :minAge) " +
-           "AND (:maxAge IS NULL OR TIMESTAMPDIFF(YEAR, a.birth_date, CURDATE()) <= :maxAge) " +
+           "AND (:bornOnOrBefore IS NULL OR a.birth_date <= :bornOnOrBefore) " +
+           "AND (:bornAfter IS NULL OR a.birth_date > :bornAfter) " +
            "AND (:search IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-           "AND (:hasRequiredVaccinations IS NULL OR HasRequiredVaccinations(a.animal_id) = :hasRequiredVaccinations)",
+           "AND (:hasRequiredVaccinations IS NULL OR a.vaccination_compliant = :hasRequiredVaccinations)",
            countQuery = "SELECT COUNT(*) FROM animal a " +
            "WHERE (:status IS NULL OR a.status = :status) " +
            "AND (:isActive IS NULL OR a.is_active = :isActive) " +
            "AND (:sex IS NULL OR LOWER(a.sex) = LOWER(:sex)) " +
-           "AND (:minAge IS NULL OR TIMESTAMPDIFF(YEAR, a.birth_date, CURDATE()) >= :minAge) " +
-           "AND (:maxAge IS NULL OR TIMESTAMPDIFF(YEAR, a.birth_date, CURDATE()) <= :maxAge) " +
+           "AND (:bornOnOrBefore IS NULL OR a.birth_date <= :bornOnOrBefore) " +
+           "AND (:bornAfter IS NULL OR a.birth_date > :bornAfter) " +
            "AND (:search IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-           "AND (:hasRequiredVaccinations IS NULL OR HasRequiredVaccinations(a.animal_id) = :hasRequiredVaccinations)",
+           "AND (:hasRequiredVaccinations IS NULL OR a.vaccination_compliant = :hasRequiredVaccinations)",
            nativeQuery = true)
     Page<Animal> findAllWithFilters(
         @Param("status") String status,
         @Param("isActive") Boolean isActive,
         @Param("hasRequiredVaccinations") Boolean hasRequiredVaccinations,
         @Param("sex") String sex,
-        @Param("minAge") Integer minAge,
-        @Param("maxAge") Integer maxAge,
+        @Param("bornOnOrBefore") Date bornOnOrBefore,
+        @Param("bornAfter") Date bornAfter,
         @Param("search") String search,
         Pageable pageable
     );
+
+    /**
+     * Recomputes vaccination_compliant with the same rule as the HasRequiredVaccinations
+     * function: every required vaccination type for the animal's species has a
+     * vaccination that is not yet past its next_due_date.
+     */
+    String VACCINATION_COMPLIANCE_UPDATE = "UPDATE animal a SET vaccination_compliant = (" +
+            "(SELECT COUNT(DISTINCT v.vaccination_type_id) FROM vaccination v " +
+            "JOIN vaccination_type vt ON v.vaccination_type_id = vt.vaccination_type_id " +
+            "JOIN vaccination_type_species vts ON v.vaccination_type_id = vts.vaccination_type_id " +
+            "WHERE v.animal_id = a.animal_id " +
+            "AND vts.species_id = a.species_id " +
+            "AND vt.required_for_adoption = TRUE " +
+            "AND v.next_due_date >= CURRENT_DATE) " +
+            ">= (SELECT COUNT(*) FROM vaccination_type vt " +
+            "JOIN vaccination_type_species vts ON vt.vaccination_type_id = vts.vaccination_type_id " +
+            "WHERE vts.species_id = a.species_id " +
+            "AND vt.required_for_adoption = TRUE)) ";
+
+    @Modifying
+    @Query(value = VACCINATION_COMPLIANCE_UPDATE + "WHERE a.animal_id = :animalId", nativeQuery = true)
+    int refreshVaccinationCompliance(@Param("animalId") Long animalId);
+
+    @Modifying
+    @Query(value = VACCINATION_COMPLIANCE_UPDATE + "WHERE a.species_id = :speciesId", nativeQuery = true)
+    int refreshVaccinationComplianceForSpecies(@Param("speciesId") Long speciesId);
+
+    @Modifying
+    @Query(value = VACCINATION_COMPLIANCE_UPDATE, nativeQuery = true)
+    int refreshVaccinationComplianceForAll();
+
+    // Compliance can only lapse with time, so the daily job only re-checks compliant animals
+    @Modifying
+    @Query(value = VACCINATION_COMPLIANCE_UPDATE + "WHERE a.vaccination_compliant = TRUE", nativeQuery = true)
+    int refreshExpiredVaccinationCompliance();
+
+    @Query("SELECT a.id FROM Animal a WHERE a.species.id = :speciesId")
+    List<Long> findIdsBySpeciesId(@Param("speciesId") Long speciesId);
+
+    @Query("SELECT a.id FROM Animal a WHERE a.breed.id = :breedId")
+    List<Long> findIdsByBreedId(@Param("breedId") Long breedId);
 }
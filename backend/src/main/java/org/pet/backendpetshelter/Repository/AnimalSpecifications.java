@@ -0,0 +1,86 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.criteria.Predicate;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the AnimalRepository.findAllWithFilters predicates, used by the
+ * keyset paginated listing.
+ */
+public final class AnimalSpecifications {
+
+    private AnimalSpecifications() {
+    }
+
+    public static Specification<Animal> withFilters(
+            String status,
+            Boolean isActive,
+            Boolean hasRequiredVaccinations,
+            String sex,
+            Integer minAge,
+            Integer maxAge,
+            String search) {
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status").as(String.class), status));
+            }
+            if (isActive != null) {
+                predicates.add(cb.equal(root.get("isActive"), isActive));
+            }
+            if (hasRequiredVaccinations != null) {
+                predicates.add(cb.equal(root.get("vaccinationCompliant"), hasRequiredVaccinations));
+            }
+            if (sex != null) {
+                predicates.add(cb.equal(cb.lower(root.get("sex")), sex.toLowerCase()));
+            }
+            if (minAge != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("birthDate"), bornOnOrBefore(LocalDate.now(), minAge)));
+            }
+            if (maxAge != null) {
+                predicates.add(cb.greaterThan(root.get("birthDate"), bornAfter(LocalDate.now(), maxAge)));
+            }
+            if (search != null) {
+                predicates.add(KeysetScroller.containsIgnoreCase(cb, root.get("name"), search));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /*
+     * Age bounds matching TIMESTAMPDIFF(YEAR, birth_date, CURDATE()): an animal is at least N
+     * full years old on 'today' exactly when it was born at or before midnight of today minus
+     * N years. When today is Feb 29 that anniversary does not exist; MySQL then counts every
+     * birth on Feb 28 as a completed year, so the bound moves to the end of that day.
+     * AnimalAgeBoundsTest checks the equivalence.
+     */
+
+    /* Animals at least minAge full years old on the given day were born on or before this instant */
+    public static Date bornOnOrBefore(LocalDate today, int minAge) {
+        LocalDate anniversary = today.minusYears(minAge);
+        if (anniversary.getDayOfMonth() != today.getDayOfMonth()) {
+            return new Date(toDate(anniversary.plusDays(1)).getTime() - 1);
+        }
+        return toDate(anniversary);
+    }
+
+    /* Animals at most maxAge full years old on the given day were born after this instant */
+    public static Date bornAfter(LocalDate today, int maxAge) {
+        return bornOnOrBefore(today, maxAge + 1);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,20 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.DTO.AnimalSummaryResponse;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Summary projection of the animal listing: the same Specification filters as the entity
+ * queries, but selecting only animal columns plus species and breed names.
+ */
+public interface AnimalSummaryQueries {
+
+    Page<AnimalSummaryResponse> findSummaries(Specification<Animal> filter, Pageable pageable);
+
+    List<AnimalSummaryResponse> findSummaries(Specification<Animal> filter);
+}
@@ -0,0 +1,86 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.pet.backendpetshelter.DTO.AnimalSummaryResponse;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+/* Picked up by Spring Data as the implementation of the AnimalSummaryQueries fragment */
+class AnimalSummaryQueriesImpl implements AnimalSummaryQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<AnimalSummaryResponse> findSummaries(Specification<Animal> filter, Pageable pageable) {
+        TypedQuery<AnimalSummaryResponse> query = summaryQuery(filter, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(filter));
+    }
+
+    @Override
+    public List<AnimalSummaryResponse> findSummaries(Specification<Animal> filter) {
+        return summaryQuery(filter, Sort.unsorted()).getResultList();
+    }
+
+    private TypedQuery<AnimalSummaryResponse> summaryQuery(Specification<Animal> filter, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AnimalSummaryResponse> query = cb.createQuery(AnimalSummaryResponse.class);
+        Root<Animal> animal = query.from(Animal.class);
+        Join<Animal, Species> species = animal.join("species");
+        Join<Animal, Breed> breed = animal.join("breed", JoinType.LEFT);
+
+        query.select(cb.construct(AnimalSummaryResponse.class,
+                animal.get("id"),
+                animal.get("name"),
+                animal.get("sex"),
+                species.get("name"),
+                breed.get("name"),
+                animal.get("birthDate"),
+                animal.get("intakeDate"),
+                animal.get("status"),
+                animal.get("price"),
+                animal.get("isActive"),
+                animal.get("imageUrl")));
+
+        Predicate predicate = filter.toPredicate(animal, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, animal, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Animal> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Animal> animal = query.from(Animal.class);
+        query.select(cb.count(animal));
+
+        Predicate predicate = filter.toPredicate(animal, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
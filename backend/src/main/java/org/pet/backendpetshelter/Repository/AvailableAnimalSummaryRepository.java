@@ -0,0 +1,49 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.AvailableAnimalSummary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface AvailableAnimalSummaryRepository extends JpaRepository<AvailableAnimalSummary, Long> {
+
+    // AvailableAnimalsView, with the maintained compliance flag instead of HasRequiredVaccinations()
+    String INSERT_ROWS = "INSERT INTO available_animal_summary " +
+            "(animal_id, name, species, breed, birth_date, sex, intake_date, price, has_required_vaccines) " +
+            "SELECT a.animal_id, a.name, s.name, b.name, CAST(a.birth_date AS DATE), a.sex, " +
+            "CAST(a.intake_date AS DATE), a.price, a.vaccination_compliant " +
+            "FROM animal a " +
+            "JOIN species s ON a.species_id = s.species_id " +
+            "LEFT JOIN breed b ON a.breed_id = b.breed_id " +
+            "WHERE a.status = 'AVAILABLE' AND a.is_active = TRUE";
+
+    @Modifying
+    @Query(value = "DELETE FROM available_animal_summary", nativeQuery = true)
+    int clear();
+
+    @Modifying
+    @Query(value = INSERT_ROWS, nativeQuery = true)
+    int rebuild();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM available_animal_summary WHERE animal_id IN (:animalIds)", nativeQuery = true)
+    int clearAnimals(@Param("animalIds") Collection<Long> animalIds);
+
+    @Modifying
+    @Query(value = INSERT_ROWS + " AND a.animal_id IN (:animalIds)", nativeQuery = true)
+    int rebuildAnimals(@Param("animalIds") Collection<Long> animalIds);
+
+    // Bulk compliance refreshes only change the copied flag
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE available_animal_summary SET has_required_vaccines = " +
+            "(SELECT a.vaccination_compliant FROM animal a WHERE a.animal_id = available_animal_summary.animal_id)",
+            nativeQuery = true)
+    int refreshCompliance();
+}
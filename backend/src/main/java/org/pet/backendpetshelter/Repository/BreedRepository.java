@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +14,7 @@ import java.util.Optional;
 public interface BreedRepository extends JpaRepository<Breed, Long> {
     Breed findById(long id);
     Optional<Breed> findByName(String name);
+    List<Breed> findBySpeciesId(Long speciesId);
 
 
 }
@@ -0,0 +1,26 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.LockModeType;
+import org.pet.backendpetshelter.Entity.DashboardSummaryLock;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface DashboardSummaryLockRepository extends JpaRepository<DashboardSummaryLock, Integer> {
+
+    // SELECT ... FOR SHARE: per-animal refreshes do not wait for each other, only for a rebuild
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM DashboardSummaryLock l WHERE l.id = " + DashboardSummaryLock.ID)
+    Optional<DashboardSummaryLock> lockShared();
+
+    // SELECT ... FOR UPDATE: waits for every open per-animal refresh to commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM DashboardSummaryLock l WHERE l.id = " + DashboardSummaryLock.ID)
+    Optional<DashboardSummaryLock> lockExclusive();
+}
@@ -0,0 +1,25 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.DeniedToken;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface DeniedTokenRepository extends JpaRepository<DeniedToken, Long> {
+
+    List<DeniedToken> findByCreatedAtAfterAndExpiresAtAfter(Instant createdAfter, Instant expiresAfter);
+
+    boolean existsByDigestHighAndDigestLowAndExpiresAtAfter(long digestHigh, long digestLow, Instant expiresAfter);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DeniedToken d WHERE d.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
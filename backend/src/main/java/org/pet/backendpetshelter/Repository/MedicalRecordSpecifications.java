@@ -0,0 +1,47 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.MedicalRecord;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the MedicalRecordRepository.findAllWithFilters predicates, used by
+ * the keyset paginated listing.
+ */
+public final class MedicalRecordSpecifications {
+
+    private MedicalRecordSpecifications() {
+    }
+
+    public static Specification<MedicalRecord> withFilters(String animalStatus, Date startDate, Date endDate, String search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Join<MedicalRecord, Animal> animal = root.join("animal");
+
+            if (animalStatus != null) {
+                predicates.add(cb.equal(cb.lower(animal.get("status").as(String.class)), animalStatus.toLowerCase()));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("date"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("date"), endDate));
+            }
+            if (search != null) {
+                predicates.add(cb.or(
+                        KeysetScroller.containsIgnoreCase(cb, animal.get("name"), search),
+                        KeysetScroller.containsIgnoreCase(cb, root.get("diagnosis"), search),
+                        KeysetScroller.containsIgnoreCase(cb, root.get("treatment"), search)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
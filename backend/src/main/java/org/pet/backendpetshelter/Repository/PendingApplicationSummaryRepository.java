@@ -0,0 +1,42 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.PendingApplicationSummary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface PendingApplicationSummaryRepository extends JpaRepository<PendingApplicationSummary, Long> {
+
+    String INSERT_ROWS = "INSERT INTO pending_application_summary " +
+            "(adoption_application_id, animal_id, animal_name, species, applicant_name, applicant_email, applicant_phone, application_date) " +
+            "SELECT aa.adoption_application_id, an.animal_id, an.name, s.name, CONCAT(u.first_name, ' ', u.last_name), u.email, u.phone, " +
+            "CAST(aa.application_date AS DATE) " +
+            "FROM adoption_application aa " +
+            "JOIN animal an ON aa.animal_id = an.animal_id " +
+            "JOIN species s ON an.species_id = s.species_id " +
+            "JOIN users u ON aa.user_id = u.user_id " +
+            "WHERE aa.status = 'PENDING' AND aa.is_active = TRUE";
+
+    @Modifying
+    @Query(value = "DELETE FROM pending_application_summary", nativeQuery = true)
+    int clear();
+
+    @Modifying
+    @Query(value = INSERT_ROWS, nativeQuery = true)
+    int rebuild();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM pending_application_summary WHERE animal_id IN (:animalIds)", nativeQuery = true)
+    int clearAnimals(@Param("animalIds") Collection<Long> animalIds);
+
+    @Modifying
+    @Query(value = INSERT_ROWS + " AND an.animal_id IN (:animalIds)", nativeQuery = true)
+    int rebuildAnimals(@Param("animalIds") Collection<Long> animalIds);
+}
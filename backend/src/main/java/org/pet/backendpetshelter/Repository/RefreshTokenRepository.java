@@ -3,12 +3,45 @@ package org.pet.backendpetshelter.Repository;
 
 import org.pet.backendpetshelter.Configuration.RefreshToken;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    // The user is always needed for the new access token's claims
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user WHERE rt.token = :token")
+    Optional<RefreshToken> findByToken(@Param("token") String token);
+
+    // Bulk delete instead of the derived deleteBy, which loads every row before removing it
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
+    /*
+     * Revokes the token only if it is still active. Returns 0 when it was already revoked or
+     * expired, e.g. because a concurrent request rotated it first.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true " +
+           "WHERE rt.token = :token AND rt.revoked = false AND rt.expiresAt > :now")
+    int revokeIfActive(@Param("token") String token, @Param("now") Instant now);
+
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.revoked = true OR rt.expiresAt <= :now ORDER BY rt.id")
+    List<Long> findPurgeableIds(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
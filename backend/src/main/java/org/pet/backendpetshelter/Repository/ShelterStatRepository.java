@@ -0,0 +1,66 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.ShelterStat;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface ShelterStatRepository extends JpaRepository<ShelterStat, String> {
+
+    /* Counters are read as projections, never as managed entities, so reads in a transaction that
+       already incremented them (the increments are bulk updates) see the new totals */
+    interface Counter {
+        String getKey();
+
+        long getTotal();
+    }
+
+    List<Counter> findByKeyStartingWith(String prefix);
+
+    List<Counter> findByKeyIn(Collection<String> keys);
+
+    @Modifying
+    @Query("UPDATE ShelterStat s SET s.total = s.total + :delta WHERE s.key = :key")
+    int increment(@Param("key") String key, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "DELETE FROM shelter_stat", nativeQuery = true)
+    int clear();
+
+    // The rebuild queries below produce the same keys as ShelterStatsService.key(...). Statuses are
+    // upper-cased so a row written in lower case outside JPA is not counted under a key of its own
+
+    @Modifying
+    @Query(value = "INSERT INTO shelter_stat (stat_key, total) " +
+            "SELECT CONCAT('animals:', UPPER(status), ':', species_id), COUNT(*) FROM animal " +
+            "WHERE status IS NOT NULL AND species_id IS NOT NULL " +
+            "GROUP BY UPPER(status), species_id", nativeQuery = true)
+    int rebuildAnimals();
+
+    @Modifying
+    @Query(value = "INSERT INTO shelter_stat (stat_key, total) " +
+            "SELECT CONCAT('adoptions:', YEAR(adoption_date), '-', LPAD(CAST(MONTH(adoption_date) AS CHAR(2)), 2, '0')), COUNT(*) " +
+            "FROM adoption WHERE is_active = TRUE AND adoption_date IS NOT NULL " +
+            "GROUP BY YEAR(adoption_date), MONTH(adoption_date)", nativeQuery = true)
+    int rebuildAdoptions();
+
+    @Modifying
+    @Query(value = "INSERT INTO shelter_stat (stat_key, total) " +
+            "SELECT CONCAT('applications:', UPPER(status)), COUNT(*) FROM adoption_application " +
+            "WHERE is_active = TRUE AND status IS NOT NULL " +
+            "GROUP BY UPPER(status)", nativeQuery = true)
+    int rebuildApplications();
+
+    @Modifying
+    @Query(value = "INSERT INTO shelter_stat (stat_key, total) " +
+            "SELECT 'foster:active', COUNT(*) FROM foster_care WHERE is_active = TRUE", nativeQuery = true)
+    int rebuildFosterCares();
+}
@@ -0,0 +1,9 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.SyncCursor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface SyncCursorRepository extends JpaRepository<SyncCursor, String> {
+}
@@ -6,13 +6,16 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test" })
-public interface VaccinationRepository extends JpaRepository<Vaccination, Long> {
+public interface VaccinationRepository extends JpaRepository<Vaccination, Long>, JpaSpecificationExecutor<Vaccination> {
     Vaccination findById(long id);
 
     @Query(value = "SELECT v.* FROM vaccination v " +
@@ -31,4 +34,7 @@ public interface VaccinationRepository extends JpaRepository<Vaccination, Long>
         @Param("search") String search,
         Pageable pageable
     );
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT v.animal.id FROM Vaccination v WHERE v.vaccinationType.id = :vaccinationTypeId")
+    List<Long> findAnimalIdsByVaccinationTypeId(@Param("vaccinationTypeId") Long vaccinationTypeId);
+}
@@ -0,0 +1,42 @@
+package org.pet.backendpetshelter.Repository;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Vaccination;
+import org.pet.backendpetshelter.Entity.VaccinationType;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria equivalents of the VaccinationRepository.findAllWithFilters predicates, used by
+ * the keyset paginated listing.
+ */
+public final class VaccinationSpecifications {
+
+    private VaccinationSpecifications() {
+    }
+
+    public static Specification<Vaccination> withFilters(String animalStatus, String search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Join<Vaccination, Animal> animal = root.join("animal", JoinType.LEFT);
+
+            if (animalStatus != null) {
+                predicates.add(cb.equal(cb.lower(animal.get("status").as(String.class)), animalStatus.toLowerCase()));
+            }
+            if (search != null) {
+                Join<Vaccination, VaccinationType> type = root.join("vaccinationType", JoinType.LEFT);
+                predicates.add(cb.or(
+                        KeysetScroller.containsIgnoreCase(cb, animal.get("name"), search),
+                        KeysetScroller.containsIgnoreCase(cb, type.get("vaccineName"), search)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
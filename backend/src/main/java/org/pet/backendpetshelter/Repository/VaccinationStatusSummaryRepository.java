@@ -0,0 +1,40 @@
+package org.pet.backendpetshelter.Repository;
+
+import org.pet.backendpetshelter.Entity.VaccinationStatusSummary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public interface VaccinationStatusSummaryRepository extends JpaRepository<VaccinationStatusSummary, Long> {
+
+    String INSERT_ROWS = "INSERT INTO vaccination_status_summary " +
+            "(animal_id, animal_name, vaccine_name, date_administered, next_due_date) " +
+            "SELECT a.animal_id, a.name, vt.vaccine_name, CAST(v.date_administered AS DATE), CAST(v.next_due_date AS DATE) " +
+            "FROM animal a " +
+            "LEFT JOIN vaccination v ON a.animal_id = v.animal_id " +
+            "LEFT JOIN vaccination_type vt ON v.vaccination_type_id = vt.vaccination_type_id " +
+            "WHERE a.is_active = TRUE";
+
+    @Modifying
+    @Query(value = "DELETE FROM vaccination_status_summary", nativeQuery = true)
+    int clear();
+
+    @Modifying
+    @Query(value = INSERT_ROWS, nativeQuery = true)
+    int rebuild();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM vaccination_status_summary WHERE animal_id IN (:animalIds)", nativeQuery = true)
+    int clearAnimals(@Param("animalIds") Collection<Long> animalIds);
+
+    @Modifying
+    @Query(value = INSERT_ROWS + " AND a.animal_id IN (:animalIds)", nativeQuery = true)
+    int rebuildAnimals(@Param("animalIds") Collection<Long> animalIds);
+}
@@ -0,0 +1,118 @@
+package org.pet.backendpetshelter.Search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL engine: MATCH ... AGAINST in BOOLEAN MODE over the FULLTEXT indexes created from
+ * features.sql. Like InMemorySearchEngine, a row matches when every term prefixes a token in
+ * any of its searched columns, joined ones included, and hits are ranked by the summed scores.
+ * Each term is therefore looked up on its own ("bel*") across all sources, and the per-term hits
+ * are joined on id and ordered by MySQL, so only the ranked ids come back. Terms shorter than
+ * innodb_ft_min_token_size are not indexed, so they are matched with a token-prefix REGEXP on
+ * the same columns instead.
+ */
+@Component
+@Profile("mysql")
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+public class FullTextSearchEngine implements SearchEngine {
+
+    /* One searched table (or join) and the columns of one FULLTEXT index on it */
+    record Source(String idColumn, String from, List<String> columns) {
+    }
+
+    // Joined columns live in other tables' indexes, so each source is matched on its own and the scores summed
+    private static final Map<SearchTarget, List<Source>> SOURCES = new EnumMap<>(Map.of(
+            SearchTarget.ANIMAL, List.of(
+                    new Source("animal_id", "animal", List.of("name"))),
+
+            SearchTarget.MEDICAL_RECORD, List.of(
+                    new Source("record_id", "medical_record", List.of("diagnosis", "treatment")),
+                    new Source("m.record_id", "animal a JOIN medical_record m ON m.animal_id = a.animal_id",
+                            List.of("a.name"))),
+
+            SearchTarget.ADOPTION_APPLICATION, List.of(
+                    new Source("aa.adoption_application_id", "users u JOIN adoption_application aa ON aa.user_id = u.user_id",
+                            List.of("u.first_name", "u.last_name", "u.email")),
+                    new Source("aa.adoption_application_id", "animal a JOIN adoption_application aa ON aa.animal_id = a.animal_id",
+                            List.of("a.name"))),
+
+            SearchTarget.VACCINATION, List.of(
+                    new Source("v.vaccination_id", "animal a JOIN vaccination v ON v.animal_id = a.animal_id",
+                            List.of("a.name")),
+                    new Source("v.vaccination_id", "vaccination_type vt JOIN vaccination v ON v.vaccination_type_id = vt.vaccination_type_id",
+                            List.of("vt.vaccine_name")))
+    ));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int minTokenLength;
+
+    public FullTextSearchEngine(NamedParameterJdbcTemplate jdbcTemplate,
+                                @Value("${search.fulltext.min-token-length:3}") int minTokenLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minTokenLength = minTokenLength;
+    }
+
+    @Override
+    public List<Long> search(SearchTarget target, String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        for (int i = 0; i < terms.size(); i++) {
+            addTermParams(params, i, terms.get(i));
+        }
+        return jdbcTemplate.queryForList(searchQuery(target, terms), params, Long.class);
+    }
+
+    /* Rows matching every term, best summed score first: the per-term hits joined on id */
+    String searchQuery(SearchTarget target, List<String> terms) {
+        StringBuilder sql = new StringBuilder("SELECT t0.id FROM (").append(termQuery(target, terms.get(0), 0)).append(") t0");
+        StringBuilder score = new StringBuilder("t0.score");
+        for (int i = 1; i < terms.size(); i++) {
+            sql.append(" JOIN (").append(termQuery(target, terms.get(i), i)).append(") t").append(i)
+                    .append(" ON t").append(i).append(".id = t0.id");
+            score.append(" + t").append(i).append(".score");
+        }
+        return sql.append(" ORDER BY ").append(score).append(" DESC, t0.id").toString();
+    }
+
+    /* Ids and scores of the rows where one term prefixes a token in any of the target's sources */
+    String termQuery(SearchTarget target, String term, int index) {
+        return SOURCES.get(target).stream()
+                .map(source -> term.length() >= minTokenLength ? matchAgainst(source, index) : regexp(source, index))
+                .collect(Collectors.joining(" UNION ALL ",
+                        "SELECT id, SUM(score) AS score FROM (", ") hits GROUP BY id"));
+    }
+
+    private static void addTermParams(MapSqlParameterSource params, int index, String term) {
+        params.addValue("term" + index, term + "*");
+        // Tokens are letters and digits only, so the term needs no escaping inside the pattern
+        params.addValue("pattern" + index, "(^|[^[:alnum:]])" + term);
+    }
+
+    private static String matchAgainst(Source source, int index) {
+        String match = "MATCH(" + String.join(", ", source.columns()) + ") AGAINST (:term" + index + " IN BOOLEAN MODE)";
+        return "SELECT " + source.idColumn() + " AS id, " + match + " AS score FROM " + source.from() + " WHERE " + match;
+    }
+
+    // Short terms score 1 per matching column, roughly one indexed hit
+    private static String regexp(Source source, int index) {
+        String score = source.columns().stream()
+                .map(column -> "IFNULL(" + column + " REGEXP :pattern" + index + ", 0)")
+                .collect(Collectors.joining(" + "));
+        return "SELECT " + source.idColumn() + " AS id, " + score + " AS score FROM " + source.from() +
+               " WHERE " + score + " > 0";
+    }
+}
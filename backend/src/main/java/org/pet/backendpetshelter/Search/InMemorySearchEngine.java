@@ -0,0 +1,160 @@
+package org.pet.backendpetshelter.Search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process inverted index for databases without FULLTEXT support (H2 in tests). Each
+ * target's index is rebuilt lazily on the next search after one of its source entities
+ * changed. Every query term must match an indexed token by prefix; hits are ranked by tf-idf.
+ * Each change bumps the target's generation; an index built before the bump is never served
+ * afterwards, even if its build finished after the change.
+ */
+@Component
+@Profile({"mysql", "test"})
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class InMemorySearchEngine implements SearchEngine {
+
+    private static final Map<SearchTarget, String> SOURCES = new EnumMap<>(Map.of(
+            SearchTarget.ANIMAL,
+            "SELECT animal_id, name FROM animal",
+            SearchTarget.MEDICAL_RECORD,
+            "SELECT m.record_id, a.name, m.diagnosis, m.treatment FROM medical_record m " +
+            "JOIN animal a ON m.animal_id = a.animal_id",
+            SearchTarget.ADOPTION_APPLICATION,
+            "SELECT aa.adoption_application_id, a.name, u.first_name, u.last_name, u.email FROM adoption_application aa " +
+            "JOIN animal a ON aa.animal_id = a.animal_id JOIN users u ON aa.user_id = u.user_id",
+            SearchTarget.VACCINATION,
+            "SELECT v.vaccination_id, a.name, vt.vaccine_name FROM vaccination v " +
+            "LEFT JOIN animal a ON v.animal_id = a.animal_id " +
+            "LEFT JOIN vaccination_type vt ON v.vaccination_type_id = vt.vaccination_type_id"
+    ));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentMap<SearchTarget, InvertedIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<SearchTarget, AtomicLong> generations = new EnumMap<>(SearchTarget.class);
+
+    public InMemorySearchEngine(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (SearchTarget target : SearchTarget.values()) {
+            generations.put(target, new AtomicLong());
+        }
+    }
+
+    @Override
+    public List<Long> search(SearchTarget target, String query) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        return index(target).search(terms);
+    }
+
+    /* The current index, rebuilt when a change has bumped the generation since it was built */
+    private InvertedIndex index(SearchTarget target) {
+        long generation = generations.get(target).get();
+        InvertedIndex index = indexes.get(target);
+        if (index != null && index.generation == generation) {
+            return index;
+        }
+        // Sampled before reading the rows, so a change during the build leaves this index already stale
+        InvertedIndex built = build(target, generation);
+        indexes.merge(target, built, (current, candidate) -> candidate.generation > current.generation ? candidate : current);
+        return built;
+    }
+
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        invalidate(event.entityType());
+        // Rows written inside a transaction only become visible to other connections after commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(event.entityType());
+                }
+            });
+        }
+    }
+
+    private void invalidate(Class<?> entityType) {
+        for (SearchTarget target : SearchTarget.values()) {
+            if (target.isAffectedBy(entityType)) {
+                generations.get(target).incrementAndGet();
+                indexes.remove(target);
+            }
+        }
+    }
+
+    private InvertedIndex build(SearchTarget target, long generation) {
+        InvertedIndex index = new InvertedIndex(generation);
+        jdbcTemplate.query(SOURCES.get(target), rs -> {
+            long id = rs.getLong(1);
+            int columns = rs.getMetaData().getColumnCount();
+            for (int i = 2; i <= columns; i++) {
+                for (String token : SearchTokenizer.tokenize(rs.getString(i))) {
+                    index.add(token, id);
+                }
+            }
+            index.documents++;
+        });
+        return index;
+    }
+
+    static class InvertedIndex {
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private final long generation;
+        private int documents;
+
+        InvertedIndex(long generation) {
+            this.generation = generation;
+        }
+
+        void add(String token, long id) {
+            postings.computeIfAbsent(token, t -> new HashMap<>()).merge(id, 1, Integer::sum);
+        }
+
+        List<Long> search(List<String> terms) {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                // Prefix match: every token in [term, term + Character.MAX_VALUE)
+                for (Map<Long, Integer> posting : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                    double idf = Math.log(1.0 + (double) documents / posting.size());
+                    posting.forEach((id, tf) -> termScores.merge(id, tf * idf, Double::sum));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        }
+    }
+}
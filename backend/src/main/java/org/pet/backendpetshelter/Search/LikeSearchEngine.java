@@ -0,0 +1,21 @@
+package org.pet.backendpetshelter.Search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default engine: keeps the repositories' LOWER(col) LIKE '%term%' predicates.
+ */
+@Component
+@Profile({"mysql", "test"})
+@ConditionalOnProperty(name = "search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeSearchEngine implements SearchEngine {
+
+    @Override
+    public List<Long> search(SearchTarget target, String query) {
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package org.pet.backendpetshelter.Search;
+
+import java.util.List;
+
+/**
+ * Pluggable text search behind the listing endpoints' "search" parameter, selected with the
+ * search.engine property (like, fulltext or memory).
+ */
+public interface SearchEngine {
+
+    /**
+     * @return ids of the matching rows ordered by relevance (best first), or null when the
+     * caller should fall back to its own LIKE predicate
+     */
+    List<Long> search(SearchTarget target, String query);
+}
@@ -0,0 +1,5 @@
+package org.pet.backendpetshelter.Search;
+
+/* Published by SearchIndexEntityListener whenever a searchable entity is written */
+public record SearchIndexChangedEvent(Class<?> entityType) {
+}
@@ -0,0 +1,27 @@
+package org.pet.backendpetshelter.Search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA listener on the searchable entities. Hibernate obtains it through Spring's bean
+ * container, so the publisher is injected even though this class is not a component.
+ */
+public class SearchIndexEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    public SearchIndexEntityListener(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        publisher.publishEvent(new SearchIndexChangedEvent(Hibernate.getClass(entity)));
+    }
+}
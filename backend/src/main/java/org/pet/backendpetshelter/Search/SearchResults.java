@@ -0,0 +1,149 @@
+package org.pet.backendpetshelter.Search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Helpers for paging over the ranked ids returned by a SearchEngine. sortBy=relevance keeps
+ * the engine's order; any other sort is applied by the database. The engines return every
+ * hit, so the listing's other filters are applied to all of them and totalElements is exact.
+ * No query binds more than CHUNK_SIZE ids (or twice the rows a page reaches, if that is more).
+ */
+public final class SearchResults {
+
+    public static final String RELEVANCE = "relevance";
+
+    // Ranked ids are filtered this many at a time, which also bounds the IN list per query
+    static final int CHUNK_SIZE = 1000;
+
+    private SearchResults() {
+    }
+
+    public static <T> Specification<T> idIn(List<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static boolean isSortedByRelevance(Pageable pageable) {
+        return pageable.getSort().getOrderFor(RELEVANCE) != null;
+    }
+
+    /* Relevance only exists for search engines that rank; otherwise leave the order to the database */
+    public static Pageable withoutRelevance(Pageable pageable) {
+        return isSortedByRelevance(pageable)
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+    }
+
+    public static <T> Page<T> page(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                   List<Long> rankedIds, Pageable pageable, Function<T, Long> idOf) {
+        if (rankedIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        if (!isSortedByRelevance(pageable)) {
+            return sortedPage(repository, filter, rankedIds, pageable, idOf, repository::findAll);
+        }
+        return rankedPage(filter, rankedIds, pageable, repository::count, repository::findAll, idOf);
+    }
+
+    /**
+     * Pages the hits in the database's sort order without one IN list over all of them: the
+     * total is counted chunk by chunk, the ids are narrowed down to the rows that can reach the
+     * page, and fetch loads the page from those.
+     */
+    public static <T, R> Page<R> sortedPage(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                            List<Long> rankedIds, Pageable pageable, Function<T, Long> idOf,
+                                            BiFunction<Specification<T>, Pageable, Page<R>> fetch) {
+        long total = 0;
+        for (int from = 0; from < rankedIds.size(); from += CHUNK_SIZE) {
+            total += repository.count(filter.and(idIn(rankedIds.subList(from, Math.min(from + CHUNK_SIZE, rankedIds.size())))));
+        }
+        if (total <= pageable.getOffset()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        // Ties are broken by id so every query below agrees on the order
+        Sort sort = pageable.getSort().getOrderFor("id") != null ? pageable.getSort() : pageable.getSort().and(Sort.by("id"));
+        int reach = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE / 2);
+        List<Long> candidates = narrow(repository, filter, rankedIds, sort, reach, idOf);
+        List<R> content = fetch.apply(filter.and(idIn(candidates)),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)).getContent();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Narrows ids down to at most a chunk that still holds the first limit rows passing filter in
+     * sort order. Each round keeps the first limit rows of every chunk, so the database does all
+     * the comparing and each round at least halves the ids.
+     */
+    public static <T> List<Long> narrow(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                        List<Long> ids, Sort sort, int limit, Function<T, Long> idOf) {
+        int chunkSize = Math.max(CHUNK_SIZE, 2 * limit);
+        while (ids.size() > chunkSize) {
+            List<Long> kept = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                Specification<T> spec = filter.and(idIn(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+                repository.findBy(spec, q -> q.sortBy(sort).limit(limit).all())
+                        .forEach(row -> kept.add(idOf.apply(row)));
+            }
+            ids = kept;
+        }
+        return ids;
+    }
+
+    /**
+     * Walks rankedIds in rank order, CHUNK_SIZE at a time, counting the rows of each chunk that
+     * pass the filter. Rows are only loaded for the chunks that overlap the requested page, so a
+     * deep hit list costs one count per chunk rather than loading and sorting every match.
+     */
+    public static <T, R> Page<R> rankedPage(Specification<T> filter, List<Long> rankedIds, Pageable pageable,
+                                            Function<Specification<T>, Long> count,
+                                            Function<Specification<T>, List<R>> fetch,
+                                            Function<R, Long> idOf) {
+        List<Long> ordered = rankedIds;
+        if (pageable.getSort().getOrderFor(RELEVANCE).getDirection() == Sort.Direction.ASC) {
+            ordered = new ArrayList<>(rankedIds);
+            Collections.reverse(ordered);
+        }
+
+        long offset = pageable.getOffset();
+        List<R> content = new ArrayList<>();
+        long matched = 0;
+        for (int from = 0; from < ordered.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ordered.subList(from, Math.min(from + CHUNK_SIZE, ordered.size()));
+            Specification<T> spec = filter.and(idIn(chunk));
+            long chunkMatches = count.apply(spec);
+            if (chunkMatches > 0 && content.size() < pageable.getPageSize() && matched + chunkMatches > offset) {
+                List<R> rows = inOrder(fetch.apply(spec), chunk, idOf);
+                int skip = (int) Math.max(0, offset - matched);
+                for (int i = skip; i < rows.size() && content.size() < pageable.getPageSize(); i++) {
+                    content.add(rows.get(i));
+                }
+            }
+            matched += chunkMatches;
+        }
+        return new PageImpl<>(content, pageable, matched);
+    }
+
+    /* Orders rows by their position in ids */
+    private static <R> List<R> inOrder(List<R> rows, List<Long> ids, Function<R, Long> idOf) {
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return rows.stream().sorted(Comparator.comparing(row -> rank.get(idOf.apply(row)))).toList();
+    }
+}
@@ -0,0 +1,30 @@
+package org.pet.backendpetshelter.Search;
+
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.MedicalRecord;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Entity.Vaccination;
+import org.pet.backendpetshelter.Entity.VaccinationType;
+
+import java.util.Set;
+
+/**
+ * The listings that support a "search" parameter, and the entities whose text they search.
+ */
+public enum SearchTarget {
+    ANIMAL(Set.of(Animal.class)),
+    MEDICAL_RECORD(Set.of(MedicalRecord.class, Animal.class)),
+    ADOPTION_APPLICATION(Set.of(AdoptionApplication.class, Animal.class, User.class)),
+    VACCINATION(Set.of(Vaccination.class, Animal.class, VaccinationType.class));
+
+    private final Set<Class<?>> sources;
+
+    SearchTarget(Set<Class<?>> sources) {
+        this.sources = sources;
+    }
+
+    public boolean isAffectedBy(Class<?> entityType) {
+        return sources.contains(entityType);
+    }
+}
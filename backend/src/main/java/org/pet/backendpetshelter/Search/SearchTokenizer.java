@@ -0,0 +1,25 @@
+package org.pet.backendpetshelter.Search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/* Splits text into lower-case letter/digit tokens, e.g. "john.doe@mail.com" -> john, doe, mail, com */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,35 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(1) // Run first, before SyntheticDataRunner and DatabaseFeaturesInitializer
+@Profile("(mysql | migrate-mongo | migrate-neo4j) & !test") // Run for mysql and migration profiles
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseSeeder implements CommandLineRunner {
+
+    private final SeedEngine engine;
+    private final int animals;
+
+    public DatabaseSeeder(SeedEngine engine, @Value("${seed.animals:0}") int animals) {
+        this.engine = engine;
+        this.animals = animals;
+    }
+
+    @Override
+    public void run(String... args) {
+        System.out.println("Seeding database with initial data...");
+        SeedEngine.Result result = engine.seed(animals);
+        if (result.skipped()) {
+            System.out.println("Database already seeded, skipping initialization.");
+            return;
+        }
+        System.out.printf("Database seeded with %d rows in %.1fs %s%n",
+                result.total(), result.elapsed().toMillis() / 1000.0, result.rows());
+    }
+}
@@ -0,0 +1,121 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Loads the seed fixture with JDBC batch inserts in a single transaction. Ids come from the
+ * fixture, so foreign keys need no lookups and nothing is hashed at startup.
+ *
+ * seed.animals raises the number of animals: rows past the fixture's own are generated from
+ * its species, breeds, names and images with a fixed random seed, and their dates count back
+ * from seed.reference-date rather than the current date, so a given size always produces the
+ * same data.
+ */
+@Component
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public class SeedEngine {
+
+    private static final String ANIMAL = SyntheticAnimals.TABLE;
+    private static final int[] ANIMAL_STATUS_WEIGHTS = {70, 20, 8, 2}; // AVAILABLE, ADOPTED, FOSTERED, DECEASED
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SeedWriter writer;
+    private final TransactionTemplate transactionTemplate;
+    private final Resource fixtureResource;
+    private final long randomSeed;
+    private final LocalDate referenceDate;
+
+    public SeedEngine(JdbcTemplate jdbcTemplate,
+                      SeedWriter writer,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${seed.fixture:classpath:seed/shelter-fixture.json}") Resource fixtureResource,
+                      @Value("${seed.random-seed:42}") long randomSeed,
+                      @Value("${seed.reference-date:2024-01-01}") String referenceDate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writer = writer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fixtureResource = fixtureResource;
+        this.randomSeed = randomSeed;
+        this.referenceDate = LocalDate.parse(referenceDate);
+    }
+
+    /**
+     * @param rows rows written per table, in insert order
+     */
+    public record Result(Map<String, Long> rows, Duration elapsed, boolean skipped) {
+
+        public long total() {
+            return rows.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Seeds an empty database. Fixture ids are inserted as-is, so nothing is written when any
+     * fixture table already has rows.
+     *
+     * @param animals total animals wanted; values at or below the fixture's count add none
+     */
+    public Result seed(int animals) {
+        SeedFixture fixture = SeedFixture.load(fixtureResource);
+        for (SeedFixture.Table table : fixture.tables()) {
+            if (hasRows(table.table())) {
+                return new Result(Map.of(), Duration.ZERO, true);
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        Map<String, Long> written = transactionTemplate.execute(status -> {
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (SeedFixture.Table table : fixture.tables()) {
+                try (SeedWriter.Batch batch = writer.open(table.table(), table.columns())) {
+                    for (List<Object> row : table.rows()) {
+                        batch.add(row.toArray());
+                    }
+                    if (table.table().equals(ANIMAL)) {
+                        writeGeneratedAnimals(fixture, batch, animals - table.rows().size());
+                    }
+                    rows.put(table.table(), batch.written());
+                }
+            }
+            // The fixture leaves vaccination_compliant false; derive it from the seeded vaccinations
+            jdbcTemplate.update(AnimalRepository.VACCINATION_COMPLIANCE_UPDATE);
+            return rows;
+        });
+
+        for (SeedFixture.Table table : fixture.tables()) {
+            writer.restartIdentity(table.table(), table.idColumn());
+        }
+        return new Result(written, Duration.ofNanos(System.nanoTime() - startedAt), false);
+    }
+
+    private boolean hasRows(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN EXISTS (SELECT 1 FROM " + table + ") THEN TRUE ELSE FALSE END", Boolean.class));
+    }
+
+    /* Animals are written to the same batch as the fixture's, continuing its ids */
+    private void writeGeneratedAnimals(SeedFixture fixture, SeedWriter.Batch batch, int count) {
+        if (count <= 0) {
+            return;
+        }
+        SyntheticAnimals animals = new SyntheticAnimals(fixture);
+        Random random = new Random(randomSeed);
+        for (int i = 0; i < count; i++) {
+            batch.add(animals.next(animals.lastFixtureId() + i + 1, random, ANIMAL_STATUS_WEIGHTS, referenceDate).values());
+        }
+    }
+}
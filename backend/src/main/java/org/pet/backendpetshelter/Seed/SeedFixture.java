@@ -0,0 +1,50 @@
+package org.pet.backendpetshelter.Seed;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Seed data read from a JSON resource: a list of {table, columns, rows} in insert order, so
+ * foreign keys always point at rows written earlier. The first column of each table is its id.
+ * Dates are plain yyyy-MM-dd strings and passwords are stored already hashed.
+ */
+public record SeedFixture(List<Table> tables) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public record Table(String table, List<String> columns, List<List<Object>> rows) {
+
+        public String idColumn() {
+            return columns.get(0);
+        }
+
+        public int column(String name) {
+            int index = columns.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Fixture table " + table + " has no column " + name);
+            }
+            return index;
+        }
+    }
+
+    public static SeedFixture load(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new SeedFixture(MAPPER.readValue(in, new TypeReference<List<Table>>() { }));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read seed fixture " + resource, e);
+        }
+    }
+
+    public Table table(String name) {
+        return tables.stream()
+                .filter(table -> table.table().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Seed fixture has no table " + name));
+    }
+}
@@ -0,0 +1,92 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plain JDBC batch inserts for seeding. With rewriteBatchedStatements=true on the MySQL URL,
+ * Connector/J sends each batch as one multi-row INSERT instead of one round trip per row.
+ */
+@Component
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public class SeedWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SeedWriter(JdbcTemplate jdbcTemplate, @Value("${seed.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("seed.batch-size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public Batch open(String table, List<String> columns) {
+        return new Batch(table, columns);
+    }
+
+    /**
+     * MySQL moves AUTO_INCREMENT past explicitly inserted ids on its own; H2 keeps counting
+     * from where it was, so the identity is restarted after the highest seeded id. H2 commits
+     * on DDL, so call this after the seeding transaction.
+     */
+    public void restartIdentity(String table, String idColumn) {
+        String product = jdbcTemplate.execute((Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equals(product)) {
+            return;
+        }
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + idColumn + " RESTART WITH " + (max == null ? 1 : max + 1));
+    }
+
+    /* Rows buffered up to seed.batch-size, then written with one batchUpdate */
+    public class Batch implements AutoCloseable {
+
+        private final String sql;
+        private final int width;
+        private final List<Object[]> pending = new ArrayList<>(batchSize);
+        private long written;
+
+        private Batch(String table, List<String> columns) {
+            this.sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            this.width = columns.size();
+        }
+
+        public void add(Object... values) {
+            if (values.length != width) {
+                throw new IllegalArgumentException("Expected " + width + " values but got " + values.length + " for " + sql);
+            }
+            pending.add(values);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        public long written() {
+            return written + pending.size();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, pending);
+            written += pending.size();
+            pending.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
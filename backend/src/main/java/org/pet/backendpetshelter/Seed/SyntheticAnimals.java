@@ -0,0 +1,116 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.pet.backendpetshelter.Status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds animal rows from the fixture's species, breeds, names and images. Every value is
+ * drawn from the Random passed in, so the caller decides how the rows are made repeatable.
+ */
+final class SyntheticAnimals {
+
+    static final String TABLE = "animal";
+    static final List<Status> STATUSES = List.of(Status.AVAILABLE, Status.ADOPTED, Status.FOSTERED, Status.DECEASED);
+
+    private final List<String> columns;
+    private final List<Object> names = new ArrayList<>();
+    private final Map<Object, List<Object>> imagesBySpecies = new LinkedHashMap<>();
+    private final Map<Object, List<Object>> breedsBySpecies = new LinkedHashMap<>();
+    private final List<Object> species;
+    private final long lastFixtureId;
+
+    /**
+     * @param id         the animal's id
+     * @param speciesId  its species, for picking vaccines
+     * @param intakeDate nothing about the animal happens before this date
+     * @param values     the row, in {@link #columns()} order
+     */
+    record Generated(long id, long speciesId, LocalDate intakeDate, Status status, Object[] values) {
+    }
+
+    SyntheticAnimals(SeedFixture fixture) {
+        SeedFixture.Table animals = fixture.table(TABLE);
+        SeedFixture.Table breeds = fixture.table("breed");
+        this.columns = animals.columns();
+        int nameColumn = animals.column("name");
+        int speciesColumn = animals.column("species_id");
+        int imageColumn = animals.column("image_url");
+
+        long lastId = 0;
+        for (List<Object> row : animals.rows()) {
+            names.add(row.get(nameColumn));
+            imagesBySpecies.computeIfAbsent(row.get(speciesColumn), speciesId -> new ArrayList<>()).add(row.get(imageColumn));
+            lastId = Math.max(lastId, ((Number) row.get(0)).longValue());
+        }
+        int breedSpeciesColumn = breeds.column("species_id");
+        for (List<Object> row : breeds.rows()) {
+            breedsBySpecies.computeIfAbsent(row.get(breedSpeciesColumn), speciesId -> new ArrayList<>()).add(row.get(0));
+        }
+        this.species = new ArrayList<>(imagesBySpecies.keySet());
+        this.lastFixtureId = lastId;
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    long lastFixtureId() {
+        return lastFixtureId;
+    }
+
+    /**
+     * @param statusWeights relative weights for {@link #STATUSES}, in the same order
+     * @param today         the latest birth and intake date
+     */
+    Generated next(long id, Random random, int[] statusWeights, LocalDate today) {
+        Object speciesId = species.get(random.nextInt(species.size()));
+        List<Object> images = imagesBySpecies.get(speciesId);
+        List<Object> speciesBreeds = breedsBySpecies.getOrDefault(speciesId, List.of());
+        LocalDate birthDate = today.minusDays(30 + random.nextInt(15 * 365));
+        LocalDate intakeDate = birthDate.plusDays(random.nextInt((int) (today.toEpochDay() - birthDate.toEpochDay()) + 1));
+        Status status = weighted(random, STATUSES, statusWeights);
+
+        Object[] values = new Object[columns.size()];
+        for (int column = 0; column < values.length; column++) {
+            values[column] = switch (columns.get(column)) {
+                case "animal_id" -> id;
+                case "name" -> names.get(random.nextInt(names.size()));
+                case "species_id" -> speciesId;
+                // One in ten without a breed, like the fixture's mixed animals
+                case "breed_id" -> speciesBreeds.isEmpty() || random.nextInt(10) == 0
+                        ? null : speciesBreeds.get(random.nextInt(speciesBreeds.size()));
+                case "sex" -> random.nextBoolean() ? "male" : "female";
+                case "birth_date" -> birthDate.toString();
+                case "intake_date" -> intakeDate.toString();
+                case "status" -> status.name();
+                case "price" -> 50 + random.nextInt(46) * 10;
+                case "is_active" -> status == Status.AVAILABLE || status == Status.FOSTERED;
+                case "vaccination_compliant" -> false;
+                case "image_url" -> images.get(random.nextInt(images.size()));
+                default -> throw new IllegalStateException("No generator for animal column " + columns.get(column));
+            };
+        }
+        return new Generated(id, ((Number) speciesId).longValue(), intakeDate, status, values);
+    }
+
+    static <T> T weighted(Random random, List<T> values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.size(); i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values.get(i);
+            }
+        }
+        return values.get(0);
+    }
+}
@@ -0,0 +1,482 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.pet.backendpetshelter.Configuration.GeneratorProperties;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a large dataset on top of the seed fixture for performance tests: users (with a
+ * share of vets and staff), animals, vaccinations, medical records, foster stints, adoption
+ * applications and adoptions, sized and shaped by the generator.* properties.
+ *
+ * Each row is drawn from a Random keyed on generator.seed, its own id and its table, so the
+ * same seed and sizes always give the same rows, and every table is written in its own pass
+ * without keeping the others in memory. Statuses agree with the rows around them: a FOSTERED
+ * animal has an active foster stint and an ADOPTED one an approved application and an adoption.
+ *
+ * The batches commit as they are flushed instead of in one transaction, so a run of millions
+ * of rows does not sit in a single undo log. Nothing is written when generated users exist.
+ */
+@Component
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public class SyntheticDataGenerator {
+
+    static final String EMAIL_DOMAIN = "@generated.test";
+
+    // Salts that give each table its own random stream for the same id
+    private static final int USERS = 1;
+    private static final int VETERINARIANS = 2;
+    private static final int ANIMALS = 3;
+    private static final int VACCINATIONS = 4;
+    private static final int MEDICAL_RECORDS = 5;
+    private static final int FOSTER_CARE = 6;
+    private static final int APPLICATIONS = 7;
+    private static final int ADOPTIONS = 8;
+
+    private static final Map<String, String> ID_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        ID_COLUMNS.put("users", "user_id");
+        ID_COLUMNS.put("veterinarian", "vet_id");
+        ID_COLUMNS.put(SyntheticAnimals.TABLE, "animal_id");
+        ID_COLUMNS.put("vaccination", "vaccination_id");
+        ID_COLUMNS.put("medical_record", "record_id");
+        ID_COLUMNS.put("foster_care", "fostercare_id");
+        ID_COLUMNS.put("adoption_application", "adoption_application_id");
+        ID_COLUMNS.put("adoption", "adoption_id");
+    }
+
+    private static final String[] FIRST_NAMES = {"Emma", "Noah", "Olivia", "Liam", "Ava", "Lucas", "Sofia", "Oscar",
+            "Freja", "William", "Ida", "Karl", "Clara", "Victor", "Alma", "Emil", "Ella", "Magnus", "Nora", "Felix"};
+    private static final String[] LAST_NAMES = {"Jensen", "Nielsen", "Hansen", "Pedersen", "Andersen", "Larsen",
+            "Smith", "Johnson", "Brown", "Garcia", "Miller", "Davis", "Martin", "Moore", "Taylor", "Thomas"};
+    private static final String[] CLINICS = {"Happy Pets Clinic", "City Animal Hospital", "Green Valley Vets",
+            "Paws & Claws Veterinary", "Harbour Animal Care"};
+    // diagnosis, treatment, base cost
+    private static final Object[][] CONDITIONS = {
+            {"Regular Checkup - Healthy", "N/A", 50},
+            {"Dental Tartar", "Dental cleaning under sedation", 180},
+            {"Ear Infection", "Ear drops for 10 days", 90},
+            {"Intestinal Parasites", "Deworming treatment", 60},
+            {"Skin Allergy", "Antihistamines and medicated shampoo", 110},
+            {"Sprained Leg", "Rest and anti-inflammatories", 140},
+            {"Spay/Neuter", "Surgery and pain relief", 300},
+            {"Wing Injury", "Bandaged wing, prescribed antibiotics", 120}};
+    private static final String[] MOTIVATIONS = {"I have a big garden and lots of love to give.",
+            "We are a family with two kids and experience with pets.",
+            "I work from home and can give a lot of attention.",
+            "Our previous pet passed away last year and we are ready again.",
+            "I live close to a park and go hiking every weekend."};
+
+    private final SeedEngine engine;
+    private final SeedWriter writer;
+    private final JdbcTemplate jdbcTemplate;
+    private final GeneratorProperties properties;
+    private final Resource fixtureResource;
+
+    public SyntheticDataGenerator(SeedEngine engine,
+                                  SeedWriter writer,
+                                  JdbcTemplate jdbcTemplate,
+                                  GeneratorProperties properties,
+                                  @Value("${seed.fixture:classpath:seed/shelter-fixture.json}") Resource fixtureResource) {
+        this.engine = engine;
+        this.writer = writer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.fixtureResource = fixtureResource;
+    }
+
+    /**
+     * Seeds the fixture if the database is empty, then appends the generated rows after the
+     * highest existing ids.
+     */
+    public SeedEngine.Result generate() {
+        Run run = new Run(SeedFixture.load(fixtureResource));
+        engine.seed(0);
+        if (exists("SELECT 1 FROM users WHERE email LIKE '%" + EMAIL_DOMAIN + "'")) {
+            return new SeedEngine.Result(Map.of(), Duration.ZERO, true);
+        }
+
+        long startedAt = System.nanoTime();
+        Map<String, Long> rows = run.write();
+        jdbcTemplate.update(AnimalRepository.VACCINATION_COMPLIANCE_UPDATE);
+        ID_COLUMNS.forEach(writer::restartIdentity);
+        return new SeedEngine.Result(rows, Duration.ofNanos(System.nanoTime() - startedAt), false);
+    }
+
+    private boolean exists(String sql) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN EXISTS (" + sql + ") THEN TRUE ELSE FALSE END", Boolean.class));
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + ID_COLUMNS.get(table) + ") FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /* Number of events with the given mean, for the per-animal counts */
+    static int poisson(Random random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit && count < 100) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return count;
+    }
+
+    /* SplitMix64 finaliser, so neighbouring ids get unrelated streams */
+    static long mix(long seed, long id, int table) {
+        long z = seed + id * 0x9E3779B97F4A7C15L + table * 0xD1B54A32D192ED03L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /* Somewhere between from and to, both included */
+    private static LocalDate between(Random random, LocalDate from, LocalDate to) {
+        return from.plusDays(random.nextInt((int) (to.toEpochDay() - from.toEpochDay()) + 1));
+    }
+
+    /**
+     * What one animal gets; derived from the animal's own stream so every pass agrees on it.
+     *
+     * @param applications applications besides the approved one of an adopted animal
+     */
+    private record Plan(SyntheticAnimals.Generated animal, int vaccinations, int medicalRecords, int applications,
+                        boolean fosterHistory) {
+    }
+
+    /* One generation: the settings, the reference data from the fixture and the first free ids */
+    private class Run {
+
+        private final long seed = properties.getSeed();
+        private final LocalDate today = properties.getReferenceDate() != null ? properties.getReferenceDate() : LocalDate.now();
+        private final int[] statusWeights;
+        private final int vets;
+        private final int staff;
+        private final int adopters;
+
+        private final SyntheticAnimals animals;
+        private final String password;
+        private final List<Object> vetIds = new ArrayList<>();
+        private final List<Object> reviewerIds = new ArrayList<>();
+        private final Map<Long, List<long[]>> vaccinesBySpecies = new LinkedHashMap<>();
+
+        private final Map<String, Long> base = new LinkedHashMap<>();
+
+        Run(SeedFixture fixture) {
+            statusWeights = new int[]{properties.getAvailableWeight(), properties.getAdoptedWeight(),
+                    properties.getFosteredWeight(), properties.getDeceasedWeight()};
+            int totalWeight = 0;
+            for (int weight : statusWeights) {
+                if (weight < 0) {
+                    throw new IllegalArgumentException("generator status weights must not be negative");
+                }
+                totalWeight += weight;
+            }
+            if (totalWeight == 0) {
+                throw new IllegalArgumentException("generator status weights must not all be zero");
+            }
+            if (properties.getUsers() < 0 || properties.getAnimals() < 0) {
+                throw new IllegalArgumentException("generator.users and generator.animals must not be negative");
+            }
+            int users = properties.getUsers();
+            vets = users == 0 ? 0 : Math.max(1, users * properties.getVetPercent() / 100);
+            staff = users * properties.getStaffPercent() / 100;
+            adopters = users - vets - staff;
+            if (properties.getAnimals() > 0 && adopters < 1) {
+                throw new IllegalArgumentException("generator.users is too small to leave any adopters after vets and staff");
+            }
+
+            animals = new SyntheticAnimals(fixture);
+
+            // Generated users share the fixture test user's password
+            SeedFixture.Table userTable = fixture.table("users");
+            int role = userTable.column("role");
+            String testPassword = null;
+            for (List<Object> row : userTable.rows()) {
+                String rowRole = (String) row.get(role);
+                if (testPassword == null && Roles.USER.name().equals(rowRole)) {
+                    testPassword = (String) row.get(userTable.column("password"));
+                }
+                if (Roles.ADMIN.name().equals(rowRole) || Roles.STAFF.name().equals(rowRole)) {
+                    reviewerIds.add(row.get(0));
+                }
+            }
+            if (testPassword == null) {
+                throw new IllegalStateException("Seed fixture has no USER to take the generated password from");
+            }
+            password = testPassword;
+            for (List<Object> row : fixture.table("veterinarian").rows()) {
+                vetIds.add(row.get(0));
+            }
+
+            SeedFixture.Table types = fixture.table("vaccination_type");
+            Map<Long, Long> durations = new LinkedHashMap<>();
+            for (List<Object> row : types.rows()) {
+                durations.put(((Number) row.get(0)).longValue(), ((Number) row.get(types.column("duration_months"))).longValue());
+            }
+            SeedFixture.Table typeSpecies = fixture.table("vaccination_type_species");
+            for (List<Object> row : typeSpecies.rows()) {
+                long typeId = ((Number) row.get(typeSpecies.column("vaccination_type_id"))).longValue();
+                long speciesId = ((Number) row.get(typeSpecies.column("species_id"))).longValue();
+                vaccinesBySpecies.computeIfAbsent(speciesId, id -> new ArrayList<>()).add(new long[]{typeId, durations.get(typeId)});
+            }
+        }
+
+        Map<String, Long> write() {
+            for (String table : ID_COLUMNS.keySet()) {
+                base.put(table, maxId(table));
+            }
+            long userBase = base.get("users");
+            for (int i = 1; i <= vets; i++) {
+                vetIds.add(base.get("veterinarian") + i);
+            }
+            for (int i = 1; i <= staff; i++) {
+                reviewerIds.add(userBase + vets + i);
+            }
+
+            Map<String, Long> rows = new LinkedHashMap<>();
+            rows.put("users", writeUsers());
+            rows.put("veterinarian", writeVeterinarians());
+            rows.put(SyntheticAnimals.TABLE, writeAnimals());
+            rows.put("vaccination", writeVaccinations());
+            rows.put("medical_record", writeMedicalRecords());
+            rows.put("foster_care", writeFosterCare());
+            rows.put("adoption_application", writeApplications());
+            rows.put("adoption", writeAdoptions());
+            return rows;
+        }
+
+        private Random random(long id, int table) {
+            return new Random(mix(seed, id, table));
+        }
+
+        private long animalId(int i) {
+            return base.get(SyntheticAnimals.TABLE) + i;
+        }
+
+        /* The k-th plain user, wrapping around; consecutive k give distinct users */
+        private long adopterId(int k) {
+            return base.get("users") + vets + staff + 1 + (k % adopters);
+        }
+
+        private Plan plan(long animalId) {
+            Random random = random(animalId, ANIMALS);
+            SyntheticAnimals.Generated animal = animals.next(animalId, random, statusWeights, today);
+            int vaccinations = poisson(random, properties.getVaccinationsPerAnimal());
+            int medicalRecords = poisson(random, properties.getMedicalRecordsPerAnimal());
+            // Applicants are distinct, and an adopted animal keeps one back for its approved application
+            int applications = Math.min(poisson(random, properties.getApplicationsPerAnimal()),
+                    adopters - (animal.status() == Status.ADOPTED ? 1 : 0));
+            boolean fosterHistory = random.nextInt(100) < properties.getFosterHistoryPercent();
+            return new Plan(animal, vaccinations, medicalRecords, applications, fosterHistory);
+        }
+
+        private long writeUsers() {
+            long userBase = base.get("users");
+            try (SeedWriter.Batch batch = writer.open("users",
+                    List.of("user_id", "email", "password", "first_name", "last_name", "phone", "role", "is_active"))) {
+                for (int i = 1; i <= properties.getUsers(); i++) {
+                    long id = userBase + i;
+                    Random random = random(id, USERS);
+                    String firstName = pick(random, FIRST_NAMES);
+                    String lastName = pick(random, LAST_NAMES);
+                    Roles role = i <= vets ? Roles.VETERINARIAN : i <= vets + staff ? Roles.STAFF : Roles.USER;
+                    batch.add(id, (firstName + "." + lastName + id).toLowerCase() + EMAIL_DOMAIN, password,
+                            firstName, lastName, String.valueOf(20_000_000 + random.nextInt(80_000_000)), role.name(), true);
+                }
+                return batch.written();
+            }
+        }
+
+        /* The first generated users are the vets */
+        private long writeVeterinarians() {
+            try (SeedWriter.Batch batch = writer.open("veterinarian",
+                    List.of("vet_id", "user_id", "license_number", "clinic_name", "is_active"))) {
+                for (int i = 1; i <= vets; i++) {
+                    long id = base.get("veterinarian") + i;
+                    Random random = random(id, VETERINARIANS);
+                    batch.add(id, base.get("users") + i, "VET" + (100_000 + random.nextInt(900_000)), pick(random, CLINICS), true);
+                }
+                return batch.written();
+            }
+        }
+
+        private long writeAnimals() {
+            try (SeedWriter.Batch batch = writer.open(SyntheticAnimals.TABLE, animals.columns())) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    batch.add(plan(animalId(i)).animal().values());
+                }
+                return batch.written();
+            }
+        }
+
+        /* Cycles through the species' vaccines; shots older than their duration leave the animal non-compliant */
+        private long writeVaccinations() {
+            long id = base.get("vaccination");
+            try (SeedWriter.Batch batch = writer.open("vaccination",
+                    List.of("vaccination_id", "animal_id", "vet_id", "vaccination_type_id", "date_administered", "next_due_date"))) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    Plan plan = plan(animalId(i));
+                    List<long[]> vaccines = vaccinesBySpecies.getOrDefault(plan.animal().speciesId(), List.of());
+                    if (vaccines.isEmpty()) {
+                        continue;
+                    }
+                    Random random = random(plan.animal().id(), VACCINATIONS);
+                    int first = random.nextInt(vaccines.size());
+                    LocalDate earliest = latest(plan.animal().intakeDate(), today.minusMonths(18));
+                    for (int j = 0; j < plan.vaccinations(); j++) {
+                        long[] vaccine = vaccines.get((first + j) % vaccines.size());
+                        LocalDate administered = between(random, earliest, today);
+                        batch.add(++id, plan.animal().id(), pick(random, vetIds), vaccine[0],
+                                administered.toString(), administered.plusMonths(vaccine[1]).toString());
+                    }
+                }
+                return batch.written();
+            }
+        }
+
+        private long writeMedicalRecords() {
+            long id = base.get("medical_record");
+            try (SeedWriter.Batch batch = writer.open("medical_record",
+                    List.of("record_id", "animal_id", "vet_id", "date", "diagnosis", "treatment", "cost"))) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    Plan plan = plan(animalId(i));
+                    Random random = random(plan.animal().id(), MEDICAL_RECORDS);
+                    for (int j = 0; j < plan.medicalRecords(); j++) {
+                        Object[] condition = pick(random, CONDITIONS);
+                        int cost = (Integer) condition[2];
+                        batch.add(++id, plan.animal().id(), pick(random, vetIds),
+                                between(random, plan.animal().intakeDate(), today).toString(),
+                                condition[0], condition[1], cost + random.nextInt(cost / 2 + 1));
+                    }
+                }
+                return batch.written();
+            }
+        }
+
+        /* An active stint for FOSTERED animals, and for some animals an ended one before it */
+        private long writeFosterCare() {
+            long id = base.get("foster_care");
+            try (SeedWriter.Batch batch = writer.open("foster_care",
+                    List.of("fostercare_id", "animal_animal_id", "foster_parent_user_id", "start_date", "end_date", "is_active"))) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    Plan plan = plan(animalId(i));
+                    Random random = random(plan.animal().id(), FOSTER_CARE);
+                    LocalDate intake = plan.animal().intakeDate();
+                    LocalDate activeStart = between(random, latest(intake, today.minusDays(90)), today);
+                    boolean fostered = plan.animal().status() == Status.FOSTERED;
+
+                    if (plan.fosterHistory()) {
+                        LocalDate end = between(random, intake, fostered ? activeStart : today);
+                        LocalDate start = latest(intake, end.minusDays(14 + random.nextInt(47)));
+                        batch.add(++id, plan.animal().id(), adopterId(random.nextInt(adopters)),
+                                start.toString(), end.toString(), false);
+                    }
+                    if (fostered) {
+                        batch.add(++id, plan.animal().id(), adopterId(random.nextInt(adopters)),
+                                activeStart.toString(), activeStart.plusDays(30 + random.nextInt(61)).toString(), true);
+                    }
+                }
+                return batch.written();
+            }
+        }
+
+        private long writeApplications() {
+            long id = base.get("adoption_application");
+            try (SeedWriter.Batch batch = writer.open("adoption_application",
+                    List.of("adoption_application_id", "user_id", "animal_id", "application_date", "description",
+                            "status", "reviewed_by_user_id", "is_active"))) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    for (Object[] row : applications(plan(animalId(i)), id)) {
+                        batch.add(row);
+                        id++;
+                    }
+                }
+                return batch.written();
+            }
+        }
+
+        /* One per approved application, so replays the applications to find their ids and dates */
+        private long writeAdoptions() {
+            long id = base.get("adoption");
+            long applicationId = base.get("adoption_application");
+            try (SeedWriter.Batch batch = writer.open("adoption",
+                    List.of("adoption_id", "application_id", "adoption_date", "is_active"))) {
+                for (int i = 1; i <= properties.getAnimals(); i++) {
+                    Plan plan = plan(animalId(i));
+                    List<Object[]> applications = applications(plan, applicationId);
+                    applicationId += applications.size();
+                    if (plan.animal().status() != Status.ADOPTED) {
+                        continue;
+                    }
+                    Object[] approved = applications.get(applications.size() - 1);
+                    Random random = random(plan.animal().id(), ADOPTIONS);
+                    LocalDate approvedOn = LocalDate.parse((String) approved[3]);
+                    LocalDate adopted = approvedOn.plusDays(random.nextInt(15));
+                    batch.add(++id, approved[0], (adopted.isAfter(today) ? today : adopted).toString(), true);
+                }
+                return batch.written();
+            }
+        }
+
+        /**
+         * Pending or rejected applications from distinct users, then the approved one when the
+         * animal was adopted.
+         *
+         * @param lastId the id before this animal's first application
+         */
+        private List<Object[]> applications(Plan plan, long lastId) {
+            SyntheticAnimals.Generated animal = plan.animal();
+            Random random = random(animal.id(), APPLICATIONS);
+            int firstApplicant = random.nextInt(adopters);
+            boolean open = animal.status() == Status.AVAILABLE || animal.status() == Status.FOSTERED;
+
+            List<Object[]> rows = new ArrayList<>();
+            for (int j = 0; j < plan.applications(); j++) {
+                Status status = open && random.nextInt(10) < 7 ? Status.PENDING : Status.REJECTED;
+                rows.add(new Object[]{++lastId, adopterId(firstApplicant + j), animal.id(),
+                        between(random, animal.intakeDate(), today).toString(), pick(random, MOTIVATIONS), status.name(),
+                        status == Status.PENDING ? null : pick(random, reviewerIds), status == Status.PENDING});
+            }
+            if (animal.status() == Status.ADOPTED) {
+                rows.add(new Object[]{++lastId, adopterId(firstApplicant + plan.applications()), animal.id(),
+                        between(random, animal.intakeDate(), today).toString(), pick(random, MOTIVATIONS),
+                        Status.APPROVED.name(), pick(random, reviewerIds), false});
+            }
+            return rows;
+        }
+
+        private LocalDate latest(LocalDate a, LocalDate b) {
+            return a.isAfter(b) ? a : b;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.pet.backendpetshelter.Seed;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(2) // After DatabaseSeeder, before DatabaseFeaturesInitializer and the migrations
+@Profile("generate & (mysql | migrate-mongo | migrate-neo4j) & !test") // Add "generate" to a MySQL or migration profile
+public class SyntheticDataRunner implements CommandLineRunner {
+
+    private final SyntheticDataGenerator generator;
+
+    public SyntheticDataRunner(SyntheticDataGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void run(String... args) {
+        System.out.println("Generating synthetic dataset...");
+        SeedEngine.Result result = generator.generate();
+        if (result.skipped()) {
+            System.out.println("Synthetic dataset already generated, skipping.");
+            return;
+        }
+        System.out.printf("Generated %d rows in %.1fs (%.0f rows/s) %s%n",
+                result.total(), result.elapsed().toMillis() / 1000.0,
+                result.total() / Math.max(result.elapsed().toNanos() / 1e9, 1e-9), result.rows());
+    }
+}
@@ -4,38 +4,58 @@ package org.pet.backendpetshelter.Service;
 import org.pet.backendpetshelter.DTO.AdminAdoptionApplicationResponse;
 import org.pet.backendpetshelter.DTO.AdoptionApplicationRequest;
 import org.pet.backendpetshelter.DTO.AdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Entity.AdoptionApplication;
 import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
 import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationSpecifications;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
 import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchResults;
+import org.pet.backendpetshelter.Search.SearchTarget;
 import org.pet.backendpetshelter.Status;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Profile({"mysql", "test"})
 public class AdoptionApplicationService
 {
+    private static final Set<String> SCROLL_SORT_KEYS = Set.of("id", "applicationDate", "status");
+
     private final AdoptionApplicationRepository adoptionApplicationRepository;
     private final UserRepository userRepository;
     private final AnimalRepository animalRepository;
+    private final SearchEngine searchEngine;
+    private final ShelterStatsService shelterStatsService;
+    private final DashboardSummaryService dashboardSummaryService;
 
-    public AdoptionApplicationService(AdoptionApplicationRepository adoptionApplicationRepository, UserRepository userRepository, AnimalRepository animalRepository) {
+    public AdoptionApplicationService(AdoptionApplicationRepository adoptionApplicationRepository, UserRepository userRepository, AnimalRepository animalRepository,
+                                      SearchEngine searchEngine, ShelterStatsService shelterStatsService,
+                                      DashboardSummaryService dashboardSummaryService) {
         this.userRepository = userRepository;
         this.animalRepository = animalRepository;
         this.adoptionApplicationRepository = adoptionApplicationRepository;
+        this.searchEngine = searchEngine;
+        this.shelterStatsService = shelterStatsService;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
     public Page<AdminAdoptionApplicationResponse> GetAllAdoptionApplications(Pageable pageable) {
-        return adoptionApplicationRepository.findAll(pageable)
+        return adoptionApplicationRepository.findAll(SearchResults.withoutRelevance(pageable))
                 .map(AdminAdoptionApplicationResponse::new);
     }
     
@@ -45,10 +65,34 @@ public class AdoptionApplicationService
             String search,
             Pageable pageable) {
         
-        return adoptionApplicationRepository.findAllWithFilters(status, search, pageable)
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.ADOPTION_APPLICATION, search) : null;
+        if (ranked != null) {
+            return SearchResults.page(adoptionApplicationRepository, AdoptionApplicationSpecifications.withFilters(status, null),
+                    ranked, pageable, AdoptionApplication::getId)
+                    .map(AdminAdoptionApplicationResponse::new);
+        }
+
+        return adoptionApplicationRepository.findAllWithFilters(status, search, SearchResults.withoutRelevance(pageable))
                 .map(AdminAdoptionApplicationResponse::new);
     }
 
+    /* Scroll Adoption Applications with Filters (keyset pagination, no total count) */
+    public CursorPage<AdminAdoptionApplicationResponse> ScrollAdoptionApplicationsWithFilters(
+            Status status,
+            String search,
+            String sortBy,
+            Sort.Direction direction,
+            String after,
+            int size) {
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.ADOPTION_APPLICATION, search) : null;
+        Specification<AdoptionApplication> filter =
+                AdoptionApplicationSpecifications.withFilters(status, ranked != null ? null : search);
+
+        return KeysetScroller.scroll(adoptionApplicationRepository, AdoptionApplication.class, filter, ranked, SCROLL_SORT_KEYS,
+                sortBy, direction, after, size, AdminAdoptionApplicationResponse::new);
+    }
+
     public AdoptionApplicationResponse GetAdoptionApplicationById(Long id) {
         AdoptionApplication application = adoptionApplicationRepository.findById(id)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Could not find application with id: " + id));
@@ -65,6 +109,7 @@ public class AdoptionApplicationService
                 .toList();
     }
 
+    @Transactional
     public AdoptionApplicationResponse addAdoptionApplication(AdoptionApplicationRequest request) {
         // Validate required fields
         if (request.getUserId() == null) {
@@ -103,6 +148,8 @@ public class AdoptionApplicationService
         // 5. Save and return response DTO
         try {
             adoptionApplicationRepository.save(application);
+            shelterStatsService.move(null, shelterStatsService.key(application));
+            dashboardSummaryService.refreshAnimal(animal.getId());
             return new AdoptionApplicationResponse(application);
         } catch (DataIntegrityViolationException e) {
             // Catch duplicate constraint violations (race condition safety net)
@@ -116,9 +163,11 @@ public class AdoptionApplicationService
     }
 
     /* Update Adoption Application */
+    @Transactional
     public AdoptionApplicationResponse updateAdoptionApplication(Long id, AdoptionApplicationRequest request) {
         AdoptionApplication application = adoptionApplicationRepository.findById(id)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Could not find application with id: " + id));
+        Long previousAnimalId = application.getAnimal().getId();
 
         // If you want to allow changing user/animal (usually not needed)
         if (request.getUserId() != null) {
@@ -139,23 +188,34 @@ public class AdoptionApplicationService
 
 
         adoptionApplicationRepository.save(application);
+        dashboardSummaryService.refreshAnimal(application.getAnimal().getId());
+        if (!previousAnimalId.equals(application.getAnimal().getId())) {
+            dashboardSummaryService.refreshAnimal(previousAnimalId);
+        }
         return new AdoptionApplicationResponse(application);
     }
 
     /* Delete Adoption Application */
+    @Transactional
     public void deleteAdoptionApplication(Long id) {
         AdoptionApplication application = adoptionApplicationRepository.findById(id)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Could not find application with id: " + id));
+        shelterStatsService.lock(application);
         adoptionApplicationRepository.delete(application);
+        shelterStatsService.move(shelterStatsService.key(application), null);
+        dashboardSummaryService.refreshAnimal(application.getAnimal().getId());
     }
 
     public Boolean hasUserAppliedForAnimal(Long userId, Long animalId) {
         return adoptionApplicationRepository.existsByUserIdAndAnimalId(userId, animalId);
     }
 
+    @Transactional
     public AdoptionApplicationResponse rejectAdoptionApplication(Long id, Long reviewedByUserId) {
         AdoptionApplication application = adoptionApplicationRepository.findById(id)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Could not find application with id: " + id));
+        shelterStatsService.lock(application);
+        String statsKey = shelterStatsService.key(application);
 
         User reviewer = userRepository.findById(reviewedByUserId)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Reviewer user not found with id: " + reviewedByUserId));
@@ -164,6 +224,8 @@ public class AdoptionApplicationService
         application.setReviewedByUser(reviewer);
 
         adoptionApplicationRepository.save(application);
+        shelterStatsService.move(statsKey, shelterStatsService.key(application));
+        dashboardSummaryService.refreshAnimal(application.getAnimal().getId());
         return new AdoptionApplicationResponse(application);
     }
 }
\ No newline at end of file
@@ -25,14 +25,20 @@ public class AdoptionService {
     private final AdoptionRepository adoptionRepository;
     private final AdoptionApplicationRepository applicationRepository;
     private final AnimalRepository animalRepository;
+    private final ShelterStatsService shelterStatsService;
+    private final DashboardSummaryService dashboardSummaryService;
 
     public AdoptionService(
             AdoptionRepository adoptionRepository,
             AdoptionApplicationRepository applicationRepository,
-            AnimalRepository animalRepository) {
+            AnimalRepository animalRepository,
+            ShelterStatsService shelterStatsService,
+            DashboardSummaryService dashboardSummaryService) {
         this.adoptionRepository = adoptionRepository;
         this.applicationRepository = applicationRepository;
         this.animalRepository = animalRepository;
+        this.shelterStatsService = shelterStatsService;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
     public Page<AdoptionResponse> GetAllAdoptions(Pageable pageable) {
@@ -62,6 +68,9 @@ public class AdoptionService {
         if (animal == null) {
             throw new EntityNotFoundException("Animal not found in application");
         }
+        // Locked before the checks below, so two approvals of the same animal cannot both pass them
+        shelterStatsService.lock(application);
+        shelterStatsService.lock(animal);
 
         if (Status.ADOPTED.equals(animal.getStatus())) {
             throw new RuntimeException("Animal is already adopted");
@@ -76,6 +85,9 @@ public class AdoptionService {
         adoption.setAdoptionDate(request.getAdoptionDate());
         adoption.setIsActive(true);
 
+        String animalStatsKey = shelterStatsService.key(animal);
+        String applicationStatsKey = shelterStatsService.key(application);
+
         animal.setStatus(Status.ADOPTED);
 
         application.setStatus(Status.APPROVED);
@@ -84,6 +96,11 @@ public class AdoptionService {
         applicationRepository.save(application);
         adoptionRepository.save(adoption);
 
+        shelterStatsService.move(animalStatsKey, shelterStatsService.key(animal));
+        shelterStatsService.move(applicationStatsKey, shelterStatsService.key(application));
+        shelterStatsService.move(null, shelterStatsService.key(adoption));
+        dashboardSummaryService.refreshAnimal(animal.getId());
+
         return new AdoptionResponse(adoption);
     }
 
@@ -109,9 +126,13 @@ public class AdoptionService {
 
     }
 
+    @Transactional
     public AdoptionResponse updateAdoption(Long id, AdoptionRequest request) {
         Adoption adoption = adoptionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Adoption not found with id: " + id));
+        shelterStatsService.lock(adoption);
+        String statsKey = shelterStatsService.key(adoption);
+        Long previousAnimalId = adoption.getApplication().getAnimal().getId();
 
         AdoptionApplication application = applicationRepository.findById(request.getAdoptionApplicationId())
                 .orElseThrow(() -> new RuntimeException("Adoption Application not found with id: " + request.getAdoptionApplicationId()));
@@ -122,12 +143,21 @@ public class AdoptionService {
         adoption.setIsActive(request.getIsActive());
 
         adoptionRepository.save(adoption);
+        shelterStatsService.move(statsKey, shelterStatsService.key(adoption));
+        dashboardSummaryService.refreshAnimal(application.getAnimal().getId());
+        if (!previousAnimalId.equals(application.getAnimal().getId())) {
+            dashboardSummaryService.refreshAnimal(previousAnimalId);
+        }
         return new AdoptionResponse(adoption);
     }
 
+    @Transactional
     public void deleteAdoption(Long id) {
         Adoption adoption = adoptionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Adoption not found with id: " + id));
+        shelterStatsService.lock(adoption);
         adoptionRepository.delete(adoption);
+        shelterStatsService.move(shelterStatsService.key(adoption), null);
+        dashboardSummaryService.refreshAnimal(adoption.getApplication().getAnimal().getId());
     }
 }
\ No newline at end of file
@@ -4,37 +4,63 @@ package org.pet.backendpetshelter.Service;
 import jakarta.persistence.EntityNotFoundException;
 import org.pet.backendpetshelter.DTO.AnimalDTORequest;
 import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.pet.backendpetshelter.DTO.AnimalSummaryResponse;
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.Breed;
 import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.AnimalSpecifications;
 import org.pet.backendpetshelter.Repository.BreedRepository;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchResults;
+import org.pet.backendpetshelter.Search.SearchTarget;
 import org.pet.backendpetshelter.Status;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @Profile({"mysql", "test"})
 public class AnimalService {
 
+    // Cursor mode sorts by the entity's own columns only (KeysetScroller)
+    private static final Set<String> SCROLL_SORT_KEYS = Set.of("id", "name", "birthDate", "sex", "intakeDate", "status", "price");
+
     private final AnimalRepository animalRepository;
     private final BreedRepository breedRepository;
     private final SpeciesRepository speciesRepository;
-
-    public AnimalService(AnimalRepository animalRepository, BreedRepository breedRepository, SpeciesRepository speciesRepository) {
+    private final VaccinationComplianceService vaccinationComplianceService;
+    private final SearchEngine searchEngine;
+    private final ShelterStatsService shelterStatsService;
+    private final DashboardSummaryService dashboardSummaryService;
+
+    public AnimalService(AnimalRepository animalRepository, BreedRepository breedRepository, SpeciesRepository speciesRepository,
+                         VaccinationComplianceService vaccinationComplianceService, SearchEngine searchEngine,
+                         ShelterStatsService shelterStatsService, DashboardSummaryService dashboardSummaryService) {
         this.animalRepository = animalRepository;
         this.breedRepository = breedRepository;
         this.speciesRepository = speciesRepository;
+        this.vaccinationComplianceService = vaccinationComplianceService;
+        this.searchEngine = searchEngine;
+        this.shelterStatsService = shelterStatsService;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
     /* Get All Animals */
     public Page<AnimalDTOResponse> GetAllAnimals(Pageable pageable) {
-        return animalRepository.findAll(pageable)
+        return animalRepository.findAll(SearchResults.withoutRelevance(pageable))
                 .map(AnimalDTOResponse::new);
     }
     
@@ -48,11 +74,76 @@ public class AnimalService {
             Integer maxAge,
             String search,
             Pageable pageable) {
-        
-        return animalRepository.findAllWithFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, search, pageable)
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.ANIMAL, search) : null;
+        if (ranked != null) {
+            return SearchResults.page(animalRepository,
+                    AnimalSpecifications.withFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, null),
+                    ranked, pageable, Animal::getId)
+                    .map(AnimalDTOResponse::new);
+        }
+
+        // Translate ages into a birth_date range so the filter can use an index
+        LocalDate today = LocalDate.now();
+        Date bornOnOrBefore = minAge != null ? AnimalSpecifications.bornOnOrBefore(today, minAge) : null;
+        Date bornAfter = maxAge != null ? AnimalSpecifications.bornAfter(today, maxAge) : null;
+
+        return animalRepository.findAllWithFilters(status, isActive, hasRequiredVaccinations, sex, bornOnOrBefore, bornAfter, search,
+                        SearchResults.withoutRelevance(pageable))
                 .map(AnimalDTOResponse::new);
     }
 
+    /* Get Animal Summaries (view=summary): same filters, flat rows from one joined query */
+    public Page<AnimalSummaryResponse> GetAnimalSummariesWithFilters(
+            String status,
+            Boolean isActive,
+            Boolean hasRequiredVaccinations,
+            String sex,
+            Integer minAge,
+            Integer maxAge,
+            String search,
+            Pageable pageable) {
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.ANIMAL, search) : null;
+        if (ranked == null) {
+            return animalRepository.findSummaries(
+                    AnimalSpecifications.withFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, search),
+                    SearchResults.withoutRelevance(pageable));
+        }
+        if (ranked.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Specification<Animal> filter = AnimalSpecifications.withFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge, null);
+        if (!SearchResults.isSortedByRelevance(pageable)) {
+            return SearchResults.sortedPage(animalRepository, filter, ranked, pageable, Animal::getId, animalRepository::findSummaries);
+        }
+        return SearchResults.rankedPage(filter, ranked, pageable,
+                animalRepository::count, animalRepository::findSummaries, AnimalSummaryResponse::getId);
+    }
+
+    /* Scroll Animals with Filters (keyset pagination, no total count) */
+    public CursorPage<AnimalDTOResponse> ScrollAnimalsWithFilters(
+            String status,
+            Boolean isActive,
+            Boolean hasRequiredVaccinations,
+            String sex,
+            Integer minAge,
+            Integer maxAge,
+            String search,
+            String sortBy,
+            Sort.Direction direction,
+            String after,
+            int size) {
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.ANIMAL, search) : null;
+        Specification<Animal> filter = AnimalSpecifications.withFilters(status, isActive, hasRequiredVaccinations, sex, minAge, maxAge,
+                ranked != null ? null : search);
+
+        return KeysetScroller.scroll(animalRepository, Animal.class, filter, ranked, SCROLL_SORT_KEYS,
+                sortBy, direction, after, size, AnimalDTOResponse::new);
+    }
+
 
     /* Get Specific Animal */
     public AnimalDTOResponse GetAnimalById(Long id) {
@@ -63,6 +154,7 @@ public class AnimalService {
 
 
     /*Add Animal */
+    @Transactional
     public AnimalDTOResponse addAnimal(AnimalDTORequest request) {
 
         validateName(request.getName());
@@ -95,6 +187,9 @@ public class AnimalService {
         animal.setImageUrl(request.getImageUrl());
 
         animalRepository.save(animal);
+        vaccinationComplianceService.refreshAnimal(animal.getId());
+        shelterStatsService.move(null, shelterStatsService.key(animal));
+        dashboardSummaryService.refreshAnimal(animal.getId());
 
         return new AnimalDTOResponse(animal);
     }
@@ -103,17 +198,7 @@ public class AnimalService {
     // Validation Methods
 
     private void validateName(String name) {
-        if (name == null || name.isBlank()) {
-            throw new IllegalArgumentException("Name cannot be null or empty");
-        }
-
-        if (!name.matches("^[a-zA-Z]+$")) {
-            throw new IllegalArgumentException("Name must contain only alphabetic characters");
-        }
-
-        if (name.length() < 2 || name.length() > 30) {
-            throw new IllegalArgumentException("Name must be between 2 and 30 characters long");
-        }
+        RequestValidators.validateAnimalName(name);
     }
 
 
@@ -205,20 +290,18 @@ public class AnimalService {
 
 
     private void validateImageUrl(String imageUrl) {
-        if (imageUrl == null || imageUrl.isBlank()) {
-            throw new IllegalArgumentException("Image URL cannot be null or empty");
-        }
-
-        if (!imageUrl.matches("^(http|https)://.+")) {
-            throw new IllegalArgumentException("Invalid image URL format"); }
+        RequestValidators.validateImageUrl(imageUrl);
     }
 
 
 
     /* Update Animal */
+    @Transactional
     public AnimalDTOResponse updateAnimal(Long id, AnimalDTORequest request) {
         Animal animal = animalRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Animal not found with id: " + id));
+        shelterStatsService.lock(animal);
+        String statsKey = shelterStatsService.key(animal);
 
         Breed breed = breedRepository.findById(request.getBreedId())
                 .orElseThrow(() -> new EntityNotFoundException("Breed not found"));
@@ -238,16 +321,23 @@ public class AnimalService {
         animal.setImageUrl(request.getImageUrl());
 
         animalRepository.save(animal);
+        // Species may have changed, which changes the required vaccination set
+        vaccinationComplianceService.refreshAnimal(animal.getId());
+        shelterStatsService.move(statsKey, shelterStatsService.key(animal));
+        dashboardSummaryService.refreshAnimal(animal.getId());
         return new AnimalDTOResponse(animal);
     }
 
 
     /* Delete Animal  */
+    @Transactional
     public void deleteAnimal(Long id) {
-        if (!animalRepository.existsById(id)) {
-            throw new EntityNotFoundException("Cannot delete. User not found with id: " + id);
-        }
-        animalRepository.deleteById(id);
+        Animal animal = animalRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Cannot delete. User not found with id: " + id));
+        shelterStatsService.lock(animal);
+        animalRepository.delete(animal);
+        shelterStatsService.move(shelterStatsService.key(animal), null);
+        dashboardSummaryService.refreshAnimal(animal.getId());
     }
 
     /**
@@ -93,6 +93,11 @@ public class AuthService {
         if (!passwordEncoder.matches(req.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
+        // Bring the stored hash to the configured format and cost while the raw password is at hand
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(req.getPassword()));
+            userRepository.save(user);
+        }
 
         String accessToken = jwtService.generateAccessToken(
                 user.getEmail(),
@@ -120,19 +125,22 @@ public class AuthService {
         private final String refreshToken; // ny token som skal i cookie
     }
 
+    @Transactional
     public RotateResult rotateRefreshToken(String refreshToken) {
         RefreshToken rt = refreshTokenRepository.findByToken(refreshToken)
                 .orElseThrow(() -> new EntityNotFoundException("Invalid refresh token"));
 
-        if (rt.getRevoked() || rt.getExpiresAt().isBefore(Instant.now())) {
+        Instant now = Instant.now();
+        if (rt.getRevoked() || rt.getExpiresAt().isBefore(now)) {
             throw new IllegalArgumentException("Refresh token expired or revoked");
         }
 
         var user = rt.getUser();
 
-        // Revoke gammel og udsted en ny
-        rt.setRevoked(true);
-        refreshTokenRepository.save(rt);
+        // Revoke gammel og udsted en ny. Conditional UPDATE, so only one concurrent rotation wins
+        if (refreshTokenRepository.revokeIfActive(refreshToken, now) == 0) {
+            throw new IllegalArgumentException("Refresh token expired or revoked");
+        }
 
         RefreshToken newRt = new RefreshToken();
         newRt.setUser(user);
@@ -162,12 +170,7 @@ public class AuthService {
     }
 
     private boolean isPasswordStrong(String pwd) {
-        if (pwd == null || pwd.length() < 7) return false;
-        // Check for special character
-        if (!pwd.matches(".*[!@#$%^&*()_+=\\-{}:;\"'<>,.?/|\\[\\]\\\\].*")) return false;
-        // Check for uppercase letter
-        if (!pwd.matches(".*[A-Z].*")) return false;
-        return true;
+        return RequestValidators.isPasswordStrong(pwd);
     }
 
     private UserResponse toUserResponse(User u) {
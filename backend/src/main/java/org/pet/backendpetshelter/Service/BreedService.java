@@ -1,14 +1,18 @@
 package org.pet.backendpetshelter.Service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.pet.backendpetshelter.Configuration.ReferenceDataCacheConfig;
 import org.pet.backendpetshelter.DTO.BreedDTORequest;
 import org.pet.backendpetshelter.DTO.BreedDTOResponse;
 import org.pet.backendpetshelter.Entity.Breed;
 import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.BreedRepository;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,10 +23,13 @@ public class BreedService {
 
     private final BreedRepository breedRepository;
     private final SpeciesRepository speciesRepository;
+    private final DashboardSummaryService dashboardSummaryService;
 
-    public BreedService(BreedRepository breedRepository, SpeciesRepository speciesRepository) {
+    public BreedService(BreedRepository breedRepository, SpeciesRepository speciesRepository,
+                        DashboardSummaryService dashboardSummaryService) {
         this.breedRepository = breedRepository;
         this.speciesRepository = speciesRepository;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
 
@@ -31,7 +38,7 @@ public class BreedService {
      * @param request BreedDTORequest containing breed information
      * @return BreedDTOResponse
      */
-
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.BREEDS, allEntries = true)
     public BreedDTOResponse addBreed(BreedDTORequest request) {
 
         // Validate Input Data
@@ -100,6 +107,7 @@ public class BreedService {
      * @return List of BreedDTOResponse
      * This method retrieves all breeds from the repository and maps them to BreedDTOResponse.
      */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.BREEDS, key = "'all'")
     public List<BreedDTOResponse> getAllBreeds() {
         return breedRepository.findAll().stream()
                 .map(BreedDTOResponse::new)
@@ -112,6 +120,7 @@ public class BreedService {
      * @return BreedDTOResponse
      * This method retrieves a specific breed by ID and maps it to BreedDTOResponse.
      */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.BREEDS, key = "#id")
     public BreedDTOResponse getBreedById(Long id) {
         Breed breed = breedRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Breed not found with id: " + id));
@@ -124,9 +133,9 @@ public class BreedService {
      * @return List of BreedDTOResponse
      * This method retrieves all breeds for a specific species.
      */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.BREEDS, key = "'species:' + #speciesId")
     public List<BreedDTOResponse> getBreedsBySpecies(Long speciesId) {
-        return breedRepository.findAll().stream()
-                .filter(breed -> breed.getSpecies() != null && breed.getSpecies().getId().equals(speciesId))
+        return breedRepository.findBySpeciesId(speciesId).stream()
                 .map(BreedDTOResponse::new)
                 .collect(Collectors.toList());
     }
@@ -139,6 +148,8 @@ public class BreedService {
      * @param request BreedUpdateDTO containing updated information
      * @return BreedDTOResponse
      */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.BREEDS, allEntries = true)
+    @Transactional
     public BreedDTOResponse updateBreed(Long id, BreedDTORequest request) {
         Breed breed = breedRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Breed not found with id: " + id));
@@ -146,6 +157,7 @@ public class BreedService {
         breed.setName(request.getName());
 
         breedRepository.save(breed);
+        dashboardSummaryService.refreshBreed(breed.getId());
         return new BreedDTOResponse(breed);
     }
 
@@ -153,6 +165,7 @@ public class BreedService {
      * Delete breed
      * @param id the ID of the breed to be deleted
      */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.BREEDS, allEntries = true)
     public void deleteBreed(Long id) {
         if (!breedRepository.existsById(id)) {
             throw new EntityNotFoundException("Cannot delete. Breed not found with id: " + id);
@@ -0,0 +1,233 @@
+package org.pet.backendpetshelter.Service;
+
+import jakarta.annotation.PostConstruct;
+import org.pet.backendpetshelter.DTO.AdoptionHistorySummaryResponse;
+import org.pet.backendpetshelter.DTO.AvailableAnimalSummaryResponse;
+import org.pet.backendpetshelter.DTO.PendingApplicationSummaryResponse;
+import org.pet.backendpetshelter.DTO.VaccinationStatusSummaryResponse;
+import org.pet.backendpetshelter.Entity.DashboardSummaryLock;
+import org.pet.backendpetshelter.Repository.AdoptionHistorySummaryRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.AvailableAnimalSummaryRepository;
+import org.pet.backendpetshelter.Repository.DashboardSummaryLockRepository;
+import org.pet.backendpetshelter.Repository.PendingApplicationSummaryRepository;
+import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Repository.VaccinationStatusSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard reads from summary tables holding the rows of the four features.sql views, so a
+ * page is a plain indexed read instead of the views' joins. The services that write animals,
+ * vaccinations, applications, adoptions, foster cares and the reference data they show replace
+ * the rows of the animals they touched in their own transaction:
+ *
+ *     animalRepository.save(animal);
+ *     dashboardSummaryService.refreshAnimal(animal.getId());
+ *
+ * so the tables are as current as the rows they copy. Writes that bypass these services
+ * (seeding, the stored procedures, the sync consumers) are caught up by the rebuild on startup
+ * and every night. Values that depend on today's date (ages, day counts, due status) are
+ * derived when a row is read, so they never go stale.
+ *
+ * Both kinds of write lock the dashboard_summary_lock row first: per-animal refreshes share it,
+ * the rebuild holds it exclusively. Otherwise a rebuild could copy an animal whose refresh
+ * commits meanwhile, and both would insert its rows.
+ */
+@Service
+@Profile({"mysql", "test"})
+public class DashboardSummaryService {
+
+    // Bounds the IN lists when a species or breed touches many animals
+    private static final int CHUNK_SIZE = 1000;
+
+    private final AvailableAnimalSummaryRepository availableAnimalSummaryRepository;
+    private final AdoptionHistorySummaryRepository adoptionHistorySummaryRepository;
+    private final VaccinationStatusSummaryRepository vaccinationStatusSummaryRepository;
+    private final PendingApplicationSummaryRepository pendingApplicationSummaryRepository;
+    private final AnimalRepository animalRepository;
+    private final VaccinationRepository vaccinationRepository;
+    private final DashboardSummaryLockRepository lockRepository;
+    private final int maxPageSize;
+
+    public DashboardSummaryService(AvailableAnimalSummaryRepository availableAnimalSummaryRepository,
+                                   AdoptionHistorySummaryRepository adoptionHistorySummaryRepository,
+                                   VaccinationStatusSummaryRepository vaccinationStatusSummaryRepository,
+                                   PendingApplicationSummaryRepository pendingApplicationSummaryRepository,
+                                   AnimalRepository animalRepository,
+                                   VaccinationRepository vaccinationRepository,
+                                   DashboardSummaryLockRepository lockRepository,
+                                   @Value("${listing.max-page-size:100}") int maxPageSize) {
+        this.availableAnimalSummaryRepository = availableAnimalSummaryRepository;
+        this.adoptionHistorySummaryRepository = adoptionHistorySummaryRepository;
+        this.vaccinationStatusSummaryRepository = vaccinationStatusSummaryRepository;
+        this.pendingApplicationSummaryRepository = pendingApplicationSummaryRepository;
+        this.animalRepository = animalRepository;
+        this.vaccinationRepository = vaccinationRepository;
+        this.lockRepository = lockRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /* Before any request or scheduled job can need it; another instance may create it at the same time */
+    @PostConstruct
+    void createLock() {
+        if (!lockRepository.existsById(DashboardSummaryLock.ID)) {
+            try {
+                lockRepository.saveAndFlush(new DashboardSummaryLock(DashboardSummaryLock.ID));
+            } catch (DataIntegrityViolationException e) {
+                // Created by the other instance
+            }
+        }
+    }
+
+    /* Replaces the summary rows of one animal after it or a row it shows changed */
+    @Transactional
+    public void refreshAnimal(Long animalId) {
+        if (animalId == null) {
+            return;
+        }
+        refreshAnimals(List.of(animalId));
+    }
+
+    @Transactional
+    public void refreshAnimals(Collection<Long> animalIds) {
+        if (animalIds.isEmpty()) {
+            return;
+        }
+        lockRepository.lockShared().orElseThrow(DashboardSummaryService::lockMissing);
+        List<Long> ids = new ArrayList<>(animalIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            availableAnimalSummaryRepository.clearAnimals(chunk);
+            availableAnimalSummaryRepository.rebuildAnimals(chunk);
+            adoptionHistorySummaryRepository.clearAnimals(chunk);
+            adoptionHistorySummaryRepository.rebuildAnimals(chunk);
+            vaccinationStatusSummaryRepository.clearAnimals(chunk);
+            vaccinationStatusSummaryRepository.rebuildAnimals(chunk);
+            pendingApplicationSummaryRepository.clearAnimals(chunk);
+            pendingApplicationSummaryRepository.rebuildAnimals(chunk);
+        }
+    }
+
+    /* The species name is copied into every row of its animals */
+    @Transactional
+    public void refreshSpecies(Long speciesId) {
+        refreshAnimals(animalRepository.findIdsBySpeciesId(speciesId));
+    }
+
+    @Transactional
+    public void refreshBreed(Long breedId) {
+        refreshAnimals(animalRepository.findIdsByBreedId(breedId));
+    }
+
+    /* The vaccine name is copied into the vaccination status rows */
+    @Transactional
+    public void refreshVaccinationType(Long vaccinationTypeId) {
+        refreshAnimals(vaccinationRepository.findAnimalIdsByVaccinationTypeId(vaccinationTypeId));
+    }
+
+    /* Copies animal.vaccination_compliant after VaccinationComplianceService changed it in bulk */
+    @Transactional
+    public void refreshCompliance() {
+        availableAnimalSummaryRepository.refreshCompliance();
+    }
+
+    /**
+     * Rebuilds all four tables; returns the rows written per table. At READ COMMITTED the
+     * INSERT ... SELECTs read the source tables without InnoDB's shared next-key locks, so writes
+     * to them are not blocked; only the per-animal refreshes wait for the rebuild to commit.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public Map<String, Integer> refresh() {
+        lockRepository.lockExclusive().orElseThrow(DashboardSummaryService::lockMissing);
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        availableAnimalSummaryRepository.clear();
+        rows.put("available_animal_summary", availableAnimalSummaryRepository.rebuild());
+        adoptionHistorySummaryRepository.clear();
+        rows.put("adoption_history_summary", adoptionHistorySummaryRepository.rebuild());
+        vaccinationStatusSummaryRepository.clear();
+        rows.put("vaccination_status_summary", vaccinationStatusSummaryRepository.rebuild());
+        pendingApplicationSummaryRepository.clear();
+        rows.put("pending_application_summary", pendingApplicationSummaryRepository.rebuild());
+        return rows;
+    }
+
+    /* After VaccinationComplianceService, whose flag the available animals copy */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void refreshOnStartup() {
+        System.out.println("Dashboard summaries built: " + refresh());
+    }
+
+    /* Catches up writes that bypassed the services */
+    @Scheduled(cron = "${dashboard.summary.reconcile-cron:0 30 0 * * *}")
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void refreshNightly() {
+        System.out.println("Dashboard summaries rebuilt: " + refresh());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AvailableAnimalSummaryResponse> getAvailableAnimals(int page, int size) {
+        LocalDate today = LocalDate.now();
+        return availableAnimalSummaryRepository.findAll(pageRequest(page, size, Sort.by("animalId")))
+                .map(summary -> new AvailableAnimalSummaryResponse(summary, today));
+    }
+
+    /* Most recent adoptions first */
+    @Transactional(readOnly = true)
+    public Page<AdoptionHistorySummaryResponse> getAdoptionHistory(int page, int size) {
+        LocalDate today = LocalDate.now();
+        return adoptionHistorySummaryRepository.findAll(pageRequest(page, size,
+                        Sort.by(Sort.Direction.DESC, "adoptionDate").and(Sort.by(Sort.Direction.DESC, "adoptionId"))))
+                .map(summary -> new AdoptionHistorySummaryResponse(summary, today));
+    }
+
+    /* In the view's (animal, next due date) order */
+    @Transactional(readOnly = true)
+    public Page<VaccinationStatusSummaryResponse> getVaccinationStatus(int page, int size) {
+        LocalDate today = LocalDate.now();
+        return vaccinationStatusSummaryRepository.findAll(pageRequest(page, size,
+                        Sort.by("animalId", "nextDueDate", "id")))
+                .map(summary -> new VaccinationStatusSummaryResponse(summary, today));
+    }
+
+    /* Oldest applications first, like the view */
+    @Transactional(readOnly = true)
+    public Page<PendingApplicationSummaryResponse> getPendingApplications(int page, int size) {
+        LocalDate today = LocalDate.now();
+        return pendingApplicationSummaryRepository.findAll(pageRequest(page, size,
+                        Sort.by("applicationDate").and(Sort.by("applicationId"))))
+                .map(summary -> new PendingApplicationSummaryResponse(summary, today));
+    }
+
+    private static IllegalStateException lockMissing() {
+        return new IllegalStateException("dashboard_summary_lock has no row " + DashboardSummaryLock.ID);
+    }
+
+    private PageRequest pageRequest(int page, int size, Sort sort) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must not be negative and size must be greater than zero");
+        }
+        return PageRequest.of(page, Math.min(size, maxPageSize), sort);
+    }
+}
@@ -0,0 +1,54 @@
+package org.pet.backendpetshelter.Service;
+
+import org.pet.backendpetshelter.Entity.DeniedToken;
+import org.pet.backendpetshelter.Repository.DeniedTokenRepository;
+import org.pet.backendpetshelter.Service.TokenDenylistService.TokenDigest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Denylist shared through the token_denylist table. Instances only read it when polling for
+ * changes, never per request.
+ */
+@Component
+@Profile({"mysql", "test"})
+@ConditionalOnProperty(name = "security.denylist.store", havingValue = "database")
+public class DatabaseTokenDenylistStore implements TokenDenylistStore {
+
+    private final DeniedTokenRepository deniedTokenRepository;
+
+    public DatabaseTokenDenylistStore(DeniedTokenRepository deniedTokenRepository) {
+        this.deniedTokenRepository = deniedTokenRepository;
+    }
+
+    @Override
+    public void save(TokenDigest digest, Instant expiresAt) {
+        DeniedToken deniedToken = new DeniedToken();
+        deniedToken.setDigestHigh(digest.high());
+        deniedToken.setDigestLow(digest.low());
+        deniedToken.setExpiresAt(expiresAt);
+        deniedToken.setCreatedAt(Instant.now());
+        deniedTokenRepository.save(deniedToken);
+    }
+
+    @Override
+    public List<Entry> findCreatedSince(Instant since, Instant now) {
+        return deniedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(since, now).stream()
+                .map(d -> new Entry(new TokenDigest(d.getDigestHigh(), d.getDigestLow()), d.getExpiresAt()))
+                .toList();
+    }
+
+    @Override
+    public boolean contains(TokenDigest digest, Instant now) {
+        return deniedTokenRepository.existsByDigestHighAndDigestLowAndExpiresAtAfter(digest.high(), digest.low(), now);
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return deniedTokenRepository.deleteExpired(now);
+    }
+}
@@ -1,34 +1,141 @@
 package org.pet.backendpetshelter.Service;
 
+import org.pet.backendpetshelter.Configuration.DogFactProperties;
 import org.pet.backendpetshelter.DTO.DogFactResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
-import java.util.List;
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Serves dog facts from a local pool that is refilled in the background from the dogapi.dog
+ * upstream (dog-facts.refresh-interval-ms), so /api/dog-facts never waits on the upstream
+ * except once, right after startup, before the first refill. Upstream calls have connect and
+ * read timeouts and go through a circuit breaker. When a refill fails, the previous pool is
+ * kept.
+ */
 @Service
 public class DogFactService {
     private final RestClient restClient;
+    private final Executor executor;
+    private final CircuitBreaker circuitBreaker;
+    private final int poolSize;
+    private final long coldStartWaitMs;
 
-    public DogFactService(RestClient.Builder builder) {
-        this.restClient = builder.baseUrl("https://dogapi.dog/api/v2").build();
+    private volatile List<String> facts = List.of();
+    private final AtomicReference<CompletableFuture<Void>> refreshInFlight = new AtomicReference<>();
+
+    public DogFactService(RestClient.Builder builder,
+                          DogFactProperties props,
+                          @Qualifier("applicationTaskExecutor") Executor executor) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(props.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(props.getReadTimeoutMs());
+        this.restClient = builder.baseUrl(props.getBaseUrl()).requestFactory(requestFactory).build();
+        this.executor = executor;
+        this.circuitBreaker = new CircuitBreaker(props.getFailureThreshold(), Duration.ofMillis(props.getOpenDurationMs()));
+        this.poolSize = props.getPoolSize();
+        this.coldStartWaitMs = props.getConnectTimeoutMs() + props.getReadTimeoutMs();
     }
 
+    /* Random distinct facts from the pool; limits below 1 return a single fact */
     public List<String> getDogFacts(int limit) {
+        List<String> pool = facts;
+        if (pool.isEmpty()) {
+            // Nothing fetched yet: wait for one refill, bounded by the client timeouts
+            awaitRefresh();
+            pool = facts;
+        }
+
+        List<String> shuffled = new ArrayList<>(pool);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return List.copyOf(shuffled.subList(0, Math.min(Math.max(1, limit), shuffled.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${dog-facts.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    /* Starts a refill on the application task executor unless one is already running */
+    public CompletableFuture<Void> refreshAsync() {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> running = refreshInFlight.compareAndExchange(null, refresh);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshInFlight.set(null);
+                    refresh.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Saturated or shutting down: let the next call try again instead of waiting on this one
+            refreshInFlight.set(null);
+            refresh.completeExceptionally(e);
+        }
+        return refresh;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void refresh() {
+        if (!circuitBreaker.allowRequest()) {
+            return;
+        }
         try {
             DogFactResponse response = restClient.get()
-                    .uri(uriBuilder -> uriBuilder.path("/facts").queryParam("limit", limit).build())
+                    .uri(uriBuilder -> uriBuilder.path("/facts").queryParam("limit", poolSize).build())
                     .retrieve()
                     .body(DogFactResponse.class);
-            
-            if (response != null && response.getData() != null) {
-                return response.getData().stream()
-                        .map(data -> data.getAttributes().getBody())
-                        .toList();
+
+            List<String> fetched = response == null || response.getData() == null
+                    ? List.of()
+                    : response.getData().stream()
+                            .map(data -> data.getAttributes() == null ? null : data.getAttributes().getBody())
+                            .filter(Objects::nonNull)
+                            .filter(body -> !body.isBlank())
+                            .distinct()
+                            .toList();
+            if (fetched.isEmpty()) {
+                throw new IllegalStateException("Upstream returned no facts");
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+            facts = fetched;
+            circuitBreaker.recordSuccess();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            System.err.println("Dog fact refresh failed (circuit " + circuitBreaker.getState() + "): " + e.getMessage());
+        }
+    }
+
+    private void awaitRefresh() {
+        try {
+            refreshAsync().get(coldStartWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Serve whatever the pool holds (possibly nothing) rather than hold the request
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return Collections.emptyList();
     }
 }
@@ -2,10 +2,14 @@ package org.pet.backendpetshelter.Service;
 
 import jakarta.persistence.EntityNotFoundException;
 import org.pet.backendpetshelter.DTO.FosterCareRespons;
+import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.FosterCare;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
 import org.pet.backendpetshelter.Repository.FosterCareRepository;
+import org.pet.backendpetshelter.Status;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,9 +18,16 @@ import java.util.List;
 public class FosterCareService {
 
     private final FosterCareRepository repository;
+    private final AnimalRepository animalRepository;
+    private final ShelterStatsService shelterStatsService;
+    private final DashboardSummaryService dashboardSummaryService;
 
-    public FosterCareService(FosterCareRepository repository) {
+    public FosterCareService(FosterCareRepository repository, AnimalRepository animalRepository,
+                             ShelterStatsService shelterStatsService, DashboardSummaryService dashboardSummaryService) {
         this.repository = repository;
+        this.animalRepository = animalRepository;
+        this.shelterStatsService = shelterStatsService;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
 
@@ -39,6 +50,7 @@ public class FosterCareService {
 
 
     /* Add Foster Care */
+    @Transactional
     public FosterCareRespons addFosterCare(FosterCareRespons request){
         FosterCare fosterCare = new FosterCare();
 
@@ -49,14 +61,22 @@ public class FosterCareService {
         fosterCare.setIsActive(request.getIsActive());
 
         repository.save(fosterCare);
+        shelterStatsService.move(null, shelterStatsService.key(fosterCare));
+        if (Boolean.TRUE.equals(fosterCare.getIsActive())) {
+            setAnimalStatus(fosterCare, Status.FOSTERED);
+        }
         return new FosterCareRespons(fosterCare);
     }
 
 
     /* Update Foster Care */
+    @Transactional
     public FosterCareRespons updateFosterCare(Long id, FosterCareRespons request) {
         FosterCare fosterCare = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Foster Care not found with id: " + id));
+        shelterStatsService.lock(fosterCare);
+        String statsKey = shelterStatsService.key(fosterCare);
+        boolean wasActive = Boolean.TRUE.equals(fosterCare.getIsActive());
 
         fosterCare.setFosterParent(request.getFosterParent());
         fosterCare.setAnimal(request.getAnimal());
@@ -65,16 +85,36 @@ public class FosterCareService {
         fosterCare.setIsActive(request.getIsActive());
 
         repository.save(fosterCare);
+        shelterStatsService.move(statsKey, shelterStatsService.key(fosterCare));
+        if (wasActive && !Boolean.TRUE.equals(fosterCare.getIsActive())) {
+            setAnimalStatus(fosterCare, Status.AVAILABLE);
+        }
         return new FosterCareRespons(fosterCare);
     }
 
     /* Delete Foster Care */
+    @Transactional
     public void deleteFosterCare(Long id) {
-        if (repository.findById(id).isPresent()) {
-            repository.deleteById(id);
-        } else {
-            throw new EntityNotFoundException("Foster Care not found with id: " + id);
+        FosterCare fosterCare = repository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Foster Care not found with id: " + id));
+        shelterStatsService.lock(fosterCare);
+        repository.delete(fosterCare);
+        shelterStatsService.move(shelterStatsService.key(fosterCare), null);
+    }
+
+    /* A stint starting makes its animal fostered, one ending makes it available again */
+    private void setAnimalStatus(FosterCare fosterCare, Status status) {
+        if (fosterCare.getAnimal() == null || fosterCare.getAnimal().getId() == null) {
+            return;
         }
+        Animal animal = animalRepository.findById(fosterCare.getAnimal().getId())
+                .orElseThrow(() -> new EntityNotFoundException("Animal not found with id: " + fosterCare.getAnimal().getId()));
+        shelterStatsService.lock(animal);
+        String statsKey = shelterStatsService.key(animal);
+        animal.setStatus(status);
+        animalRepository.save(animal);
+        shelterStatsService.move(statsKey, shelterStatsService.key(animal));
+        dashboardSummaryService.refreshAnimal(animal.getId());
     }
 
 
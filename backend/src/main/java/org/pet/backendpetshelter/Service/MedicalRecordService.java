@@ -1,42 +1,56 @@
 package org.pet.backendpetshelter.Service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.DTO.MedicalRecordDTORequest;
 import org.pet.backendpetshelter.DTO.MedicalRecordDTOResponse;
 import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.MedicalRecord;
 import org.pet.backendpetshelter.Entity.Veterinarian;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
 import org.pet.backendpetshelter.Repository.MedicalRecordRepository;
+import org.pet.backendpetshelter.Repository.MedicalRecordSpecifications;
 import org.pet.backendpetshelter.Repository.VeterinarianRepository;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchResults;
+import org.pet.backendpetshelter.Search.SearchTarget;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Profile({"mysql", "test"})
 public class MedicalRecordService {
 
+    private static final Set<String> SCROLL_SORT_KEYS = Set.of("id", "date", "cost");
+
     private final MedicalRecordRepository medicalRecordRepository;
     private final AnimalRepository animalRepository;
     private final VeterinarianRepository veterinarianRepository;
+    private final SearchEngine searchEngine;
 
     public MedicalRecordService(MedicalRecordRepository medicalRecordRepository, 
                                 AnimalRepository animalRepository,
-                                VeterinarianRepository veterinarianRepository) {
+                                VeterinarianRepository veterinarianRepository,
+                                SearchEngine searchEngine) {
         this.medicalRecordRepository = medicalRecordRepository;
         this.animalRepository = animalRepository;
         this.veterinarianRepository = veterinarianRepository;
+        this.searchEngine = searchEngine;
     }
 
     /* Get All Medical Records */
     public Page<MedicalRecordDTOResponse> GetAllMedicalRecords(Pageable pageable) {
-        return medicalRecordRepository.findAll(pageable)
+        return medicalRecordRepository.findAll(SearchResults.withoutRelevance(pageable))
                 .map(MedicalRecordDTOResponse::new);
     }
     
@@ -48,10 +62,37 @@ public class MedicalRecordService {
             String search,
             Pageable pageable) {
         
-        return medicalRecordRepository.findAllWithFilters(animalStatus, startDate, endDate, search, pageable)
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.MEDICAL_RECORD, search) : null;
+        if (ranked != null) {
+            return SearchResults.page(medicalRecordRepository,
+                    MedicalRecordSpecifications.withFilters(animalStatus, startDate, endDate, null),
+                    ranked, pageable, MedicalRecord::getId)
+                    .map(MedicalRecordDTOResponse::new);
+        }
+
+        return medicalRecordRepository.findAllWithFilters(animalStatus, startDate, endDate, search, SearchResults.withoutRelevance(pageable))
                 .map(MedicalRecordDTOResponse::new);
     }
 
+    /* Scroll Medical Records with Filters (keyset pagination, no total count) */
+    public CursorPage<MedicalRecordDTOResponse> ScrollMedicalRecordsWithFilters(
+            String animalStatus,
+            java.util.Date startDate,
+            java.util.Date endDate,
+            String search,
+            String sortBy,
+            Sort.Direction direction,
+            String after,
+            int size) {
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.MEDICAL_RECORD, search) : null;
+        Specification<MedicalRecord> filter =
+                MedicalRecordSpecifications.withFilters(animalStatus, startDate, endDate, ranked != null ? null : search);
+
+        return KeysetScroller.scroll(medicalRecordRepository, MedicalRecord.class, filter, ranked, SCROLL_SORT_KEYS,
+                sortBy, direction, after, size, MedicalRecordDTOResponse::new);
+    }
+
     /* Get specific medical record */
     public MedicalRecordDTOResponse getMedicalRecordById(Long id) {
 
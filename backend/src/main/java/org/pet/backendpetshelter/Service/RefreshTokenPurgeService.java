@@ -0,0 +1,49 @@
+package org.pet.backendpetshelter.Service;
+
+import org.pet.backendpetshelter.Repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Deletes revoked and expired refresh tokens, which can never be rotated again, so
+ * refresh_tokens only holds live sessions. Rows go in chunks of purge-batch-size, each in its
+ * own short transaction, to keep row locks and undo log small while logins continue.
+ */
+@Service
+@Profile({"mysql", "test"})
+public class RefreshTokenPurgeService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+
+    public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    @Value("${security.refresh-token.purge-batch-size:1000}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    /* Hourly job; returns the number of deleted tokens */
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge-interval-ms:3600000}")
+    public int purge() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = refreshTokenRepository.findPurgeableIds(now, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                deleted += refreshTokenRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == batchSize);
+
+        if (deleted > 0) {
+            System.out.println("Purged " + deleted + " revoked or expired refresh tokens");
+        }
+        return deleted;
+    }
+}
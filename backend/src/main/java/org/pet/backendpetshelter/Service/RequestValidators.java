@@ -0,0 +1,43 @@
+package org.pet.backendpetshelter.Service;
+
+/*
+ * Regex checks on request fields that need no repository lookups. The services keep their own
+ * private validate* methods and delegate here; the JMH benchmarks call these directly.
+ */
+public final class RequestValidators {
+
+    private RequestValidators() {
+    }
+
+    public static void validateAnimalName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Name cannot be null or empty");
+        }
+
+        if (!name.matches("^[a-zA-Z]+$")) {
+            throw new IllegalArgumentException("Name must contain only alphabetic characters");
+        }
+
+        if (name.length() < 2 || name.length() > 30) {
+            throw new IllegalArgumentException("Name must be between 2 and 30 characters long");
+        }
+    }
+
+    public static void validateImageUrl(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            throw new IllegalArgumentException("Image URL cannot be null or empty");
+        }
+
+        if (!imageUrl.matches("^(http|https)://.+")) {
+            throw new IllegalArgumentException("Invalid image URL format"); }
+    }
+
+    public static boolean isPasswordStrong(String pwd) {
+        if (pwd == null || pwd.length() < 7) return false;
+        // Check for special character
+        if (!pwd.matches(".*[!@#$%^&*()_+=\\-{}:;\"'<>,.?/|\\[\\]\\\\].*")) return false;
+        // Check for uppercase letter
+        if (!pwd.matches(".*[A-Z].*")) return false;
+        return true;
+    }
+}
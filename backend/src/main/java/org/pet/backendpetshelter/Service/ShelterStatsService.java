@@ -0,0 +1,246 @@
+package org.pet.backendpetshelter.Service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.pet.backendpetshelter.DTO.ShelterStatsResponse;
+import org.pet.backendpetshelter.DTO.SpeciesDTOResponse;
+import org.pet.backendpetshelter.Entity.Adoption;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.FosterCare;
+import org.pet.backendpetshelter.Repository.ShelterStatRepository;
+import org.pet.backendpetshelter.Status;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Counters behind /api/stats, one shelter_stat row per key. The services that write animals,
+ * adoptions, adoption applications and foster cares move a row from its old key to its new one
+ * in their own transaction:
+ *
+ *     shelterStatsService.lock(animal);
+ *     String before = shelterStatsService.key(animal);
+ *     animal.setStatus(...);
+ *     shelterStatsService.move(before, shelterStatsService.key(animal));
+ *
+ * so a read is a handful of primary-key lookups whatever the size of the tables. Writes that
+ * bypass these services (seeding, the stored procedures, the sync consumers) are caught up by
+ * the rebuild on startup and every night.
+ */
+@Service
+@Profile({"mysql", "test"})
+public class ShelterStatsService {
+
+    private static final String ANIMALS = "animals:";
+    private static final String ADOPTIONS = "adoptions:";
+    private static final String APPLICATIONS = "applications:";
+    private static final String FOSTER_ACTIVE = "foster:active";
+    private static final int MONTHS = 12;
+
+    private final ShelterStatRepository shelterStatRepository;
+    private final SpeciesService speciesService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ShelterStatsService(ShelterStatRepository shelterStatRepository, SpeciesService speciesService,
+                               JdbcTemplate jdbcTemplate) {
+        this.shelterStatRepository = shelterStatRepository;
+        this.speciesService = speciesService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /* Counter an animal is counted under: its status and species */
+    public String key(Animal animal) {
+        if (animal == null || animal.getStatus() == null || animal.getSpecies() == null) {
+            return null;
+        }
+        return ANIMALS + animal.getStatus() + ":" + animal.getSpecies().getId();
+    }
+
+    /* Active adoptions count towards the month of their adoption date */
+    public String key(Adoption adoption) {
+        if (adoption == null || !Boolean.TRUE.equals(adoption.getIsActive()) || adoption.getAdoptionDate() == null) {
+            return null;
+        }
+        return ADOPTIONS + YearMonth.from(toLocalDate(adoption.getAdoptionDate()));
+    }
+
+    /* Active applications count towards their status */
+    public String key(AdoptionApplication application) {
+        if (application == null || !Boolean.TRUE.equals(application.getIsActive()) || application.getStatus() == null) {
+            return null;
+        }
+        return APPLICATIONS + application.getStatus();
+    }
+
+    public String key(FosterCare fosterCare) {
+        return fosterCare != null && Boolean.TRUE.equals(fosterCare.getIsActive()) ? FOSTER_ACTIVE : null;
+    }
+
+    /**
+     * Re-reads a loaded row under a row lock (SELECT ... FOR UPDATE) before its key is taken, so
+     * a concurrent write cannot change the key it is counted under until this transaction ends.
+     * Call it before changing the entity, as the refresh discards unflushed changes.
+     */
+    @Transactional
+    public void lock(Object entity) {
+        if (entity != null) {
+            entityManager.refresh(entity, LockModeType.PESSIMISTIC_WRITE);
+        }
+    }
+
+    /**
+     * Moves one row from the counter it was counted under to the one it is counted under now.
+     * Must run inside the caller's write transaction, so the counters commit or roll back with it.
+     *
+     * @param from key before the write, null for an insert
+     * @param to   key after the write, null for a delete
+     */
+    @Transactional
+    public void move(String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            add(from, -1);
+        }
+        if (to != null) {
+            add(to, 1);
+        }
+    }
+
+    private void add(String key, long delta) {
+        // A plain read first: an UPDATE of a missing key takes a gap lock, and two writers holding
+        // one for the same new key deadlock on their inserts
+        if (!shelterStatRepository.existsById(key)) {
+            create(key);
+        }
+        if (shelterStatRepository.increment(key, delta) == 0) {
+            // Deleted by a reconcile() that committed after this transaction's snapshot was taken
+            create(key);
+            shelterStatRepository.increment(key, delta);
+        }
+    }
+
+    /*
+     * First row for a key (new species or month). It is inserted at zero on this transaction's own
+     * connection, so it commits or rolls back with the write it counts. A writer racing to create
+     * the same key makes the insert wait for it and then fail as a duplicate; only the savepoint
+     * is rolled back, through JDBC so Hibernate does not mark the whole transaction rollback-only.
+     */
+    private void create(String key) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO shelter_stat (stat_key, total) VALUES (?, 0)")) {
+                insert.setString(1, key);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLIntegrityConstraintViolationException e) {
+                // Created by the other writer
+                connection.rollback(savepoint);
+            }
+            return null;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ShelterStatsResponse getStats() {
+        Map<String, Long> animalsByStatus = new LinkedHashMap<>();
+        Map<Long, Long> availableBySpeciesId = new HashMap<>();
+        for (ShelterStatRepository.Counter stat : shelterStatRepository.findByKeyStartingWith(ANIMALS)) {
+            String[] parts = stat.getKey().substring(ANIMALS.length()).split(":");
+            animalsByStatus.merge(parts[0], stat.getTotal(), Long::sum);
+            if (parts[0].equals(Status.AVAILABLE.name())) {
+                availableBySpeciesId.merge(Long.valueOf(parts[1]), stat.getTotal(), Long::sum);
+            }
+        }
+
+        Map<String, Long> availableBySpecies = new LinkedHashMap<>();
+        for (SpeciesDTOResponse species : speciesService.getAllSpecies()) {
+            Long available = availableBySpeciesId.get(species.getId());
+            if (available != null && available > 0) {
+                availableBySpecies.put(species.getName(), available);
+            }
+        }
+
+        Map<String, Long> applicationsByStatus = new LinkedHashMap<>();
+        for (ShelterStatRepository.Counter stat : shelterStatRepository.findByKeyStartingWith(APPLICATIONS)) {
+            applicationsByStatus.put(stat.getKey().substring(APPLICATIONS.length()), stat.getTotal());
+        }
+
+        // The last twelve months, oldest first, including months without adoptions
+        YearMonth thisMonth = YearMonth.now();
+        Map<String, Long> adoptionsByMonth = new LinkedHashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = MONTHS - 1; i >= 0; i--) {
+            adoptionsByMonth.put(thisMonth.minusMonths(i).toString(), 0L);
+            keys.add(ADOPTIONS + thisMonth.minusMonths(i));
+        }
+        long activeFosterCares = 0;
+        keys.add(FOSTER_ACTIVE);
+        for (ShelterStatRepository.Counter stat : shelterStatRepository.findByKeyIn(keys)) {
+            if (stat.getKey().equals(FOSTER_ACTIVE)) {
+                activeFosterCares = stat.getTotal();
+            } else {
+                adoptionsByMonth.put(stat.getKey().substring(ADOPTIONS.length()), stat.getTotal());
+            }
+        }
+
+        return new ShelterStatsResponse(animalsByStatus, availableBySpecies, applicationsByStatus,
+                adoptionsByMonth.get(thisMonth.toString()), adoptionsByMonth, activeFosterCares);
+    }
+
+    /* Recounts every counter from the source tables; returns the number of counters */
+    @Transactional
+    public int reconcile() {
+        shelterStatRepository.clear();
+        return shelterStatRepository.rebuildAnimals()
+                + shelterStatRepository.rebuildAdoptions()
+                + shelterStatRepository.rebuildApplications()
+                + shelterStatRepository.rebuildFosterCares();
+    }
+
+    /* Count what seeding and migrations wrote */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        System.out.println("Shelter statistics rebuilt: " + reconcile() + " counters");
+    }
+
+    /* Nightly job: correct any drift from writes that bypassed the services */
+    @Scheduled(cron = "${stats.reconcile-cron:0 15 0 * * *}")
+    @Transactional
+    public void reconcileNightly() {
+        System.out.println("Nightly shelter statistics reconcile rebuilt " + reconcile() + " counters");
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        // java.sql.Date (as loaded from the database) does not support toInstant()
+        return LocalDate.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+    }
+}
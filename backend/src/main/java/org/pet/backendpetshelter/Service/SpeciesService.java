@@ -1,12 +1,17 @@
 package org.pet.backendpetshelter.Service;
 
 
+import org.pet.backendpetshelter.Configuration.ReferenceDataCacheConfig;
 import org.pet.backendpetshelter.DTO.SpeciesDTORequest;
 import org.pet.backendpetshelter.DTO.SpeciesDTOResponse;
 import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,19 +21,23 @@ import java.util.stream.Collectors;
 public class SpeciesService {
 
     private final SpeciesRepository speciesRepository;
+    private final DashboardSummaryService dashboardSummaryService;
 
-    public SpeciesService(SpeciesRepository speciesRepository) {
+    public SpeciesService(SpeciesRepository speciesRepository, DashboardSummaryService dashboardSummaryService) {
         this.speciesRepository = speciesRepository;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
 
 
     /* Get All Species */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.SPECIES, key = "'all'")
     public List<SpeciesDTOResponse> getAllSpecies(){
         return speciesRepository.findAll().stream().map(SpeciesDTOResponse::new).collect(Collectors.toList());
     }
 
     /* Get Specific Species */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.SPECIES, key = "#id")
     public SpeciesDTOResponse GetSpeciesById(Long id){
         Species species = speciesRepository.findById(id).orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Species not found with id: " + id));
         return new SpeciesDTOResponse(species);
@@ -36,6 +45,7 @@ public class SpeciesService {
 
 
     /* Add Species */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.SPECIES, allEntries = true)
     public SpeciesDTOResponse addSpecies(SpeciesDTORequest request){
 
         // Validate input data
@@ -78,6 +88,12 @@ public class SpeciesService {
 
 
     /* Update Species */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.SPECIES, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.BREEDS, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
+    })
+    @Transactional
     public SpeciesDTOResponse updateSpecies(Long id, SpeciesDTORequest request){
         Species species = speciesRepository.findById(id).orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Species not found with id: " + id));
         
@@ -86,10 +102,16 @@ public class SpeciesService {
         
         species.setName(request.getName());
         speciesRepository.save(species);
+        dashboardSummaryService.refreshSpecies(species.getId());
         return new SpeciesDTOResponse(species);
     }
 
     /* Delete Species */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.SPECIES, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.BREEDS, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
+    })
     public void deleteSpecies(Long id){
         Species species = speciesRepository.findById(id).orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Species not found with id: " + id));
         speciesRepository.delete(species);
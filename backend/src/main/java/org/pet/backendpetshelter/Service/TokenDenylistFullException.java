@@ -0,0 +1,9 @@
+package org.pet.backendpetshelter.Service;
+
+/* A token could not be denied because the local denylist is at its bound and there is no store to fall back to */
+public class TokenDenylistFullException extends RuntimeException {
+
+    public TokenDenylistFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
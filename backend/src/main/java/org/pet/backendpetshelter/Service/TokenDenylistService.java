@@ -1,26 +1,194 @@
 package org.pet.backendpetshelter.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.pet.backendpetshelter.Configuration.JwtService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Revoked access tokens, kept until they would have expired anyway.
+ * Entries are keyed by a 128-bit SHA-256 prefix instead of the token string and expire on
+ * Caffeine's timer wheel (swept by the system scheduler even if the token is never looked up
+ * again). Nothing is ever evicted early: a revoked token must stay revoked. Size and lookups
+ * are published as cache.* metrics with cache=tokenDenylist.
+ *
+ * With a shared TokenDenylistStore (security.denylist.store=database) every deny is also
+ * written to the store, and each instance copies entries written by the others into its own
+ * cache every security.denylist.sync-interval-ms. The local cache thus acts as a near-cache
+ * holding the whole live denylist: isDenied never leaves the JVM, and a logout on one instance
+ * is enforced on all of them after at most one sync interval.
+ *
+ * security.denylist.max-entries bounds the local cache. Past it, new entries only go to the
+ * store and misses are checked against the store until the last of them has expired. Without
+ * a store a deny past the bound is rejected with TokenDenylistFullException.
+ */
 @Service
 public class TokenDenylistService {
-    private final Map<String, Long> denylist = new ConcurrentHashMap<>();
+
+    private final Cache<TokenDigest, Long> denylist;
+    private final long maxEntries;
+    private final JwtService jwtService; // optional, holds the verified-token cache
+    private final TokenDenylistStore store; // optional, shared with the other instances
+    private final Duration syncOverlap;
+    private volatile Instant lastSync = Instant.EPOCH;
+    // Latest expiry of an entry that is only in the store because the local cache was full
+    private final AtomicReference<Instant> overflowUntil = new AtomicReference<>(Instant.EPOCH);
+
+    @Autowired
+    public TokenDenylistService(JwtService jwtService,
+                                @Value("${security.denylist.max-entries:100000}") long maxEntries,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                ObjectProvider<TokenDenylistStore> store,
+                                @Value("${security.denylist.sync-overlap-ms:30000}") long syncOverlapMs) {
+        this(jwtService, maxEntries, meterRegistry.getIfAvailable(), store.getIfAvailable(), Duration.ofMillis(syncOverlapMs));
+    }
+
+    public TokenDenylistService(JwtService jwtService, long maxEntries, MeterRegistry registry,
+                                TokenDenylistStore store, Duration syncOverlap) {
+        this.jwtService = jwtService;
+        this.maxEntries = maxEntries;
+        this.store = store;
+        this.syncOverlap = syncOverlap;
+        this.denylist = Caffeine.newBuilder()
+                .expireAfter(new Expiry<TokenDigest, Long>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, Long ttlSeconds, long currentTime) {
+                        return TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, Long ttlSeconds, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, ttlSeconds, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, Long ttlSeconds, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, denylist, "tokenDenylist");
+        }
+    }
 
     public void deny(String token, long ttlSeconds) {
-        denylist.put(token, Instant.now().getEpochSecond() + ttlSeconds);
+        TokenDigest digest = TokenDigest.of(token);
+        Instant expiresAt = Instant.now().plusSeconds(ttlSeconds);
+        if (hasRoom()) {
+            denylist.put(digest, ttlSeconds);
+            if (store != null) {
+                try {
+                    store.save(digest, expiresAt);
+                } catch (RuntimeException e) {
+                    // The token stays denied here; only the other instances miss it
+                    System.out.println("Could not share denied token with other instances: " + e.getMessage());
+                }
+            }
+        } else if (store != null) {
+            try {
+                store.save(digest, expiresAt);
+            } catch (RuntimeException e) {
+                throw new TokenDenylistFullException("Token denylist is full and the shared store is unavailable", e);
+            }
+            overflowed(expiresAt);
+        } else {
+            throw new TokenDenylistFullException("Token denylist is full (" + maxEntries + " entries)", null);
+        }
+        if (jwtService != null) {
+            jwtService.evictVerifiedAccessToken(token);
+        }
     }
 
     public boolean isDenied(String token) {
-        Long until = denylist.get(token);
-        if (until == null) return false;
-        if (Instant.now().getEpochSecond() > until) {
-            denylist.remove(token);
-            return false;
+        TokenDigest digest = TokenDigest.of(token);
+        if (denylist.getIfPresent(digest) != null) {
+            return true;
+        }
+        Instant now = Instant.now();
+        return now.isBefore(overflowUntil.get()) && store.contains(digest, now);
+    }
+
+    /**
+     * Copies entries written by other instances into the local cache. Each pass re-reads the
+     * last sync-overlap-ms so rows committed late or stamped by a node with a lagging clock are
+     * not skipped; re-adding an entry is harmless. The first pass loads the whole live denylist.
+     */
+    @Scheduled(fixedDelayString = "${security.denylist.sync-interval-ms:5000}")
+    public void syncFromStore() {
+        if (store == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        Instant since = lastSync.equals(Instant.EPOCH) ? Instant.EPOCH : lastSync.minus(syncOverlap);
+        for (TokenDenylistStore.Entry entry : store.findCreatedSince(since, now)) {
+            long ttlSeconds = Duration.between(now, entry.expiresAt()).getSeconds();
+            if (ttlSeconds <= 0) {
+                continue;
+            }
+            if (denylist.getIfPresent(entry.digest()) != null || hasRoom()) {
+                denylist.put(entry.digest(), ttlSeconds);
+            } else {
+                overflowed(entry.expiresAt());
+            }
+        }
+        lastSync = now;
+    }
+
+    /* The local cache expires on its own; the shared store is swept here */
+    @Scheduled(fixedDelayString = "${security.denylist.purge-interval-ms:600000}")
+    public void purgeExpiredFromStore() {
+        if (store == null) {
+            return;
+        }
+        store.deleteExpired(Instant.now());
+    }
+
+    /* Number of live entries in the local cache after pending expirations have been applied */
+    public long size() {
+        denylist.cleanUp();
+        return denylist.estimatedSize();
+    }
+
+    private boolean hasRoom() {
+        return denylist.estimatedSize() < maxEntries || size() < maxEntries;
+    }
+
+    private void overflowed(Instant expiresAt) {
+        overflowUntil.accumulateAndGet(expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /* First 128 bits of the token's SHA-256: a fixed 16-byte key whatever the token length */
+    public record TokenDigest(long high, long low) {
+
+        static TokenDigest of(String token) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(
+                        MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+                return new TokenDigest(digest.getLong(), digest.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
         }
-        return true;
     }
-}
\ No newline at end of file
+}
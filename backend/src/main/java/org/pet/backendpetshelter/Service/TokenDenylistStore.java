@@ -0,0 +1,28 @@
+package org.pet.backendpetshelter.Service;
+
+import org.pet.backendpetshelter.Service.TokenDenylistService.TokenDigest;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Store shared by all backend instances behind the load balancer, selected with the
+ * security.denylist.store property. TokenDenylistService writes every logout here and
+ * replicates new entries into its local near-cache on a fixed delay.
+ */
+public interface TokenDenylistStore {
+
+    void save(TokenDigest digest, Instant expiresAt);
+
+    /* Entries written after {@code since} that have not expired at {@code now} */
+    List<Entry> findCreatedSince(Instant since, Instant now);
+
+    /* Whether the digest is denied and not expired at {@code now}; only read once the local cache is full */
+    boolean contains(TokenDigest digest, Instant now);
+
+    /* Removes entries whose token has expired; returns how many were deleted */
+    int deleteExpired(Instant now);
+
+    record Entry(TokenDigest digest, Instant expiresAt) {
+    }
+}
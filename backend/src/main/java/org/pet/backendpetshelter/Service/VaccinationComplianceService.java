@@ -0,0 +1,74 @@
+package org.pet.backendpetshelter.Service;
+
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps animal.vaccination_compliant in sync so the animal search can filter on an
+ * indexed column instead of calling HasRequiredVaccinations() for every row. Bulk refreshes
+ * copy the flags on into the dashboard's available animals; callers of refreshAnimal refresh
+ * that animal's summary rows themselves.
+ */
+@Service
+@Profile({"mysql", "test"})
+public class VaccinationComplianceService {
+
+    private final AnimalRepository animalRepository;
+    private final DashboardSummaryService dashboardSummaryService;
+
+    public VaccinationComplianceService(AnimalRepository animalRepository,
+                                        DashboardSummaryService dashboardSummaryService) {
+        this.animalRepository = animalRepository;
+        this.dashboardSummaryService = dashboardSummaryService;
+    }
+
+    /* Refresh a single animal after its vaccinations or species changed */
+    @Transactional
+    public void refreshAnimal(Long animalId) {
+        if (animalId == null) {
+            return;
+        }
+        animalRepository.refreshVaccinationCompliance(animalId);
+    }
+
+    /* Refresh every animal of a species after its required vaccination set changed */
+    @Transactional
+    public void refreshSpecies(Long speciesId) {
+        if (speciesId == null) {
+            return;
+        }
+        animalRepository.refreshVaccinationComplianceForSpecies(speciesId);
+        dashboardSummaryService.refreshCompliance();
+    }
+
+    /* Refresh all animals, e.g. after a vaccination type's requiredForAdoption changed */
+    @Transactional
+    public void refreshAll() {
+        animalRepository.refreshVaccinationComplianceForAll();
+        dashboardSummaryService.refreshCompliance();
+    }
+
+    /* Rebuild the flag once seeding and migrations have run, before the dashboard summaries copy it */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional
+    public void refreshOnStartup() {
+        int updated = animalRepository.refreshVaccinationComplianceForAll();
+        System.out.println("Vaccination compliance refreshed for " + updated + " animals");
+    }
+
+    /* Daily job: flip animals whose required vaccinations passed their next_due_date */
+    @Scheduled(cron = "${vaccination.compliance.refresh-cron:0 5 0 * * *}")
+    @Transactional
+    public void refreshExpired() {
+        int updated = animalRepository.refreshExpiredVaccinationCompliance();
+        dashboardSummaryService.refreshCompliance();
+        System.out.println("Daily vaccination compliance check re-evaluated " + updated + " animals");
+    }
+}
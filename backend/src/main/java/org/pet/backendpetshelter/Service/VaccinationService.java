@@ -1,49 +1,72 @@
 package org.pet.backendpetshelter.Service;
 
+import org.pet.backendpetshelter.DTO.CursorPage;
 import org.pet.backendpetshelter.DTO.VaccinationRequest;
 import org.pet.backendpetshelter.DTO.VaccinationResponse;
 import org.pet.backendpetshelter.Entity.Vaccination;
+import org.pet.backendpetshelter.Pagination.KeysetScroller;
 import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Repository.VaccinationSpecifications;
 import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.VaccinationType;
 import org.pet.backendpetshelter.Entity.Veterinarian;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
 import org.pet.backendpetshelter.Repository.VaccinationTypeRepository;
 import org.pet.backendpetshelter.Repository.VeterinarianRepository;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchResults;
+import org.pet.backendpetshelter.Search.SearchTarget;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @Profile({"mysql", "test"})
 public class VaccinationService {
 
+    private static final Set<String> SCROLL_SORT_KEYS = Set.of("id", "dateAdministered", "nextDueDate");
+
     private final VaccinationRepository vaccinationRepository;
     private final AnimalRepository animalRepository;
     private final VeterinarianRepository veterinarianRepository;
     private final VaccinationTypeRepository vaccinationTypeRepository;
+    private final VaccinationComplianceService vaccinationComplianceService;
+    private final SearchEngine searchEngine;
+    private final DashboardSummaryService dashboardSummaryService;
 
     public VaccinationService(VaccinationRepository vaccinationRepository,
                               AnimalRepository animalRepository,
                               VeterinarianRepository veterinarianRepository,
-                              VaccinationTypeRepository vaccinationTypeRepository) {
+                              VaccinationTypeRepository vaccinationTypeRepository,
+                              VaccinationComplianceService vaccinationComplianceService,
+                              SearchEngine searchEngine,
+                              DashboardSummaryService dashboardSummaryService) {
         this.vaccinationRepository = vaccinationRepository;
         this.animalRepository = animalRepository;
         this.veterinarianRepository = veterinarianRepository;
         this.vaccinationTypeRepository = vaccinationTypeRepository;
+        this.vaccinationComplianceService = vaccinationComplianceService;
+        this.searchEngine = searchEngine;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
     /* Get All Vaccinations */
     public Page<VaccinationResponse> GetAllVaccinations(Pageable pageable) {
-        return vaccinationRepository.findAll(pageable)
+        return vaccinationRepository.findAll(SearchResults.withoutRelevance(pageable))
                 .map(VaccinationResponse::new);
     }
     
@@ -53,16 +76,50 @@ public class VaccinationService {
             String search,
             Pageable pageable) {
         
-        return vaccinationRepository.findAllWithFilters(animalStatus, search, pageable)
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.VACCINATION, search) : null;
+        if (ranked != null) {
+            return SearchResults.page(vaccinationRepository, VaccinationSpecifications.withFilters(animalStatus, null),
+                    ranked, pageable, Vaccination::getId)
+                    .map(VaccinationResponse::new);
+        }
+
+        return vaccinationRepository.findAllWithFilters(animalStatus, search, toColumnSort(SearchResults.withoutRelevance(pageable)))
                 .map(VaccinationResponse::new);
     }
 
+    // The filter query is native, so sort properties must be mapped to database column names
+    private Pageable toColumnSort(Pageable pageable) {
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> order.withProperty(
+                        order.getProperty().equals("dateAdministered") ? "date_administered" :
+                        order.getProperty().equals("nextDueDate") ? "next_due_date" : order.getProperty()))
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /* Scroll Vaccinations with Filters (keyset pagination, no total count) */
+    public CursorPage<VaccinationResponse> ScrollVaccinationsWithFilters(
+            String animalStatus,
+            String search,
+            String sortBy,
+            Sort.Direction direction,
+            String after,
+            int size) {
+
+        List<Long> ranked = search != null ? searchEngine.search(SearchTarget.VACCINATION, search) : null;
+        Specification<Vaccination> filter = VaccinationSpecifications.withFilters(animalStatus, ranked != null ? null : search);
+
+        return KeysetScroller.scroll(vaccinationRepository, Vaccination.class, filter, ranked, SCROLL_SORT_KEYS,
+                sortBy, direction, after, size, VaccinationResponse::new);
+    }
+
     public VaccinationResponse GetVaccinationById(Long id) {
         Vaccination vaccination = vaccinationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination not found with id: " + id));
         return new VaccinationResponse(vaccination);
     }
 
+    @Transactional
     public VaccinationResponse addVaccination(VaccinationRequest request) {
         // Validate required fields
         if (request.getAnimalId() == null) {
@@ -88,9 +145,12 @@ public class VaccinationService {
         vaccination.setNextDueDate(parseDate(request.getNextDueDate()));
 
         vaccinationRepository.save(vaccination);
+        vaccinationComplianceService.refreshAnimal(animal.getId());
+        dashboardSummaryService.refreshAnimal(animal.getId());
         return new VaccinationResponse(vaccination);
     }
 
+    @Transactional
     public VaccinationResponse updateVaccination(Long id, VaccinationRequest request) {
         Vaccination vaccination = vaccinationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination not found with id: " + id));
@@ -101,19 +161,30 @@ public class VaccinationService {
         VaccinationType vaccinationType = vaccinationTypeRepository.findById(request.getVaccinationTypeId())
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination Type not found with id: " + request.getVaccinationTypeId()));
 
+        Long previousAnimalId = vaccination.getAnimal().getId();
+
         vaccination.setAnimal(animal);
         vaccination.setDateAdministered(parseDate(request.getDateAdministered()));
         vaccination.setVaccinationType(vaccinationType);
         vaccination.setNextDueDate(parseDate(request.getNextDueDate()));
 
         vaccinationRepository.save(vaccination);
+        vaccinationComplianceService.refreshAnimal(animal.getId());
+        dashboardSummaryService.refreshAnimal(animal.getId());
+        if (!previousAnimalId.equals(animal.getId())) {
+            vaccinationComplianceService.refreshAnimal(previousAnimalId);
+            dashboardSummaryService.refreshAnimal(previousAnimalId);
+        }
         return new VaccinationResponse(vaccination);
     }
 
+    @Transactional
     public void deleteVaccination(Long id) {
         Vaccination vaccination = vaccinationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination not found with id: " + id));
         vaccinationRepository.delete(vaccination);
+        vaccinationComplianceService.refreshAnimal(vaccination.getAnimal().getId());
+        dashboardSummaryService.refreshAnimal(vaccination.getAnimal().getId());
     }
 
     private Veterinarian getAuthenticatedVeterinarian() {
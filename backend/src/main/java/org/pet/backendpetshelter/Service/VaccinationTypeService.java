@@ -2,32 +2,46 @@ package org.pet.backendpetshelter.Service;
 
 
 import jakarta.persistence.EntityNotFoundException;
+import org.pet.backendpetshelter.Configuration.ReferenceDataCacheConfig;
 import org.pet.backendpetshelter.DTO.VaccinationTypeResponse;
 import org.pet.backendpetshelter.Entity.VaccinationType;
 import org.pet.backendpetshelter.Repository.VaccinationTypeRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Profile({"mysql", "test"})
 public class VaccinationTypeService {
 
     private final VaccinationTypeRepository vaccinationTypeRepository;
+    private final VaccinationComplianceService vaccinationComplianceService;
+    private final DashboardSummaryService dashboardSummaryService;
 
-    public VaccinationTypeService(VaccinationTypeRepository vaccinationTypeRepository) {
+    public VaccinationTypeService(VaccinationTypeRepository vaccinationTypeRepository,
+                                  VaccinationComplianceService vaccinationComplianceService,
+                                  DashboardSummaryService dashboardSummaryService) {
         this.vaccinationTypeRepository = vaccinationTypeRepository;
+        this.vaccinationComplianceService = vaccinationComplianceService;
+        this.dashboardSummaryService = dashboardSummaryService;
     }
 
 
     /* Get All Vaccination Types */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES, key = "#pageable")
     public Page<VaccinationTypeResponse> GetAllVaccinationTypes(Pageable pageable) {
         return vaccinationTypeRepository.findAll(pageable)
                 .map(VaccinationTypeResponse::new);
     }
     
-    /* Get All Vaccination Types with Filters */
+    /* Get All Vaccination Types with Filters (free-text searches are not cached) */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES,
+            key = "{#requiredForAdoption, #pageable}", condition = "#search == null || #search.isBlank()")
     public Page<VaccinationTypeResponse> GetAllVaccinationTypesWithFilters(
             Boolean requiredForAdoption,
             String search,
@@ -39,6 +53,7 @@ public class VaccinationTypeService {
 
 
     /* Get Specific Vaccination Type */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES, key = "#id")
     public VaccinationTypeResponse GetVaccinationTypeById(Long id) {
         VaccinationType vaccinationType = vaccinationTypeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination Type not found with id: " + id));
@@ -46,6 +61,7 @@ public class VaccinationTypeService {
     }
 
     /* Add Vaccination Type */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES, allEntries = true)
     public VaccinationTypeResponse addVaccinationType(VaccinationTypeResponse request) {
         // Validate vaccination name
         if (request.getVaccineName() == null || request.getVaccineName().trim().isEmpty()) {
@@ -67,6 +83,11 @@ public class VaccinationTypeService {
 
 
     /* Update Vaccination Type */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
+    })
+    @Transactional
     public VaccinationTypeResponse updateVaccinationType(Long id, VaccinationTypeResponse request) {
         VaccinationType vaccinationType = vaccinationTypeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination Type not found with id: " + id));
@@ -76,20 +97,35 @@ public class VaccinationTypeService {
             throw new IllegalArgumentException("Vaccination name is required");
         }
 
+        boolean wasRequired = Boolean.TRUE.equals(vaccinationType.getRequiredForAdoption());
+
         vaccinationType.setVaccineName(request.getVaccineName());
         vaccinationType.setDescription(request.getDescription());
         vaccinationType.setDurationMonths(request.getDurationMonths());
         vaccinationType.setRequiredForAdoption(request.getRequiredForAdoption());
 
         vaccinationTypeRepository.save(vaccinationType);
+        dashboardSummaryService.refreshVaccinationType(vaccinationType.getId());
+
+        // Only a change of the required set affects compliance
+        if (wasRequired != Boolean.TRUE.equals(vaccinationType.getRequiredForAdoption())) {
+            vaccinationComplianceService.refreshAll();
+        }
         return new VaccinationTypeResponse(vaccinationType);
     }
 
     /* Delete Vaccination Type */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINATION_TYPES, allEntries = true),
+            @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
+    })
     public void deleteVaccinationType(Long id) {
         VaccinationType vaccinationType = vaccinationTypeRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Vaccination Type not found with id: " + id));
         vaccinationTypeRepository.delete(vaccinationType);
+        if (Boolean.TRUE.equals(vaccinationType.getRequiredForAdoption())) {
+            vaccinationComplianceService.refreshAll();
+        }
     }
 
 
@@ -1,6 +1,7 @@
 package org.pet.backendpetshelter.Service;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.pet.backendpetshelter.Configuration.ReferenceDataCacheConfig;
 import org.pet.backendpetshelter.DTO.VaccineTypeSpeciesRequest;
 import org.pet.backendpetshelter.DTO.VaccineTypeSpeciesResponse;
 import org.pet.backendpetshelter.Entity.Species;
@@ -9,6 +10,8 @@ import org.pet.backendpetshelter.Entity.VaccineTypeSpecies;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
 import org.pet.backendpetshelter.Repository.VaccinationTypeRepository;
 import org.pet.backendpetshelter.Repository.VaccineTypeSpeciesRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -22,17 +25,21 @@ public class VaccineTypeSpeciesService {
     private final VaccineTypeSpeciesRepository vaccineTypeSpeciesRepository;
     private final SpeciesRepository speciesRepository;
     private final VaccinationTypeRepository vaccinationTypeRepository;
+    private final VaccinationComplianceService vaccinationComplianceService;
 
     public VaccineTypeSpeciesService(
             VaccineTypeSpeciesRepository vaccineTypeSpeciesRepository,
             SpeciesRepository speciesRepository,
-            VaccinationTypeRepository vaccinationTypeRepository) {
+            VaccinationTypeRepository vaccinationTypeRepository,
+            VaccinationComplianceService vaccinationComplianceService) {
         this.vaccineTypeSpeciesRepository = vaccineTypeSpeciesRepository;
         this.speciesRepository = speciesRepository;
         this.vaccinationTypeRepository = vaccinationTypeRepository;
+        this.vaccinationComplianceService = vaccinationComplianceService;
     }
 
     /* Get All VaccineTypeSpecies */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, key = "'all'")
     public List<VaccineTypeSpeciesResponse> GetAllVaccineTypeSpecies() {
         return vaccineTypeSpeciesRepository.findAll().stream()
                 .map(VaccineTypeSpeciesResponse::new)
@@ -40,6 +47,7 @@ public class VaccineTypeSpeciesService {
     }
 
     /* Get Specific VaccineTypeSpecies */
+    @Cacheable(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, key = "#id")
     public VaccineTypeSpeciesResponse GetVaccineTypeSpeciesById(Long id) {
         VaccineTypeSpecies vaccineTypeSpecies = vaccineTypeSpeciesRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("VaccineTypeSpecies not found with id: " + id));
@@ -47,6 +55,7 @@ public class VaccineTypeSpeciesService {
     }
 
     /* Add VaccineTypeSpecies */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
     public VaccineTypeSpeciesResponse addVaccineTypeSpecies(VaccineTypeSpeciesRequest request) {
         Species species = speciesRepository.findById(request.getSpeciesId())
                 .orElseThrow(() -> new EntityNotFoundException("Species not found with id: " + request.getSpeciesId()));
@@ -59,10 +68,12 @@ public class VaccineTypeSpeciesService {
         vaccineTypeSpecies.setVaccinationType(vaccinationType);
 
         vaccineTypeSpeciesRepository.save(vaccineTypeSpecies);
+        vaccinationComplianceService.refreshSpecies(species.getId());
         return new VaccineTypeSpeciesResponse(vaccineTypeSpecies);
     }
 
     /* Update VaccineTypeSpecies */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
     public VaccineTypeSpeciesResponse updateVaccineTypeSpecies(Long id, VaccineTypeSpeciesRequest request) {
         VaccineTypeSpecies vaccineTypeSpecies = vaccineTypeSpeciesRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("VaccineTypeSpecies not found with id: " + id));
@@ -73,17 +84,25 @@ public class VaccineTypeSpeciesService {
         VaccinationType vaccinationType = vaccinationTypeRepository.findById(request.getVaccinationTypeId())
                 .orElseThrow(() -> new EntityNotFoundException("VaccinationType not found with id: " + request.getVaccinationTypeId()));
 
+        Long previousSpeciesId = vaccineTypeSpecies.getSpecies().getId();
+
         vaccineTypeSpecies.setSpecies(species);
         vaccineTypeSpecies.setVaccinationType(vaccinationType);
 
         vaccineTypeSpeciesRepository.save(vaccineTypeSpecies);
+        vaccinationComplianceService.refreshSpecies(species.getId());
+        if (!previousSpeciesId.equals(species.getId())) {
+            vaccinationComplianceService.refreshSpecies(previousSpeciesId);
+        }
         return new VaccineTypeSpeciesResponse(vaccineTypeSpecies);
     }
 
     /* Delete VaccineTypeSpecies */
+    @CacheEvict(cacheNames = ReferenceDataCacheConfig.VACCINE_TYPE_SPECIES, allEntries = true)
     public void deleteVaccineTypeSpecies(Long id) {
         VaccineTypeSpecies vaccineTypeSpecies = vaccineTypeSpeciesRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("VaccineTypeSpecies not found with id: " + id));
         vaccineTypeSpeciesRepository.delete(vaccineTypeSpecies);
+        vaccinationComplianceService.refreshSpecies(vaccineTypeSpecies.getSpecies().getId());
     }
 }
\ No newline at end of file
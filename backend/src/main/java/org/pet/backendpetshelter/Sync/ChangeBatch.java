@@ -0,0 +1,46 @@
+package org.pet.backendpetshelter.Sync;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One poll of change_log, coalesced per table: only the latest operation on each row is kept,
+ * since consumers re-read the current row anyway. gaps are the ids below lastChangeId still
+ * unseen after this poll, saved with the cursor on commit.
+ */
+public record ChangeBatch(long lastChangeId,
+                          int size,
+                          Map<String, Set<Long>> upserts,
+                          Map<String, Set<Long>> deletes,
+                          Map<Long, Instant> gaps) {
+
+    public record Change(long changeId, String table, long entityId, ChangeOperation operation) {
+    }
+
+    public static ChangeBatch coalesce(long afterChangeId, List<Change> changes, Map<Long, Instant> gaps) {
+        Map<String, Set<Long>> upserts = new LinkedHashMap<>();
+        Map<String, Set<Long>> deletes = new LinkedHashMap<>();
+        long lastChangeId = afterChangeId;
+        for (Change change : changes) {
+            Map<String, Set<Long>> target = change.operation() == ChangeOperation.DELETE ? deletes : upserts;
+            Map<String, Set<Long>> other = target == upserts ? deletes : upserts;
+            Set<Long> superseded = other.get(change.table());
+            if (superseded != null) {
+                superseded.remove(change.entityId());
+            }
+            target.computeIfAbsent(change.table(), t -> new LinkedHashSet<>()).add(change.entityId());
+            lastChangeId = Math.max(lastChangeId, change.changeId());
+        }
+        upserts.values().removeIf(Set::isEmpty);
+        deletes.values().removeIf(Set::isEmpty);
+        return new ChangeBatch(lastChangeId, changes.size(), upserts, deletes, gaps);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
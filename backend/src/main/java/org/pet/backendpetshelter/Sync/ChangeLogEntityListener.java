@@ -0,0 +1,32 @@
+package org.pet.backendpetshelter.Sync;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener on the entities copied to MongoDB and Neo4j. Like SearchIndexEntityListener it is
+ * created through Spring's bean container; the recorder is looked up lazily because the listener is
+ * built with the entity manager factory, and JPA test slices have no recorder at all.
+ * Bulk JPQL/native updates and the stored procedures bypass it.
+ */
+public class ChangeLogEntityListener {
+
+    private final ObjectProvider<ChangeLogRecorder> recorder;
+
+    public ChangeLogEntityListener(ObjectProvider<ChangeLogRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Object entity) {
+        recorder.ifAvailable(r -> r.record(entity, ChangeOperation.UPSERT));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        recorder.ifAvailable(r -> r.record(entity, ChangeOperation.DELETE));
+    }
+}
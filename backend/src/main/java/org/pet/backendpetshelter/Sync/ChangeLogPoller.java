@@ -0,0 +1,91 @@
+package org.pet.backendpetshelter.Sync;
+
+import org.pet.backendpetshelter.Entity.SyncCursor;
+import org.pet.backendpetshelter.Repository.SyncCursorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads change_log after a consumer's cursor. Ids are handed out at insert time, so a transaction
+ * that commits late can add a lower id behind rows that were already applied. Every id skipped
+ * below the cursor is therefore kept as a gap and looked up again on each poll until it shows up
+ * or sync.gap-grace-ms has passed (rolled-back inserts leave gaps that never fill).
+ */
+@Component
+@Profile({"migrate-mongo", "migrate-neo4j", "test"})
+public class ChangeLogPoller {
+
+    private static final String SELECT = "SELECT change_id, entity_table, entity_id, operation FROM change_log ";
+
+    private static final RowMapper<ChangeBatch.Change> CHANGE = (rs, n) -> new ChangeBatch.Change(
+            rs.getLong("change_id"),
+            rs.getString("entity_table"),
+            rs.getLong("entity_id"),
+            ChangeOperation.valueOf(rs.getString("operation")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SyncCursorRepository cursorRepository;
+    private final int batchSize;
+    private final long gapGraceMs;
+
+    public ChangeLogPoller(JdbcTemplate jdbcTemplate,
+                           SyncCursorRepository cursorRepository,
+                           @Value("${sync.batch-size:500}") int batchSize,
+                           @Value("${sync.gap-grace-ms:60000}") long gapGraceMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.cursorRepository = cursorRepository;
+        this.batchSize = batchSize;
+        this.gapGraceMs = gapGraceMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public ChangeBatch poll(String consumer) {
+        SyncCursor cursor = cursorRepository.findById(consumer).orElse(null);
+        long after = cursor == null ? 0L : cursor.getLastChangeId();
+        Map<Long, Instant> gaps = cursor == null ? new HashMap<>() : new HashMap<>(cursor.getGaps());
+
+        List<ChangeBatch.Change> changes = new ArrayList<>(jdbcTemplate.query(
+                SELECT + "WHERE change_id > ? ORDER BY change_id LIMIT ?", CHANGE, after, batchSize));
+        Instant now = Instant.now();
+        long expected = cursor == null && !changes.isEmpty() ? changes.get(0).changeId() : after + 1;
+        for (ChangeBatch.Change change : changes) {
+            // Jumps wider than a batch are purged rows or reserved id ranges, not in-flight writes
+            if (change.changeId() - expected <= batchSize) {
+                for (long id = expected; id < change.changeId(); id++) {
+                    gaps.put(id, now);
+                }
+            }
+            expected = change.changeId() + 1;
+        }
+
+        if (cursor != null && !cursor.getGaps().isEmpty()) {
+            List<ChangeBatch.Change> filled = namedJdbcTemplate.query(
+                    SELECT + "WHERE change_id IN (:ids)", Map.of("ids", cursor.getGaps().keySet()), CHANGE);
+            filled.forEach(change -> gaps.remove(change.changeId()));
+            changes.addAll(filled);
+            changes.sort(Comparator.comparingLong(ChangeBatch.Change::changeId));
+        }
+        gaps.values().removeIf(missedAt -> !missedAt.isAfter(now.minusMillis(gapGraceMs)));
+        return ChangeBatch.coalesce(after, changes, gaps);
+    }
+
+    public void commit(String consumer, ChangeBatch batch) {
+        cursorRepository.save(new SyncCursor(consumer, batch.lastChangeId(), Instant.now(), batch.gaps()));
+    }
+}
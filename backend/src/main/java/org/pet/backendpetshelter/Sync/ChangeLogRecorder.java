@@ -0,0 +1,64 @@
+package org.pet.backendpetshelter.Sync;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Appends entity changes to change_log. The insert runs on the connection of the surrounding
+ * transaction, so a change is logged exactly when the entity write commits.
+ */
+@Component
+@Profile({"mysql", "migrate-mongo", "migrate-neo4j", "test"})
+public class ChangeLogRecorder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final long retentionMs;
+
+    public ChangeLogRecorder(JdbcTemplate jdbcTemplate,
+                             EntityManagerFactory entityManagerFactory,
+                             @Value("${sync.change-log.enabled:false}") boolean enabled,
+                             @Value("${sync.change-log.retention-ms:604800000}") long retentionMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.retentionMs = retentionMs;
+    }
+
+    public void record(Object entity, ChangeOperation operation) {
+        if (!enabled) {
+            return;
+        }
+        Table table = Hibernate.getClass(entity).getAnnotation(Table.class);
+        Object id = entityManagerFactory.getPersistenceUnitUtil().getIdentifier(entity);
+        if (table == null || id == null) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO change_log (entity_table, entity_id, operation, changed_at) VALUES (?, ?, ?, ?)",
+                table.name(), id, operation.name(), Timestamp.from(Instant.now()));
+    }
+
+    // Every consumer keeps its own cursor, so the log only needs to outlive the slowest one
+    @Scheduled(fixedDelayString = "${sync.change-log.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        int purged = jdbcTemplate.update("DELETE FROM change_log WHERE changed_at < ?",
+                Timestamp.from(Instant.now().minusMillis(retentionMs)));
+        if (purged > 0) {
+            System.out.println("Purged " + purged + " change log entries");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.pet.backendpetshelter.Sync;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
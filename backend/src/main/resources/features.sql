@@ -176,6 +176,9 @@ BEGIN
     
     CLOSE vaccine_cursor;
     
+    -- Keep the maintained compliance flag in sync with the new vaccinations
+    UPDATE animal SET vaccination_compliant = HasRequiredVaccinations(p_animal_id) WHERE animal_id = p_animal_id;
+    
     SELECT CONCAT('Successfully administered ', v_vaccination_count, ' required vaccinations for animal ID: ', p_animal_id) AS result;
 END //
 DELIMITER ;
@@ -244,7 +247,7 @@ AFTER INSERT ON adoption
 FOR EACH ROW
 BEGIN
     UPDATE animal 
-    SET status = 'adopted' 
+    SET status = 'ADOPTED' 
     WHERE animal_id = (SELECT animal_id FROM adoption_application WHERE adoption_application_id = NEW.application_id);
 END //
 DELIMITER ;
@@ -257,44 +260,22 @@ AFTER INSERT ON adoption
 FOR EACH ROW
 BEGIN
     UPDATE adoption_application 
-    SET status = 'approved' 
+    SET status = 'APPROVED' 
     WHERE adoption_application_id = NEW.application_id;
 END //
 DELIMITER ;
 
--- Trigger 3: Update animal status when foster care starts
+-- Triggers 3 and 4 (retired): FosterCareService sets the animal's status when a foster stint starts or ends,
+-- in the same transaction as the shelter_stat counters. Dropped so existing databases stop changing it behind them
 DROP TRIGGER IF EXISTS after_foster_insert;
-DELIMITER //
-CREATE TRIGGER after_foster_insert
-AFTER INSERT ON foster_care
-FOR EACH ROW
-BEGIN
-    IF NEW.is_active = TRUE THEN
-        UPDATE animal 
-        SET status = 'fostered' 
-        WHERE animal_id = NEW.animal_animal_id;
-    END IF;
-END //
-DELIMITER ;
 
--- Trigger 4: Update animal status when foster care ends
 DROP TRIGGER IF EXISTS after_foster_update;
-DELIMITER //
-CREATE TRIGGER after_foster_update
-AFTER UPDATE ON foster_care
-FOR EACH ROW
-BEGIN
-    IF OLD.is_active = TRUE AND NEW.is_active = FALSE THEN
-        UPDATE animal 
-        SET status = 'available' 
-        WHERE animal_id = NEW.animal_animal_id;
-    END IF;
-END //
-DELIMITER ;
 
 -- ============================================================================
 -- VIEWS
 -- ============================================================================
+-- /api/dashboard reads the *_summary tables DashboardSummaryService maintains from
+-- these queries. The views stay for ad-hoc use and the DashboardReadBenchmark.
 
 -- View 1: Available animals with full details
 CREATE OR REPLACE VIEW AvailableAnimalsView AS
@@ -379,36 +360,51 @@ ORDER BY aa.application_date;
 -- ============================================================================
 -- INDEXES
 -- ============================================================================
+-- Built online so a restart never blocks writes to the table. InnoDB cannot
+-- keep full-text indexes up to date during the build, so those take LOCK=SHARED
+-- (reads continue, writes wait).
 
 -- Index 1: Speed up user login queries
-CREATE INDEX idx_user_email ON users(email);
+CREATE INDEX idx_user_email ON users(email) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 2: Speed up animal searches by name
-CREATE INDEX idx_animal_name ON animal(name);
+CREATE INDEX idx_animal_name ON animal(name) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 3: Speed up animal filtering by status
-CREATE INDEX idx_animal_status ON animal(status);
+CREATE INDEX idx_animal_status ON animal(status) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 4: Speed up queries for animals by species
-CREATE INDEX idx_animal_species ON animal(species_id);
+CREATE INDEX idx_animal_species ON animal(species_id) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 5: Composite index for finding available animals of a specific species
-CREATE INDEX idx_animal_species_status ON animal(species_id, status);
+CREATE INDEX idx_animal_species_status ON animal(species_id, status) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 6: Speed up vaccination lookups by animal
-CREATE INDEX idx_vaccination_animal ON vaccination(animal_id);
+CREATE INDEX idx_vaccination_animal ON vaccination(animal_id) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 7: Speed up vaccination due date checks
-CREATE INDEX idx_vaccination_due_date ON vaccination(next_due_date);
+CREATE INDEX idx_vaccination_due_date ON vaccination(next_due_date) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 8: Speed up medical record lookups
-CREATE INDEX idx_medical_animal ON medical_record(animal_id);
+CREATE INDEX idx_medical_animal ON medical_record(animal_id) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 9: Speed up application queries by user
-CREATE INDEX idx_application_user ON adoption_application(user_id);
+CREATE INDEX idx_application_user ON adoption_application(user_id) ALGORITHM=INPLACE LOCK=NONE;
 
 -- Index 10: Speed up application queries by status
-CREATE INDEX idx_application_status ON adoption_application(status);
+CREATE INDEX idx_application_status ON adoption_application(status) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Index 11: Filter the animal catalogue on the maintained vaccination compliance flag
+CREATE INDEX idx_animal_active_status_compliant ON animal(is_active, status, vaccination_compliant) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Index 12: Range scans for the catalogue age filter (birth_date bounds instead of TIMESTAMPDIFF)
+CREATE INDEX idx_animal_active_status_birth ON animal(is_active, status, birth_date) ALGORITHM=INPLACE LOCK=NONE;
+
+-- Full-text indexes for search.engine=fulltext (FullTextSearchEngine)
+CREATE FULLTEXT INDEX ft_animal_name ON animal(name) ALGORITHM=INPLACE LOCK=SHARED;
+CREATE FULLTEXT INDEX ft_medical_record_text ON medical_record(diagnosis, treatment) ALGORITHM=INPLACE LOCK=SHARED;
+CREATE FULLTEXT INDEX ft_users_name_email ON users(first_name, last_name, email) ALGORITHM=INPLACE LOCK=SHARED;
+CREATE FULLTEXT INDEX ft_vaccination_type_name ON vaccination_type(vaccine_name) ALGORITHM=INPLACE LOCK=SHARED;
 
 -- ============================================================================
 -- EVENTS
@@ -0,0 +1,207 @@
+package org.pet.backendpetshelter.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.DTO.AdminAdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.CursorPage;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AdoptionRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Service.AdoptionApplicationService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Adoption Application Listing Query Count Tests")
+public class AdoptionApplicationQueryCountIntegrationTest {
+
+    private static final int APPLICATIONS = 12;
+
+    @Autowired
+    private AdoptionApplicationService adoptionApplicationService;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private AdoptionApplicationRepository adoptionApplicationRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        adoptionApplicationRepository.deleteAll();
+        animalRepository.deleteAll();
+        breedRepository.deleteAll();
+        speciesRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User reviewer = saveUser("reviewer");
+        // Every row gets its own applicant, animal, species and breed, the worst case for N+1
+        for (int i = 0; i < APPLICATIONS; i++) {
+            Species species = new Species();
+            species.setName("Species " + (char) ('a' + i));
+            species = speciesRepository.save(species);
+
+            Breed breed = new Breed();
+            breed.setName("Breed " + (char) ('a' + i));
+            breed.setSpecies(species);
+            breed = breedRepository.save(breed);
+
+            Animal animal = new Animal();
+            animal.setName("Animal " + (char) ('a' + i));
+            animal.setSpecies(species);
+            animal.setBreed(breed);
+            animal.setSex("male");
+            animal.setBirthDate(new Date());
+            animal.setIntakeDate(new Date());
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(100);
+            animal.setIsActive(true);
+            animal = animalRepository.save(animal);
+
+            AdoptionApplication application = new AdoptionApplication();
+            application.setUser(saveUser("applicant" + i));
+            application.setAnimal(animal);
+            application.setApplicationDate(new Date());
+            application.setStatus(i % 2 == 0 ? Status.PENDING : Status.APPROVED);
+            application.setDescription("Application " + i);
+            application.setReviewedByUser(reviewer);
+            application.setIsActive(true);
+            adoptionApplicationRepository.save(application);
+        }
+
+        // Start from an empty persistence context so every association has to come from the database
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private User saveUser(String name) {
+        User user = new User();
+        user.setFirstName(name);
+        user.setLastName("Tester");
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        user.setRole(Roles.USER);
+        user.setIsActive(true);
+        return userRepository.save(user);
+    }
+
+    private long statementsFor(Supplier<Page<AdminAdoptionApplicationResponse>> listing, int expectedRows) {
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(expectedRows, listing.get().getContent().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long scrollStatementsFor(Supplier<CursorPage<AdminAdoptionApplicationResponse>> slice, int expectedRows) {
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(expectedRows, slice.get().getContent().size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Unfiltered listing uses the same number of statements for any page size")
+    void getAll_ConstantStatementCount() {
+        long small = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplications(
+                PageRequest.of(0, 2, Sort.by("id"))), 2);
+        long large = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplications(
+                PageRequest.of(0, 10, Sort.by("id"))), 10);
+
+        assertEquals(small, large);
+        assertEquals(2, large, "one page query plus one count query");
+    }
+
+    @Test
+    @DisplayName("Filtered listing uses the same number of statements for any page size")
+    void getAllWithFilters_ConstantStatementCount() {
+        long small = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(
+                Status.PENDING, null, PageRequest.of(0, 2, Sort.by("id"))), 2);
+        long large = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(
+                Status.PENDING, null, PageRequest.of(0, 5, Sort.by("id"))), 5);
+
+        assertEquals(small, large);
+        assertEquals(2, large, "one page query plus one count query");
+    }
+
+    @Test
+    @DisplayName("Search-engine listing uses the same number of statements for any page size")
+    void search_ConstantStatementCount() {
+        long small = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(
+                null, "tester", PageRequest.of(0, 2, Sort.by("id"))), 2);
+        long large = statementsFor(() -> adoptionApplicationService.GetAllAdoptionApplicationsWithFilters(
+                null, "tester", PageRequest.of(0, 10, Sort.by("id"))), 10);
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    @DisplayName("Cursor-mode listing uses one statement per slice for any slice size")
+    void scroll_ConstantStatementCount() {
+        long small = scrollStatementsFor(() -> adoptionApplicationService.ScrollAdoptionApplicationsWithFilters(
+                null, null, "id", Sort.Direction.ASC, null, 2), 2);
+        long large = scrollStatementsFor(() -> adoptionApplicationService.ScrollAdoptionApplicationsWithFilters(
+                null, null, "id", Sort.Direction.ASC, null, 10), 10);
+
+        assertEquals(small, large);
+        assertEquals(1, large, "one slice query, no count");
+
+        String after = adoptionApplicationService.ScrollAdoptionApplicationsWithFilters(
+                Status.PENDING, null, "applicationDate", Sort.Direction.DESC, null, 2).getNextCursor();
+        long next = scrollStatementsFor(() -> adoptionApplicationService.ScrollAdoptionApplicationsWithFilters(
+                Status.PENDING, null, "applicationDate", Sort.Direction.DESC, after, 4), 4);
+        assertEquals(1, next, "one slice query, no count");
+    }
+}
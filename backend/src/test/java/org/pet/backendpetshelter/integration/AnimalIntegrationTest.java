@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.pet.backendpetshelter.DTO.AnimalDTORequest;
+import org.pet.backendpetshelter.Entity.Animal;
 import org.pet.backendpetshelter.Entity.Breed;
 import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
@@ -23,6 +24,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -468,4 +470,109 @@ public class AnimalIntegrationTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string(containsString("isActive cannot be null")));
     }
+
+
+    // ==== AGE FILTER: BIRTH DATE RANGE ====
+
+    @Test
+    @DisplayName("GET /api/animal Filter by age range")
+    void getAnimals_FilterByAgeRange() throws Exception {
+        java.time.LocalDate today = java.time.LocalDate.now();
+        for (int age : new int[]{1, 3, 6}) {
+            AnimalDTORequest request = createValidRequest();
+            request.setName("Age" + (char) ('A' + age));
+            request.setBirthDate(java.sql.Date.valueOf(today.minusYears(age).minusDays(1)));
+            request.setIntakeDate(java.sql.Date.valueOf(today.minusDays(1)));
+            mockMvc.perform(post("/api/animal/add")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/animal").param("minAge", "2").param("maxAge", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("AgeD"));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal?view=summary returns flat rows with species and breed names")
+    void getAnimals_SummaryView() throws Exception {
+        mockMvc.perform(post("/api/animal/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createValidRequest())))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/animal").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Buddy"))
+                .andExpect(jsonPath("$.content[0].speciesName").value("Dog"))
+                .andExpect(jsonPath("$.content[0].breedName").value("Labrador"))
+                .andExpect(jsonPath("$.content[0].price").value(499))
+                .andExpect(jsonPath("$.content[0].species").doesNotExist())
+                .andExpect(jsonPath("$.content[0].breed").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/animal?view=summary applies filters, sorting and paging")
+    void getAnimals_SummaryViewWithFilters() throws Exception {
+        // Saved directly so the breed can stay empty; the summary must still include these rows
+        for (String name : new String[]{"Charlie", "Bella", "Max"}) {
+            Animal animal = new Animal();
+            animal.setName(name);
+            animal.setSpecies(species);
+            animal.setSex(name.equals("Max") ? "male" : "female");
+            animal.setBirthDate(createPastDate(2020, 1, 1));
+            animal.setIntakeDate(createPastDate(2023, 1, 1));
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(100);
+            animal.setIsActive(true);
+            animalRepository.save(animal);
+        }
+
+        mockMvc.perform(get("/api/animal")
+                        .param("view", "summary")
+                        .param("sex", "female")
+                        .param("sortBy", "name")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Bella"))
+                .andExpect(jsonPath("$.content[0].breedName").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/animal search uses the default LIKE engine")
+    void getAnimals_SearchWithLikeEngine() throws Exception {
+        for (String name : new String[]{"Isabella", "Bella", "Max"}) {
+            Animal animal = new Animal();
+            animal.setName(name);
+            animal.setSpecies(species);
+            animal.setSex("female");
+            animal.setBirthDate(createPastDate(2020, 1, 1));
+            animal.setIntakeDate(createPastDate(2023, 1, 1));
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(100);
+            animal.setIsActive(!name.equals("Bella"));
+            animalRepository.save(animal);
+        }
+
+        // LIKE '%bel%' also matches inside a word, which the token-prefix engines do not
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bel")
+                        .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Bella"))
+                .andExpect(jsonPath("$.content[1].name").value("Isabella"));
+
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bel")
+                        .param("isActive", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Isabella"));
+    }
 }
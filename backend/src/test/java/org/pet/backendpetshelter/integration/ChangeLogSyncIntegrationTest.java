@@ -0,0 +1,280 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Migration.MigrationCheckpoint;
+import org.pet.backendpetshelter.Migration.MigrationTarget;
+import org.pet.backendpetshelter.Migration.MongoChangeSync;
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.pet.backendpetshelter.Neo4jMigration.CypherBatchWriter;
+import org.pet.backendpetshelter.Neo4jMigration.Neo4jChangeSync;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.SyncCursorRepository;
+import org.pet.backendpetshelter.Status;
+import org.pet.backendpetshelter.Sync.ChangeBatch;
+import org.pet.backendpetshelter.Sync.ChangeLogPoller;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "sync.change-log.enabled=true"
+})
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Change Log Sync Integration Tests")
+public class ChangeLogSyncIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeLogPoller poller;
+
+    @Autowired
+    private SyncCursorRepository cursorRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    private Species species;
+    private Breed breed;
+
+    @BeforeEach
+    void setUp() {
+        Species species = new Species();
+        species.setName("Dog");
+        this.species = speciesRepository.save(species);
+
+        Breed breed = new Breed();
+        breed.setName("Labrador");
+        breed.setSpecies(this.species);
+        this.breed = breedRepository.saveAndFlush(breed);
+
+        // Start every test from an empty log
+        jdbcTemplate.update("DELETE FROM change_log");
+        cursorRepository.deleteAll();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(species);
+        animal.setBreed(breed);
+        animal.setSex("male");
+        animal.setBirthDate(new Date(1_600_000_000_000L));
+        animal.setIntakeDate(new Date(1_700_000_000_000L));
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(499);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    private List<String> loggedOperations(String table, Long id) {
+        return jdbcTemplate.queryForList(
+                "SELECT operation FROM change_log WHERE entity_table = ? AND entity_id = ? ORDER BY change_id",
+                String.class, table, id);
+    }
+
+    /* A change_log row with a chosen id, as a transaction that committed late would leave it */
+    private void logChange(long changeId, Long animalId) {
+        jdbcTemplate.update(
+                "INSERT INTO change_log (change_id, entity_table, entity_id, operation, changed_at) VALUES (?, 'animal', ?, 'UPSERT', ?)",
+                changeId, animalId, Timestamp.from(Instant.now()));
+    }
+
+    private long lastChangeId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(change_id) FROM change_log", Long.class);
+    }
+
+    private static class RecordingTarget implements MigrationTarget {
+        final Map<String, Object> upserted = new HashMap<>();
+        final List<String> deleted = new ArrayList<>();
+
+        @Override
+        public <D> int upsertChunk(Class<D> documentClass, List<D> chunk) {
+            int inserted = 0;
+            for (D document : chunk) {
+                if (document instanceof AnimalDocument animal && upserted.put(animal.getId(), animal) == null) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        }
+
+        @Override
+        public void deleteByIds(Class<?> documentClass, Collection<String> ids) {
+            deleted.addAll(ids);
+        }
+
+        @Override
+        public Optional<MigrationCheckpoint> findCheckpoint(String step) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveCheckpoint(MigrationCheckpoint checkpoint) {
+        }
+    }
+
+    private record Statement(String cypher, List<Map<String, Object>> rows) {
+    }
+
+    private static class RecordingWriter implements CypherBatchWriter {
+        final List<Statement> statements = new ArrayList<>();
+
+        @Override
+        public void execute(String cypher) {
+            statements.add(new Statement(cypher, List.of()));
+        }
+
+        @Override
+        public void write(String cypher, List<Map<String, Object>> rows) {
+            statements.add(new Statement(cypher, rows));
+        }
+
+        List<Map<String, Object>> rowsFor(String cypherFragment) {
+            return statements.stream()
+                    .filter(s -> s.cypher().contains(cypherFragment))
+                    .flatMap(s -> s.rows().stream())
+                    .toList();
+        }
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("inserts, updates and deletes are logged in the same transaction")
+    void entityWrites_AreLogged() {
+        Animal animal = saveAnimal("Buddy");
+        animal.setName("Buddy II");
+        animalRepository.saveAndFlush(animal);
+        animalRepository.delete(animal);
+        animalRepository.flush();
+
+        assertEquals(List.of("UPSERT", "UPSERT", "DELETE"), loggedOperations("animal", animal.getId()));
+    }
+
+    @Test
+    @DisplayName("a poll keeps only the latest operation per row and the cursor moves past it")
+    void poll_CoalescesAndAdvances() {
+        Animal kept = saveAnimal("Kept");
+        kept.setName("Kept again");
+        animalRepository.saveAndFlush(kept);
+        Animal removed = saveAnimal("Removed");
+        animalRepository.delete(removed);
+        animalRepository.flush();
+
+        ChangeBatch batch = poller.poll("test");
+
+        assertEquals(4, batch.size());
+        assertEquals(Set.of(kept.getId()), batch.upserts().get("animal"));
+        assertEquals(Set.of(removed.getId()), batch.deletes().get("animal"));
+
+        poller.commit("test", batch);
+        assertTrue(poller.poll("test").isEmpty());
+    }
+
+    @Test
+    @DisplayName("a change committed below the cursor is picked up by the next poll")
+    void poll_RereadsGaps() {
+        Animal late = saveAnimal("Late");
+        Animal early = saveAnimal("Early");
+        poller.commit("test", poller.poll("test"));
+        long last = lastChangeId();
+
+        logChange(last + 2, early.getId());
+        ChangeBatch batch = poller.poll("test");
+        assertEquals(Set.of(early.getId()), batch.upserts().get("animal"));
+        assertEquals(Set.of(last + 1), batch.gaps().keySet());
+        poller.commit("test", batch);
+
+        logChange(last + 1, late.getId());
+        batch = poller.poll("test");
+        assertEquals(Set.of(late.getId()), batch.upserts().get("animal"));
+        assertEquals(last + 2, batch.lastChangeId());
+        assertTrue(batch.gaps().isEmpty());
+    }
+
+    @Test
+    @DisplayName("gaps older than the grace window are given up")
+    void poll_DropsExpiredGaps() {
+        ChangeLogPoller impatient = new ChangeLogPoller(jdbcTemplate, cursorRepository, 500, 0);
+        Animal animal = saveAnimal("Buddy");
+        impatient.commit("test", impatient.poll("test"));
+
+        logChange(lastChangeId() + 2, animal.getId());
+        assertTrue(impatient.poll("test").gaps().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Mongo sync upserts changed rows and removes deleted ones")
+    void mongoSync_AppliesDeltas() {
+        RecordingTarget target = new RecordingTarget();
+        MongoChangeSync sync = new MongoChangeSync(jdbcTemplate, poller, target);
+
+        Animal animal = saveAnimal("Buddy");
+        assertEquals(1, sync.syncOnce());
+        AnimalDocument document = (AnimalDocument) target.upserted.get(animal.getId().toString());
+        assertEquals("Buddy", document.getName());
+        assertEquals(breed.getId().toString(), document.getBreedId());
+
+        animalRepository.delete(animal);
+        animalRepository.flush();
+        assertEquals(1, sync.syncOnce());
+        assertEquals(List.of(animal.getId().toString()), target.deleted);
+
+        assertEquals(0, sync.syncOnce());
+    }
+
+    @Test
+    @DisplayName("Neo4j sync merges the node and re-points its relationships")
+    void neo4jSync_ReplacesRelationships() {
+        RecordingWriter writer = new RecordingWriter();
+        Neo4jChangeSync sync = new Neo4jChangeSync(jdbcTemplate, poller, writer);
+
+        Animal animal = saveAnimal("Buddy");
+        animal.setBreed(null);
+        animalRepository.saveAndFlush(animal);
+        sync.syncOnce();
+
+        String id = animal.getId().toString();
+        assertEquals("Buddy", writer.rowsFor("MERGE (n:Animal ").get(0).get("name"));
+
+        Map<String, Object> breedLink = writer.rowsFor("[r:IS_BREED]").get(0);
+        assertEquals(id, breedLink.get("from"));
+        assertNull(breedLink.get("to"));
+
+        Map<String, Object> speciesLink = writer.rowsFor("[r:IS_SPECIES]").get(0);
+        assertEquals(species.getId().toString(), speciesLink.get("to"));
+    }
+}
@@ -0,0 +1,126 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Dashboard Summary Concurrency Tests")
+public class DashboardSummaryConcurrencyIntegrationTest {
+
+    @Autowired
+    private DashboardSummaryService dashboardSummaryService;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Species dog;
+
+    // Not @Transactional: the writer and the rebuild run on other threads, which only see committed rows
+    @BeforeEach
+    void setUp() {
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("LockDog");
+        dog = speciesRepository.saveAndFlush(species);
+    }
+
+    @AfterEach
+    void tearDown() {
+        animalRepository.deleteAll();
+        speciesRepository.deleteById(dog.getId());
+        dashboardSummaryService.refresh();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name, Status status) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(dog);
+        animal.setSex("female");
+        animal.setBirthDate(new Date());
+        animal.setIntakeDate(new Date());
+        animal.setStatus(status);
+        animal.setPrice(100);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should wait for an open per-animal refresh before rebuilding")
+    void refresh_WaitsForAnimalRefresh() throws Exception {
+        CountDownLatch refreshed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // An adopted animal has no summary rows, so only the lock row can hold the rebuild back
+            Future<Long> writer = executor.submit(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                Animal animal = saveAnimal("Newcomer", Status.ADOPTED);
+                dashboardSummaryService.refreshAnimal(animal.getId());
+                refreshed.countDown();
+                await(release);
+                return animal.getId();
+            }));
+            await(refreshed);
+
+            Future<Map<String, Integer>> rebuild = executor.submit(dashboardSummaryService::refresh);
+            assertThrows(TimeoutException.class, () -> rebuild.get(300, TimeUnit.MILLISECONDS));
+
+            release.countDown();
+            Long animalId = writer.get(10, TimeUnit.SECONDS);
+            rebuild.get(10, TimeUnit.SECONDS);
+
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM available_animal_summary WHERE animal_id = ?", Integer.class, animalId));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.DTO.AdoptionHistorySummaryResponse;
+import org.pet.backendpetshelter.DTO.AvailableAnimalSummaryResponse;
+import org.pet.backendpetshelter.DTO.PendingApplicationSummaryResponse;
+import org.pet.backendpetshelter.DTO.SpeciesDTORequest;
+import org.pet.backendpetshelter.DTO.VaccinationStatusSummaryResponse;
+import org.pet.backendpetshelter.Entity.Adoption;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Entity.Vaccination;
+import org.pet.backendpetshelter.Entity.VaccinationType;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AdoptionRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Repository.VaccinationTypeRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Service.AdoptionApplicationService;
+import org.pet.backendpetshelter.Service.AnimalService;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
+import org.pet.backendpetshelter.Service.SpeciesService;
+import org.pet.backendpetshelter.Service.VaccinationComplianceService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Dashboard Summary Integration Tests")
+public class DashboardSummaryIntegrationTest {
+
+    @Autowired
+    private DashboardSummaryService dashboardSummaryService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private AdoptionApplicationService adoptionApplicationService;
+
+    @Autowired
+    private SpeciesService speciesService;
+
+    @Autowired
+    private VaccinationComplianceService vaccinationComplianceService;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private VaccinationTypeRepository vaccinationTypeRepository;
+
+    @Autowired
+    private AdoptionApplicationRepository adoptionApplicationRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Species dog;
+    private User applicant;
+    private Animal buddy;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        adoptionApplicationRepository.deleteAll();
+        vaccinationRepository.deleteAll();
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("DashboardDog");
+        dog = speciesRepository.saveAndFlush(species);
+
+        User user = new User();
+        user.setFirstName("Dana");
+        user.setLastName("Board");
+        user.setEmail("dana.board@example.com");
+        user.setPassword("secret");
+        user.setPhone("12345678");
+        user.setRole(Roles.USER);
+        user.setIsActive(true);
+        applicant = userRepository.saveAndFlush(user);
+
+        buddy = saveAnimal("Buddy", Status.AVAILABLE);
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name, Status status) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(dog);
+        animal.setSex("male");
+        animal.setBirthDate(toDate(today.minusYears(3).minusDays(1)));
+        animal.setIntakeDate(toDate(today.minusYears(1)));
+        animal.setStatus(status);
+        animal.setPrice(100);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    private AdoptionApplication apply(Animal animal, Status status, LocalDate applicationDate) {
+        AdoptionApplication application = new AdoptionApplication();
+        application.setUser(applicant);
+        application.setAnimal(animal);
+        application.setApplicationDate(toDate(applicationDate));
+        application.setStatus(status);
+        application.setDescription("Dashboard application");
+        application.setIsActive(true);
+        return adoptionApplicationRepository.saveAndFlush(application);
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should list active available animals with their age")
+    void refresh_AvailableAnimals() {
+        saveAnimal("Rex", Status.ADOPTED);
+        Animal inactive = saveAnimal("Ghost", Status.AVAILABLE);
+        inactive.setIsActive(false);
+        animalRepository.saveAndFlush(inactive);
+
+        dashboardSummaryService.refresh();
+        Page<AvailableAnimalSummaryResponse> page = dashboardSummaryService.getAvailableAnimals(0, 20);
+
+        assertEquals(1, page.getTotalElements());
+        AvailableAnimalSummaryResponse row = page.getContent().get(0);
+        assertEquals(buddy.getId(), row.getAnimalId());
+        assertEquals("DashboardDog", row.getSpecies());
+        assertEquals(3, row.getAgeYears());
+        assertEquals("Needs vaccinations", row.getAdoptionStatus());
+    }
+
+    @Test
+    @DisplayName("Should list adoptions with the adopter's details, newest first")
+    void refresh_AdoptionHistory() {
+        for (int daysAgo : new int[]{30, 5}) {
+            Adoption adoption = new Adoption();
+            adoption.setApplication(apply(saveAnimal("Adopted" + daysAgo, Status.ADOPTED), Status.APPROVED, today.minusDays(daysAgo + 10)));
+            adoption.setAdoptionDate(toDate(today.minusDays(daysAgo)));
+            adoption.setIsActive(true);
+            adoptionRepository.saveAndFlush(adoption);
+        }
+
+        dashboardSummaryService.refresh();
+        List<AdoptionHistorySummaryResponse> rows = dashboardSummaryService.getAdoptionHistory(0, 20).getContent();
+
+        assertEquals(2, rows.size());
+        assertEquals("Adopted5", rows.get(0).getAnimalName());
+        assertEquals(5L, rows.get(0).getDaysSinceAdoption());
+        assertEquals("Dana Board", rows.get(0).getAdopterName());
+        assertEquals("dana.board@example.com", rows.get(0).getAdopterEmail());
+        assertEquals(30L, rows.get(1).getDaysSinceAdoption());
+    }
+
+    @Test
+    @DisplayName("Should derive the due status of each vaccination when read")
+    void refresh_VaccinationStatus() {
+        VaccinationType type = new VaccinationType();
+        type.setVaccineName("DashboardRabies");
+        type.setDurationMonths(12);
+        type.setRequiredForAdoption(false);
+        type = vaccinationTypeRepository.saveAndFlush(type);
+        for (LocalDate nextDueDate : List.of(today.plusDays(90), today.minusDays(3), today.plusDays(10))) {
+            Vaccination vaccination = new Vaccination();
+            vaccination.setAnimal(buddy);
+            vaccination.setVaccinationType(type);
+            vaccination.setDateAdministered(toDate(nextDueDate.minusYears(1)));
+            vaccination.setNextDueDate(toDate(nextDueDate));
+            vaccinationRepository.saveAndFlush(vaccination);
+        }
+
+        dashboardSummaryService.refresh();
+        List<VaccinationStatusSummaryResponse> rows = dashboardSummaryService.getVaccinationStatus(0, 20).getContent();
+
+        assertEquals(List.of("Overdue", "Due Soon", "Up to Date"),
+                rows.stream().map(VaccinationStatusSummaryResponse::getStatus).toList());
+        assertEquals(-3L, rows.get(0).getDaysUntilDue());
+        assertEquals("DashboardRabies", rows.get(0).getVaccineName());
+    }
+
+    @Test
+    @DisplayName("Should list only pending applications, oldest first")
+    void refresh_PendingApplications() {
+        apply(buddy, Status.PENDING, today.minusDays(2));
+        AdoptionApplication oldest = apply(saveAnimal("Max", Status.AVAILABLE), Status.PENDING, today.minusDays(7));
+        apply(saveAnimal("Rex", Status.AVAILABLE), Status.REJECTED, today.minusDays(9));
+
+        dashboardSummaryService.refresh();
+        List<PendingApplicationSummaryResponse> rows = dashboardSummaryService.getPendingApplications(0, 20).getContent();
+
+        assertEquals(2, rows.size());
+        assertEquals(oldest.getId(), rows.get(0).getApplicationId());
+        assertEquals(7L, rows.get(0).getDaysPending());
+        assertEquals("12345678", rows.get(0).getApplicantPhone());
+    }
+
+    @Test
+    @DisplayName("Should replace the previous rows on every refresh")
+    void refresh_ReplacesRows() {
+        dashboardSummaryService.refresh();
+        buddy.setStatus(Status.FOSTERED);
+        animalRepository.saveAndFlush(buddy);
+
+        Map<String, Integer> rows = dashboardSummaryService.refresh();
+
+        assertEquals(0, rows.get("available_animal_summary"));
+        assertTrue(dashboardSummaryService.getAvailableAnimals(0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop a rejected application from the pending summary without a rebuild")
+    void write_RejectApplication() {
+        AdoptionApplication application = apply(buddy, Status.PENDING, today.minusDays(2));
+        dashboardSummaryService.refresh();
+        assertEquals(1, dashboardSummaryService.getPendingApplications(0, 20).getTotalElements());
+
+        adoptionApplicationService.rejectAdoptionApplication(application.getId(), applicant.getId());
+
+        assertTrue(dashboardSummaryService.getPendingApplications(0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted animal's rows without a rebuild")
+    void write_DeleteAnimal() {
+        dashboardSummaryService.refresh();
+        assertEquals(1, dashboardSummaryService.getVaccinationStatus(0, 20).getTotalElements());
+
+        animalService.deleteAnimal(buddy.getId());
+
+        assertTrue(dashboardSummaryService.getAvailableAnimals(0, 20).isEmpty());
+        assertTrue(dashboardSummaryService.getVaccinationStatus(0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should copy a renamed species into its animals' rows")
+    void write_RenameSpecies() {
+        apply(buddy, Status.PENDING, today.minusDays(2));
+        dashboardSummaryService.refresh();
+
+        SpeciesDTORequest request = new SpeciesDTORequest();
+        request.setName("DashboardHound");
+        speciesService.updateSpecies(dog.getId(), request);
+
+        assertEquals("DashboardHound", dashboardSummaryService.getAvailableAnimals(0, 20).getContent().get(0).getSpecies());
+        assertEquals("DashboardHound", dashboardSummaryService.getPendingApplications(0, 20).getContent().get(0).getSpecies());
+    }
+
+    @Test
+    @DisplayName("Should copy bulk compliance refreshes into the available animals")
+    void write_ComplianceRefresh() {
+        // Saved through the repository, so buddy's flag was never computed (see refresh_AvailableAnimals)
+        dashboardSummaryService.refresh();
+
+        // DashboardDog requires no vaccinations
+        vaccinationComplianceService.refreshAll();
+
+        assertEquals("Ready for adoption", dashboardSummaryService.getAvailableAnimals(0, 20).getContent().get(0).getAdoptionStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative page")
+    void getAvailableAnimals_NegativePage() {
+        assertThrows(IllegalArgumentException.class, () -> dashboardSummaryService.getAvailableAnimals(-1, 20));
+    }
+}
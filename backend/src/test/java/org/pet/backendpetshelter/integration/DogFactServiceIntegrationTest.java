@@ -1,20 +1,122 @@
 package org.pet.backendpetshelter.integration;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.DogFactProperties;
+import org.pet.backendpetshelter.Service.CircuitBreaker;
 import org.pet.backendpetshelter.Service.DogFactService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 public class DogFactServiceIntegrationTest {
 
+    // Local stand-in for https://dogapi.dog/api/v2, so the tests neither need nor hit the internet
+    private static final HttpServer UPSTREAM = startUpstream();
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static volatile int upstreamStatus = 200;
+    private static volatile long upstreamDelayMs = 0;
+
     @Autowired
     private DogFactService dogFactService;
 
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        registry.add("dog-facts.base-url", DogFactServiceIntegrationTest::baseUrl);
+        registry.add("dog-facts.pool-size", () -> "10");
+        // Refills are triggered by the tests, not the scheduler
+        registry.add("dog-facts.refresh-interval-ms", () -> "3600000");
+    }
+
+    @BeforeEach
+    void setUp() {
+        upstreamStatus = 200;
+        upstreamDelayMs = 0;
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        UPSTREAM.stop(0);
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private static HttpServer startUpstream() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/v2/facts", DogFactServiceIntegrationTest::handleFacts);
+            server.setExecutor(Executors.newCachedThreadPool()); // a slow response must not block the others
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start dog fact stub", e);
+        }
+    }
+
+    private static void handleFacts(HttpExchange exchange) throws IOException {
+        REQUESTS.incrementAndGet();
+        try {
+            Thread.sleep(upstreamDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String query = exchange.getRequestURI().getQuery();
+        int limit = Integer.parseInt(query.substring(query.indexOf("limit=") + "limit=".length()));
+        String data = IntStream.rangeClosed(1, limit)
+                .mapToObj(i -> "{\"id\":\"" + i + "\",\"type\":\"fact\",\"attributes\":{\"body\":\"Dog fact " + i + "\"}}")
+                .collect(Collectors.joining(","));
+        byte[] body = ("{\"data\":[" + data + "]}").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(upstreamStatus, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String baseUrl() {
+        return "http://localhost:" + UPSTREAM.getAddress().getPort() + "/api/v2";
+    }
+
+    /* Separate instance so breaker and pool state do not leak into the shared bean */
+    private DogFactService isolatedService(int readTimeoutMs) {
+        return isolatedService(readTimeoutMs, Runnable::run);
+    }
+
+    private DogFactService isolatedService(int readTimeoutMs, Executor executor) {
+        DogFactProperties props = new DogFactProperties();
+        props.setBaseUrl(baseUrl());
+        props.setReadTimeoutMs(readTimeoutMs);
+        props.setFailureThreshold(2);
+        props.setOpenDurationMs(60_000);
+        return new DogFactService(RestClient.builder(), props, executor);
+    }
+
+    // ==================== TESTS ====================
+
     @Test
     void shouldFetchDogFactsFromExternalApi() {
         // Act
@@ -56,6 +158,7 @@ public class DogFactServiceIntegrationTest {
         // Assert
         assertNotNull(facts);
         assertTrue(facts.size() <= 5, "Should return at most 5 facts");
+        assertEquals(facts.size(), facts.stream().distinct().count(), "Facts should not repeat");
         facts.forEach(fact -> {
             assertFalse(fact.isEmpty(), "Each fact should not be empty");
             assertTrue(fact instanceof String, "Each fact should be a String");
@@ -72,4 +175,77 @@ public class DogFactServiceIntegrationTest {
         // API behavior may vary, but service should not crash
         assertTrue(facts instanceof List, "Should return a List regardless of input");
     }
+
+    @Test
+    void shouldServeFromLocalPoolWithoutCallingUpstream() {
+        // Arrange
+        dogFactService.getDogFacts(1);
+        int requestsBefore = REQUESTS.get();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            dogFactService.getDogFacts(3);
+        }
+
+        // Assert
+        assertEquals(requestsBefore, REQUESTS.get(), "Requests should be served from the pool");
+    }
+
+    @Test
+    void shouldKeepServingPoolAndOpenCircuitWhenUpstreamFails() throws Exception {
+        // Arrange
+        DogFactService service = isolatedService(3_000);
+        service.refreshAsync().get();
+        upstreamStatus = 500;
+
+        // Act
+        service.refreshAsync().get();
+        service.refreshAsync().get();
+        int requestsWhileOpen = REQUESTS.get();
+        service.refreshAsync().get();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, service.getCircuitState());
+        assertEquals(requestsWhileOpen, REQUESTS.get(), "Open circuit should skip the upstream");
+        assertEquals(2, service.getDogFacts(2).size(), "Previous pool should still be served");
+    }
+
+    @Test
+    void shouldGiveUpOnSlowUpstreamAfterReadTimeout() throws Exception {
+        // Arrange
+        DogFactService service = isolatedService(200);
+        upstreamDelayMs = 2_000;
+
+        // Act
+        long start = System.nanoTime();
+        List<String> facts = service.getDogFacts(1);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(facts.isEmpty(), "No facts should be available yet");
+        assertTrue(elapsedMs < 1_500, "Should not wait for the slow upstream, waited " + elapsedMs + " ms");
+    }
+
+    @Test
+    void shouldRetryRefreshAfterExecutorRejectsIt() throws Exception {
+        // Arrange
+        AtomicInteger submitted = new AtomicInteger();
+        DogFactService service = isolatedService(3_000, task -> {
+            if (submitted.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("Executor saturated");
+            }
+            task.run();
+        });
+
+        // Act
+        CompletableFuture<Void> rejected = service.refreshAsync();
+        CompletableFuture<Void> retried = service.refreshAsync();
+
+        // Assert
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+        retried.get(1, TimeUnit.SECONDS);
+        assertEquals(2, submitted.get(), "Rejected refresh should not stay in flight");
+        assertEquals(2, service.getDogFacts(2).size());
+    }
 }
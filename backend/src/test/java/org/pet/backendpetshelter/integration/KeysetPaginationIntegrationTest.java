@@ -0,0 +1,233 @@
+package org.pet.backendpetshelter.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Keyset Pagination Integration Tests")
+public class KeysetPaginationIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    private Species species;
+
+    @BeforeEach
+    void setUp() {
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("Dog");
+        this.species = speciesRepository.save(species);
+
+        // Duplicate names and prices plus a missing birth date exercise the id tie-breaker and NULL handling
+        saveAnimal("Bella", 100, createPastDate(2019, 5, 1));
+        saveAnimal("Max", 200, createPastDate(2020, 1, 1));
+        saveAnimal("Bella", 200, null);
+        saveAnimal("Charlie", 100, createPastDate(2018, 3, 1));
+        saveAnimal("Luna", 300, createPastDate(2020, 1, 1));
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private void saveAnimal(String name, int price, Date birthDate) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(species);
+        animal.setSex("female");
+        animal.setBirthDate(birthDate);
+        animal.setIntakeDate(createPastDate(2023, 1, 1));
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(price);
+        animal.setIsActive(true);
+        animalRepository.save(animal);
+    }
+
+    private Date createPastDate(int year, int month, int day) {
+        Calendar cal = Calendar.getInstance(java.util.TimeZone.getTimeZone("UTC"));
+        cal.set(year, month - 1, day, 0, 0, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+        return cal.getTime();
+    }
+
+    private List<Long> scrollAll(String sortBy, String sortDirection) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String after = "";
+        do {
+            String body = mockMvc.perform(get("/api/animal")
+                            .param("after", after)
+                            .param("size", "2")
+                            .param("sortBy", sortBy)
+                            .param("sortDirection", sortDirection))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(animal -> ids.add(animal.get("id").asLong()));
+            after = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (after != null);
+        return ids;
+    }
+
+    private List<Long> expectedOrder(Comparator<Animal> comparator) {
+        return animalRepository.findAll().stream()
+                .sorted(comparator.thenComparing(Animal::getId))
+                .map(Animal::getId)
+                .toList();
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Scrolling by name visits every animal once in order")
+    void scroll_ByName() throws Exception {
+        List<Long> ids = scrollAll("name", "asc");
+
+        assertEquals(expectedOrder(Comparator.comparing(Animal::getName)), ids);
+    }
+
+    @Test
+    @DisplayName("Scrolling by price descending breaks ties by id")
+    void scroll_ByPriceDesc() throws Exception {
+        List<Long> ids = scrollAll("price", "desc");
+
+        List<Long> expected = animalRepository.findAll().stream()
+                .sorted(Comparator.comparing(Animal::getPrice).thenComparing(Animal::getId).reversed())
+                .map(Animal::getId)
+                .toList();
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    @DisplayName("Scrolling by a nullable column keeps NULL rows")
+    void scroll_ByNullableBirthDate() throws Exception {
+        assertEquals(5, scrollAll("birthDate", "asc").size());
+        assertEquals(5, scrollAll("birthDate", "desc").size());
+    }
+
+    @Test
+    @DisplayName("First slice has a cursor and no total count")
+    void scroll_FirstSlice() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Filters apply in cursor mode")
+    void scroll_WithFilter() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "").param("search", "bel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Invalid cursor is rejected")
+    void scroll_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Unknown sort property is rejected")
+    void scroll_InvalidSortBy() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "").param("sortBy", "password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Animals without a breed stay in every slice")
+    void scroll_KeepsAnimalsWithoutBreed() throws Exception {
+        Breed breed = new Breed();
+        breed.setName("Labrador");
+        breed.setSpecies(species);
+        breed = breedRepository.save(breed);
+        List<Animal> animals = animalRepository.findAll();
+        animals.get(0).setBreed(breed);
+        animals.get(3).setBreed(breed);
+
+        assertEquals(expectedOrder(Comparator.comparing(Animal::getName)), scrollAll("name", "asc"));
+        assertEquals(5, scrollAll("intakeDate", "desc").size());
+    }
+
+    @Test
+    @DisplayName("Sort keys outside the listing's own columns are rejected")
+    void scroll_RejectsAssociationSortKeys() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "").param("sortBy", "breed.name"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/vaccination").param("after", "").param("size", "1").param("sortBy", "veterinarian.user.password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/medical-record").param("after", "").param("sortBy", "veterinarian.user.email"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/adoption-application/all").param("after", "").param("sortBy", "user.password"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/adoption-application/all").param("after", "").param("sortBy", "description"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("The summary view is rejected in cursor mode instead of returning full DTOs")
+    void scroll_RejectsSummaryView() throws Exception {
+        mockMvc.perform(get("/api/animal").param("after", "").param("view", "summary"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Cursor mode is available on the other paged listings")
+    void scroll_OtherListings() throws Exception {
+        mockMvc.perform(get("/api/vaccination").param("after", "").param("search", "rabies").param("animalStatus", "available"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/api/medical-record").param("after", "").param("search", "x").param("sortBy", "cost"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(get("/api/adoption-application/all").param("after", "").param("search", "x").param("status", "pending"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+}
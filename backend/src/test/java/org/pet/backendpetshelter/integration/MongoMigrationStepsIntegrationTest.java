@@ -0,0 +1,105 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Migration.MigrationStep;
+import org.pet.backendpetshelter.Migration.MongoMigrationSteps;
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Runs every step's SELECT against the schema Hibernate generates, so a renamed column fails here */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MongoDB Migration Steps Integration Tests")
+public class MongoMigrationStepsIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    // ==================== TEST HELPERS ====================
+
+    private <D> List<D> read(MigrationStep<D> step) {
+        return jdbcTemplate.query(step.selectAfterKey(), step.rowMapper(), 0L);
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("every step's query runs against the SQL schema")
+    void allSteps_QueriesMatchSchema() {
+        for (MigrationStep<?> step : MongoMigrationSteps.all()) {
+            assertDoesNotThrow(() -> read(step), step.name());
+        }
+    }
+
+    @Test
+    @DisplayName("animal rows map to AnimalDocument with string ids")
+    void animalStep_MapsRow() {
+        Species species = new Species();
+        species.setName("Dog");
+        species = speciesRepository.save(species);
+
+        Breed breed = new Breed();
+        breed.setName("Labrador");
+        breed.setSpecies(species);
+        breed = breedRepository.save(breed);
+
+        Animal animal = new Animal();
+        animal.setName("Buddy");
+        animal.setSpecies(species);
+        animal.setBreed(breed);
+        animal.setSex("male");
+        animal.setBirthDate(new Date(1_600_000_000_000L));
+        animal.setIntakeDate(new Date(1_700_000_000_000L));
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(499);
+        animal.setIsActive(true);
+        animal = animalRepository.saveAndFlush(animal);
+
+        MigrationStep<?> step = MongoMigrationSteps.all().stream()
+                .filter(s -> s.documentClass() == AnimalDocument.class)
+                .findFirst()
+                .orElseThrow();
+        AnimalDocument document = read(step).stream()
+                .map(AnimalDocument.class::cast)
+                .filter(d -> d.getName().equals("Buddy"))
+                .findFirst()
+                .orElseThrow();
+
+        Long animalId = animal.getId();
+        assertEquals(animalId.toString(), document.getId());
+        assertEquals(species.getId().toString(), document.getSpeciesId());
+        assertEquals(breed.getId().toString(), document.getBreedId());
+        assertEquals("AVAILABLE", document.getStatus());
+        assertEquals(499, document.getPrice());
+        assertEquals(Boolean.TRUE, document.getIsActive());
+        assertNull(document.getImageUrl());
+        assertEquals(1_700_000_000_000L, document.getIntakeDate().getTime());
+    }
+}
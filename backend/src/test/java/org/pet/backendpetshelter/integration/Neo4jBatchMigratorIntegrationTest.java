@@ -0,0 +1,182 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.StartupThreads;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Neo4jMigration.CypherBatchWriter;
+import org.pet.backendpetshelter.Neo4jMigration.Neo4jBatchMigrator;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Not @Transactional: the migrator reads on its own threads, so the seeded rows must be committed */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Neo4j Batch Migrator Integration Tests")
+public class Neo4jBatchMigratorIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    private Species species;
+    private Breed breed;
+    private final List<Animal> animals = new ArrayList<>();
+    private RecordingWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        Species species = new Species();
+        species.setName("Axolotl");
+        this.species = speciesRepository.save(species);
+
+        Breed breed = new Breed();
+        breed.setName("Leucistic");
+        breed.setSpecies(this.species);
+        this.breed = breedRepository.save(breed);
+
+        for (int i = 0; i < 3; i++) {
+            Animal animal = new Animal();
+            animal.setName("Axel " + i);
+            animal.setSpecies(this.species);
+            animal.setBreed(this.breed);
+            animal.setSex("male");
+            animal.setBirthDate(new Date(1_600_000_000_000L));
+            animal.setIntakeDate(new Date(1_700_000_000_000L));
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(100);
+            animal.setIsActive(true);
+            animals.add(animalRepository.save(animal));
+        }
+
+        writer = new RecordingWriter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        animalRepository.deleteAll(animals);
+        breedRepository.delete(breed);
+        speciesRepository.delete(species);
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private record Statement(String cypher, List<Map<String, Object>> rows) {
+    }
+
+    private static class RecordingWriter implements CypherBatchWriter {
+        final List<Statement> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void execute(String cypher) {
+            statements.add(new Statement(cypher, List.of()));
+        }
+
+        @Override
+        public void write(String cypher, List<Map<String, Object>> rows) {
+            statements.add(new Statement(cypher, rows));
+        }
+    }
+
+    private List<Map<String, Object>> rowsFor(String cypherFragment) {
+        return writer.statements.stream()
+                .filter(s -> s.cypher().contains(cypherFragment))
+                .flatMap(s -> s.rows().stream())
+                .toList();
+    }
+
+    private void migrate(int batchSize) throws Exception {
+        new Neo4jBatchMigrator(jdbcTemplate, writer, batchSize, 4, 100, new StartupThreads(false)).migrate();
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("constraints come first and every node batch is written before any relationship")
+    void migrate_OrdersPasses() throws Exception {
+        migrate(2);
+
+        List<String> cyphers = writer.statements.stream().map(Statement::cypher).toList();
+        assertEquals(13, cyphers.stream().takeWhile(c -> c.startsWith("CREATE CONSTRAINT")).count());
+
+        int lastNodeWrite = -1;
+        int firstRelationshipWrite = Integer.MAX_VALUE;
+        for (int i = 0; i < cyphers.size(); i++) {
+            if (cyphers.get(i).contains("MERGE (n:")) {
+                lastNodeWrite = i;
+            } else if (cyphers.get(i).contains("MERGE (a)-[")) {
+                firstRelationshipWrite = Math.min(firstRelationshipWrite, i);
+            }
+        }
+        assertTrue(lastNodeWrite < firstRelationshipWrite);
+    }
+
+    @Test
+    @DisplayName("rows are written in batches no larger than the batch size")
+    void migrate_BatchesRows() throws Exception {
+        migrate(2);
+
+        assertTrue(writer.statements.stream().allMatch(s -> s.rows().size() <= 2));
+        assertTrue(writer.statements.stream()
+                .filter(s -> s.cypher().contains("MERGE (n:Animal "))
+                .count() >= 2);
+    }
+
+    @Test
+    @DisplayName("animal nodes carry string ids and dates in the format the node classes read")
+    void migrate_MapsAnimalNodes() throws Exception {
+        migrate(100);
+
+        String id = animals.get(0).getId().toString();
+        Map<String, Object> node = rowsFor("MERGE (n:Animal ").stream()
+                .filter(row -> id.equals(row.get("id")))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals("Axel 0", node.get("name"));
+        assertEquals("AVAILABLE", node.get("status"));
+        assertEquals("2020-09-13T12:26:40Z", node.get("birthDate"));
+        assertEquals(Boolean.TRUE, node.get("isActive"));
+    }
+
+    @Test
+    @DisplayName("foreign keys become relationships matched by id")
+    void migrate_LinksAnimalsToSpecies() throws Exception {
+        migrate(100);
+
+        List<Map<String, Object>> links = rowsFor("[:IS_SPECIES]").stream()
+                .filter(row -> species.getId().toString().equals(row.get("to")))
+                .toList();
+
+        assertEquals(
+                animals.stream().map(a -> a.getId().toString()).collect(Collectors.toSet()),
+                links.stream().map(row -> row.get("from")).collect(Collectors.toSet()));
+    }
+}
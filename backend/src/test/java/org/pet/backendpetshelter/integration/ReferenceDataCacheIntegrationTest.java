@@ -0,0 +1,164 @@
+package org.pet.backendpetshelter.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.ReferenceDataCacheConfig;
+import org.pet.backendpetshelter.DTO.BreedDTORequest;
+import org.pet.backendpetshelter.DTO.SpeciesDTORequest;
+import org.pet.backendpetshelter.DTO.SpeciesDTOResponse;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Service.BreedService;
+import org.pet.backendpetshelter.Service.SpeciesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.cache-names=species,breeds,vaccinationTypes,vaccineTypeSpecies",
+        "spring.cache.caffeine.spec=maximumSize=500,expireAfterWrite=10m,recordStats"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Reference Data Cache Integration Tests")
+public class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SpeciesService speciesService;
+
+    @Autowired
+    private BreedService breedService;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @BeforeEach
+    void setUp() {
+        breedRepository.deleteAll();
+        speciesRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Species saveSpecies(String name) {
+        Species species = new Species();
+        species.setName(name);
+        return speciesRepository.saveAndFlush(species);
+    }
+
+    private SpeciesDTORequest speciesRequest(String name) {
+        SpeciesDTORequest request = new SpeciesDTORequest();
+        request.setName(name);
+        return request;
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Second read is served from the cache")
+    void read_ServedFromCache() {
+        saveSpecies("Dog");
+        assertEquals(1, speciesService.getAllSpecies().size());
+
+        // Written behind the service's back, so only a cache miss would see it
+        saveSpecies("Cat");
+        assertEquals(1, speciesService.getAllSpecies().size());
+    }
+
+    @Test
+    @DisplayName("Writes through the service evict the cached list")
+    void write_EvictsCache() {
+        speciesService.addSpecies(speciesRequest("Dog"));
+        assertEquals(1, speciesService.getAllSpecies().size());
+
+        speciesService.addSpecies(speciesRequest("Cat"));
+        assertEquals(2, speciesService.getAllSpecies().size());
+    }
+
+    @Test
+    @DisplayName("Renaming a species evicts cached breeds that embed it")
+    void speciesUpdate_EvictsBreeds() {
+        Species dog = saveSpecies("Dog");
+        BreedDTORequest breed = new BreedDTORequest();
+        breed.setName("Labrador");
+        breed.setSpeciesId(dog.getId());
+        breedService.addBreed(breed);
+
+        assertEquals("Dog", breedService.getBreedsBySpecies(dog.getId()).get(0).getSpecies().getName());
+
+        speciesService.updateSpecies(dog.getId(), speciesRequest("Canine"));
+
+        assertEquals("Canine", breedService.getBreedsBySpecies(dog.getId()).get(0).getSpecies().getName());
+    }
+
+    @Test
+    @DisplayName("Hits and misses are exposed as cache.gets metrics")
+    void metrics_CountHitsAndMisses() {
+        saveSpecies("Dog");
+        double hits = cacheGets(ReferenceDataCacheConfig.SPECIES, "hit");
+        double misses = cacheGets(ReferenceDataCacheConfig.SPECIES, "miss");
+
+        List<SpeciesDTOResponse> first = speciesService.getAllSpecies();
+        List<SpeciesDTOResponse> second = speciesService.getAllSpecies();
+
+        assertEquals(first, second);
+        assertEquals(misses + 1, cacheGets(ReferenceDataCacheConfig.SPECIES, "miss"));
+        assertEquals(hits + 1, cacheGets(ReferenceDataCacheConfig.SPECIES, "hit"));
+    }
+
+    @Test
+    @DisplayName("GET /api/species carries an ETag and answers If-None-Match with 304")
+    void endpoint_EtagRevalidation() throws Exception {
+        saveSpecies("Dog");
+
+        String etag = mockMvc.perform(get("/api/species"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, must-revalidate, public"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/species").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,301 @@
+package org.pet.backendpetshelter.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.MedicalRecord;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.MedicalRecordRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Search.InMemorySearchEngine;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchTarget;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// H2 has no FULLTEXT support, so these tests use the in-process inverted index
+@SpringBootTest(properties = "search.engine=memory")
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Search Engine Integration Tests")
+public class SearchEngineIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchEngine searchEngine;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private MedicalRecordRepository medicalRecordRepository;
+
+    private Species species;
+    private Animal bella;
+    private Animal belle;
+    private Animal max;
+
+    @BeforeEach
+    void setUp() {
+        medicalRecordRepository.deleteAll();
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("Dog");
+        this.species = speciesRepository.save(species);
+
+        bella = saveAnimal("Bella");
+        belle = saveAnimal("Belle");
+        max = saveAnimal("Max");
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(species);
+        animal.setSex("female");
+        animal.setBirthDate(new Date());
+        animal.setIntakeDate(new Date());
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(100);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    /* Bellamy i costs count - 1 - i */
+    private void saveBellamys(int count) {
+        List<Animal> many = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Animal animal = new Animal();
+            animal.setName("Bellamy");
+            animal.setSpecies(species);
+            animal.setSex("male");
+            animal.setBirthDate(new Date());
+            animal.setIntakeDate(new Date());
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(count - 1 - i);
+            animal.setIsActive(true);
+            many.add(animal);
+        }
+        animalRepository.saveAllAndFlush(many);
+    }
+
+    private MedicalRecord saveRecord(Animal animal, String diagnosis, String treatment) {
+        MedicalRecord record = new MedicalRecord();
+        record.setAnimal(animal);
+        record.setDate(new Date());
+        record.setDiagnosis(diagnosis);
+        record.setTreatment(treatment);
+        return medicalRecordRepository.saveAndFlush(record);
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Test profile uses the in-memory engine")
+    void engine_IsInMemory() {
+        assertInstanceOf(InMemorySearchEngine.class, searchEngine);
+    }
+
+    @Test
+    @DisplayName("Terms match indexed tokens by prefix")
+    void search_PrefixMatch() {
+        List<Long> ids = searchEngine.search(SearchTarget.ANIMAL, "bel");
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(List.of(bella.getId(), belle.getId())));
+    }
+
+    @Test
+    @DisplayName("All terms must match")
+    void search_AllTermsRequired() {
+        MedicalRecord fracture = saveRecord(max, "Leg fracture", "Cast and rest");
+        saveRecord(bella, "Ear infection", "Rest");
+
+        assertEquals(List.of(fracture.getId()), searchEngine.search(SearchTarget.MEDICAL_RECORD, "rest fracture"));
+    }
+
+    @Test
+    @DisplayName("Terms may match different sources of the same row")
+    void search_TermsAcrossSources() {
+        MedicalRecord bellaRecord = saveRecord(bella, "Ear infection", "Drops");
+        saveRecord(belle, "Infection", "Antibiotics");
+
+        assertEquals(List.of(bellaRecord.getId()), searchEngine.search(SearchTarget.MEDICAL_RECORD, "bella infection"));
+    }
+
+    @Test
+    @DisplayName("Hits are ranked by term frequency")
+    void search_RankedByRelevance() {
+        MedicalRecord once = saveRecord(bella, "Infection", "Antibiotics");
+        MedicalRecord twice = saveRecord(belle, "Infection of the ear", "Treat infection with drops");
+
+        assertEquals(List.of(twice.getId(), once.getId()), searchEngine.search(SearchTarget.MEDICAL_RECORD, "infection"));
+    }
+
+    @Test
+    @DisplayName("Index picks up changed rows")
+    void search_ReflectsUpdates() {
+        assertEquals(List.of(max.getId()), searchEngine.search(SearchTarget.ANIMAL, "max"));
+
+        max.setName("Rocky");
+        animalRepository.saveAndFlush(max);
+
+        assertEquals(List.of(), searchEngine.search(SearchTarget.ANIMAL, "max"));
+        assertEquals(List.of(max.getId()), searchEngine.search(SearchTarget.ANIMAL, "rock"));
+    }
+
+    @Test
+    @DisplayName("GET /api/medical-record sorted by relevance")
+    void endpoint_SortByRelevance() throws Exception {
+        MedicalRecord once = saveRecord(bella, "Infection", "Antibiotics");
+        MedicalRecord twice = saveRecord(belle, "Infection of the ear", "Treat infection with drops");
+
+        mockMvc.perform(get("/api/medical-record")
+                        .param("search", "infection")
+                        .param("sortBy", "relevance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(twice.getId()))
+                .andExpect(jsonPath("$.content[1].id").value(once.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal search combines with other filters")
+    void endpoint_SearchWithFilters() throws Exception {
+        belle.setIsActive(false);
+        animalRepository.saveAndFlush(belle);
+
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bel")
+                        .param("isActive", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(bella.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal filters and counts every hit, not just the first chunk")
+    void endpoint_FiltersBeyondFirstChunk() throws Exception {
+        List<Animal> many = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) {
+            Animal animal = new Animal();
+            animal.setName("Bellamy");
+            animal.setSpecies(species);
+            animal.setSex(i % 2 == 0 ? "male" : "female");
+            animal.setBirthDate(new Date());
+            animal.setIntakeDate(new Date());
+            animal.setStatus(Status.AVAILABLE);
+            animal.setPrice(100);
+            animal.setIsActive(true);
+            many.add(animal);
+        }
+        animalRepository.saveAllAndFlush(many);
+
+        // 550 male Bellamys; ranked by relevance, page 5 of 100 reaches into the second chunk of hits
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bellamy")
+                        .param("sex", "male")
+                        .param("sortBy", "relevance")
+                        .param("page", "5")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(550))
+                .andExpect(jsonPath("$.content.length()").value(50))
+                .andExpect(jsonPath("$.content[0].sex").value("male"));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal sorted by a column pages across every chunk of hits")
+    void endpoint_SortedBeyondFirstChunk() throws Exception {
+        saveBellamys(2_500);
+
+        // Prices fall as ids rise, so the cheapest Bellamys are in the last chunk of hits
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bellamy")
+                        .param("sortBy", "price")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2_500))
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.content[0].price").value(10))
+                .andExpect(jsonPath("$.content[9].price").value(19));
+
+        mockMvc.perform(get("/api/animal")
+                        .param("view", "summary")
+                        .param("search", "bellamy")
+                        .param("sortBy", "price")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2_500))
+                .andExpect(jsonPath("$.content[0].price").value(0))
+                .andExpect(jsonPath("$.content[4].price").value(4));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal?after= scrolls across every chunk of hits")
+    void endpoint_ScrollBeyondFirstChunk() throws Exception {
+        saveBellamys(2_500);
+
+        String first = mockMvc.perform(get("/api/animal")
+                        .param("search", "bellamy")
+                        .param("sortBy", "price")
+                        .param("after", "")
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].price").value(0))
+                .andExpect(jsonPath("$.content[2].price").value(2))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/animal")
+                        .param("search", "bellamy")
+                        .param("sortBy", "price")
+                        .param("after", JsonPath.<String>read(first, "$.nextCursor"))
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].price").value(3))
+                .andExpect(jsonPath("$.content[2].price").value(5));
+    }
+
+    @Test
+    @DisplayName("GET /api/animal?view=summary uses the search engine hits")
+    void endpoint_SummaryViewSearch() throws Exception {
+        mockMvc.perform(get("/api/animal")
+                        .param("view", "summary")
+                        .param("search", "bel")
+                        .param("sortBy", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(bella.getId()))
+                .andExpect(jsonPath("$.content[0].speciesName").value("Dog"))
+                .andExpect(jsonPath("$.content[1].id").value(belle.getId()));
+    }
+}
@@ -0,0 +1,178 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pet.backendpetshelter.Entity.AdoptionApplication;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Search.FullTextSearchEngine;
+import org.pet.backendpetshelter.Search.InMemorySearchEngine;
+import org.pet.backendpetshelter.Search.SearchEngine;
+import org.pet.backendpetshelter.Search.SearchTarget;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the same queries through FullTextSearchEngine and InMemorySearchEngine against a real
+ * MySQL with the features.sql FULLTEXT indexes, which H2 cannot run. Needs MYSQL_TEST_URL (plus
+ * MYSQL_TEST_USERNAME / MYSQL_TEST_PASSWORD) and is skipped without them; ddl-auto=create
+ * recreates the schema, so point it at a throwaway database.
+ */
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${MYSQL_TEST_URL}",
+        "spring.datasource.username=${MYSQL_TEST_USERNAME:root}",
+        "spring.datasource.password=${MYSQL_TEST_PASSWORD:}",
+        "search.engine=fulltext"
+})
+@ActiveProfiles({"test", "mysql"})
+@DisplayName("Search Engine MySQL Integration Tests")
+public class SearchEngineMySqlIntegrationTest {
+
+    @Autowired
+    private SearchEngine fullText;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AdoptionApplicationRepository adoptionApplicationRepository;
+
+    private InMemorySearchEngine inMemory;
+    private Species species;
+    private Animal zephyrine;
+    private Animal qi;
+    private User vantablack;
+    private User xu;
+    private AdoptionApplication zephyrineByVantablack;
+    private AdoptionApplication zephyrineByXu;
+    private AdoptionApplication qiByVantablack;
+
+    // Not @Transactional: InnoDB only adds rows to a FULLTEXT index when they commit
+    @BeforeEach
+    void setUp() {
+        inMemory = new InMemorySearchEngine(jdbcTemplate);
+
+        Species species = new Species();
+        species.setName("SearchDog");
+        this.species = speciesRepository.saveAndFlush(species);
+
+        zephyrine = saveAnimal("Zephyrine");
+        qi = saveAnimal("Qi");
+        vantablack = saveUser("Sam", "Vantablack");
+        xu = saveUser("Xu", "Quorra");
+        zephyrineByVantablack = saveApplication(vantablack, zephyrine);
+        zephyrineByXu = saveApplication(xu, zephyrine);
+        qiByVantablack = saveApplication(vantablack, qi);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adoptionApplicationRepository.deleteAllById(List.of(zephyrineByVantablack.getId(), zephyrineByXu.getId(), qiByVantablack.getId()));
+        userRepository.deleteAllById(List.of(vantablack.getId(), xu.getId()));
+        animalRepository.deleteAllById(List.of(zephyrine.getId(), qi.getId()));
+        speciesRepository.deleteById(species.getId());
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(species);
+        animal.setSex("female");
+        animal.setBirthDate(new Date());
+        animal.setIntakeDate(new Date());
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(100);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    private User saveUser(String firstName, String lastName) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + "@search.example.com");
+        user.setPassword("secret");
+        user.setRole(Roles.USER);
+        user.setIsActive(true);
+        return userRepository.saveAndFlush(user);
+    }
+
+    private AdoptionApplication saveApplication(User user, Animal animal) {
+        AdoptionApplication application = new AdoptionApplication();
+        application.setUser(user);
+        application.setAnimal(animal);
+        application.setApplicationDate(new Date());
+        application.setStatus(Status.PENDING);
+        application.setIsActive(true);
+        return adoptionApplicationRepository.saveAndFlush(application);
+    }
+
+    /* Scores differ between the engines, so only the hit sets are compared */
+    private Set<Long> hits(SearchEngine engine, SearchTarget target, String query) {
+        return new HashSet<>(engine.search(target, query));
+    }
+
+    private void assertEnginesAgree(SearchTarget target, String query, Long... expected) {
+        assertEquals(Set.of(expected), hits(inMemory, target, query), "memory: " + query);
+        assertEquals(Set.of(expected), hits(fullText, target, query), "fulltext: " + query);
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("search.engine=fulltext selects the FULLTEXT engine")
+    void engine_IsFullText() {
+        assertInstanceOf(FullTextSearchEngine.class, fullText);
+    }
+
+    @Test
+    @DisplayName("Terms matching the animal and the applicant find the application in both engines")
+    void termsAcrossSources() {
+        assertEnginesAgree(SearchTarget.ADOPTION_APPLICATION, "zephyrine vantablack", zephyrineByVantablack.getId());
+    }
+
+    @Test
+    @DisplayName("Prefix terms match in both engines")
+    void prefixTerms() {
+        assertEnginesAgree(SearchTarget.ADOPTION_APPLICATION, "zeph", zephyrineByVantablack.getId(), zephyrineByXu.getId());
+    }
+
+    @Test
+    @DisplayName("Terms shorter than the FULLTEXT minimum still narrow the hits")
+    void shortTerms() {
+        assertEnginesAgree(SearchTarget.ANIMAL, "qi", qi.getId());
+        assertEnginesAgree(SearchTarget.ADOPTION_APPLICATION, "vantablack qi", qiByVantablack.getId());
+        assertEnginesAgree(SearchTarget.ADOPTION_APPLICATION, "zephyrine xu", zephyrineByXu.getId());
+    }
+}
@@ -0,0 +1,167 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Seed.SeedEngine;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Not @Transactional: the seeder commits its own transaction and restarts H2 identities */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Seed Engine Integration Tests")
+public class SeedEngineIntegrationTest {
+
+    private static final List<String> TABLES = List.of("users", "species", "breed", "animal", "vaccination_type",
+            "vaccination_type_species", "veterinarian", "medical_record", "vaccination", "foster_care", "adoption_application");
+
+    @Autowired
+    private SeedEngine seedEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void requireEmptyTables() {
+        for (String table : TABLES) {
+            assertEquals(0, count(table), table + " must be empty before seeding");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + TABLES.get(i));
+        }
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<Map<String, Object>> animalRows() {
+        return jdbcTemplate.queryForList(
+                "SELECT animal_id, name, species_id, breed_id, sex, birth_date, intake_date, status, price, is_active "
+                        + "FROM animal ORDER BY animal_id");
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Fixture seeds the same rows InitData used to create")
+    void seedsFixture() {
+        SeedEngine.Result result = seedEngine.seed(0);
+
+        assertFalse(result.skipped());
+        assertEquals(4, count("users"));
+        assertEquals(8, count("species"));
+        assertEquals(19, count("breed"));
+        assertEquals(35, count("animal"));
+        assertEquals(5, count("vaccination_type"));
+        assertEquals(6, count("vaccination_type_species"));
+        assertEquals(1, count("veterinarian"));
+        assertEquals(2, count("medical_record"));
+        assertEquals(47, count("vaccination"));
+        assertEquals(1, count("foster_care"));
+        assertEquals(1, count("adoption_application"));
+        assertEquals(result.total(), TABLES.stream().mapToLong(this::count).sum());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Seeded rows load through JPA with their relations")
+    void seededRowsMapToEntities() {
+        seedEngine.seed(0);
+
+        Animal rex = animalRepository.findById(1L);
+        assertEquals("Rex", rex.getName());
+        assertEquals("Dog", rex.getSpecies().getName());
+        assertEquals("Bulldog", rex.getBreed().getName());
+        assertEquals(Status.AVAILABLE, rex.getStatus());
+    }
+
+    @Test
+    @DisplayName("Seeded users log in with their precomputed password hashes")
+    void precomputedPasswordHashes() {
+        seedEngine.seed(0);
+
+        User admin = userRepository.findByEmail("ox1@gmail.com").orElseThrow();
+        assertTrue(admin.getPassword().startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("test123!", admin.getPassword()));
+        assertTrue(passwordEncoder.matches("Testpassword!",
+                userRepository.findByEmail("testuser@mail.com").orElseThrow().getPassword()));
+    }
+
+    @Test
+    @DisplayName("New rows get ids after the seeded ones")
+    void identityContinuesAfterSeed() {
+        seedEngine.seed(0);
+
+        Species species = new Species();
+        species.setName("Axolotl");
+        assertEquals(9L, speciesRepository.save(species).getId());
+    }
+
+    @Test
+    @DisplayName("Seeding a database that already has data is skipped")
+    void skipsWhenNotEmpty() {
+        seedEngine.seed(0);
+
+        SeedEngine.Result second = seedEngine.seed(0);
+
+        assertTrue(second.skipped());
+        assertEquals(35, count("animal"));
+    }
+
+    @Test
+    @DisplayName("seed.animals tops the fixture up to the requested total, the same way every run")
+    void generatedAnimalsAreDeterministic() {
+        seedEngine.seed(500);
+        List<Map<String, Object>> first = animalRows();
+        cleanUp();
+        seedEngine.seed(500);
+        List<Map<String, Object>> second = animalRows();
+
+        assertEquals(500, first.size());
+        assertEquals(first, second);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM animal a LEFT JOIN breed b ON a.breed_id = b.breed_id "
+                        + "WHERE b.breed_id IS NOT NULL AND b.species_id <> a.species_id", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM animal WHERE intake_date < birth_date", Long.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM animal WHERE intake_date > DATE '2024-01-01'", Long.class));
+    }
+}
@@ -0,0 +1,315 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.DTO.AdoptionApplicationRequest;
+import org.pet.backendpetshelter.DTO.AdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.AdoptionRequest;
+import org.pet.backendpetshelter.DTO.AnimalDTORequest;
+import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.pet.backendpetshelter.DTO.FosterCareRespons;
+import org.pet.backendpetshelter.DTO.ShelterStatsResponse;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AdoptionRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.FosterCareRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Service.AdoptionApplicationService;
+import org.pet.backendpetshelter.Service.AdoptionService;
+import org.pet.backendpetshelter.Service.AnimalService;
+import org.pet.backendpetshelter.Service.FosterCareService;
+import org.pet.backendpetshelter.Service.ShelterStatsService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Shelter Stats Integration Tests")
+public class ShelterStatsIntegrationTest {
+
+    @Autowired
+    private ShelterStatsService shelterStatsService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private AdoptionApplicationService adoptionApplicationService;
+
+    @Autowired
+    private AdoptionService adoptionService;
+
+    @Autowired
+    private FosterCareService fosterCareService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private AdoptionApplicationRepository adoptionApplicationRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private FosterCareRepository fosterCareRepository;
+
+    private Species dog;
+    private Breed labrador;
+    private User applicant;
+
+    @BeforeEach
+    void setUp() {
+        adoptionRepository.deleteAll();
+        adoptionApplicationRepository.deleteAll();
+        fosterCareRepository.deleteAll();
+        vaccinationRepository.deleteAll();
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("StatsDog");
+        dog = speciesRepository.saveAndFlush(species);
+
+        Breed breed = new Breed();
+        breed.setName("StatsLabrador");
+        breed.setSpecies(dog);
+        labrador = breedRepository.saveAndFlush(breed);
+
+        User user = new User();
+        user.setFirstName("Stella");
+        user.setLastName("Stats");
+        user.setEmail("stella.stats@example.com");
+        user.setPassword("secret");
+        user.setRole(Roles.USER);
+        user.setIsActive(true);
+        applicant = userRepository.saveAndFlush(user);
+
+        shelterStatsService.reconcile();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private AnimalDTOResponse addAnimal(String name, Status status) {
+        AnimalDTORequest request = new AnimalDTORequest();
+        request.setName(name);
+        request.setSpeciesId(dog.getId());
+        request.setBreedId(labrador.getId());
+        request.setSex("male");
+        request.setBirthDate(toDate(LocalDate.now().minusYears(3)));
+        request.setIntakeDate(toDate(LocalDate.now().minusYears(1)));
+        request.setStatus(status);
+        request.setPrice(100);
+        request.setIsActive(true);
+        request.setImageUrl("http://example.com/" + name + ".jpg");
+        return animalService.addAnimal(request);
+    }
+
+    private AdoptionApplicationResponse apply(AnimalDTOResponse animal) {
+        AdoptionApplicationRequest request = new AdoptionApplicationRequest();
+        request.setUserId(applicant.getId());
+        request.setAnimalId(animal.getId());
+        request.setDescription("I have a big garden");
+        return adoptionApplicationService.addAdoptionApplication(request);
+    }
+
+    private long total(String key) {
+        return jdbcTemplate.queryForList("SELECT total FROM shelter_stat WHERE stat_key = ?", Long.class, key)
+                .stream().findFirst().orElse(0L);
+    }
+
+    // Zero counters are left behind by moves but never written by a recount
+    private Map<String, Long> counters() {
+        Map<String, Long> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT stat_key, total FROM shelter_stat WHERE total <> 0",
+                (ResultSetExtractor<Void>) rows -> {
+                    while (rows.next()) {
+                        counters.put(rows.getString(1), rows.getLong(2));
+                    }
+                    return null;
+                });
+        return counters;
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should create a new counter in the write's transaction, not a committed one of its own")
+    void newCounterInWriteTransaction() {
+        String key = "animals:AVAILABLE:" + dog.getId();
+        addAnimal("Buddy", Status.AVAILABLE);
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT total FROM shelter_stat WHERE stat_key = ?", Long.class, key));
+
+        TransactionTemplate otherTransaction = new TransactionTemplate(transactionManager);
+        otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Long seenOutside = otherTransaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM shelter_stat WHERE stat_key = ?", Long.class, key));
+
+        // Rolled back with the test transaction
+        assertEquals(0L, seenOutside);
+    }
+
+    @Test
+    @DisplayName("Should count animals added, moved and deleted through AnimalService")
+    void animalWrites() {
+        AnimalDTOResponse buddy = addAnimal("Buddy", Status.AVAILABLE);
+        AnimalDTOResponse max = addAnimal("Max", Status.AVAILABLE);
+
+        ShelterStatsResponse stats = shelterStatsService.getStats();
+        assertEquals(2L, stats.getAvailableBySpecies().get("StatsDog"));
+        assertEquals(2L, stats.getAnimalsByStatus().get("AVAILABLE"));
+
+        AnimalDTORequest update = new AnimalDTORequest();
+        update.setName("Buddy");
+        update.setSpeciesId(dog.getId());
+        update.setBreedId(labrador.getId());
+        update.setSex("male");
+        update.setStatus(Status.FOSTERED);
+        update.setPrice(100);
+        animalService.updateAnimal(buddy.getId(), update);
+        animalService.deleteAnimal(max.getId());
+
+        stats = shelterStatsService.getStats();
+        assertNull(stats.getAvailableBySpecies().get("StatsDog"));
+        assertEquals(0L, stats.getAnimalsByStatus().get("AVAILABLE"));
+        assertEquals(1L, stats.getAnimalsByStatus().get("FOSTERED"));
+    }
+
+    @Test
+    @DisplayName("Should move an application between statuses and count its adoption")
+    void applicationAndAdoptionWrites() {
+        AnimalDTOResponse buddy = addAnimal("Buddy", Status.AVAILABLE);
+        AnimalDTOResponse max = addAnimal("Max", Status.AVAILABLE);
+        AdoptionApplicationResponse buddyApplication = apply(buddy);
+        AdoptionApplicationResponse maxApplication = apply(max);
+        assertEquals(2L, shelterStatsService.getStats().getApplicationsByStatus().get("PENDING"));
+
+        adoptionApplicationService.rejectAdoptionApplication(maxApplication.getId(), applicant.getId());
+
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        AdoptionRequest adoption = new AdoptionRequest();
+        adoption.setAdoptionApplicationId(buddyApplication.getId());
+        adoption.setAdoptionDate(toDate(tomorrow));
+        adoption.setIsActive(true);
+        adoptionService.addAdoption(adoption);
+
+        ShelterStatsResponse stats = shelterStatsService.getStats();
+        assertEquals(0L, stats.getApplicationsByStatus().get("PENDING"));
+        assertEquals(1L, stats.getApplicationsByStatus().get("REJECTED"));
+        assertEquals(1L, stats.getApplicationsByStatus().get("APPROVED"));
+        assertEquals(1L, stats.getAnimalsByStatus().get("ADOPTED"));
+        assertEquals(1L, total("adoptions:" + YearMonth.from(tomorrow)));
+    }
+
+    @Test
+    @DisplayName("Should count active foster cares and move their animal between statuses")
+    void fosterCareWrites() {
+        Animal animal = animalRepository.findById(addAnimal("Buddy", Status.AVAILABLE).getId()).orElseThrow();
+        FosterCareRespons request = new FosterCareRespons();
+        request.setAnimal(animal);
+        request.setFosterParent(applicant);
+        request.setStartDate(toDate(LocalDate.now()));
+        request.setIsActive(true);
+        FosterCareRespons stint = fosterCareService.addFosterCare(request);
+
+        ShelterStatsResponse stats = shelterStatsService.getStats();
+        assertEquals(1L, stats.getActiveFosterCares());
+        assertEquals(1L, stats.getAnimalsByStatus().get("FOSTERED"));
+        assertEquals(0L, stats.getAnimalsByStatus().get("AVAILABLE"));
+
+        request.setEndDate(toDate(LocalDate.now()));
+        request.setIsActive(false);
+        fosterCareService.updateFosterCare(stint.getId(), request);
+
+        stats = shelterStatsService.getStats();
+        assertEquals(0L, stats.getActiveFosterCares());
+        assertEquals(0L, stats.getAnimalsByStatus().get("FOSTERED"));
+        assertEquals(1L, stats.getAnimalsByStatus().get("AVAILABLE"));
+        assertEquals(Status.AVAILABLE, animalRepository.findById(animal.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should match a recount from the tables after a series of service writes")
+    void countersMatchReconcile() {
+        AnimalDTOResponse buddy = addAnimal("Buddy", Status.AVAILABLE);
+        addAnimal("Max", Status.AVAILABLE);
+        addAnimal("Rex", Status.DECEASED);
+        AdoptionApplicationResponse application = apply(buddy);
+        AdoptionRequest adoption = new AdoptionRequest();
+        adoption.setAdoptionApplicationId(application.getId());
+        adoption.setAdoptionDate(toDate(LocalDate.now().plusDays(1)));
+        adoption.setIsActive(true);
+        adoptionService.addAdoption(adoption);
+
+        Map<String, Long> incremental = Map.copyOf(counters());
+        shelterStatsService.reconcile();
+
+        assertEquals(counters(), incremental);
+    }
+
+    @Test
+    @DisplayName("Should rebuild counters for rows written around the services")
+    void reconcileCountsDirectWrites() {
+        Animal animal = new Animal();
+        animal.setName("Direct");
+        animal.setSpecies(dog);
+        animal.setSex("female");
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(50);
+        animal.setIsActive(true);
+        animalRepository.saveAndFlush(animal);
+        assertNull(shelterStatsService.getStats().getAvailableBySpecies().get("StatsDog"));
+
+        shelterStatsService.reconcile();
+
+        assertEquals(1L, shelterStatsService.getStats().getAvailableBySpecies().get("StatsDog"));
+    }
+}
@@ -0,0 +1,286 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pet.backendpetshelter.DTO.AdoptionApplicationRequest;
+import org.pet.backendpetshelter.DTO.AdoptionApplicationResponse;
+import org.pet.backendpetshelter.DTO.AdoptionRequest;
+import org.pet.backendpetshelter.DTO.AnimalDTORequest;
+import org.pet.backendpetshelter.DTO.AnimalDTOResponse;
+import org.pet.backendpetshelter.DTO.FosterCareRespons;
+import org.pet.backendpetshelter.Entity.Breed;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.User;
+import org.pet.backendpetshelter.Repository.AdoptionApplicationRepository;
+import org.pet.backendpetshelter.Repository.AdoptionRepository;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.BreedRepository;
+import org.pet.backendpetshelter.Repository.FosterCareRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Roles;
+import org.pet.backendpetshelter.Service.AdoptionApplicationService;
+import org.pet.backendpetshelter.Service.AdoptionService;
+import org.pet.backendpetshelter.Service.AnimalService;
+import org.pet.backendpetshelter.Service.FosterCareService;
+import org.pet.backendpetshelter.Service.ShelterStatsService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the shelter_stat counters against a real MySQL with the features.sql triggers applied,
+ * which H2 cannot run. Needs MYSQL_TEST_URL (e.g. jdbc:mysql://localhost:3306/pet_shelter_test),
+ * MYSQL_TEST_USERNAME and MYSQL_TEST_PASSWORD and is skipped without them; ddl-auto=create
+ * recreates the schema, so point it at a throwaway database.
+ */
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${MYSQL_TEST_URL}",
+        "spring.datasource.username=${MYSQL_TEST_USERNAME:root}",
+        "spring.datasource.password=${MYSQL_TEST_PASSWORD:}"
+})
+@ActiveProfiles({"test", "mysql"})
+@DisplayName("Shelter Stats MySQL Integration Tests")
+public class ShelterStatsMySqlIntegrationTest {
+
+    @Autowired
+    private ShelterStatsService shelterStatsService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private AdoptionApplicationService adoptionApplicationService;
+
+    @Autowired
+    private AdoptionService adoptionService;
+
+    @Autowired
+    private FosterCareService fosterCareService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private BreedRepository breedRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private AdoptionApplicationRepository adoptionApplicationRepository;
+
+    @Autowired
+    private AdoptionRepository adoptionRepository;
+
+    @Autowired
+    private FosterCareRepository fosterCareRepository;
+
+    private Species dog;
+    private Breed labrador;
+    private User applicant;
+
+    // Not @Transactional: concurrentUpdates writes from other threads, which only see committed rows
+    @BeforeEach
+    void setUp() {
+        deleteRows();
+
+        Species species = new Species();
+        species.setName("StatsDog");
+        dog = speciesRepository.saveAndFlush(species);
+
+        Breed breed = new Breed();
+        breed.setName("StatsLabrador");
+        breed.setSpecies(dog);
+        labrador = breedRepository.saveAndFlush(breed);
+
+        User user = new User();
+        user.setFirstName("Stella");
+        user.setLastName("Stats");
+        user.setEmail("stella.stats@example.com");
+        user.setPassword("secret");
+        user.setRole(Roles.USER);
+        user.setIsActive(true);
+        applicant = userRepository.saveAndFlush(user);
+
+        shelterStatsService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteRows();
+        userRepository.deleteById(applicant.getId());
+        breedRepository.deleteById(labrador.getId());
+        speciesRepository.deleteById(dog.getId());
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private void deleteRows() {
+        adoptionRepository.deleteAll();
+        adoptionApplicationRepository.deleteAll();
+        fosterCareRepository.deleteAll();
+        vaccinationRepository.deleteAll();
+        animalRepository.deleteAll();
+    }
+
+    private AnimalDTOResponse addAnimal(String name) {
+        return animalService.addAnimal(animalRequest(name, Status.AVAILABLE));
+    }
+
+    private AnimalDTORequest animalRequest(String name, Status status) {
+        AnimalDTORequest request = new AnimalDTORequest();
+        request.setName(name);
+        request.setSpeciesId(dog.getId());
+        request.setBreedId(labrador.getId());
+        request.setSex("male");
+        request.setBirthDate(toDate(LocalDate.now().minusYears(3)));
+        request.setIntakeDate(toDate(LocalDate.now().minusYears(1)));
+        request.setStatus(status);
+        request.setPrice(100);
+        request.setIsActive(true);
+        request.setImageUrl("http://example.com/" + name + ".jpg");
+        return request;
+    }
+
+    private long total(String key) {
+        return jdbcTemplate.queryForList("SELECT total FROM shelter_stat WHERE stat_key = ?", Long.class, key)
+                .stream().findFirst().orElse(0L);
+    }
+
+    // Exact-case keys: the default collation would compare 'animals:fostered:1' equal to 'animals:FOSTERED:1'
+    private Map<String, Long> counters() {
+        Map<String, Long> counters = new TreeMap<>();
+        jdbcTemplate.query("SELECT CAST(stat_key AS BINARY), total FROM shelter_stat WHERE total <> 0",
+                (ResultSetExtractor<Void>) rows -> {
+                    while (rows.next()) {
+                        counters.put(new String(rows.getBytes(1)), rows.getLong(2));
+                    }
+                    return null;
+                });
+        return counters;
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should have no trigger changing an animal's status behind FosterCareService")
+    void fosterTriggersAreDropped() {
+        Integer triggers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.TRIGGERS "
+                + "WHERE TRIGGER_SCHEMA = DATABASE() AND EVENT_OBJECT_TABLE = 'foster_care'", Integer.class);
+
+        assertEquals(0, triggers);
+    }
+
+    @Test
+    @DisplayName("Should move the animal counter when a foster stint starts and ends")
+    void fosterStintMovesAnimal() {
+        AnimalDTOResponse buddy = addAnimal("Buddy");
+        FosterCareRespons request = new FosterCareRespons();
+        request.setAnimal(animalRepository.findById(buddy.getId()).orElseThrow());
+        request.setFosterParent(applicant);
+        request.setStartDate(toDate(LocalDate.now()));
+        request.setIsActive(true);
+        FosterCareRespons stint = fosterCareService.addFosterCare(request);
+
+        assertEquals(1L, total("animals:FOSTERED:" + dog.getId()));
+        assertEquals(0L, total("animals:AVAILABLE:" + dog.getId()));
+        assertEquals(1L, total("foster:active"));
+
+        request.setEndDate(toDate(LocalDate.now()));
+        request.setIsActive(false);
+        fosterCareService.updateFosterCare(stint.getId(), request);
+
+        assertEquals(Status.AVAILABLE, animalRepository.findById(buddy.getId()).orElseThrow().getStatus());
+        Map<String, Long> incremental = counters();
+        shelterStatsService.reconcile();
+        assertEquals(counters(), incremental);
+        assertEquals(1L, incremental.get("animals:AVAILABLE:" + dog.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep the counters and the statuses the adoption triggers write in step")
+    void adoptionTriggers() {
+        AnimalDTOResponse buddy = addAnimal("Buddy");
+        AdoptionApplicationRequest application = new AdoptionApplicationRequest();
+        application.setUserId(applicant.getId());
+        application.setAnimalId(buddy.getId());
+        application.setDescription("I have a big garden");
+        AdoptionApplicationResponse applied = adoptionApplicationService.addAdoptionApplication(application);
+
+        AdoptionRequest adoption = new AdoptionRequest();
+        adoption.setAdoptionApplicationId(applied.getId());
+        adoption.setAdoptionDate(toDate(LocalDate.now()));
+        adoption.setIsActive(true);
+        adoptionService.addAdoption(adoption);
+
+        assertEquals(Status.ADOPTED, animalRepository.findById(buddy.getId()).orElseThrow().getStatus());
+        assertEquals(Status.APPROVED, adoptionApplicationRepository.findById(applied.getId()).orElseThrow().getStatus());
+        Map<String, Long> incremental = counters();
+        shelterStatsService.reconcile();
+        assertEquals(counters(), incremental);
+        assertEquals(1L, incremental.get("animals:ADOPTED:" + dog.getId()));
+        assertEquals(1L, incremental.get("applications:APPROVED"));
+    }
+
+    @Test
+    @DisplayName("Should keep the counters right when the same animal is updated concurrently")
+    void concurrentUpdates() throws Exception {
+        AnimalDTOResponse buddy = addAnimal("Buddy");
+        List<Status> statuses = List.of(Status.AVAILABLE, Status.FOSTERED, Status.ADOPTED);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<AnimalDTOResponse>> updates = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                AnimalDTORequest request = animalRequest("Buddy", statuses.get(i % statuses.size()));
+                updates.add(pool.submit(() -> animalService.updateAnimal(buddy.getId(), request)));
+            }
+            for (Future<AnimalDTOResponse> update : updates) {
+                update.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // Each update counted from the status the previous one committed, so one animal is counted once
+        Map<String, Long> incremental = counters();
+        shelterStatsService.reconcile();
+        assertEquals(counters(), incremental);
+        assertEquals(List.of(1L), List.copyOf(incremental.values()));
+    }
+}
@@ -0,0 +1,180 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.GeneratorProperties;
+import org.pet.backendpetshelter.Seed.SeedEngine;
+import org.pet.backendpetshelter.Seed.SeedWriter;
+import org.pet.backendpetshelter.Seed.SyntheticDataGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/* Not @Transactional: the generator commits batch by batch and restarts H2 identities */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Synthetic Data Generator Integration Tests")
+public class SyntheticDataGeneratorIntegrationTest {
+
+    private static final List<String> TABLES = List.of("users", "species", "breed", "animal", "vaccination_type",
+            "vaccination_type_species", "veterinarian", "medical_record", "vaccination", "foster_care",
+            "adoption_application", "adoption");
+
+    @Autowired
+    private SeedEngine seedEngine;
+
+    @Autowired
+    private SeedWriter seedWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void requireEmptyTables() {
+        for (String table : TABLES) {
+            assertEquals(0, count(table), table + " must be empty before generating");
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + TABLES.get(i));
+        }
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private GeneratorProperties properties(long seed) {
+        GeneratorProperties properties = new GeneratorProperties();
+        properties.setSeed(seed);
+        properties.setUsers(200);
+        properties.setAnimals(400);
+        properties.setReferenceDate(LocalDate.of(2026, 1, 15));
+        return properties;
+    }
+
+    private SyntheticDataGenerator generator(GeneratorProperties properties) {
+        return new SyntheticDataGenerator(seedEngine, seedWriter, jdbcTemplate, properties,
+                new ClassPathResource("seed/shelter-fixture.json"));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private long countWhere(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private Map<String, List<Map<String, Object>>> snapshot() {
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        rows.put("users", jdbcTemplate.queryForList("SELECT * FROM users ORDER BY user_id"));
+        rows.put("animal", jdbcTemplate.queryForList("SELECT * FROM animal ORDER BY animal_id"));
+        rows.put("vaccination", jdbcTemplate.queryForList("SELECT * FROM vaccination ORDER BY vaccination_id"));
+        rows.put("medical_record", jdbcTemplate.queryForList("SELECT * FROM medical_record ORDER BY record_id"));
+        rows.put("foster_care", jdbcTemplate.queryForList("SELECT * FROM foster_care ORDER BY fostercare_id"));
+        rows.put("adoption_application", jdbcTemplate.queryForList(
+                "SELECT * FROM adoption_application ORDER BY adoption_application_id"));
+        rows.put("adoption", jdbcTemplate.queryForList("SELECT * FROM adoption ORDER BY adoption_id"));
+        return rows;
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Generates the configured users and animals on top of the fixture")
+    void generatesConfiguredSizes() {
+        SeedEngine.Result result = generator(properties(7)).generate();
+
+        assertFalse(result.skipped());
+        assertEquals(4 + 200, count("users"));
+        assertEquals(35 + 400, count("animal"));
+        assertEquals(1 + 2, count("veterinarian"));
+        assertEquals(4, countWhere("SELECT COUNT(*) FROM users WHERE role = 'STAFF' AND email LIKE '%@generated.test'"));
+        assertTrue(count("vaccination") > 47);
+        assertTrue(count("medical_record") > 2);
+        assertTrue(count("adoption") > 0);
+        assertEquals(result.rows().get("adoption"), count("adoption"));
+    }
+
+    @Test
+    @DisplayName("The same seed produces the same rows and another seed different ones")
+    void deterministicFromSeed() {
+        generator(properties(7)).generate();
+        Map<String, List<Map<String, Object>>> first = snapshot();
+        cleanUp();
+        generator(properties(7)).generate();
+        Map<String, List<Map<String, Object>>> second = snapshot();
+        cleanUp();
+        generator(properties(8)).generate();
+        Map<String, List<Map<String, Object>>> other = snapshot();
+
+        assertEquals(first, second);
+        assertNotEquals(first.get("animal"), other.get("animal"));
+    }
+
+    @Test
+    @DisplayName("Animal statuses agree with their foster stints, applications and adoptions")
+    void statusesAreConsistent() {
+        generator(properties(7)).generate();
+
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM animal a WHERE a.status = 'FOSTERED' AND "
+                + "(SELECT COUNT(*) FROM foster_care f WHERE f.animal_animal_id = a.animal_id AND f.is_active) <> 1"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM foster_care f JOIN animal a ON f.animal_animal_id = a.animal_id "
+                + "WHERE f.is_active AND a.status <> 'FOSTERED' AND a.animal_id > 35"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM animal a WHERE a.status = 'ADOPTED' AND a.animal_id > 35 AND NOT EXISTS "
+                + "(SELECT 1 FROM adoption d JOIN adoption_application p ON d.application_id = p.adoption_application_id "
+                + "WHERE p.animal_id = a.animal_id AND p.status = 'APPROVED')"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM adoption d JOIN adoption_application p "
+                + "ON d.application_id = p.adoption_application_id JOIN animal a ON p.animal_id = a.animal_id "
+                + "WHERE p.status <> 'APPROVED' OR a.status <> 'ADOPTED' OR d.adoption_date < p.application_date"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM adoption_application p JOIN animal a ON p.animal_id = a.animal_id "
+                + "WHERE p.status = 'PENDING' AND a.status NOT IN ('AVAILABLE', 'FOSTERED')"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM adoption_application p JOIN users u ON p.user_id = u.user_id "
+                + "WHERE u.email LIKE '%@generated.test' AND u.role <> 'USER'"));
+        assertEquals(0, countWhere("SELECT COUNT(*) FROM vaccination v JOIN animal a ON v.animal_id = a.animal_id "
+                + "WHERE v.date_administered < a.intake_date OR v.date_administered > ?", LocalDate.of(2026, 1, 15)));
+    }
+
+    @Test
+    @DisplayName("Vaccination compliance is derived from the generated vaccinations")
+    void complianceIsRecomputed() {
+        generator(properties(7)).generate();
+
+        assertTrue(countWhere("SELECT COUNT(*) FROM animal WHERE vaccination_compliant AND animal_id > 35") > 0);
+        assertTrue(countWhere("SELECT COUNT(*) FROM animal WHERE NOT vaccination_compliant AND animal_id > 35") > 0);
+    }
+
+    @Test
+    @DisplayName("A database that already has generated rows is left alone")
+    void skipsWhenAlreadyGenerated() {
+        generator(properties(7)).generate();
+
+        SeedEngine.Result second = generator(properties(7)).generate();
+
+        assertTrue(second.skipped());
+        assertEquals(35 + 400, count("animal"));
+    }
+
+    @Test
+    @DisplayName("Too few users for vets, staff and adopters is rejected before anything is written")
+    void rejectsTooFewUsers() {
+        GeneratorProperties properties = properties(7);
+        properties.setUsers(1);
+
+        assertThrows(IllegalArgumentException.class, () -> generator(properties).generate());
+        assertEquals(0, count("users"));
+    }
+}
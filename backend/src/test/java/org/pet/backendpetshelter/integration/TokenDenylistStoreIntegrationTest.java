@@ -0,0 +1,86 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Repository.DeniedTokenRepository;
+import org.pet.backendpetshelter.Service.DatabaseTokenDenylistStore;
+import org.pet.backendpetshelter.Service.TokenDenylistService;
+import org.pet.backendpetshelter.Service.TokenDenylistStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "security.denylist.store=database",
+        // Keep the background sync out of the way; the tests trigger it explicitly
+        "security.denylist.sync-interval-ms=3600000",
+        "security.denylist.purge-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("Token Denylist Store Integration Tests")
+public class TokenDenylistStoreIntegrationTest {
+
+    @Autowired
+    private TokenDenylistStore store;
+
+    @Autowired
+    private TokenDenylistService denylistService;
+
+    @Autowired
+    private DeniedTokenRepository deniedTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        deniedTokenRepository.deleteAll();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    /* A second backend instance sharing the same database */
+    private TokenDenylistService otherInstance() {
+        return new TokenDenylistService(null, 1_000L, null, store, Duration.ofSeconds(30));
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("database store is selected by security.denylist.store")
+    void store_IsDatabase() {
+        assertInstanceOf(DatabaseTokenDenylistStore.class, store);
+    }
+
+    @Test
+    @DisplayName("Logout on one instance is enforced by another after a sync")
+    void deny_PropagatesThroughTable() {
+        TokenDenylistService other = otherInstance();
+
+        denylistService.deny("logged.out.token", 900L);
+
+        assertEquals(1, deniedTokenRepository.count());
+        assertFalse(other.isDenied("logged.out.token"));
+
+        other.syncFromStore();
+
+        assertTrue(other.isDenied("logged.out.token"));
+        assertFalse(other.isDenied("active.token"));
+    }
+
+    @Test
+    @DisplayName("Expired rows are purged from the table")
+    void purge_RemovesExpiredRows() {
+        denylistService.deny("expired.token", 0L);
+        denylistService.deny("live.token", 900L);
+
+        denylistService.purgeExpiredFromStore();
+
+        assertEquals(1, deniedTokenRepository.count());
+    }
+}
@@ -0,0 +1,186 @@
+package org.pet.backendpetshelter.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Entity.Animal;
+import org.pet.backendpetshelter.Entity.Species;
+import org.pet.backendpetshelter.Entity.Vaccination;
+import org.pet.backendpetshelter.Entity.VaccinationType;
+import org.pet.backendpetshelter.Entity.VaccineTypeSpecies;
+import org.pet.backendpetshelter.Repository.AnimalRepository;
+import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Repository.VaccinationRepository;
+import org.pet.backendpetshelter.Repository.VaccinationTypeRepository;
+import org.pet.backendpetshelter.Repository.VaccineTypeSpeciesRepository;
+import org.pet.backendpetshelter.Service.VaccinationComplianceService;
+import org.pet.backendpetshelter.Status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Vaccination Compliance Integration Tests")
+public class VaccinationComplianceIntegrationTest {
+
+    @Autowired
+    private VaccinationComplianceService vaccinationComplianceService;
+
+    @Autowired
+    private AnimalRepository animalRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private VaccinationRepository vaccinationRepository;
+
+    @Autowired
+    private VaccinationTypeRepository vaccinationTypeRepository;
+
+    @Autowired
+    private VaccineTypeSpeciesRepository vaccineTypeSpeciesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Species dog;
+    private VaccinationType rabies;
+    private Animal buddy;
+
+    @BeforeEach
+    void setUp() {
+        vaccinationRepository.deleteAll();
+        vaccineTypeSpeciesRepository.deleteAll();
+        animalRepository.deleteAll();
+
+        Species species = new Species();
+        species.setName("ComplianceDog");
+        dog = speciesRepository.saveAndFlush(species);
+
+        VaccinationType type = new VaccinationType();
+        type.setVaccineName("ComplianceRabies");
+        type.setDurationMonths(12);
+        type.setRequiredForAdoption(true);
+        rabies = vaccinationTypeRepository.saveAndFlush(type);
+
+        VaccineTypeSpecies mapping = new VaccineTypeSpecies();
+        mapping.setSpecies(dog);
+        mapping.setVaccinationType(rabies);
+        vaccineTypeSpeciesRepository.saveAndFlush(mapping);
+
+        buddy = saveAnimal("Buddy", dog);
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private Animal saveAnimal(String name, Species species) {
+        Animal animal = new Animal();
+        animal.setName(name);
+        animal.setSpecies(species);
+        animal.setSex("male");
+        animal.setBirthDate(toDate(LocalDate.now().minusYears(3)));
+        animal.setIntakeDate(toDate(LocalDate.now().minusYears(1)));
+        animal.setStatus(Status.AVAILABLE);
+        animal.setPrice(100);
+        animal.setIsActive(true);
+        return animalRepository.saveAndFlush(animal);
+    }
+
+    private void vaccinate(Animal animal, LocalDate nextDueDate) {
+        Vaccination vaccination = new Vaccination();
+        vaccination.setAnimal(animal);
+        vaccination.setVaccinationType(rabies);
+        vaccination.setDateAdministered(toDate(nextDueDate.minusYears(1)));
+        vaccination.setNextDueDate(toDate(nextDueDate));
+        vaccinationRepository.saveAndFlush(vaccination);
+    }
+
+    private boolean isCompliant(Animal animal) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT vaccination_compliant FROM animal WHERE animal_id = ?", Boolean.class, animal.getId()));
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Animal without the required vaccination is not compliant")
+    void refreshAnimal_MissingVaccination() {
+        vaccinationComplianceService.refreshAnimal(buddy.getId());
+
+        assertFalse(isCompliant(buddy));
+    }
+
+    @Test
+    @DisplayName("Animal with a valid required vaccination is compliant")
+    void refreshAnimal_ValidVaccination() {
+        vaccinate(buddy, LocalDate.now().plusMonths(6));
+
+        vaccinationComplianceService.refreshAnimal(buddy.getId());
+
+        assertTrue(isCompliant(buddy));
+    }
+
+    @Test
+    @DisplayName("Expired vaccination is flipped by the daily job")
+    void refreshExpired_FlipsExpiredAnimals() {
+        vaccinate(buddy, LocalDate.now().plusMonths(6));
+        vaccinationComplianceService.refreshAnimal(buddy.getId());
+        assertTrue(isCompliant(buddy));
+
+        jdbcTemplate.update("UPDATE vaccination SET next_due_date = ? WHERE animal_id = ?",
+                toDate(LocalDate.now().minusDays(1)), buddy.getId());
+        vaccinationComplianceService.refreshExpired();
+
+        assertFalse(isCompliant(buddy));
+    }
+
+    @Test
+    @DisplayName("Species without required vaccinations is always compliant")
+    void refreshSpecies_NoRequiredVaccinations() {
+        Species cat = new Species();
+        cat.setName("ComplianceCat");
+        cat = speciesRepository.saveAndFlush(cat);
+        Animal whiskers = saveAnimal("Whiskers", cat);
+
+        vaccinationComplianceService.refreshSpecies(cat.getId());
+
+        assertTrue(isCompliant(whiskers));
+    }
+
+    @Test
+    @DisplayName("hasRequiredVaccinations filter uses the maintained flag")
+    void findAllWithFilters_UsesComplianceFlag() {
+        Animal max = saveAnimal("Max", dog);
+        vaccinate(buddy, LocalDate.now().plusMonths(6));
+        vaccinationComplianceService.refreshAll();
+
+        Page<Animal> compliant = animalRepository.findAllWithFilters(
+                null, null, true, null, null, null, null, PageRequest.of(0, 10));
+        Page<Animal> notCompliant = animalRepository.findAllWithFilters(
+                null, null, false, null, null, null, null, PageRequest.of(0, 10));
+
+        assertEquals(1, compliant.getTotalElements());
+        assertEquals(buddy.getId(), compliant.getContent().get(0).getId());
+        assertEquals(1, notCompliant.getTotalElements());
+        assertEquals(max.getId(), notCompliant.getContent().get(0).getId());
+    }
+}
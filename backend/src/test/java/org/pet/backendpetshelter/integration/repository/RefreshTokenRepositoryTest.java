@@ -9,6 +9,7 @@ import org.pet.backendpetshelter.Entity.User;
 import org.pet.backendpetshelter.Roles;
 import org.pet.backendpetshelter.Repository.RefreshTokenRepository;
 import org.pet.backendpetshelter.Repository.UserRepository;
+import org.pet.backendpetshelter.Service.RefreshTokenPurgeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -471,4 +472,73 @@ class RefreshTokenRepositoryTest {
             });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Bulk Operation Tests - rotation & purge")
+    class BulkOperationTests {
+
+        @Test
+        @DisplayName("Should revoke an active token exactly once")
+        void testRevokeIfActiveOnlyOnce() {
+            User user = createAndSaveUser("user@example.com");
+            refreshTokenRepository.save(createValidRefreshToken(user, "rotate.me"));
+            entityManager.flush();
+
+            assertEquals(1, refreshTokenRepository.revokeIfActive("rotate.me", Instant.now()));
+            assertEquals(0, refreshTokenRepository.revokeIfActive("rotate.me", Instant.now()));
+            assertTrue(refreshTokenRepository.findByToken("rotate.me").orElseThrow().getRevoked());
+        }
+
+        @Test
+        @DisplayName("Should not revoke an expired token")
+        void testRevokeIfActiveIgnoresExpired() {
+            User user = createAndSaveUser("user@example.com");
+            RefreshToken token = createValidRefreshToken(user, "expired.token");
+            token.setExpiresAt(Instant.now().minusSeconds(60));
+            refreshTokenRepository.save(token);
+            entityManager.flush();
+
+            assertEquals(0, refreshTokenRepository.revokeIfActive("expired.token", Instant.now()));
+        }
+
+        @Test
+        @DisplayName("Should delete only the given user's tokens")
+        void testDeleteByUserId() {
+            User user1 = createAndSaveUser("user1@example.com");
+            User user2 = createAndSaveUser("user2@example.com");
+            refreshTokenRepository.save(createValidRefreshToken(user1, "user1.token"));
+            refreshTokenRepository.save(createValidRefreshToken(user2, "user2.token"));
+            entityManager.flush();
+
+            refreshTokenRepository.deleteByUserId(user1.getId());
+            entityManager.clear();
+
+            assertTrue(refreshTokenRepository.findByToken("user1.token").isEmpty());
+            assertTrue(refreshTokenRepository.findByToken("user2.token").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should purge revoked and expired tokens in chunks and keep active ones")
+        void testPurgeInChunks() {
+            User user = createAndSaveUser("user@example.com");
+            for (int i = 0; i < 3; i++) {
+                RefreshToken revoked = createValidRefreshToken(user, "revoked." + i);
+                revoked.setRevoked(true);
+                refreshTokenRepository.save(revoked);
+
+                RefreshToken expired = createValidRefreshToken(user, "expired." + i);
+                expired.setExpiresAt(Instant.now().minusSeconds(60));
+                refreshTokenRepository.save(expired);
+            }
+            refreshTokenRepository.save(createValidRefreshToken(user, "active.token"));
+            entityManager.flush();
+
+            int deleted = new RefreshTokenPurgeService(refreshTokenRepository, 4).purge();
+            entityManager.clear();
+
+            assertEquals(6, deleted);
+            assertEquals(1, refreshTokenRepository.count());
+            assertTrue(refreshTokenRepository.findByToken("active.token").isPresent());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.pet.backendpetshelter.unit.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.pet.backendpetshelter.Mongo.Repository.MongoListing;
+import org.pet.backendpetshelter.Neo4j.Entity.AnimalNode;
+import org.pet.backendpetshelter.Neo4j.Entity.SpeciesNode;
+import org.pet.backendpetshelter.Neo4j.Repository.Neo4jListing;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Mongo / Neo4j Listing Tests")
+class AlternateStoreListingTest {
+
+    private static MongoListing mongoListing;
+    private static MongoPersistentEntity<?> animalDocument;
+    private static Neo4jPersistentEntity<?> animalNode;
+    private static Neo4jPersistentEntity<?> speciesNode;
+
+    @BeforeAll
+    static void setUp() {
+        // Only the mapping metadata is used; nothing here talks to a server
+        MongoDatabaseFactory factory = mock(MongoDatabaseFactory.class);
+        when(factory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+        MongoTemplate mongoTemplate = new MongoTemplate(factory);
+        mongoListing = new MongoListing(mongoTemplate, 50);
+        animalDocument = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(AnimalDocument.class);
+
+        Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+        animalNode = mappingContext.getRequiredPersistentEntity(AnimalNode.class);
+        speciesNode = mappingContext.getRequiredPersistentEntity(SpeciesNode.class);
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Mongo page size is clamped to the configured maximum")
+    void mongoPageSizeIsClamped() {
+        Pageable bounded = mongoListing.bound(AnimalDocument.class, PageRequest.of(3, 10_000, Sort.by("name")));
+
+        assertEquals(50, bounded.getPageSize());
+        assertEquals(3, bounded.getPageNumber());
+        assertEquals(Sort.by("name"), bounded.getSort());
+    }
+
+    @Test
+    @DisplayName("Mongo listing rejects a sort on a property the document does not have")
+    void mongoRejectsUnknownSort() {
+        assertThrows(IllegalArgumentException.class,
+                () -> mongoListing.bound(AnimalDocument.class, PageRequest.of(0, 10, Sort.by("password"))));
+    }
+
+    @Test
+    @DisplayName("Mongo field projection includes only the requested fields")
+    void mongoProjection() {
+        Query query = new Query();
+        MongoListing.include(query, animalDocument, List.of("name", " status"));
+
+        assertEquals(1, query.getFieldsObject().get("name"));
+        assertEquals(1, query.getFieldsObject().get("status"));
+        assertEquals(2, query.getFieldsObject().size());
+    }
+
+    @Test
+    @DisplayName("Mongo field projection rejects unknown fields")
+    void mongoProjectionRejectsUnknownFields() {
+        Query query = new Query();
+        assertThrows(IllegalArgumentException.class, () -> MongoListing.include(query, animalDocument, List.of("$where")));
+    }
+
+    @Test
+    @DisplayName("Neo4j page query returns node properties only, paged in the database")
+    void neo4jPageCypher() {
+        String cypher = Neo4jListing.pageCypher(animalNode, Sort.by(Sort.Direction.DESC, "name"), null);
+
+        assertTrue(cypher.startsWith("MATCH (n:`Animal`) RETURN n{.*"), cypher);
+        assertTrue(cypher.contains("ORDER BY n.`name` DESC SKIP $skip LIMIT $limit"), cypher);
+        assertFalse(cypher.contains("IS_SPECIES"), cypher);
+        assertFalse(cypher.contains("IS_BREED"), cypher);
+    }
+
+    @Test
+    @DisplayName("Neo4j page query defaults to id order")
+    void neo4jDefaultOrder() {
+        String cypher = Neo4jListing.pageCypher(speciesNode, Sort.unsorted(), null);
+
+        assertTrue(cypher.contains("ORDER BY n.`id` SKIP"), cypher);
+    }
+
+    @Test
+    @DisplayName("Neo4j field projection always carries the id and SDN metadata")
+    void neo4jProjection() {
+        String cypher = Neo4jListing.pageCypher(animalNode, Sort.by("name"), List.of("name", "status"));
+
+        assertTrue(cypher.contains("n{.`id`, .`name`, .`status`, __nodeLabels__: labels(n), __elementId__: elementId(n)}"), cypher);
+    }
+
+    @Test
+    @DisplayName("Neo4j listing rejects relationships and unknown properties as fields or sort keys")
+    void neo4jRejectsUnknownProperties() {
+        assertThrows(IllegalArgumentException.class, () -> Neo4jListing.pageCypher(animalNode, Sort.unsorted(), List.of("species")));
+        assertThrows(IllegalArgumentException.class, () -> Neo4jListing.pageCypher(animalNode, Sort.by("x` DETACH DELETE n //"), null));
+    }
+
+    @Test
+    @DisplayName("Neo4j scroll seeks past the cursor id, except on the first slice")
+    void neo4jScrollCypher() {
+        String first = Neo4jListing.scrollCypher(animalNode, null, true);
+        String next = Neo4jListing.scrollCypher(animalNode, null, false);
+
+        assertFalse(first.contains("WHERE"), first);
+        assertTrue(next.contains("WHERE n.`id` > $after"), next);
+        assertTrue(next.endsWith("ORDER BY n.`id` LIMIT $limit"), next);
+    }
+}
@@ -0,0 +1,100 @@
+package org.pet.backendpetshelter.unit.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.pet.backendpetshelter.Repository.AnimalSpecifications;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Animal Age Filter Bounds Tests")
+class AnimalAgeBoundsTest {
+
+    private static final int MAX_TESTED_AGE = 12;
+
+    // ==================== TEST HELPERS ====================
+
+    /**
+     * Reference implementation of MySQL TIMESTAMPDIFF(YEAR, birth, today): whole months between
+     * the two values, minus one when today's day-of-month and time fall before the birth's,
+     * divided by twelve.
+     */
+    private static long mysqlTimestampDiffYears(LocalDateTime birth, LocalDateTime today) {
+        long months = (today.getYear() - birth.getYear()) * 12L + (today.getMonthValue() - birth.getMonthValue());
+        boolean beforeMonthAnniversary = today.getDayOfMonth() < birth.getDayOfMonth()
+                || (today.getDayOfMonth() == birth.getDayOfMonth() && today.toLocalTime().isBefore(birth.toLocalTime()));
+        if (months > 0 && beforeMonthAnniversary) {
+            months--;
+        }
+        return months / 12;
+    }
+
+    private static Date toDate(LocalDateTime value) {
+        return Date.from(value.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /*
+     * Compares the old predicates (TIMESTAMPDIFF(...) >= minAge / <= maxAge) with the new
+     * birth_date bounds for every birth date in the last MAX_TESTED_AGE + 1 years.
+     */
+    private static void assertEquivalent(LocalDate today, LocalTime birthTime) {
+        LocalDateTime midnightToday = today.atStartOfDay();
+
+        for (LocalDate day = today.minusYears(MAX_TESTED_AGE + 1L); !day.isAfter(today); day = day.plusDays(1)) {
+            LocalDateTime birth = day.atTime(birthTime);
+            if (birth.isAfter(midnightToday)) {
+                continue;
+            }
+            long age = mysqlTimestampDiffYears(birth, midnightToday);
+            Date birthDate = toDate(birth);
+
+            for (int limit = 0; limit <= MAX_TESTED_AGE; limit++) {
+                boolean oldMin = age >= limit;
+                boolean newMin = !birthDate.after(AnimalSpecifications.bornOnOrBefore(today, limit));
+                assertEquals(oldMin, newMin, "minAge=" + limit + " birth=" + birth + " today=" + today);
+
+                boolean oldMax = age <= limit;
+                boolean newMax = birthDate.after(AnimalSpecifications.bornAfter(today, limit));
+                assertEquals(oldMax, newMax, "maxAge=" + limit + " birth=" + birth + " today=" + today);
+            }
+        }
+    }
+
+    // ==================== TESTS ====================
+
+    @ParameterizedTest(name = "today = {0}")
+    @ValueSource(strings = {
+            "2024-02-28", "2024-02-29", "2024-03-01",
+            "2025-02-28", "2025-03-01",
+            "2028-02-29",
+            "2023-12-31", "2024-01-01",
+            "2024-04-30", "2024-05-31"
+    })
+    @DisplayName("Birth-date bounds select the same rows as TIMESTAMPDIFF for dates at midnight")
+    void bounds_MatchTimestampDiff(String today) {
+        assertEquivalent(LocalDate.parse(today), LocalTime.MIDNIGHT);
+    }
+
+    @ParameterizedTest(name = "today = {0}")
+    @ValueSource(strings = {"2024-02-29", "2025-03-01", "2024-01-01"})
+    @DisplayName("Birth-date bounds match TIMESTAMPDIFF when birth dates carry a time of day")
+    void bounds_MatchTimestampDiffWithTime(String today) {
+        assertEquivalent(LocalDate.parse(today), LocalTime.of(13, 30));
+    }
+
+    @Test
+    @DisplayName("Leap-day birthday is only one year old once March starts in a non-leap year")
+    void bounds_LeapDayBirthday() {
+        Date leapDayBirth = toDate(LocalDate.of(2024, 2, 29).atStartOfDay());
+
+        assertEquals(true, leapDayBirth.after(AnimalSpecifications.bornOnOrBefore(LocalDate.of(2025, 2, 28), 1)));
+        assertEquals(false, leapDayBirth.after(AnimalSpecifications.bornOnOrBefore(LocalDate.of(2025, 3, 1), 1)));
+    }
+}
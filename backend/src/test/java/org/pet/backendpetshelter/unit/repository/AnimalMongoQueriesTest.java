@@ -0,0 +1,107 @@
+package org.pet.backendpetshelter.unit.repository;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Mongo.Entity.AnimalDocument;
+import org.pet.backendpetshelter.Mongo.Repository.AnimalMongoQueriesImpl;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Animal Mongo Query and Index Tests")
+class AnimalMongoQueriesTest {
+
+    // ==================== TEST HELPERS ====================
+
+    private static List<IndexDefinition> animalIndexes() {
+        List<IndexDefinition> indexes = new ArrayList<>();
+        IndexResolver.create(new MongoMappingContext()).resolveIndexFor(AnimalDocument.class).forEach(indexes::add);
+        return indexes;
+    }
+
+    private static IndexDefinition indexNamed(String name) {
+        return animalIndexes().stream()
+                .filter(index -> name.equals(index.getIndexOptions().get("name")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No index named " + name));
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("No filters produces an empty query")
+    void noFilters() {
+        Query query = AnimalMongoQueriesImpl.filterQuery(null, null, null, null, null, null);
+
+        assertTrue(query.getQueryObject().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Status and isActive are equality matches")
+    void statusAndActive() {
+        Document filter = AnimalMongoQueriesImpl.filterQuery("AVAILABLE", true, null, null, null, null).getQueryObject();
+
+        assertEquals("AVAILABLE", filter.get("status"));
+        assertEquals(true, filter.get("isActive"));
+    }
+
+    @Test
+    @DisplayName("Sex is an anchored case-insensitive match with the value quoted")
+    void sexIsAnchored() {
+        Query query = AnimalMongoQueriesImpl.filterQuery(null, null, "M.le", null, null, null);
+        Pattern pattern = (Pattern) query.getQueryObject().get("sex");
+
+        assertTrue(pattern.matcher("m.le").matches());
+        assertFalse(pattern.matcher("male").matches());
+        assertFalse(pattern.matcher("female").matches());
+    }
+
+    @Test
+    @DisplayName("Both age bounds combine into one birthDate range")
+    void birthDateRange() {
+        Date before = new Date(1_000_000L);
+        Date after = new Date(500_000L);
+        Document filter = AnimalMongoQueriesImpl.filterQuery(null, null, null, before, after, null).getQueryObject();
+
+        Document range = (Document) filter.get("birthDate");
+        assertEquals(before, range.get("$lte"));
+        assertEquals(after, range.get("$gt"));
+    }
+
+    @Test
+    @DisplayName("Search becomes a $text query")
+    void searchUsesTextIndex() {
+        Document filter = AnimalMongoQueriesImpl.filterQuery(null, true, null, null, null, "buddy").getQueryObject();
+
+        assertEquals("buddy", ((Document) filter.get("$text")).get("$search"));
+        assertEquals(true, filter.get("isActive"));
+    }
+
+    @Test
+    @DisplayName("AnimalDocument declares the compound indexes in equality-then-sort order")
+    void compoundIndexes() {
+        assertEquals(List.of("status", "isActive", "name"),
+                new ArrayList<>(indexNamed("status_active_name").getIndexKeys().keySet()));
+        assertEquals(List.of("isActive", "birthDate"),
+                new ArrayList<>(indexNamed("active_birth_date").getIndexKeys().keySet()));
+    }
+
+    @Test
+    @DisplayName("AnimalDocument declares a text index on name and indexes its foreign keys")
+    void textAndForeignKeyIndexes() {
+        List<Document> keys = animalIndexes().stream().map(IndexDefinition::getIndexKeys).toList();
+
+        assertTrue(keys.contains(new Document("name", "text")), "text index on name: " + keys);
+        assertTrue(keys.contains(new Document("speciesId", 1)), "speciesId index: " + keys);
+        assertTrue(keys.contains(new Document("breedId", 1)), "breedId index: " + keys);
+    }
+}
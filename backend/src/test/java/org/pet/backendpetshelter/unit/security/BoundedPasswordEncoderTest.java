@@ -0,0 +1,165 @@
+package org.pet.backendpetshelter.unit.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.BoundedPasswordEncoder;
+import org.pet.backendpetshelter.Configuration.PasswordHashingSaturatedException;
+import org.pet.backendpetshelter.Configuration.SecurityConfig;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    // ==== TEST HELPER ====
+
+    /* Delegate whose encode() blocks until released, so the pool can be filled on purpose */
+    private static class BlockingEncoder implements PasswordEncoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounded Executor Tests")
+    class BoundedExecutorTests {
+
+        @Test
+        @DisplayName("Should hash on the password-hash pool and return the delegate's result")
+        void testRunsOnHashPool() {
+            encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return Thread.currentThread().getName();
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    return true;
+                }
+            }, 1, 1, null);
+
+            assertTrue(encoder.encode("Pass123!").startsWith("password-hash-"));
+            assertTrue(encoder.matches("Pass123!", "anything"));
+        }
+
+        @Test
+        @DisplayName("Should reject immediately when every thread is busy and the queue is full")
+        void testRejectsWhenSaturated() throws Exception {
+            BlockingEncoder blocking = new BlockingEncoder();
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            encoder = new BoundedPasswordEncoder(blocking, 1, 1, registry);
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+            assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+            while (registry.get("auth.password.hash.queue.size").gauge().value() < 1) {
+                Thread.sleep(10);
+            }
+
+            assertThrows(PasswordHashingSaturatedException.class, () -> encoder.encode("third"));
+            assertEquals(1.0, registry.get("auth.password.hash.rejected").counter().count());
+
+            blocking.release.countDown();
+            assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should record CPU time and queue wait per operation")
+        void testMetricsRecorded() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, registry);
+
+            String hash = encoder.encode("Pass123!");
+            encoder.matches("Pass123!", hash);
+
+            assertEquals(1, registry.get("auth.password.hash.cpu").tag("operation", "encode").timer().count());
+            assertEquals(1, registry.get("auth.password.hash.cpu").tag("operation", "matches").timer().count());
+            assertEquals(1, registry.get("auth.password.hash.queue.wait").tag("operation", "matches").timer().count());
+        }
+
+        @Test
+        @DisplayName("Should rethrow the delegate's runtime exceptions unchanged")
+        void testDelegateExceptionPropagates() {
+            encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, null);
+
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Password Encoder Bean Tests - re-hash to configured cost")
+    class PasswordEncoderBeanTests {
+
+        private PasswordEncoder bean(int cost) {
+            PasswordEncoder passwordEncoder = new SecurityConfig(null).passwordEncoder(
+                    cost, 1, 10, new StaticListableBeanFactory().getBeanProvider(io.micrometer.core.instrument.MeterRegistry.class));
+            encoder = (BoundedPasswordEncoder) passwordEncoder;
+            return passwordEncoder;
+        }
+
+        @Test
+        @DisplayName("Should store new hashes with the bcrypt id and configured cost")
+        void testEncodesWithIdAndCost() {
+            String hash = bean(5).encode("Pass123!");
+
+            assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        }
+
+        @Test
+        @DisplayName("Should match legacy unprefixed hashes and ask to upgrade them")
+        void testLegacyHashMatchesAndUpgrades() {
+            PasswordEncoder passwordEncoder = bean(5);
+            String legacy = new BCryptPasswordEncoder(4).encode("Pass123!");
+
+            assertTrue(passwordEncoder.matches("Pass123!", legacy));
+            assertTrue(passwordEncoder.upgradeEncoding(legacy));
+        }
+
+        @Test
+        @DisplayName("Should ask to re-hash when the stored cost is higher or lower than configured")
+        void testUpgradeWhenCostDiffers() {
+            PasswordEncoder passwordEncoder = bean(5);
+            String current = passwordEncoder.encode("Pass123!");
+
+            assertFalse(passwordEncoder.upgradeEncoding(current));
+            assertTrue(passwordEncoder.upgradeEncoding(current.replace("$05$", "$04$")));
+            assertTrue(passwordEncoder.upgradeEncoding(current.replace("$05$", "$06$")));
+        }
+    }
+}
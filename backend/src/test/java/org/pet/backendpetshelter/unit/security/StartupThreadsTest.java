@@ -0,0 +1,38 @@
+package org.pet.backendpetshelter.unit.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.StartupThreads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupThreads Tests")
+class StartupThreadsTest {
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Platform mode runs the task on the calling thread")
+    void testPlatformRunsInline() throws Exception {
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        new StartupThreads(false).runAndWait("test-", () -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+    }
+
+    @Test
+    @DisplayName("Platform mode pools use named platform threads")
+    void testPlatformPoolThreadNames() throws Exception {
+        ExecutorService executor = new StartupThreads(false).fixedPool("test-pool-", 2);
+        try {
+            String name = executor.submit(() -> Thread.currentThread().getName()).get();
+            assertTrue(name.startsWith("test-pool-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.pet.backendpetshelter.unit.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.ThreadModeEnvironmentPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ThreadModeEnvironmentPostProcessor Tests")
+class ThreadModeEnvironmentPostProcessorTest {
+
+    // ==================== TEST HELPERS ====================
+
+    private MockEnvironment apply(int javaVersion, MockEnvironment environment) {
+        new ThreadModeEnvironmentPostProcessor(javaVersion).postProcessEnvironment(environment, new SpringApplication());
+        return environment;
+    }
+
+    // ==================== TESTS ====================
+
+    @Nested
+    @DisplayName("Platform mode")
+    class PlatformModeTests {
+
+        @Test
+        @DisplayName("Should leave the environment untouched by default")
+        void testDefaultIsPlatform() {
+            MockEnvironment environment = apply(17, new MockEnvironment());
+
+            assertNull(environment.getProperty("spring.threads.virtual.enabled"));
+            assertNull(environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+            assertNull(environment.getProperty("mongodb.pool.max-size"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown modes")
+        void testUnknownModeRejected() {
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty(ThreadModeEnvironmentPostProcessor.PROPERTY, "green");
+
+            assertThrows(IllegalArgumentException.class, () -> apply(21, environment));
+        }
+    }
+
+    @Nested
+    @DisplayName("Virtual mode")
+    class VirtualModeTests {
+
+        @Test
+        @DisplayName("Should enable virtual threads and size the connection pools")
+        void testVirtualEnablesThreadsAndPools() {
+            MockEnvironment environment = apply(21, new MockEnvironment()
+                    .withProperty(ThreadModeEnvironmentPostProcessor.PROPERTY, "virtual"));
+
+            assertEquals("true", environment.getProperty("spring.threads.virtual.enabled"));
+            assertEquals("20", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+            assertEquals("5000", environment.getProperty("spring.datasource.hikari.connection-timeout"));
+            assertEquals("20", environment.getProperty("spring.neo4j.pool.max-connection-pool-size"));
+            assertEquals("20", environment.getProperty("mongodb.pool.max-size"));
+            assertEquals("5000", environment.getProperty("mongodb.pool.max-wait-ms"));
+        }
+
+        @Test
+        @DisplayName("Should keep explicitly configured pool sizes")
+        void testExplicitValuesWin() {
+            MockEnvironment environment = apply(21, new MockEnvironment()
+                    .withProperty(ThreadModeEnvironmentPostProcessor.PROPERTY, "virtual")
+                    .withProperty("spring.datasource.hikari.maximum-pool-size", "8"));
+
+            assertEquals("8", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        }
+
+        @Test
+        @DisplayName("Should fail fast on a runtime older than Java 21")
+        void testVirtualNeedsJava21() {
+            MockEnvironment environment = new MockEnvironment()
+                    .withProperty(ThreadModeEnvironmentPostProcessor.PROPERTY, "virtual");
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> apply(17, environment));
+            assertTrue(exception.getMessage().contains("Java 21"));
+        }
+    }
+}
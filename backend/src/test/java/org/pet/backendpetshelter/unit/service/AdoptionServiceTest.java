@@ -14,6 +14,8 @@ import org.pet.backendpetshelter.Entity.*;
 import org.pet.backendpetshelter.Repository.*;
 import org.pet.backendpetshelter.Roles;
 import org.pet.backendpetshelter.Service.AdoptionService;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
+import org.pet.backendpetshelter.Service.ShelterStatsService;
 import org.pet.backendpetshelter.Status;
 
 import java.util.Calendar;
@@ -49,6 +51,12 @@ public class AdoptionServiceTest {
     @Mock
     private AdoptionApplicationRepository adoptionApplicationRepository;
 
+    @Mock
+    private ShelterStatsService shelterStatsService;
+
+    @Mock
+    private DashboardSummaryService dashboardSummaryService;
+
 
     @InjectMocks
     private AdoptionService adoptionService;
@@ -15,7 +15,11 @@ import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.AnimalRepository;
 import org.pet.backendpetshelter.Repository.BreedRepository;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Search.SearchEngine;
 import org.pet.backendpetshelter.Service.AnimalService;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
+import org.pet.backendpetshelter.Service.ShelterStatsService;
+import org.pet.backendpetshelter.Service.VaccinationComplianceService;
 import org.pet.backendpetshelter.Status;
 
 import java.util.Calendar;
@@ -43,6 +47,18 @@ public class AnimalServiceTest {
     @Mock
     private SpeciesRepository speciesRepository;
 
+    @Mock
+    private VaccinationComplianceService vaccinationComplianceService;
+
+    @Mock
+    private SearchEngine searchEngine;
+
+    @Mock
+    private ShelterStatsService shelterStatsService;
+
+    @Mock
+    private DashboardSummaryService dashboardSummaryService;
+
     @InjectMocks
     private AnimalService animalService;
 
@@ -453,6 +453,37 @@ class AuthServiceTest {
             verify(jwtService, never()).generateAccessToken(anyString(), anyMap());
         }
 
+        // ==================== PASSWORD RE-HASH ON LOGIN ====================
+
+        @Test
+        @DisplayName("Should re-hash the stored password when its encoding is outdated")
+        void testLoginRehashesOutdatedPassword() {
+            LoginRequest request = createValidLoginRequest();
+            User user = createActiveUser();
+            mockSuccessfulLogin(user);
+            when(passwordEncoder.upgradeEncoding("$2a$10$hashedPassword")).thenReturn(true);
+            when(passwordEncoder.encode("Pass123!")).thenReturn("{bcrypt}$2a$12$rehashedPassword");
+
+            authService.loginIssueTokens(request);
+
+            assertEquals("{bcrypt}$2a$12$rehashedPassword", user.getPassword());
+            verify(userRepository).save(user);
+        }
+
+        @Test
+        @DisplayName("Should keep the stored password when its encoding is current")
+        void testLoginKeepsCurrentPassword() {
+            LoginRequest request = createValidLoginRequest();
+            User user = createActiveUser();
+            mockSuccessfulLogin(user);
+
+            authService.loginIssueTokens(request);
+
+            assertEquals("$2a$10$hashedPassword", user.getPassword());
+            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, never()).save(any(User.class));
+        }
+
         // ==================== TOKEN VERIFICATION TESTS ====================
 
         @Test
@@ -548,6 +579,7 @@ class AuthServiceTest {
             RefreshToken oldToken = createValidRefreshToken(oldRefreshToken);
 
             when(refreshTokenRepository.findByToken(oldRefreshToken)).thenReturn(Optional.of(oldToken));
+            when(refreshTokenRepository.revokeIfActive(eq(oldRefreshToken), any(Instant.class))).thenReturn(1);
             when(jwtService.generateAccessToken(eq("test@example.com"), anyMap())).thenReturn("new-access-token");
 
             Instant beforeRotation = Instant.now();
@@ -560,12 +592,9 @@ class AuthServiceTest {
             assertNotNull(result.getRefreshToken());
             assertNotEquals(oldRefreshToken, result.getRefreshToken());
 
-            // Verify old token is revoked
-            assertTrue(oldToken.getRevoked());
-
-            // Verify order: revoke old THEN create new
+            // Verify order: conditionally revoke old THEN create new
             InOrder inOrder = inOrder(refreshTokenRepository);
-            inOrder.verify(refreshTokenRepository).save(argThat(rt -> rt.getRevoked()));
+            inOrder.verify(refreshTokenRepository).revokeIfActive(eq(oldRefreshToken), any(Instant.class));
             inOrder.verify(refreshTokenRepository).save(argThat(rt -> !rt.getRevoked() &&
                     rt.getUser().getId().equals(1L) &&
                     rt.getToken() != null &&
@@ -636,6 +665,27 @@ class AuthServiceTest {
             verify(jwtService, never()).generateAccessToken(anyString(), anyMap());
         }
 
+        // ==================== EQUIVALENCE PARTITIONING - INVALID PARTITION 4: CONCURRENT
+        // ROTATION ====================
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when another request rotated the token first")
+        void testRotationFailsWhenRevokedConcurrently() {
+            String refreshToken = "valid-refresh-token-123";
+            RefreshToken token = createValidRefreshToken(refreshToken);
+
+            when(refreshTokenRepository.findByToken(refreshToken)).thenReturn(Optional.of(token));
+            when(refreshTokenRepository.revokeIfActive(eq(refreshToken), any(Instant.class))).thenReturn(0);
+
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> authService.rotateRefreshToken(refreshToken));
+
+            assertEquals("Refresh token expired or revoked", exception.getMessage());
+            verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+            verify(jwtService, never()).generateAccessToken(anyString(), anyMap());
+        }
+
         // ==================== TOKEN VERIFICATION TESTS ====================
 
         @Test
@@ -645,6 +695,7 @@ class AuthServiceTest {
             RefreshToken oldToken = createValidRefreshToken(oldRefreshToken);
 
             when(refreshTokenRepository.findByToken(oldRefreshToken)).thenReturn(Optional.of(oldToken));
+            when(refreshTokenRepository.revokeIfActive(eq(oldRefreshToken), any(Instant.class))).thenReturn(1);
             when(jwtService.generateAccessToken(eq("test@example.com"), anyMap())).thenReturn("new-access-token");
 
             AuthService.RotateResult result = authService.rotateRefreshToken(oldRefreshToken);
@@ -1282,6 +1333,7 @@ class AuthServiceTest {
             token.setRevoked(false);
 
             when(refreshTokenRepository.findByToken(existingToken)).thenReturn(Optional.of(token));
+            when(refreshTokenRepository.revokeIfActive(eq(existingToken), any(Instant.class))).thenReturn(1);
             when(jwtService.generateAccessToken(eq("test@example.com"), anyMap())).thenReturn("new-token");
 
             AuthService.RotateResult result = authService.rotateRefreshToken(existingToken);
@@ -1337,6 +1389,7 @@ class AuthServiceTest {
             token.setRevoked(false); // Not revoked
 
             when(refreshTokenRepository.findByToken(validToken)).thenReturn(Optional.of(token));
+            when(refreshTokenRepository.revokeIfActive(eq(validToken), any(Instant.class))).thenReturn(1);
             when(jwtService.generateAccessToken(eq("test@example.com"), anyMap())).thenReturn("new-token");
 
             AuthService.RotateResult result = authService.rotateRefreshToken(validToken);
@@ -1393,6 +1446,7 @@ class AuthServiceTest {
             token.setRevoked(false);
 
             when(refreshTokenRepository.findByToken(validToken)).thenReturn(Optional.of(token));
+            when(refreshTokenRepository.revokeIfActive(eq(validToken), any(Instant.class))).thenReturn(1);
             when(jwtService.generateAccessToken(eq("test@example.com"), anyMap())).thenReturn("new-token");
 
             AuthService.RotateResult result = authService.rotateRefreshToken(validToken);
@@ -14,6 +14,7 @@ import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.BreedRepository;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
 import org.pet.backendpetshelter.Service.BreedService;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
 
 import java.util.Optional;
 
@@ -33,6 +34,9 @@ public class BreedServiceTest {
     @Mock
     private SpeciesRepository speciesRepository;
 
+    @Mock
+    private DashboardSummaryService dashboardSummaryService;
+
     @InjectMocks
     private BreedService breedService;
 
@@ -0,0 +1,104 @@
+package org.pet.backendpetshelter.unit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Service.CircuitBreaker;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private MutableClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should stay closed below the failure threshold and reset on success")
+    void testClosedBelowThreshold() {
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive failures and skip calls while open")
+    void testOpensAtThreshold() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Should let one trial call through after the open duration")
+    void testHalfOpenAllowsSingleTrial() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        clock.advance(Duration.ofSeconds(31));
+
+        assertTrue(breaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Should close on a successful trial and reopen on a failed one")
+    void testTrialOutcome() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        clock.advance(Duration.ofSeconds(31));
+        breaker.allowRequest();
+
+        breaker.recordFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        clock.advance(Duration.ofSeconds(31));
+        breaker.allowRequest();
+        breaker.recordSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,116 @@
+package org.pet.backendpetshelter.unit.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.FeatureScript;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeatureScript Tests")
+class FeatureScriptTest {
+
+    private static final String PROCEDURE = """
+            -- Procedure 1: example
+            DROP PROCEDURE IF EXISTS Example;
+            DELIMITER //
+            CREATE PROCEDURE Example(IN p_id INT)
+            BEGIN
+                UPDATE animal SET status = 'ADOPTED' WHERE animal_id = p_id; -- inline comment
+                SELECT p_id;
+            END //
+            DELIMITER ;
+            """;
+
+    // ==================== TEST HELPERS ====================
+
+    private List<FeatureScript.Feature> featuresSql() throws IOException {
+        return FeatureScript.parse(new ClassPathResource("features.sql").getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("Should group the DROP and CREATE of a routine into one feature")
+    void testRoutineIsOneFeature() {
+        List<FeatureScript.Feature> features = FeatureScript.parse(PROCEDURE + "CREATE INDEX idx_a ON animal(name);");
+
+        assertEquals(2, features.size());
+        FeatureScript.Feature procedure = features.get(0);
+        assertEquals("PROCEDURE", procedure.type());
+        assertEquals("Example", procedure.name());
+        assertEquals(2, procedure.statements().size());
+        assertEquals("DROP PROCEDURE IF EXISTS Example", procedure.statements().get(0));
+        assertTrue(procedure.statements().get(1).contains("WHERE animal_id = p_id;\nSELECT p_id;"));
+        assertFalse(procedure.statements().get(1).contains("comment"));
+    }
+
+    @Test
+    @DisplayName("Should record the table of an index")
+    void testIndexTable() {
+        FeatureScript.Feature index = FeatureScript.parse(
+                "CREATE FULLTEXT INDEX ft_animal_name ON animal(name) ALGORITHM=INPLACE LOCK=SHARED;").get(0);
+
+        assertTrue(index.isIndex());
+        assertEquals("ft_animal_name", index.name());
+        assertEquals("animal", index.table());
+    }
+
+    @Test
+    @DisplayName("Should keep the checksum when only comments change")
+    void testChecksumIgnoresComments() {
+        String original = FeatureScript.parse(PROCEDURE).get(0).checksum();
+        String recommented = FeatureScript.parse(PROCEDURE.replace("example", "reworded")).get(0).checksum();
+        String changed = FeatureScript.parse(PROCEDURE.replace("SELECT p_id", "SELECT p_id + 1")).get(0).checksum();
+
+        assertEquals(original, recommented);
+        assertNotEquals(original, changed);
+    }
+
+    @Test
+    @DisplayName("Should treat unrecognised statements as unnamed script features")
+    void testUnrecognisedStatement() {
+        FeatureScript.Feature feature = FeatureScript.parse("SET GLOBAL event_scheduler = ON;").get(0);
+
+        assertEquals(FeatureScript.SCRIPT, feature.type());
+        assertEquals("statement_1", feature.name());
+    }
+
+    @Test
+    @DisplayName("Should tell a retired object, only dropped, from one that is created")
+    void testDropsOnly() {
+        List<FeatureScript.Feature> features = FeatureScript.parse(PROCEDURE + "DROP TRIGGER IF EXISTS old_trigger;");
+
+        assertFalse(features.get(0).dropsOnly());
+        assertTrue(features.get(1).dropsOnly());
+        assertEquals("TRIGGER", features.get(1).type());
+    }
+
+    @Test
+    @DisplayName("Should recognise every object in features.sql")
+    void testFeaturesSql() throws IOException {
+        Map<String, Long> byType = featuresSql().stream()
+                .collect(Collectors.groupingBy(FeatureScript.Feature::type, Collectors.counting()));
+
+        assertEquals(Map.of("PROCEDURE", 4L, "FUNCTION", 2L, "TRIGGER", 4L, "VIEW", 4L, "INDEX", 16L, "EVENT", 3L), byType);
+    }
+
+    @Test
+    @DisplayName("Should build every index in features.sql online")
+    void testIndexesAreOnline() throws IOException {
+        for (FeatureScript.Feature index : featuresSql()) {
+            if (!index.isIndex()) {
+                continue;
+            }
+            String sql = index.statements().get(0);
+            String lock = sql.startsWith("CREATE FULLTEXT") ? "LOCK=SHARED" : "LOCK=NONE";
+            assertTrue(sql.endsWith("ALGORITHM=INPLACE " + lock), sql);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.pet.backendpetshelter.Configuration.JwtProperties;
 import org.pet.backendpetshelter.Configuration.JwtService;
+import org.pet.backendpetshelter.Configuration.VerifiedToken;
 
 import java.time.Instant;
 import java.util.Date;
@@ -324,4 +325,63 @@ class JwtServiceTest {
             });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Verified Token Cache Tests - verifyAccessToken() & evictVerifiedAccessToken()")
+    class VerifiedTokenCacheTests {
+
+        @Test
+        @DisplayName("Should return subject, role and expiry of a valid access token")
+        void testVerifyValidAccessToken() {
+            Instant beforeGeneration = Instant.now();
+            String token = jwtService.generateAccessToken("user@example.com", createValidClaims());
+
+            VerifiedToken verified = jwtService.verifyAccessToken(token);
+
+            assertEquals("user@example.com", verified.subject());
+            assertEquals("USER", verified.role());
+            assertFalse(verified.expiresAt().isBefore(beforeGeneration.plusSeconds(ACCESS_EXPIRATION_SECONDS - 1)));
+        }
+
+        @Test
+        @DisplayName("Should answer a repeat token from the cache")
+        void testRepeatTokenServedFromCache() {
+            String token = jwtService.generateAccessToken("user@example.com", createValidClaims());
+
+            VerifiedToken first = jwtService.verifyAccessToken(token);
+            VerifiedToken second = jwtService.verifyAccessToken(token);
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Should verify the token again after it was evicted")
+        void testEvictedTokenVerifiedAgain() {
+            String token = jwtService.generateAccessToken("user@example.com", createValidClaims());
+            VerifiedToken first = jwtService.verifyAccessToken(token);
+
+            jwtService.evictVerifiedAccessToken(token);
+            VerifiedToken second = jwtService.verifyAccessToken(token);
+
+            assertNotSame(first, second);
+            assertEquals(first, second);
+        }
+
+        @Test
+        @DisplayName("Should reject expired and forged tokens every time")
+        void testInvalidTokensNotCached() {
+            JwtProperties expiredProps = new JwtProperties();
+            expiredProps.setAccessSecret(TEST_ACCESS_SECRET);
+            expiredProps.setRefreshSecret(TEST_REFRESH_SECRET);
+            expiredProps.setAccessExpirationSeconds(-1L);
+            expiredProps.setRefreshExpirationSeconds(86400L);
+            String expiredToken = new JwtService(expiredProps).generateAccessToken("user@example.com", createValidClaims());
+            String malformedToken = "invalid.token.format";
+
+            for (int i = 0; i < 2; i++) {
+                assertThrows(ExpiredJwtException.class, () -> jwtService.verifyAccessToken(expiredToken));
+                assertThrows(MalformedJwtException.class, () -> jwtService.verifyAccessToken(malformedToken));
+            }
+        }
+    }
+}
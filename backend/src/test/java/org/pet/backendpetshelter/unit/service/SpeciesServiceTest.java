@@ -12,6 +12,7 @@ import org.pet.backendpetshelter.DTO.SpeciesDTORequest;
 import org.pet.backendpetshelter.DTO.SpeciesDTOResponse;
 import org.pet.backendpetshelter.Entity.Species;
 import org.pet.backendpetshelter.Repository.SpeciesRepository;
+import org.pet.backendpetshelter.Service.DashboardSummaryService;
 import org.pet.backendpetshelter.Service.SpeciesService;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
@@ -27,6 +28,9 @@ public class SpeciesServiceTest {
     @Mock
     private SpeciesRepository speciesRepository;
 
+    @Mock
+    private DashboardSummaryService dashboardSummaryService;
+
     @InjectMocks
     private SpeciesService speciesService;
 
@@ -0,0 +1,196 @@
+package org.pet.backendpetshelter.unit.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Migration.MigrationCheckpoint;
+import org.pet.backendpetshelter.Migration.MigrationStep;
+import org.pet.backendpetshelter.Migration.MigrationTarget;
+import org.pet.backendpetshelter.Migration.StreamingMigrationEngine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StreamingMigrationEngine Tests")
+class StreamingMigrationEngineTest {
+
+    private static final MigrationStep<String> ITEMS = new MigrationStep<>(
+            "items", "item", "item_id", "item_id, name", String.class, (rs, n) -> rs.getString("name"));
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private InMemoryTarget target;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE item (item_id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        for (int i = 1; i <= 25; i++) {
+            jdbcTemplate.update("INSERT INTO item VALUES (?, ?)", i, "item-" + i);
+        }
+        target = new InMemoryTarget();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    // ==================== TEST HELPERS ====================
+
+    /* Stores upserted documents like a collection with a unique id, and can fail on a given chunk */
+    private static class InMemoryTarget implements MigrationTarget {
+        final Set<Object> documents = new HashSet<>();
+        final List<List<Object>> chunks = new ArrayList<>();
+        final Map<String, MigrationCheckpoint> checkpoints = new HashMap<>();
+        int failOnChunk = -1;
+
+        @Override
+        public <D> int upsertChunk(Class<D> documentClass, List<D> chunk) {
+            if (chunks.size() == failOnChunk) {
+                failOnChunk = -1;
+                throw new RuntimeException("Connection reset");
+            }
+            chunks.add(List.copyOf(chunk));
+            int inserted = 0;
+            for (D document : chunk) {
+                if (documents.add(document)) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        }
+
+        @Override
+        public void deleteByIds(Class<?> documentClass, Collection<String> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<MigrationCheckpoint> findCheckpoint(String step) {
+            return Optional.ofNullable(checkpoints.get(step));
+        }
+
+        @Override
+        public void saveCheckpoint(MigrationCheckpoint checkpoint) {
+            checkpoints.put(checkpoint.getStep(), checkpoint);
+        }
+    }
+
+    private StreamingMigrationEngine engine(int chunkSize) {
+        return new StreamingMigrationEngine(jdbcTemplate, target, chunkSize, 10);
+    }
+
+    // ==================== TESTS ====================
+
+    @Test
+    @DisplayName("copies every row in chunks of the configured size")
+    void migrate_WritesFixedSizeChunks() {
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertEquals(25, result.rows());
+        assertEquals(0, result.replaced());
+        assertEquals(List.of(10, 10, 5), target.chunks.stream().map(List::size).toList());
+        assertEquals(25, target.documents.size());
+
+        MigrationCheckpoint checkpoint = target.checkpoints.get("items");
+        assertTrue(checkpoint.isCompleted());
+        assertEquals(25, checkpoint.getLastKey());
+        assertEquals(25, checkpoint.getMigrated());
+    }
+
+    @Test
+    @DisplayName("a failed run resumes after the last written chunk")
+    void migrate_ResumesFromCheckpoint() {
+        target.failOnChunk = 2;
+
+        assertThrows(RuntimeException.class, () -> engine(10).migrate(ITEMS));
+        MigrationCheckpoint checkpoint = target.checkpoints.get("items");
+        assertFalse(checkpoint.isCompleted());
+        assertEquals(20, checkpoint.getLastKey());
+
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertEquals(5, result.rows());
+        assertEquals(List.of("item-21", "item-22", "item-23", "item-24", "item-25"), target.chunks.get(2));
+        assertEquals(25, target.documents.size());
+        assertEquals(25, target.checkpoints.get("items").getMigrated());
+        assertTrue(target.checkpoints.get("items").isCompleted());
+    }
+
+    @Test
+    @DisplayName("rows already in the target are replaced instead of failing")
+    void migrate_ReplacesExistingDocuments() {
+        target.documents.add("item-3");
+
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertEquals(25, result.rows());
+        assertEquals(1, result.replaced());
+    }
+
+    @Test
+    @DisplayName("completed steps are skipped")
+    void migrate_SkipsCompletedStep() {
+        engine(10).migrate(ITEMS);
+        target.chunks.clear();
+
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertTrue(result.skipped());
+        assertTrue(target.chunks.isEmpty());
+    }
+
+    @Test
+    @DisplayName("a completed step is copied again once rows were added to its table")
+    void migrate_CopiesAgainWhenSourceChanged() {
+        engine(10).migrate(ITEMS);
+        jdbcTemplate.update("INSERT INTO item VALUES (26, 'item-26')");
+        target.chunks.clear();
+
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertFalse(result.skipped());
+        assertEquals(26, result.rows());
+        assertEquals(25, result.replaced());
+        assertEquals(List.of("item-21", "item-22", "item-23", "item-24", "item-25", "item-26"), target.chunks.get(2));
+        assertEquals(26, target.checkpoints.get("items").getSourceRows());
+    }
+
+    @Test
+    @DisplayName("an interrupted step starts over once rows were removed from its table")
+    void migrate_RestartsWhenSourceChanged() {
+        target.failOnChunk = 2;
+        assertThrows(RuntimeException.class, () -> engine(10).migrate(ITEMS));
+        jdbcTemplate.update("DELETE FROM item WHERE item_id = 5");
+
+        StreamingMigrationEngine.Result result = engine(10).migrate(ITEMS);
+
+        assertEquals(24, result.rows());
+        assertEquals(24, target.checkpoints.get("items").getMigrated());
+        assertTrue(target.checkpoints.get("items").isCompleted());
+    }
+
+    @Test
+    @DisplayName("chunk size must be positive")
+    void constructor_RejectsZeroChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> engine(0));
+    }
+}
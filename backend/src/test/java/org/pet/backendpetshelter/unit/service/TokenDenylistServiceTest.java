@@ -1,11 +1,22 @@
 package org.pet.backendpetshelter.unit.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.pet.backendpetshelter.Configuration.JwtProperties;
+import org.pet.backendpetshelter.Configuration.JwtService;
+import org.pet.backendpetshelter.Configuration.VerifiedToken;
+import org.pet.backendpetshelter.Service.TokenDenylistFullException;
 import org.pet.backendpetshelter.Service.TokenDenylistService;
+import org.pet.backendpetshelter.Service.TokenDenylistStore;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -21,7 +32,7 @@ class TokenDenylistServiceTest {
 
     @BeforeEach
     void setUp() {
-        denylistService = new TokenDenylistService();
+        denylistService = new TokenDenylistService(null, 100_000L, null, null, Duration.ZERO);
     }
 
     @Nested
@@ -174,4 +185,289 @@ class TokenDenylistServiceTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Verified Token Cache Eviction Tests - deny()")
+    class VerifiedTokenCacheEvictionTests {
+
+        @Test
+        @DisplayName("Should evict the denied token from the verified-token cache")
+        void testDenyEvictsVerifiedToken() {
+            JwtProperties props = new JwtProperties();
+            props.setAccessSecret("test-access-secret-key-minimum-256-bits-required-for-hs256-algorithm");
+            props.setRefreshSecret("test-refresh-secret-key-minimum-256-bits-required-for-hs256-algorithm");
+            props.setAccessExpirationSeconds(900L);
+            props.setRefreshExpirationSeconds(86400L);
+            JwtService jwtService = new JwtService(props);
+            TokenDenylistService service = new TokenDenylistService(jwtService, 100_000L, null, null, Duration.ZERO);
+
+            String token = jwtService.generateAccessToken("user@example.com", Map.of("role", "USER"));
+            VerifiedToken cached = jwtService.verifyAccessToken(token);
+
+            service.deny(token, 900L);
+
+            assertTrue(service.isDenied(token));
+            assertNotSame(cached, jwtService.verifyAccessToken(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounded Storage Tests - max entries & metrics")
+    class BoundedStorageTests {
+
+        @Test
+        @DisplayName("Should keep every denied token denied up to the configured cap")
+        void testNoEvictionBelowCap() {
+            TokenDenylistService bounded = new TokenDenylistService(null, 100L, null, null, Duration.ZERO);
+
+            for (int i = 0; i < 100; i++) {
+                bounded.deny("token-" + i, 3600L);
+            }
+
+            assertEquals(100L, bounded.size());
+            for (int i = 0; i < 100; i++) {
+                assertTrue(bounded.isDenied("token-" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a deny past the cap without a store, keeping earlier entries")
+        void testDenyPastCapRejectedWithoutStore() {
+            TokenDenylistService bounded = new TokenDenylistService(null, 100L, null, null, Duration.ZERO);
+            for (int i = 0; i < 100; i++) {
+                bounded.deny("token-" + i, 3600L);
+            }
+
+            assertThrows(TokenDenylistFullException.class, () -> bounded.deny("one.too.many", 3600L));
+
+            assertEquals(100L, bounded.size());
+            assertTrue(bounded.isDenied("token-0"));
+        }
+
+        @Test
+        @DisplayName("Should accept denies again once entries have expired")
+        void testRoomFreedByExpiry() throws InterruptedException {
+            TokenDenylistService bounded = new TokenDenylistService(null, 1L, null, null, Duration.ZERO);
+            bounded.deny("short.lived", 1L);
+
+            Thread.sleep(2000);
+            bounded.deny("next.token", 3600L);
+
+            assertTrue(bounded.isDenied("next.token"));
+        }
+
+        @Test
+        @DisplayName("Should drop expired entries that are never looked up again")
+        void testExpiredEntriesSweptWithoutLookup() throws InterruptedException {
+            denylistService.deny("logout.token.1", 1L);
+            denylistService.deny("logout.token.2", 1L);
+            denylistService.deny("still.denied", 3600L);
+
+            Thread.sleep(2000);
+
+            assertEquals(1L, denylistService.size());
+        }
+
+        @Test
+        @DisplayName("Should publish size and lookups as tokenDenylist cache metrics")
+        void testMetricsPublished() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            TokenDenylistService monitored = new TokenDenylistService(null, 100L, registry, null, Duration.ZERO);
+
+            monitored.deny("metrics.token", 3600L);
+            monitored.isDenied("metrics.token");
+            monitored.isDenied("unknown.token");
+
+            assertEquals(1.0, registry.get("cache.size").tag("cache", "tokenDenylist").gauge().value());
+            assertEquals(1.0, registry.get("cache.gets").tag("cache", "tokenDenylist").tag("result", "hit").functionCounter().count());
+            assertEquals(1.0, registry.get("cache.gets").tag("cache", "tokenDenylist").tag("result", "miss").functionCounter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared Store Tests - deny() across instances")
+    class SharedStoreTests {
+
+        // ==================== TEST HELPERS ====================
+
+        /* Stands in for the token_denylist table shared by all instances */
+        class InMemoryStore implements TokenDenylistStore {
+            final List<Entry> entries = new ArrayList<>();
+            final List<Instant> createdAt = new ArrayList<>();
+            int reads;
+
+            @Override
+            public synchronized void save(TokenDenylistService.TokenDigest digest, Instant expiresAt) {
+                entries.add(new Entry(digest, expiresAt));
+                createdAt.add(Instant.now());
+            }
+
+            @Override
+            public synchronized List<Entry> findCreatedSince(Instant since, Instant now) {
+                reads++;
+                List<Entry> result = new ArrayList<>();
+                for (int i = 0; i < entries.size(); i++) {
+                    if (createdAt.get(i).isAfter(since) && entries.get(i).expiresAt().isAfter(now)) {
+                        result.add(entries.get(i));
+                    }
+                }
+                return result;
+            }
+
+            @Override
+            public synchronized boolean contains(TokenDenylistService.TokenDigest digest, Instant now) {
+                reads++;
+                for (Entry entry : entries) {
+                    if (entry.digest().equals(digest) && entry.expiresAt().isAfter(now)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public synchronized int deleteExpired(Instant now) {
+                int before = entries.size();
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    if (!entries.get(i).expiresAt().isAfter(now)) {
+                        entries.remove(i);
+                        createdAt.remove(i);
+                    }
+                }
+                return before - entries.size();
+            }
+        }
+
+        private TokenDenylistService instance(TokenDenylistStore store) {
+            return new TokenDenylistService(null, 100L, null, store, Duration.ofSeconds(30));
+        }
+
+        // ==================== TESTS ====================
+
+        @Test
+        @DisplayName("Should enforce a logout on another instance after its next sync")
+        void testDenyPropagatesOnSync() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService nodeA = instance(store);
+            TokenDenylistService nodeB = instance(store);
+
+            nodeA.deny("shared.token", 3600L);
+
+            assertTrue(nodeA.isDenied("shared.token"));
+            assertFalse(nodeB.isDenied("shared.token"));
+
+            nodeB.syncFromStore();
+
+            assertTrue(nodeB.isDenied("shared.token"));
+        }
+
+        @Test
+        @DisplayName("Should answer lookups locally without reading the store")
+        void testLookupsStayLocal() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService node = instance(store);
+
+            node.deny("denied.token", 3600L);
+            node.isDenied("denied.token");
+            node.isDenied("other.token");
+
+            assertEquals(0, store.reads);
+        }
+
+        @Test
+        @DisplayName("Should load the whole live denylist on the first sync")
+        void testNewInstanceLoadsExistingEntries() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService nodeA = instance(store);
+            nodeA.deny("old.token", 3600L);
+            nodeA.syncFromStore();
+            nodeA.deny("new.token", 3600L);
+
+            TokenDenylistService started = instance(store);
+            started.syncFromStore();
+
+            assertTrue(started.isDenied("old.token"));
+            assertTrue(started.isDenied("new.token"));
+        }
+
+        @Test
+        @DisplayName("Should purge expired entries from the store")
+        void testPurgeExpiredFromStore() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService node = instance(store);
+
+            node.deny("expired.token", 0L);
+            node.deny("live.token", 3600L);
+            node.purgeExpiredFromStore();
+
+            assertEquals(1, store.entries.size());
+        }
+
+        @Test
+        @DisplayName("Should still deny locally when the store is unavailable")
+        void testStoreFailureKeepsLocalDeny() {
+            TokenDenylistStore failing = new InMemoryStore() {
+                @Override
+                public synchronized void save(TokenDenylistService.TokenDigest digest, Instant expiresAt) {
+                    throw new IllegalStateException("store down");
+                }
+            };
+            TokenDenylistService node = instance(failing);
+
+            node.deny("logout.token", 3600L);
+
+            assertTrue(node.isDenied("logout.token"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the store past the cap instead of evicting")
+        void testOverflowGoesToStore() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService node = new TokenDenylistService(null, 2L, null, store, Duration.ofSeconds(30));
+
+            for (int i = 0; i < 10; i++) {
+                node.deny("token-" + i, 3600L);
+            }
+
+            assertEquals(2L, node.size());
+            for (int i = 0; i < 10; i++) {
+                assertTrue(node.isDenied("token-" + i));
+            }
+            assertFalse(node.isDenied("never.denied"));
+        }
+
+        @Test
+        @DisplayName("Should check the store for synced entries that did not fit locally")
+        void testSyncPastCapFallsBackToStore() {
+            InMemoryStore store = new InMemoryStore();
+            TokenDenylistService nodeA = instance(store);
+            for (int i = 0; i < 5; i++) {
+                nodeA.deny("token-" + i, 3600L);
+            }
+            TokenDenylistService nodeB = new TokenDenylistService(null, 2L, null, store, Duration.ofSeconds(30));
+
+            nodeB.syncFromStore();
+
+            assertEquals(2L, nodeB.size());
+            for (int i = 0; i < 5; i++) {
+                assertTrue(nodeB.isDenied("token-" + i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a deny past the cap when the store is unavailable")
+        void testOverflowRejectedWhenStoreDown() {
+            TokenDenylistStore failing = new InMemoryStore() {
+                @Override
+                public synchronized void save(TokenDenylistService.TokenDigest digest, Instant expiresAt) {
+                    throw new IllegalStateException("store down");
+                }
+            };
+            TokenDenylistService node = new TokenDenylistService(null, 1L, null, failing, Duration.ofSeconds(30));
+            node.deny("first.token", 3600L);
+
+            assertThrows(TokenDenylistFullException.class, () -> node.deny("second.token", 3600L));
+            assertTrue(node.isDenied("first.token"));
+        }
+    }
+}